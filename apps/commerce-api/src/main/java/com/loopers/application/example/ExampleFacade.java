@@ -1,17 +1,55 @@
 package com.loopers.application.example;
 
-import com.loopers.domain.example.ExampleModel;
 import com.loopers.domain.example.ExampleService;
-import lombok.RequiredArgsConstructor;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
-@RequiredArgsConstructor
+/**
+ * 예시 조회는 캐시를 거친다.
+ * <ul>
+ *     <li>같은 id 를 동시에 조회하면 한 번의 DB 조회를 함께 기다린다. 만료 직전의 항목은 미리 다시 적재한다.</li>
+ *     <li>존재하지 않는 id 도 negative-ttl 동안 기억해, 없는 id 를 반복 조회해도 DB 까지 가지 않는다.</li>
+ * </ul>
+ */
 @Component
 public class ExampleFacade {
+    static final String CACHE_NAME = "example";
+
     private final ExampleService exampleService;
+    private final Cache exampleCache;
+
+    public ExampleFacade(ExampleService exampleService, CacheManager cacheManager) {
+        this.exampleService = exampleService;
+        this.exampleCache = cacheManager.getCache(CACHE_NAME);
+    }
 
     public ExampleInfo getExample(Long id) {
-        ExampleModel example = exampleService.getExample(id);
-        return ExampleInfo.from(example);
+        ExampleInfo example;
+        try {
+            example = exampleCache.get(id, () -> findExample(id));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (example == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다.");
+        }
+        return example;
+    }
+
+    private ExampleInfo findExample(Long id) {
+        try {
+            return ExampleInfo.from(exampleService.getExample(id));
+        } catch (CoreException e) {
+            if (e.getErrorType() == ErrorType.NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
     }
 }
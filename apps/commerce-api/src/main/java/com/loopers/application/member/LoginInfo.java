@@ -0,0 +1,6 @@
+package com.loopers.application.member;
+
+public record LoginInfo(
+		String accessToken,
+		long expiresIn
+) {}
@@ -0,0 +1,25 @@
+package com.loopers.application.member;
+
+import com.loopers.domain.member.MemberBulkRegistrationResult;
+
+import java.util.List;
+
+public record MemberBulkRegisterInfo(
+		int requested,
+		int registered,
+		List<RowError> errors
+) {
+	public static MemberBulkRegisterInfo from(MemberBulkRegistrationResult result) {
+		List<RowError> errors = result.failures().stream()
+				.map(failure -> new RowError(failure.index(), failure.loginId(), failure.errorType().getCode(), failure.message()))
+				.toList();
+		return new MemberBulkRegisterInfo(result.requested(), result.registered(), errors);
+	}
+
+	public record RowError(
+			int index,
+			String loginId,
+			String code,
+			String message
+	) {}
+}
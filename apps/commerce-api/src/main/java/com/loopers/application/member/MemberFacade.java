@@ -1,27 +1,49 @@
 package com.loopers.application.member;
 
 import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.MemberRegistration;
 import com.loopers.domain.member.MemberService;
+import com.loopers.domain.member.MemberSnapshot;
+import com.loopers.support.auth.AccessTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Component
 public class MemberFacade {
 
 	private final MemberService memberService;
+	private final AccessTokenProvider accessTokenProvider;
 
 	public void register(String loginId, String password, String name, LocalDate birthDate, String email) {
 		memberService.register(loginId, password, name, birthDate, email);
 	}
 
+	public MemberBulkRegisterInfo bulkRegister(List<MemberRegistration> registrations) {
+		return MemberBulkRegisterInfo.from(memberService.registerAll(registrations));
+	}
+
 	public MemberInfo getMyInfo(String loginId, String password) {
-		MemberModel member = memberService.getMyInfo(loginId, password);
+		MemberSnapshot member = memberService.getMyInfo(loginId, password);
 		return MemberInfo.from(member);
 	}
 
+	/**
+	 * 토큰으로 인증된 요청은 비밀번호를 확인하지 않는다. 회원 정보는 natural id 2차 캐시에서 읽으므로, 캐시에 없을 때만 DB 를 조회한다.
+	 */
+	public MemberInfo getMyInfo(String loginId) {
+		MemberModel member = memberService.getMember(loginId);
+		return MemberInfo.from(member);
+	}
+
+	public LoginInfo login(String loginId, String password) {
+		memberService.getMyInfo(loginId, password);
+		return new LoginInfo(accessTokenProvider.issue(loginId), accessTokenProvider.ttlSeconds());
+	}
+
 	public void changePassword(String loginId, String currentPassword, String newPassword) {
 		memberService.changePassword(loginId, currentPassword, newPassword);
 	}
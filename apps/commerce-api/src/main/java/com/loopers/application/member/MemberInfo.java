@@ -1,6 +1,7 @@
 package com.loopers.application.member;
 
 import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.MemberSnapshot;
 
 import java.time.LocalDate;
 
@@ -18,4 +19,13 @@ public record MemberInfo(
 				model.getEmail()
 		);
 	}
+
+	public static MemberInfo from(MemberSnapshot snapshot) {
+		return new MemberInfo(
+				snapshot.loginId(),
+				snapshot.maskedName(),
+				snapshot.birthDate(),
+				snapshot.email()
+		);
+	}
 }
@@ -3,11 +3,16 @@ package com.loopers.domain.example;
 import com.loopers.domain.BaseEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "example")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "example")
 public class ExampleModel extends BaseEntity {
 
     private String name;
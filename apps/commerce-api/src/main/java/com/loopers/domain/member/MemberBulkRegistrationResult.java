@@ -0,0 +1,21 @@
+package com.loopers.domain.member;
+
+import com.loopers.support.error.ErrorType;
+
+import java.util.List;
+
+/**
+ * 일괄 가입 결과. 실패한 행은 요청 목록에서의 위치(index)와 함께 사유를 담는다.
+ */
+public record MemberBulkRegistrationResult(
+		int requested,
+		int registered,
+		List<Failure> failures
+) {
+	public record Failure(
+			int index,
+			String loginId,
+			ErrorType errorType,
+			String message
+	) {}
+}
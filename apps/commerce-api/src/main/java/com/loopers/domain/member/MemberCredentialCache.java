@@ -0,0 +1,17 @@
+package com.loopers.domain.member;
+
+import java.util.Optional;
+
+/**
+ * 검증을 통과한 (loginId, password) 조합을 일정 시간 기억해, 반복 인증 시 DB 조회와 해싱을 생략한다.
+ */
+public interface MemberCredentialCache {
+	Optional<MemberSnapshot> get(String loginId, String rawPassword);
+
+	void put(String loginId, String rawPassword, MemberSnapshot member);
+
+	/**
+	 * 해당 loginId 의 캐시를 모든 노드에서 제거한다.
+	 */
+	void evict(String loginId);
+}
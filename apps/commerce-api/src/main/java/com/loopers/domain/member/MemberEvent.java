@@ -0,0 +1,20 @@
+package com.loopers.domain.member;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 회원 상태가 바뀐 사실. 상태를 바꾼 트랜잭션 안에서 outbox 에 남기고, loginId 를 키로 {@link #TOPIC} 에 발행한다.
+ * 같은 회원의 이벤트는 같은 파티션에 놓이고 릴레이 리더 하나가 id 순으로 발행하므로, 대개 발생한 순서대로 소비된다.
+ * 다만 발행에 실패해 다시 보낸 이벤트는 같은 회원의 뒤 이벤트보다 늦게 올 수 있고, 같은 이벤트가 다시 올 수도 있다.
+ * 소비자는 event-id 헤더로 중복을 거르고, occurredAt 이 이미 반영한 이벤트보다 이르면 상태를 되돌리지 않는다.
+ */
+public sealed interface MemberEvent {
+
+	String TOPIC = "member-events";
+
+	String loginId();
+
+	record Registered(Long memberId, String loginId, ZonedDateTime occurredAt) implements MemberEvent {}
+
+	record PasswordChanged(String loginId, ZonedDateTime occurredAt) implements MemberEvent {}
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.member;
+
+/**
+ * 가입된 loginId 의 근사 집합. "없다"는 답은 확실하고, "있을 수 있다"는 답은 오탐일 수 있다.
+ */
+public interface MemberLoginIdFilter {
+	/**
+	 * @return 확실히 가입되지 않은 loginId 면 false
+	 */
+	boolean mightContain(String loginId);
+
+	void add(String loginId);
+}
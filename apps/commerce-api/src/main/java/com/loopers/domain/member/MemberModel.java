@@ -1,20 +1,40 @@
 package com.loopers.domain.member;
 
-import com.loopers.domain.BaseEntity;
+import com.loopers.domain.SnowflakeBaseEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 @Entity
-@Table(name = "member")
+@Table(
+		name = "member",
+		uniqueConstraints = @UniqueConstraint(name = MemberModel.LOGIN_ID_UNIQUE_KEY, columnNames = "login_id")
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@NaturalIdCache(region = "member-natural-id")
 @Getter
-public class MemberModel extends BaseEntity {
+public class MemberModel extends SnowflakeBaseEntity {
 
+	/**
+	 * local, test 프로필은 ddl-auto=create 로 이 제약까지 만든다. 스키마를 직접 관리하는 dev, qa, prd 에는
+	 * {@code ALTER TABLE member ADD CONSTRAINT uk_member_login_id UNIQUE (login_id)} 를 먼저 적용해야 하며,
+	 * 제약이 없으면 loginId 필터가 꺼져 가입마다 기존 loginId 를 조회한다.
+	 */
+	public static final String LOGIN_ID_UNIQUE_KEY = "uk_member_login_id";
+
+	@NaturalId
 	private String loginId;
 	private String password;
 	private String name;
@@ -49,19 +69,18 @@ public class MemberModel extends BaseEntity {
 	}
 
 	public String getMaskedName() {
-		return name.substring(0, name.length() - 1) + "*";
+		return maskName(name);
 	}
 
-	public void changePassword(String newPassword) {
-		validatePassword(newPassword, this.birthDate);
-		this.password = newPassword;
+	static String maskName(String name) {
+		return name.substring(0, name.length() - 1) + "*";
 	}
 
 	public void applyEncodedPassword(String encodedPassword) {
 		this.password = encodedPassword;
 	}
 
-	private static void validatePassword(String password, LocalDate birthDate) {
+	static void validatePassword(String password, LocalDate birthDate) {
 		if (password == null || password.length() < 8 || password.length() > 16) {
 			throw new CoreException(ErrorType.BAD_REQUEST, "비밀번호는 8~16자여야 합니다.");
 		}
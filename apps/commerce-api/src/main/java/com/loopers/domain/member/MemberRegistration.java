@@ -0,0 +1,11 @@
+package com.loopers.domain.member;
+
+import java.time.LocalDate;
+
+public record MemberRegistration(
+		String loginId,
+		String password,
+		String name,
+		LocalDate birthDate,
+		String email
+) {}
@@ -1,9 +1,32 @@
 package com.loopers.domain.member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface MemberRepository {
 	MemberModel save(MemberModel member);
 
 	Optional<MemberModel> findByLoginId(String loginId);
+
+	Set<String> findExistingLoginIds(Collection<String> loginIds);
+
+	/**
+	 * 여러 회원을 배치 INSERT 로 저장한다.
+	 * @return 이미 존재해 저장하지 못한 회원의 loginId
+	 */
+	Set<String> insertAll(List<MemberModel> members);
+
+	/**
+	 * 저장된 비밀번호 해시가 {@code currentEncodedPassword} 와 같을 때만 교체하고, 같은 트랜잭션에서 비밀번호 변경 이벤트를 남긴다.
+	 * @return 교체되었으면 true, 그 사이 다른 요청이 먼저 비밀번호를 바꿨으면 false
+	 */
+	boolean updatePassword(String loginId, String currentEncodedPassword, String newEncodedPassword);
+
+	/**
+	 * 같은 비밀번호를 현재 정책으로 다시 해싱한 값으로 교체한다. 비밀번호가 바뀐 것은 아니므로 변경 이벤트를 남기지 않는다.
+	 * @return 교체되었으면 true, 그 사이 다른 요청이 먼저 비밀번호를 바꿨으면 false
+	 */
+	boolean rehashPassword(String loginId, String currentEncodedPassword, String rehashedPassword);
 }
@@ -1,51 +1,202 @@
 package com.loopers.domain.member;
 
+import com.loopers.support.auth.AccessTokenRevocationStore;
 import com.loopers.support.crypto.PasswordEncoder;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
+/**
+ * 비밀번호 해싱처럼 CPU를 쓰는 작업은 트랜잭션 밖에서 끝내고, DB 접근은 Repository 단위의 짧은 트랜잭션으로만 수행한다.
+ * 그래야 해싱하는 동안 커넥션을 붙잡고 있지 않는다.
+ */
 @RequiredArgsConstructor
 @Component
 public class MemberService {
 
+	private static final int BULK_CHUNK_SIZE = 1000;
+
 	private final MemberRepository memberRepository;
+	private final MemberLoginIdFilter memberLoginIdFilter;
+	private final MemberCredentialCache memberCredentialCache;
+	private final AccessTokenRevocationStore accessTokenRevocationStore;
+	private final PasswordEncoder passwordEncoder;
 
-	@Transactional
+	/**
+	 * 필터가 확실히 없다고 답한 loginId 는 사전 조회 없이 바로 저장한다. 동시 가입으로 인한 중복은 저장 시 CONFLICT 로 드러난다.
+	 */
 	public MemberModel register(String loginId, String password, String name, LocalDate birthDate, String email) {
-		memberRepository.findByLoginId(loginId)
-				.ifPresent(member -> {
-					throw new CoreException(ErrorType.CONFLICT, "이미 존재하는 loginId입니다.");
-				});
+		if (memberLoginIdFilter.mightContain(loginId)) {
+			memberRepository.findByLoginId(loginId)
+					.ifPresent(member -> {
+						throw new CoreException(ErrorType.CONFLICT, "이미 존재하는 loginId입니다.");
+					});
+		}
 
 		MemberModel member = new MemberModel(loginId, password, name, birthDate, email);
-		member.applyEncodedPassword(PasswordEncoder.encode(password));
-		return memberRepository.save(member);
+		member.applyEncodedPassword(passwordEncoder.encode(password));
+		MemberModel saved = memberRepository.save(member);
+		memberLoginIdFilter.add(loginId);
+		return saved;
 	}
 
-	@Transactional(readOnly = true)
-	public MemberModel getMyInfo(String loginId, String password) {
-		MemberModel member = memberRepository.findByLoginId(loginId)
-				.orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 회원입니다."));
+	/**
+	 * 모든 행을 병렬로 검증한 뒤, 청크 단위로 기존 loginId 확인 → 병렬 해싱 → JDBC 배치 INSERT 순으로 처리한다.
+	 * 한 행의 실패가 다른 행의 가입을 막지 않으며, 실패한 행은 요청 순서대로 사유와 함께 반환한다.
+	 */
+	public MemberBulkRegistrationResult registerAll(List<MemberRegistration> registrations) {
+		List<ValidatedRow> rows = IntStream.range(0, registrations.size())
+				.parallel()
+				.mapToObj(index -> validate(index, registrations.get(index)))
+				.toList();
 
-		if (!PasswordEncoder.matches(password, member.getPassword())) {
-			throw new CoreException(ErrorType.BAD_REQUEST, "비밀번호가 일치하지 않습니다.");
+		List<MemberBulkRegistrationResult.Failure> failures = new ArrayList<>();
+		List<ValidatedRow> candidates = new ArrayList<>(rows.size());
+		Set<String> requestedLoginIds = new HashSet<>();
+		for (ValidatedRow row : rows) {
+			if (row.failure() != null) {
+				failures.add(row.failure());
+			} else if (!requestedLoginIds.add(row.member().getLoginId())) {
+				failures.add(duplicated(row));
+			} else {
+				candidates.add(row);
+			}
 		}
 
-		return member;
+		int registered = 0;
+		for (int from = 0; from < candidates.size(); from += BULK_CHUNK_SIZE) {
+			registered += registerChunk(candidates.subList(from, Math.min(from + BULK_CHUNK_SIZE, candidates.size())), failures);
+		}
+
+		failures.sort(Comparator.comparingInt(MemberBulkRegistrationResult.Failure::index));
+		return new MemberBulkRegistrationResult(registrations.size(), registered, failures);
+	}
+
+	/**
+	 * 인증에 성공했을 때 저장된 해시가 현재 정책보다 약하면, 이번에 받은 원문으로 다시 해싱해 교체한다.
+	 * 교체는 조건부 UPDATE 로 수행하므로, 그 사이 비밀번호가 바뀌었다면 아무 것도 덮어쓰지 않는다.
+	 * 캐시에는 엔티티 대신 불변 사본을 저장해, 요청 간에 같은 엔티티를 공유하지 않는다.
+	 */
+	public MemberSnapshot getMyInfo(String loginId, String password) {
+		Optional<MemberSnapshot> cached = memberCredentialCache.get(loginId, password);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		MemberModel member = authenticate(loginId, password);
+		if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+			String rehashed = passwordEncoder.encode(password);
+			if (memberRepository.rehashPassword(loginId, member.getPassword(), rehashed)) {
+				member.applyEncodedPassword(rehashed);
+			}
+		}
+		MemberSnapshot snapshot = MemberSnapshot.from(member);
+		memberCredentialCache.put(loginId, password, snapshot);
+		return snapshot;
+	}
+
+	public MemberModel getMember(String loginId) {
+		return memberRepository.findByLoginId(loginId)
+				.orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 회원입니다."));
 	}
 
-	@Transactional
+	/**
+	 * 검증과 해싱을 먼저 끝낸 뒤, 현재 해시와 비교하는 단일 UPDATE 로 비밀번호를 교체한다.
+	 * 동시에 들어온 다른 변경이 먼저 반영되었다면 CONFLICT 로 응답한다.
+	 */
 	public void changePassword(String loginId, String currentPassword, String newPassword) {
 		if (currentPassword.equals(newPassword)) {
 			throw new CoreException(ErrorType.BAD_REQUEST, "현재 비밀번호와 동일한 비밀번호는 사용할 수 없습니다.");
 		}
-		MemberModel member = getMyInfo(loginId, currentPassword);
-		member.changePassword(newPassword);
-		member.applyEncodedPassword(PasswordEncoder.encode(newPassword));
+		MemberModel member = authenticate(loginId, currentPassword);
+		MemberModel.validatePassword(newPassword, member.getBirthDate());
+		String encodedNewPassword = passwordEncoder.encode(newPassword);
+
+		if (!memberRepository.updatePassword(loginId, member.getPassword(), encodedNewPassword)) {
+			throw new CoreException(ErrorType.CONFLICT, "비밀번호가 이미 변경되었습니다. 다시 시도해주세요.");
+		}
+		memberCredentialCache.evict(loginId);
+		accessTokenRevocationStore.revokeAll(loginId);
 	}
+
+	private int registerChunk(List<ValidatedRow> chunk, List<MemberBulkRegistrationResult.Failure> failures) {
+		List<String> suspects = chunk.stream()
+				.map(row -> row.member().getLoginId())
+				.filter(memberLoginIdFilter::mightContain)
+				.toList();
+		Set<String> existing = suspects.isEmpty() ? Set.of() : memberRepository.findExistingLoginIds(suspects);
+
+		List<MemberModel> members = new ArrayList<>(chunk.size());
+		List<ValidatedRow> insertable = new ArrayList<>(chunk.size());
+		for (ValidatedRow row : chunk) {
+			if (existing.contains(row.member().getLoginId())) {
+				failures.add(duplicated(row));
+			} else {
+				insertable.add(row);
+				members.add(row.member());
+			}
+		}
+		if (members.isEmpty()) {
+			return 0;
+		}
+
+		List<String> encodedPasswords = passwordEncoder.encodeAll(members.stream().map(MemberModel::getPassword).toList());
+		for (int i = 0; i < members.size(); i++) {
+			members.get(i).applyEncodedPassword(encodedPasswords.get(i));
+		}
+
+		Set<String> rejected = memberRepository.insertAll(members);
+		int registered = 0;
+		for (ValidatedRow row : insertable) {
+			String loginId = row.member().getLoginId();
+			if (rejected.contains(loginId)) {
+				failures.add(duplicated(row));
+			} else {
+				memberLoginIdFilter.add(loginId);
+				registered++;
+			}
+		}
+		return registered;
+	}
+
+	private static ValidatedRow validate(int index, MemberRegistration registration) {
+		try {
+			MemberModel member = new MemberModel(
+					registration.loginId(),
+					registration.password(),
+					registration.name(),
+					registration.birthDate(),
+					registration.email()
+			);
+			return new ValidatedRow(index, member, null);
+		} catch (CoreException e) {
+			return new ValidatedRow(index, null, new MemberBulkRegistrationResult.Failure(index, registration.loginId(), e.getErrorType(), e.getMessage()));
+		}
+	}
+
+	private static MemberBulkRegistrationResult.Failure duplicated(ValidatedRow row) {
+		return new MemberBulkRegistrationResult.Failure(row.index(), row.member().getLoginId(), ErrorType.CONFLICT, "이미 존재하는 loginId입니다.");
+	}
+
+	private MemberModel authenticate(String loginId, String password) {
+		MemberModel member = getMember(loginId);
+
+		if (!passwordEncoder.matches(password, member.getPassword())) {
+			throw new CoreException(ErrorType.BAD_REQUEST, "비밀번호가 일치하지 않습니다.");
+		}
+
+		return member;
+	}
+
+	private record ValidatedRow(int index, MemberModel member, MemberBulkRegistrationResult.Failure failure) {}
 }
@@ -0,0 +1,22 @@
+package com.loopers.domain.member;
+
+import java.time.LocalDate;
+
+/**
+ * 인증 캐시에 보관하는 회원 정보의 불변 사본. 비밀번호 해시는 담지 않으며,
+ * 여러 요청이 같은 인스턴스를 공유해도 한 요청의 변경이 다른 요청에 새지 않는다.
+ */
+public record MemberSnapshot(
+		String loginId,
+		String name,
+		LocalDate birthDate,
+		String email
+) {
+	public static MemberSnapshot from(MemberModel member) {
+		return new MemberSnapshot(member.getLoginId(), member.getName(), member.getBirthDate(), member.getEmail());
+	}
+
+	public String maskedName() {
+		return MemberModel.maskName(name);
+	}
+}
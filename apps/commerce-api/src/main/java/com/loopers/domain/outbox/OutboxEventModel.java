@@ -0,0 +1,45 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.SnowflakeBaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 발행을 기다리는 이벤트. 릴레이가 발행한 뒤 published_at 을 채우고, 보관 기간이 지나면 지운다.
+ */
+@Entity
+@Table(
+		name = "outbox_event",
+		indexes = @Index(name = "idx_outbox_event_published_at", columnList = "published_at, id")
+)
+@Getter
+public class OutboxEventModel extends SnowflakeBaseEntity {
+
+	@Column(nullable = false)
+	private String topic;
+
+	@Column(nullable = false)
+	private String eventKey;
+
+	@Column(nullable = false)
+	private String eventType;
+
+	@Column(nullable = false, columnDefinition = "text")
+	private String payload;
+
+	private ZonedDateTime publishedAt;
+
+	protected OutboxEventModel() {}
+
+	public OutboxEventModel(String topic, String eventKey, String eventType, String payload) {
+		this.topic = topic;
+		this.eventKey = eventKey;
+		this.eventType = eventType;
+		this.payload = payload;
+	}
+}
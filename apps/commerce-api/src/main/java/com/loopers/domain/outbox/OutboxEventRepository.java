@@ -0,0 +1,16 @@
+package com.loopers.domain.outbox;
+
+import java.util.List;
+
+/**
+ * 이벤트를 상태 변경과 같은 트랜잭션에서 저장해, 변경이 커밋된 이벤트만 발행되게 한다.
+ * 트랜잭션 밖에서 호출하면 IllegalTransactionStateException 이 발생한다.
+ */
+public interface OutboxEventRepository {
+	void append(OutboxMessage message);
+
+	/**
+	 * 여러 이벤트를 배치 INSERT 로 저장한다.
+	 */
+	void appendAll(List<OutboxMessage> messages);
+}
@@ -0,0 +1,6 @@
+package com.loopers.domain.outbox;
+
+/**
+ * outbox 에 남길 이벤트. key 가 같은 이벤트는 같은 파티션으로 발행된다.
+ */
+public record OutboxMessage(String topic, String key, Object event) {}
@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.jpa.SecondLevelCacheBroadcaster;
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 2차 캐시 무효화 메시지를 Redis Pub/Sub 으로 주고받는다.
+ */
+@Component
+public class RedisSecondLevelCacheBroadcaster implements SecondLevelCacheBroadcaster {
+
+	private static final ChannelTopic EVICT_TOPIC = new ChannelTopic("jpa:second-level-cache:evict");
+
+	private final RedisTemplate<String, String> masterRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	public RedisSecondLevelCacheBroadcaster(
+			@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+			RedisMessageListenerContainer redisMessageListenerContainer
+	) {
+		this.masterRedisTemplate = masterRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+	}
+
+	@Override
+	public void publish(String message) {
+		masterRedisTemplate.convertAndSend(EVICT_TOPIC.getTopic(), message);
+	}
+
+	@Override
+	public void subscribe(Consumer<String> listener) {
+		redisMessageListenerContainer.addMessageListener(
+				(message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+				EVICT_TOPIC
+		);
+	}
+}
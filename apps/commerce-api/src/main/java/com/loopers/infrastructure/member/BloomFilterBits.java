@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.member;
+
+/**
+ * Bloom 필터의 비트 배열 저장소.
+ */
+interface BloomFilterBits {
+	void set(long[] offsets);
+
+	boolean allSet(long[] offsets);
+
+	long bitCount();
+
+	/**
+	 * @return 이미 다른 곳에서 채워진 비트 배열을 이어받았다면 true
+	 */
+	boolean isPopulated();
+}
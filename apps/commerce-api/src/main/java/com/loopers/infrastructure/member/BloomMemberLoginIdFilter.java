@@ -0,0 +1,159 @@
+package com.loopers.infrastructure.member;
+
+import com.loopers.config.jpa.Workload;
+import com.loopers.config.jpa.WorkloadType;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.member.MemberLoginIdFilter;
+import com.loopers.domain.member.MemberModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 기동 시 member 테이블의 loginId 를 id 순으로 나눠 읽어 필터를 채우고, 이후 가입될 때마다 추가한다.
+ * 재구성이 끝나기 전에는 항상 "있을 수 있다"고 답해 기존처럼 DB 를 확인하게 한다.
+ * 필터가 놓친 중복은 login_id 유니크 제약이 막으므로, 필터는 정확성이 아니라 왕복 횟수만 책임진다.
+ * 그래서 기동 시 제약이 없으면 재구성하지 않고 계속 "있을 수 있다"고 답해, 가입마다 DB 를 확인하게 둔다.
+ */
+@Slf4j
+@Component
+public class BloomMemberLoginIdFilter implements MemberLoginIdFilter {
+
+	private static final String METRIC_PREFIX = "member.login_id_filter";
+
+	private final MemberJpaRepository memberJpaRepository;
+	private final BloomFilterBits bits;
+	private final long numBits;
+	private final int numHashFunctions;
+	private final int rebuildPageSize;
+	private final Counter absentCounter;
+	private final Counter maybeCounter;
+
+	private volatile boolean ready;
+
+	public BloomMemberLoginIdFilter(
+			MemberLoginIdFilterProperties properties,
+			MemberJpaRepository memberJpaRepository,
+			RedisTemplate<String, String> defaultRedisTemplate,
+			@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+			MeterRegistry meterRegistry
+	) {
+		this.memberJpaRepository = memberJpaRepository;
+		this.numBits = optimalNumBits(properties.expectedInsertions(), properties.falsePositiveProbability());
+		this.numHashFunctions = optimalNumHashFunctions(properties.expectedInsertions(), numBits);
+		this.rebuildPageSize = properties.rebuildPageSize();
+		this.bits = switch (properties.store()) {
+			case LOCAL -> new LocalBloomFilterBits(numBits);
+			case REDIS -> new RedisBloomFilterBits(properties.redisKey(), defaultRedisTemplate, masterRedisTemplate);
+		};
+
+		this.absentCounter = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "absent").register(meterRegistry);
+		this.maybeCounter = Counter.builder(METRIC_PREFIX + ".lookups").tag("result", "maybe").register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".false_positive_rate", this, BloomMemberLoginIdFilter::expectedFalsePositiveRate)
+				.description("현재 채워진 비트 비율로 추정한 오탐률")
+				.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".memory", this, filter -> filter.numBits / Byte.SIZE)
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public boolean mightContain(String loginId) {
+		boolean maybe = !ready || bits.allSet(offsetsOf(loginId));
+		(maybe ? maybeCounter : absentCounter).increment();
+		return maybe;
+	}
+
+	@Override
+	public void add(String loginId) {
+		bits.set(offsetsOf(loginId));
+	}
+
+	@Workload(WorkloadType.BULK)
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		if (memberJpaRepository.countUniqueConstraints(MemberModel.LOGIN_ID_UNIQUE_KEY) == 0) {
+			log.error("member 테이블에 {} 유니크 제약이 없어 loginId 필터를 사용하지 않습니다. "
+					+ "ALTER TABLE member ADD CONSTRAINT {} UNIQUE (login_id) 를 적용해주세요.",
+					MemberModel.LOGIN_ID_UNIQUE_KEY, MemberModel.LOGIN_ID_UNIQUE_KEY);
+			return;
+		}
+		if (bits.isPopulated()) {
+			ready = true;
+			return;
+		}
+
+		long lastId = 0L;
+		long count = 0L;
+		List<MemberLoginIdView> page;
+		do {
+			page = memberJpaRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(rebuildPageSize));
+			if (page.isEmpty()) {
+				break;
+			}
+			long[] offsets = new long[page.size() * numHashFunctions];
+			for (int i = 0; i < page.size(); i++) {
+				System.arraycopy(offsetsOf(page.get(i).getLoginId()), 0, offsets, i * numHashFunctions, numHashFunctions);
+			}
+			bits.set(offsets);
+			lastId = page.getLast().getId();
+			count += page.size();
+		} while (page.size() == rebuildPageSize);
+
+		ready = true;
+		log.info("loginId 필터 재구성 완료 (loginId {}건, {} bits, 해시 함수 {}개)", count, numBits, numHashFunctions);
+	}
+
+	double expectedFalsePositiveRate() {
+		return Math.pow((double) bits.bitCount() / numBits, numHashFunctions);
+	}
+
+	/**
+	 * 64비트 해시 두 개로 k 개의 위치를 만드는 double hashing (Kirsch–Mitzenmacher).
+	 */
+	private long[] offsetsOf(String loginId) {
+		long hash1 = fmix64(fnv1a64(loginId.getBytes(StandardCharsets.UTF_8)));
+		long hash2 = fmix64(hash1) | 1L;
+		long[] offsets = new long[numHashFunctions];
+		for (int i = 0; i < numHashFunctions; i++) {
+			offsets[i] = Math.floorMod(hash1 + i * hash2, numBits);
+		}
+		return offsets;
+	}
+
+	private static long fnv1a64(byte[] bytes) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : bytes) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private static long fmix64(long k) {
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return k;
+	}
+
+	private static long optimalNumBits(long expectedInsertions, double falsePositiveProbability) {
+		return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+	}
+
+	private static int optimalNumHashFunctions(long expectedInsertions, long numBits) {
+		return Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+	}
+}
@@ -0,0 +1,127 @@
+package com.loopers.infrastructure.member;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.member.MemberCredentialCache;
+import com.loopers.domain.member.MemberSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 키와 값에는 평문 대신 노드별 임의 키로 계산한 HMAC-SHA256 다이제스트만 보관한다.
+ * loginId 다이제스트를 키로 두어, 비밀번호 변경 시 loginId 만으로 엔트리를 제거할 수 있게 한다.
+ */
+@Component
+public class CaffeineMemberCredentialCache implements MemberCredentialCache, MessageListener {
+
+	private static final String CACHE_NAME = "member-credential";
+	private static final ChannelTopic EVICT_TOPIC = new ChannelTopic("member:credential:evict");
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	private final Cache<String, CachedCredential> cache;
+	private final RedisTemplate<String, String> masterRedisTemplate;
+	private final ThreadLocal<Mac> mac;
+
+	public CaffeineMemberCredentialCache(
+			MemberCredentialCacheProperties properties,
+			@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+			RedisMessageListenerContainer redisMessageListenerContainer,
+			MeterRegistry meterRegistry
+	) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(properties.maximumSize())
+				.expireAfterWrite(properties.ttl())
+				.recordStats()
+				.build();
+		this.masterRedisTemplate = masterRedisTemplate;
+		this.mac = ThreadLocal.withInitial(newMacFactory());
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		redisMessageListenerContainer.addMessageListener(this, EVICT_TOPIC);
+	}
+
+	@Override
+	public Optional<MemberSnapshot> get(String loginId, String rawPassword) {
+		CachedCredential cached = cache.getIfPresent(keyOf(loginId));
+		if (cached == null || !MessageDigest.isEqual(cached.digest(), digestOf(loginId, rawPassword))) {
+			return Optional.empty();
+		}
+		return Optional.of(cached.member());
+	}
+
+	@Override
+	public void put(String loginId, String rawPassword, MemberSnapshot member) {
+		cache.put(keyOf(loginId), new CachedCredential(digestOf(loginId, rawPassword), member));
+	}
+
+	@Override
+	public void evict(String loginId) {
+		cache.invalidate(keyOf(loginId));
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			masterRedisTemplate.convertAndSend(EVICT_TOPIC.getTopic(), loginId);
+			return;
+		}
+		// 커밋 전에 전파하면, 다른 노드가 아직 커밋되지 않은 이전 비밀번호로 다시 캐시할 수 있다.
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				cache.invalidate(keyOf(loginId));
+				masterRedisTemplate.convertAndSend(EVICT_TOPIC.getTopic(), loginId);
+			}
+		});
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		cache.invalidate(keyOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+	}
+
+	private String keyOf(String loginId) {
+		return HexFormat.of().formatHex(hmac(loginId));
+	}
+
+	private byte[] digestOf(String loginId, String rawPassword) {
+		return hmac(loginId + '\0' + rawPassword);
+	}
+
+	private byte[] hmac(String value) {
+		return mac.get().doFinal(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Supplier<Mac> newMacFactory() {
+		byte[] secret = new byte[32];
+		new SecureRandom().nextBytes(secret);
+		SecretKeySpec key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+		return () -> {
+			try {
+				Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+				instance.init(key);
+				return instance;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("HMAC-SHA256 알고리즘을 초기화할 수 없습니다.", e);
+			}
+		};
+	}
+
+	private record CachedCredential(byte[] digest, MemberSnapshot member) {}
+}
@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.member;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class LocalBloomFilterBits implements BloomFilterBits {
+
+	private final AtomicLongArray words;
+
+	LocalBloomFilterBits(long numBits) {
+		this.words = new AtomicLongArray(Math.toIntExact((numBits + Long.SIZE - 1) / Long.SIZE));
+	}
+
+	@Override
+	public void set(long[] offsets) {
+		for (long offset : offsets) {
+			long mask = 1L << offset;
+			words.getAndAccumulate((int) (offset >>> 6), mask, (word, bit) -> word | bit);
+		}
+	}
+
+	@Override
+	public boolean allSet(long[] offsets) {
+		for (long offset : offsets) {
+			if ((words.get((int) (offset >>> 6)) & (1L << offset)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public long bitCount() {
+		long count = 0;
+		for (int i = 0; i < words.length(); i++) {
+			count += Long.bitCount(words.get(i));
+		}
+		return count;
+	}
+
+	@Override
+	public boolean isPopulated() {
+		return false;
+	}
+}
@@ -0,0 +1,11 @@
+package com.loopers.infrastructure.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "member.credential-cache")
+public record MemberCredentialCacheProperties(
+		long maximumSize,
+		Duration ttl
+) {}
@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.member;
+
+import com.loopers.config.jpa.Workload;
+import com.loopers.config.jpa.WorkloadType;
+import com.loopers.domain.id.SnowflakeIdGenerator;
+import com.loopers.domain.member.MemberEvent;
+import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import com.loopers.domain.outbox.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일괄 가입은 엔티티 생명주기(merge, 콜백)를 거치지 않도록 JdbcTemplate 으로 직접 배치 INSERT 한다.
+ * jpa.yml 의 rewriteBatchedStatements 설정에 의해 드라이버가 배치를 multi-row INSERT 로 합쳐 보낸다.
+ * 오래 걸리는 배치가 API 요청의 커넥션을 점유하지 않도록 BULK 풀을 사용한다.
+ * 가입 이벤트는 회원 INSERT 와 같은 트랜잭션에서 outbox 에 배치로 남긴다.
+ */
+@Workload(WorkloadType.BULK)
+@RequiredArgsConstructor
+@Component
+public class MemberJdbcRepository {
+
+	private static final String INSERT_SQL = """
+			insert into member (id, login_id, password, name, birth_date, email, created_at, updated_at)
+			values (?, ?, ?, ?, ?, ?, ?, ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final SnowflakeIdGenerator snowflakeIdGenerator;
+	private final OutboxEventRepository outboxEventRepository;
+
+	/**
+	 * 배치 전체를 하나의 트랜잭션으로 INSERT 하고, 중복 키로 실패하면 롤백한 뒤 한 건씩 다시 INSERT 한다.
+	 * @return 중복 키로 저장하지 못한 loginId
+	 */
+	public Set<String> insertAll(List<MemberModel> members) {
+		// BaseTimeEntity 의 시각은 jdbc.time_zone(UTC) 기준으로 저장되므로 같은 기준에 맞춘다.
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		Map<MemberModel, Long> ids = new IdentityHashMap<>(members.size());
+		members.forEach(member -> ids.put(member, snowflakeIdGenerator.nextId()));
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.batchUpdate(INSERT_SQL, members, members.size(), (ps, member) -> bind(ps, ids.get(member), member, now));
+				outboxEventRepository.appendAll(members.stream().map(member -> registered(ids.get(member), member, now)).toList());
+			});
+			return Set.of();
+		} catch (DuplicateKeyException e) {
+			return insertOneByOne(members, ids, now);
+		}
+	}
+
+	private Set<String> insertOneByOne(List<MemberModel> members, Map<MemberModel, Long> ids, LocalDateTime now) {
+		Set<String> duplicated = new HashSet<>();
+		for (MemberModel member : members) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, ids.get(member), member, now));
+					outboxEventRepository.appendAll(List.of(registered(ids.get(member), member, now)));
+				});
+			} catch (DuplicateKeyException e) {
+				duplicated.add(member.getLoginId());
+			}
+		}
+		return duplicated;
+	}
+
+	private static OutboxMessage registered(long id, MemberModel member, LocalDateTime now) {
+		return new OutboxMessage(
+				MemberEvent.TOPIC,
+				member.getLoginId(),
+				new MemberEvent.Registered(id, member.getLoginId(), now.atZone(ZoneOffset.UTC))
+		);
+	}
+
+	private static void bind(PreparedStatement ps, long id, MemberModel member, LocalDateTime now) throws SQLException {
+		ps.setLong(1, id);
+		ps.setString(2, member.getLoginId());
+		ps.setString(3, member.getPassword());
+		ps.setString(4, member.getName());
+		ps.setObject(5, member.getBirthDate());
+		ps.setString(6, member.getEmail());
+		ps.setObject(7, now);
+		ps.setObject(8, now);
+	}
+}
@@ -1,10 +1,28 @@
 package com.loopers.infrastructure.member;
 
 import com.loopers.domain.member.MemberModel;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface MemberJpaRepository extends JpaRepository<MemberModel, Long> {
-	Optional<MemberModel> findByLoginId(String loginId);
+	@Transactional(readOnly = true)
+	@Query("select m.loginId from MemberModel m where m.loginId in :loginIds")
+	List<String> findLoginIdsIn(@Param("loginIds") Collection<String> loginIds);
+
+	@Transactional(readOnly = true)
+	List<MemberLoginIdView> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+	@Transactional(readOnly = true)
+	@Query(value = """
+			select count(*) from information_schema.table_constraints
+			where table_schema = database() and table_name = 'member'
+			and constraint_type = 'UNIQUE' and constraint_name = :constraintName
+			""", nativeQuery = true)
+	long countUniqueConstraints(@Param("constraintName") String constraintName);
 }
@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(value = "member.login-id-filter")
+public record MemberLoginIdFilterProperties(
+		long expectedInsertions,
+		double falsePositiveProbability,
+		Store store,
+		String redisKey,
+		int rebuildPageSize
+) {
+	public enum Store {
+		LOCAL,
+		REDIS
+	}
+}
@@ -0,0 +1,10 @@
+package com.loopers.infrastructure.member;
+
+/**
+ * loginId 필터 재구성 시 엔티티 전체 대신 필요한 컬럼만 읽기 위한 projection.
+ */
+public interface MemberLoginIdView {
+	Long getId();
+
+	String getLoginId();
+}
@@ -1,25 +1,144 @@
 package com.loopers.infrastructure.member;
 
+import com.loopers.config.jpa.SecondLevelCacheInvalidator;
+import com.loopers.domain.member.MemberEvent;
 import com.loopers.domain.member.MemberModel;
 import com.loopers.domain.member.MemberRepository;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import com.loopers.domain.outbox.OutboxMessage;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.query.NativeQuery;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Component
 public class MemberRepositoryImpl implements MemberRepository {
 
+	private static final String REPLACE_PASSWORD_SQL = """
+			update member set password = ?, updated_at = ?
+			where login_id = ? and password = ?
+			""";
+	/** 어느 엔티티 테이블과도 겹치지 않아, 이 UPDATE 로 캐시 영역이 자동으로 비워지지 않게 한다. */
+	private static final String PASSWORD_QUERY_SPACE = "member_password_update";
+
 	private final MemberJpaRepository memberJpaRepository;
+	private final MemberJdbcRepository memberJdbcRepository;
+	private final EntityManager entityManager;
+	private final OutboxEventRepository outboxEventRepository;
+	private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
 
+	/**
+	 * 가입 이벤트를 같은 트랜잭션에서 outbox 에 남긴다.
+	 * INSERT 를 바로 flush 해 중복 loginId 를 커밋 시점이 아닌 여기서 확인한다.
+	 */
+	@Transactional
 	@Override
 	public MemberModel save(MemberModel member) {
-		return memberJpaRepository.save(member);
+		try {
+			MemberModel saved = memberJpaRepository.saveAndFlush(member);
+			outboxEventRepository.append(new OutboxMessage(
+					MemberEvent.TOPIC,
+					saved.getLoginId(),
+					new MemberEvent.Registered(saved.getId(), saved.getLoginId(), saved.getCreatedAt())
+			));
+			return saved;
+		} catch (DataIntegrityViolationException e) {
+			if (isLoginIdDuplicate(e)) {
+				throw new CoreException(ErrorType.CONFLICT, "이미 존재하는 loginId입니다.");
+			}
+			throw e;
+		}
 	}
 
+	/**
+	 * JPQL 조회는 2차 캐시를 거치지 않으므로, natural id 로 조회해 loginId -> id, id -> 엔티티 순으로 캐시를 사용한다.
+	 * 캐시에 없을 때 읽은 값은 2차 캐시에 다시 적재되므로, readOnly 로 두지 않아 복제본이 아닌 main 에서 읽는다.
+	 * 지연된 복제본에서 읽으면 다른 노드가 비밀번호 변경 후 지운 항목에 이전 해시가 다시 캐시되어,
+	 * 이전 비밀번호로 인증하거나 폐기 시각 이후의 토큰을 발급받을 수 있다. 캐시에 적중하면 커넥션을 얻지 않는다.
+	 */
+	@Transactional
 	@Override
 	public Optional<MemberModel> findByLoginId(String loginId) {
-		return memberJpaRepository.findByLoginId(loginId);
+		return entityManager.unwrap(Session.class)
+				.bySimpleNaturalId(MemberModel.class)
+				.loadOptional(loginId);
+	}
+
+	@Override
+	public Set<String> findExistingLoginIds(Collection<String> loginIds) {
+		return new HashSet<>(memberJpaRepository.findLoginIdsIn(loginIds));
+	}
+
+	@Override
+	public Set<String> insertAll(List<MemberModel> members) {
+		return memberJdbcRepository.insertAll(members);
+	}
+
+	/**
+	 * 비밀번호 변경 이벤트를 같은 트랜잭션에서 outbox 에 남긴다.
+	 */
+	@Transactional
+	@Override
+	public boolean updatePassword(String loginId, String currentEncodedPassword, String newEncodedPassword) {
+		boolean updated = replacePassword(loginId, currentEncodedPassword, newEncodedPassword);
+		if (updated) {
+			outboxEventRepository.append(new OutboxMessage(MemberEvent.TOPIC, loginId, new MemberEvent.PasswordChanged(loginId, ZonedDateTime.now())));
+		}
+		return updated;
+	}
+
+	@Transactional
+	@Override
+	public boolean rehashPassword(String loginId, String currentEncodedPassword, String rehashedPassword) {
+		return replacePassword(loginId, currentEncodedPassword, rehashedPassword);
+	}
+
+	/**
+	 * 현재 해시와 비교하는 단일 UPDATE 로 교체한다. 엔티티를 읽거나 잠그지 않는다.
+	 * Hibernate 는 네이티브 UPDATE 가 어떤 엔티티를 바꿨는지 모르면 캐시 영역 전체를 비우므로,
+	 * 어느 엔티티 테이블과도 겹치지 않는 query space 를 지정해 자동 제거를 막고, 바뀐 회원 하나만 직접 지운다.
+	 * id 는 natural id 캐시에서 찾으므로 대개 추가 조회가 없다. loginId -> id 매핑은 바뀌지 않으므로 natural id 영역은 그대로 둔다.
+	 */
+	private boolean replacePassword(String loginId, String currentEncodedPassword, String newEncodedPassword) {
+		int updated = entityManager.createNativeQuery(REPLACE_PASSWORD_SQL)
+				.unwrap(NativeQuery.class)
+				.addSynchronizedQuerySpace(PASSWORD_QUERY_SPACE)
+				.setParameter(1, newEncodedPassword)
+				.setParameter(2, LocalDateTime.now(ZoneOffset.UTC))
+				.setParameter(3, loginId)
+				.setParameter(4, currentEncodedPassword)
+				.executeUpdate();
+		if (updated == 0) {
+			return false;
+		}
+		Object member = entityManager.unwrap(Session.class).bySimpleNaturalId(MemberModel.class).getReference(loginId);
+		secondLevelCacheInvalidator.evict(MemberModel.class, entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(member));
+		return true;
+	}
+
+	private static boolean isLoginIdDuplicate(DataIntegrityViolationException e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				String constraintName = violation.getConstraintName();
+				return constraintName != null && constraintName.contains(MemberModel.LOGIN_ID_UNIQUE_KEY);
+			}
+		}
+		return false;
 	}
 }
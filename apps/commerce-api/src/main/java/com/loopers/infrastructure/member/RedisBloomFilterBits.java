@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.member;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Redis 비트맵에 비트를 두어 여러 노드가 하나의 필터를 공유한다.
+ * 한 번의 조회/추가에 필요한 GETBIT/SETBIT 은 파이프라인으로 묶어 왕복 한 번에 처리한다.
+ */
+class RedisBloomFilterBits implements BloomFilterBits {
+
+	private final String key;
+	private final byte[] rawKey;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisTemplate<String, String> masterRedisTemplate;
+
+	RedisBloomFilterBits(String key, RedisTemplate<String, String> redisTemplate, RedisTemplate<String, String> masterRedisTemplate) {
+		this.key = key;
+		this.rawKey = key.getBytes(StandardCharsets.UTF_8);
+		this.redisTemplate = redisTemplate;
+		this.masterRedisTemplate = masterRedisTemplate;
+	}
+
+	@Override
+	public void set(long[] offsets) {
+		masterRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			RedisStringCommands commands = connection.stringCommands();
+			for (long offset : offsets) {
+				commands.setBit(rawKey, offset, true);
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public boolean allSet(long[] offsets) {
+		List<Object> bits = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			RedisStringCommands commands = connection.stringCommands();
+			for (long offset : offsets) {
+				commands.getBit(rawKey, offset);
+			}
+			return null;
+		});
+		return bits.stream().allMatch(Boolean.TRUE::equals);
+	}
+
+	@Override
+	public long bitCount() {
+		Long count = redisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().bitCount(rawKey));
+		return count != null ? count : 0L;
+	}
+
+	@Override
+	public boolean isPopulated() {
+		return Boolean.TRUE.equals(masterRedisTemplate.hasKey(key));
+	}
+}
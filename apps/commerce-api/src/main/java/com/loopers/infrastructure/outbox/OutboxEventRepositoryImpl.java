@@ -0,0 +1,50 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import com.loopers.domain.outbox.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+
+	private final OutboxEventJpaRepository outboxEventJpaRepository;
+	private final OutboxJdbcRepository outboxJdbcRepository;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Override
+	public void append(OutboxMessage message) {
+		outboxEventJpaRepository.save(toModel(message));
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Override
+	public void appendAll(List<OutboxMessage> messages) {
+		outboxJdbcRepository.insertAll(messages.stream().map(this::toModel).toList());
+	}
+
+	private OutboxEventModel toModel(OutboxMessage message) {
+		try {
+			return new OutboxEventModel(message.topic(), message.key(), typeOf(message.event()), objectMapper.writeValueAsString(message.event()));
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("outbox 이벤트를 직렬화하지 못했습니다: " + message.event().getClass().getName(), e);
+		}
+	}
+
+	/**
+	 * 중첩 타입은 바깥 타입 이름을 붙여 MemberEvent.Registered 처럼 남긴다.
+	 */
+	private static String typeOf(Object event) {
+		String name = event.getClass().getName();
+		return name.substring(name.lastIndexOf('.') + 1).replace('$', '.');
+	}
+}
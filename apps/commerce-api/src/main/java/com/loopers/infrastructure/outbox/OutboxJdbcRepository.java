@@ -0,0 +1,164 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.config.jpa.Workload;
+import com.loopers.config.jpa.WorkloadType;
+import com.loopers.domain.id.SnowflakeIdGenerator;
+import com.loopers.domain.outbox.OutboxEventModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * outbox_event 를 배치로 쓰고, 릴레이가 발행할 행을 가져온다.
+ * 시각은 BaseTimeEntity 와 같이 jdbc.time_zone(UTC) 기준으로 저장한다.
+ * 릴레이가 쓰는 메서드는 트랜잭션 없이 문장마다 커넥션을 잠깐 쓰고 돌려주며, 사용자 요청의 main 풀이 아니라 bulk 풀을 쓴다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxJdbcRepository {
+
+	private static final String INSERT_SQL = """
+			insert into outbox_event (id, topic, event_key, event_type, payload, created_at, updated_at)
+			values (?, ?, ?, ?, ?, ?, ?)
+			""";
+
+	/**
+	 * 리스를 가진 릴레이만 읽으므로 잠그지 않는다.
+	 */
+	private static final String PENDING_SQL = """
+			select id, topic, event_key, event_type, payload
+			from outbox_event
+			where published_at is null
+			order by id
+			limit ?
+			""";
+
+	/**
+	 * 노드마다 시계가 다를 수 있으므로 리스 만료는 DB 시각으로 판단한다.
+	 */
+	private static final String RENEW_LEASE_SQL = """
+			update outbox_relay_lease
+			set owner = ?, lease_until = utc_timestamp(6) + interval ? microsecond
+			where name = ? and (owner = ? or lease_until < utc_timestamp(6))
+			""";
+
+	private static final String INSERT_LEASE_SQL = """
+			insert ignore into outbox_relay_lease (name, owner, lease_until)
+			values (?, ?, utc_timestamp(6) + interval ? microsecond)
+			""";
+
+	private static final String RELEASE_LEASE_SQL = """
+			update outbox_relay_lease
+			set lease_until = utc_timestamp(6)
+			where name = ? and owner = ?
+			""";
+
+	private static final String BACKLOG_SQL = """
+			select count(*), min(created_at)
+			from outbox_event
+			where published_at is null
+			""";
+
+	private static final String DELETE_PUBLISHED_SQL = """
+			delete from outbox_event
+			where published_at < ?
+			limit ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+	public void insertAll(List<OutboxEventModel> events) {
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+			ps.setLong(1, snowflakeIdGenerator.nextId());
+			ps.setString(2, event.getTopic());
+			ps.setString(3, event.getEventKey());
+			ps.setString(4, event.getEventType());
+			ps.setString(5, event.getPayload());
+			ps.setObject(6, now);
+			ps.setObject(7, now);
+		});
+	}
+
+	/**
+	 * 발행되지 않은 행을 id 순으로 가져온다.
+	 */
+	@Workload(WorkloadType.BULK)
+	public List<PendingEvent> findPending(int limit) {
+		return jdbcTemplate.query(PENDING_SQL, (rs, rowNum) -> new PendingEvent(
+				rs.getLong(1),
+				rs.getString(2),
+				rs.getString(3),
+				rs.getString(4),
+				rs.getString(5)
+		), limit);
+	}
+
+	@Workload(WorkloadType.BULK)
+	public int markPublished(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+		Object[] args = new Object[ids.size() + 2];
+		args[0] = now;
+		args[1] = now;
+		for (int i = 0; i < ids.size(); i++) {
+			args[i + 2] = ids.get(i);
+		}
+		return jdbcTemplate.update("update outbox_event set published_at = ?, updated_at = ? where id in (" + placeholders + ")", args);
+	}
+
+	@Workload(WorkloadType.BULK)
+	public Backlog backlog() {
+		return jdbcTemplate.queryForObject(BACKLOG_SQL, (rs, rowNum) -> new Backlog(
+				rs.getLong(1),
+				rs.getObject(2, LocalDateTime.class)
+		));
+	}
+
+	/**
+	 * 보관 기간이 지난 발행 완료 행을 limit 건까지 지운다. 한 번에 지우는 양을 제한해 잠금을 짧게 유지한다.
+	 */
+	@Workload(WorkloadType.BULK)
+	public int deletePublishedBefore(LocalDateTime cutoff, int limit) {
+		return jdbcTemplate.update(DELETE_PUBLISHED_SQL, cutoff, limit);
+	}
+
+	/**
+	 * 리스가 비어 있거나 만료되었거나 이미 owner 의 것이면 ttl 만큼 owner 에게 준다.
+	 *
+	 * @return owner 가 리스를 가졌는지
+	 */
+	@Workload(WorkloadType.BULK)
+	public boolean tryAcquireLease(String name, String owner, Duration ttl) {
+		long ttlMicros = ttl.toNanos() / 1_000;
+		if (jdbcTemplate.update(RENEW_LEASE_SQL, owner, ttlMicros, name, owner) == 1) {
+			return true;
+		}
+		return jdbcTemplate.update(INSERT_LEASE_SQL, name, owner, ttlMicros) == 1;
+	}
+
+	/**
+	 * owner 의 리스를 바로 만료시켜, 다른 노드가 ttl 을 기다리지 않고 이어받게 한다.
+	 */
+	@Workload(WorkloadType.BULK)
+	public void releaseLease(String name, String owner) {
+		jdbcTemplate.update(RELEASE_LEASE_SQL, name, owner);
+	}
+
+	public record PendingEvent(long id, String topic, String key, String type, String payload) {}
+
+	/**
+	 * @param oldestCreatedAt 가장 오래 기다린 행의 생성 시각(UTC). 밀린 행이 없으면 null 이다.
+	 */
+	public record Backlog(long count, LocalDateTime oldestCreatedAt) {}
+}
@@ -0,0 +1,214 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * outbox_event 에 쌓인 이벤트를 Kafka 로 발행한다.
+ * <ul>
+ *     <li>리더 리스를 가진 노드 하나만 발행한다. 배치마다 리스를 갱신하며, 리더가 죽으면 lease-ttl 이 지나 다른 노드가 이어받는다.</li>
+ *     <li>batch-size 만큼 행을 가져와 모두 비동기로 보낸 뒤 응답을 한꺼번에 기다린다. 프로듀서는 linger.ms 동안 모인 레코드를 파티션별 배치로 묶어 보낸다.</li>
+ *     <li>발행에 성공한 행만 한 번의 UPDATE 로 발행 완료 표시하고, 실패하거나 send-timeout 을 넘긴 행은 다음 주기에 다시 보낸다.</li>
+ *     <li>조회와 완료 표시는 각각 짧은 문장으로 bulk 풀에서 실행하고, 응답을 기다리는 동안에는 트랜잭션도 커넥션도 잡지 않는다.</li>
+ *     <li>배치가 가득 차면 쉬지 않고 다음 배치를 가져오고, 비면 poll-interval 만큼 쉰다.</li>
+ * </ul>
+ * 발행 완료 표시 전에 노드가 죽거나 리더가 바뀌면 같은 이벤트가 다시 발행되므로(at-least-once) 소비자는 event-id 헤더로 중복을 거른다.
+ * 실패해 다시 보내는 이벤트는 같은 키의 뒤 이벤트보다 늦게 도착할 수 있다.
+ */
+@Slf4j
+public class OutboxRelay implements AutoCloseable {
+
+	static final String EVENT_ID_HEADER = "event-id";
+	static final String EVENT_TYPE_HEADER = "event-type";
+	private static final int PURGE_LIMIT = 1000;
+	private static final String LEASE_NAME = "outbox-relay";
+
+	private final OutboxJdbcRepository outboxJdbcRepository;
+	private final KafkaTemplate<Object, Object> kafkaTemplate;
+	private final ObjectMapper objectMapper;
+	private final OutboxRelayProperties properties;
+	private final Counter publishedCounter;
+	private final Counter failedCounter;
+	private final Timer batchTimer;
+	private final DistributionSummary batchSize;
+	private final ScheduledExecutorService scheduler;
+	private final String owner = UUID.randomUUID().toString();
+
+	private long lastBacklogRefreshNanos;
+	private volatile long backlogCount;
+	private volatile double oldestPendingSeconds;
+
+	public OutboxRelay(
+			OutboxJdbcRepository outboxJdbcRepository,
+			KafkaTemplate<Object, Object> kafkaTemplate,
+			ObjectMapper objectMapper,
+			OutboxRelayProperties properties,
+			MeterRegistry meterRegistry
+	) {
+		this.outboxJdbcRepository = outboxJdbcRepository;
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+
+		this.publishedCounter = Counter.builder("outbox.relay.events")
+				.tag("result", "published")
+				.register(meterRegistry);
+		this.failedCounter = Counter.builder("outbox.relay.events")
+				.tag("result", "failed")
+				.register(meterRegistry);
+		this.batchTimer = Timer.builder("outbox.relay.batch")
+				.description("행을 가져와 발행하고 완료 표시하기까지 걸린 시간")
+				.register(meterRegistry);
+		this.batchSize = DistributionSummary.builder("outbox.relay.batch.size")
+				.description("한 배치에서 가져온 행 수")
+				.register(meterRegistry);
+		Gauge.builder("outbox.backlog", this, relay -> relay.backlogCount)
+				.description("발행되지 않은 행 수")
+				.register(meterRegistry);
+		TimeGauge.builder("outbox.backlog.oldest_age", this, TimeUnit.SECONDS, relay -> relay.oldestPendingSeconds)
+				.description("발행되지 않은 행 중 가장 오래 기다린 시간")
+				.register(meterRegistry);
+
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "outbox-relay");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void start() {
+		long intervalMillis = properties.pollInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				drain();
+				refreshBacklogIfDue();
+			} catch (RuntimeException e) {
+				log.warn("outbox 이벤트 발행에 실패했습니다: {}", e.getMessage());
+			}
+		}, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+		try {
+			outboxJdbcRepository.releaseLease(LEASE_NAME, owner);
+		} catch (RuntimeException e) {
+			log.warn("outbox 릴레이 리스를 풀지 못했습니다. lease-ttl 이 지나면 다른 노드가 이어받습니다: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 배치를 모두 발행하는 동안 다음 배치를 가져온다. 발행에 실패한 행이 있으면 다음 주기까지 쉰다.
+	 */
+	void drain() {
+		while (!Thread.currentThread().isInterrupted() && relayBatch() == properties.batchSize()) {
+			// 가득 찬 배치를 모두 발행했으면 밀린 행이 더 있을 수 있다.
+		}
+	}
+
+	/**
+	 * @return 발행 완료 표시한 행 수. 리더가 아니면 0 이다.
+	 */
+	int relayBatch() {
+		if (!outboxJdbcRepository.tryAcquireLease(LEASE_NAME, owner, properties.leaseTtl())) {
+			return 0;
+		}
+		long startedAt = System.nanoTime();
+		List<OutboxJdbcRepository.PendingEvent> events = outboxJdbcRepository.findPending(properties.batchSize());
+		if (events.isEmpty()) {
+			return 0;
+		}
+		List<CompletableFuture<?>> sends = events.stream().map(this::send).toList();
+		long deadline = startedAt + properties.sendTimeout().toNanos();
+		List<Long> publishedIds = new ArrayList<>(events.size());
+		for (int i = 0; i < events.size(); i++) {
+			if (await(sends.get(i), deadline, events.get(i))) {
+				publishedIds.add(events.get(i).id());
+			}
+		}
+		outboxJdbcRepository.markPublished(publishedIds);
+
+		batchSize.record(events.size());
+		publishedCounter.increment(publishedIds.size());
+		failedCounter.increment(events.size() - publishedIds.size());
+		batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		return publishedIds.size();
+	}
+
+	/**
+	 * payload 는 이미 JSON 이므로 트리로 읽어 보내, JsonSerializer 가 문자열로 한 번 더 감싸지 않게 한다.
+	 */
+	private CompletableFuture<?> send(OutboxJdbcRepository.PendingEvent event) {
+		try {
+			ProducerRecord<Object, Object> record = new ProducerRecord<>(event.topic(), event.key(), objectMapper.readTree(event.payload()));
+			record.headers()
+					.add(EVENT_ID_HEADER, String.valueOf(event.id()).getBytes(StandardCharsets.UTF_8))
+					.add(EVENT_TYPE_HEADER, event.type().getBytes(StandardCharsets.UTF_8));
+			return kafkaTemplate.send(record);
+		} catch (JsonProcessingException | RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	private static boolean await(CompletableFuture<?> send, long deadline, OutboxJdbcRepository.PendingEvent event) {
+		try {
+			send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("outbox 이벤트 {}({}) 발행에 실패해 다음 주기에 다시 보냅니다: {}", event.id(), event.type(), e.toString());
+			return false;
+		}
+	}
+
+	/**
+	 * 밀린 행 수를 세고, 보관 기간이 지난 발행 완료 행을 지운다. 매 주기 세면 큰 테이블에서 부담이 되므로 간격을 둔다.
+	 */
+	private void refreshBacklogIfDue() {
+		long now = System.nanoTime();
+		if (lastBacklogRefreshNanos != 0 && now - lastBacklogRefreshNanos < properties.backlogRefreshInterval().toNanos()) {
+			return;
+		}
+		lastBacklogRefreshNanos = now;
+		refreshBacklog();
+		outboxJdbcRepository.deletePublishedBefore(LocalDateTime.now(ZoneOffset.UTC).minus(properties.retention()), PURGE_LIMIT);
+	}
+
+	void refreshBacklog() {
+		OutboxJdbcRepository.Backlog backlog = outboxJdbcRepository.backlog();
+		backlogCount = backlog.count();
+		oldestPendingSeconds = backlog.oldestCreatedAt() == null
+				? 0
+				: Math.max(0, Duration.between(backlog.oldestCreatedAt(), LocalDateTime.now(ZoneOffset.UTC)).toMillis() / 1000.0);
+	}
+
+	long backlogCount() {
+		return backlogCount;
+	}
+}
@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true")
+class OutboxRelayConfig {
+	@Bean(initMethod = "start", destroyMethod = "close")
+	OutboxRelay outboxRelay(
+			OutboxJdbcRepository outboxJdbcRepository,
+			KafkaTemplate<Object, Object> kafkaTemplate,
+			ObjectMapper objectMapper,
+			OutboxRelayProperties properties,
+			MeterRegistry meterRegistry
+	) {
+		return new OutboxRelay(outboxJdbcRepository, kafkaTemplate, objectMapper, properties, meterRegistry);
+	}
+}
@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 릴레이 리더 리스. 리스를 가진 노드 하나만 outbox 를 발행해, 같은 키의 이벤트가 노드 사이에서 뒤섞이지 않게 한다.
+ * {@link OutboxJdbcRepository} 가 SQL 로만 읽고 쓰며, 엔티티는 테이블 정의를 위해 둔다.
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+public class OutboxRelayLeaseModel {
+
+	@Id
+	private String name;
+
+	@Column(nullable = false)
+	private String owner;
+
+	@Column(nullable = false)
+	private LocalDateTime leaseUntil;
+
+	protected OutboxRelayLeaseModel() {}
+}
@@ -0,0 +1,25 @@
+package com.loopers.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled                꺼져 있으면 이 노드에서는 릴레이를 띄우지 않는다. 이벤트는 outbox 에 계속 쌓인다.
+ * @param batchSize              한 트랜잭션에서 가져와 발행하는 최대 행 수
+ * @param pollInterval           밀린 행이 없을 때 다시 확인하기까지의 간격
+ * @param sendTimeout            한 배치의 발행 응답을 기다리는 최대 시간. 넘긴 행은 다음 주기에 다시 발행한다.
+ * @param leaseTtl               리더 리스를 갱신하지 않아도 유지되는 시간. 리더가 죽으면 이만큼 지나 다른 노드가 이어받는다. send-timeout 보다 길게 둔다.
+ * @param backlogRefreshInterval 밀린 행 수와 가장 오래 기다린 시간을 다시 세는 간격
+ * @param retention              발행된 행을 지우기 전까지 보관하는 기간
+ */
+@ConfigurationProperties(value = "outbox.relay")
+public record OutboxRelayProperties(
+		boolean enabled,
+		int batchSize,
+		Duration pollInterval,
+		Duration sendTimeout,
+		Duration leaseTtl,
+		Duration backlogRefreshInterval,
+		Duration retention
+) {}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MissingRequestHeaderException;
@@ -27,6 +28,12 @@ public class ApiControllerAdvice {
     @ExceptionHandler
     public ResponseEntity<ApiResponse<?>> handle(CoreException e) {
         log.warn("CoreException : {}", e.getCustomMessage() != null ? e.getCustomMessage() : e.getMessage(), e);
+        if (e.getRetryAfter() != null) {
+            long seconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+            return ResponseEntity.status(e.getErrorType().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(failureBody(e.getErrorType(), e.getCustomMessage()));
+        }
         return failureResponse(e.getErrorType(), e.getCustomMessage());
     }
 
@@ -128,7 +135,10 @@ public class ApiControllerAdvice {
     }
 
     private ResponseEntity<ApiResponse<?>> failureResponse(ErrorType errorType, String errorMessage) {
-        return ResponseEntity.status(errorType.getStatus())
-            .body(ApiResponse.fail(errorType.getCode(), errorMessage != null ? errorMessage : errorType.getMessage()));
+        return ResponseEntity.status(errorType.getStatus()).body(failureBody(errorType, errorMessage));
+    }
+
+    private ApiResponse<?> failureBody(ErrorType errorType, String errorMessage) {
+        return ApiResponse.fail(errorType.getCode(), errorMessage != null ? errorMessage : errorType.getMessage());
     }
 }
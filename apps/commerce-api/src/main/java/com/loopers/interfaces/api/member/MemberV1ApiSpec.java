@@ -3,16 +3,43 @@ package com.loopers.interfaces.api.member;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @Tag(name = "Member V1 API", description = "회원 API 입니다.")
 public interface MemberV1ApiSpec {
 
-	@Operation(summary = "회원가입", description = "새로운 회원을 등록합니다.")
+	@Operation(
+			summary = "회원가입",
+			description = "새로운 회원을 등록합니다. Idempotency-Key 헤더를 보내면 같은 키의 재시도에는 처음 응답을 그대로 돌려줍니다.",
+			parameters = @Parameter(
+					in = ParameterIn.HEADER,
+					name = "Idempotency-Key",
+					description = "재시도를 구분하는 요청별 고유 키 (최대 255자)"
+			)
+	)
 	ApiResponse<Void> register(MemberV1Dto.RegisterRequest request);
 
-	@Operation(summary = "내 정보 조회", description = "로그인 정보를 기반으로 내 정보를 조회합니다.")
+	@Operation(
+			summary = "일괄 회원가입",
+			description = "온보딩 파트너가 여러 회원을 한 번에 등록합니다. 일부 행이 실패해도 나머지는 등록되며, 실패한 행은 요청 목록의 index 와 함께 반환합니다. "
+					+ "한 요청은 최대 1,000행이며, 파트너별 행 한도를 넘으면 429 와 Retry-After 로 응답합니다."
+	)
+	ApiResponse<MemberV1Dto.BulkRegisterResponse> bulkRegister(
+			@Parameter(description = "파트너 ID") String partnerId,
+			@Parameter(description = "파트너 키") String partnerKey,
+			MemberV1Dto.BulkRegisterRequest request
+	);
+
+	@Operation(summary = "로그인", description = "로그인 정보를 검증하고 액세스 토큰을 발급합니다.")
+	ApiResponse<MemberV1Dto.LoginResponse> login(MemberV1Dto.LoginRequest request);
+
+	@Operation(
+			summary = "내 정보 조회",
+			description = "Bearer 액세스 토큰 또는 로그인 정보 헤더를 기반으로 내 정보를 조회합니다. 토큰이 있으면 헤더는 생략할 수 있습니다."
+	)
 	ApiResponse<MemberV1Dto.MyInfoResponse> getMyInfo(
+			@Parameter(hidden = true) String authenticatedLoginId,
 			@Parameter(description = "로그인 ID") String loginId,
 			@Parameter(description = "로그인 비밀번호") String loginPw
 	);
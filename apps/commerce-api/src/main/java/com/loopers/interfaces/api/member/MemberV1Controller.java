@@ -1,24 +1,42 @@
 package com.loopers.interfaces.api.member;
 
+import com.loopers.application.member.LoginInfo;
+import com.loopers.application.member.MemberBulkRegisterInfo;
 import com.loopers.application.member.MemberFacade;
 import com.loopers.application.member.MemberInfo;
+import com.loopers.domain.member.MemberRegistration;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.auth.AccessTokenAuthenticationFilter;
+import com.loopers.support.auth.PartnerAuthenticator;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.idempotency.Idempotent;
+import com.loopers.support.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.List;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/members")
 public class MemberV1Controller implements MemberV1ApiSpec {
 
+	private static final int MAX_BULK_SIZE = 1_000;
+
 	private final MemberFacade memberFacade;
+	private final PartnerAuthenticator partnerAuthenticator;
+	private final RateLimiter rateLimiter;
 
+	@Idempotent
 	@PostMapping
 	@Override
 	public ApiResponse<Void> register(@RequestBody MemberV1Dto.RegisterRequest request) {
@@ -32,13 +50,49 @@ public class MemberV1Controller implements MemberV1ApiSpec {
 		return ApiResponse.success(null);
 	}
 
+	@PostMapping("/bulk")
+	@Override
+	public ApiResponse<MemberV1Dto.BulkRegisterResponse> bulkRegister(
+			@RequestHeader(name = "X-Loopers-Partner-Id", required = false) String partnerId,
+			@RequestHeader(name = "X-Loopers-Partner-Key", required = false) String partnerKey,
+			@RequestBody MemberV1Dto.BulkRegisterRequest request
+	) {
+		String partner = partnerAuthenticator.authenticate(partnerId, partnerKey);
+		if (request.members() == null || request.members().isEmpty()) {
+			throw new CoreException(ErrorType.BAD_REQUEST, "가입할 회원 목록이 비어있습니다.");
+		}
+		if (request.members().size() > MAX_BULK_SIZE) {
+			throw new CoreException(ErrorType.BAD_REQUEST, String.format("한 번에 최대 %d명까지 가입할 수 있습니다.", MAX_BULK_SIZE));
+		}
+		// 행마다 비밀번호를 해싱하므로, 요청 수가 아니라 행 수로 파트너의 한도를 센다.
+		RateLimiter.Decision decision = rateLimiter.tryAcquire(RateLimiter.Scope.PARTNER_ROWS, partner, request.members().size());
+		if (!decision.allowed()) {
+			throw new CoreException(ErrorType.TOO_MANY_REQUESTS, null, Duration.ofMillis(decision.retryAfterMillis()));
+		}
+		List<MemberRegistration> registrations = request.members().stream()
+				.map(MemberV1Dto.RegisterRequest::toRegistration)
+				.toList();
+		MemberBulkRegisterInfo info = memberFacade.bulkRegister(registrations);
+		return ApiResponse.success(MemberV1Dto.BulkRegisterResponse.from(info));
+	}
+
+	@PostMapping("/login")
+	@Override
+	public ApiResponse<MemberV1Dto.LoginResponse> login(@RequestBody MemberV1Dto.LoginRequest request) {
+		LoginInfo info = memberFacade.login(request.loginId(), request.password());
+		return ApiResponse.success(MemberV1Dto.LoginResponse.from(info));
+	}
+
 	@GetMapping("/me")
 	@Override
 	public ApiResponse<MemberV1Dto.MyInfoResponse> getMyInfo(
-			@RequestHeader("X-Loopers-LoginId") String loginId,
-			@RequestHeader("X-Loopers-LoginPw") String loginPw
+			@RequestAttribute(name = AccessTokenAuthenticationFilter.AUTHENTICATED_LOGIN_ID, required = false) String authenticatedLoginId,
+			@RequestHeader(name = "X-Loopers-LoginId", required = false) String loginId,
+			@RequestHeader(name = "X-Loopers-LoginPw", required = false) String loginPw
 	) {
-		MemberInfo info = memberFacade.getMyInfo(loginId, loginPw);
+		MemberInfo info = authenticatedLoginId != null
+				? memberFacade.getMyInfo(authenticatedLoginId)
+				: memberFacade.getMyInfo(requireHeader("X-Loopers-LoginId", loginId), requireHeader("X-Loopers-LoginPw", loginPw));
 		MemberV1Dto.MyInfoResponse response = new MemberV1Dto.MyInfoResponse(
 				info.loginId(),
 				info.maskedName(),
@@ -58,4 +112,11 @@ public class MemberV1Controller implements MemberV1ApiSpec {
 		memberFacade.changePassword(loginId, loginPw, request.newPassword());
 		return ApiResponse.success(null);
 	}
+
+	private static String requireHeader(String headerName, String value) {
+		if (value == null) {
+			throw new CoreException(ErrorType.BAD_REQUEST, String.format("필수 요청 헤더 '%s'가 누락되었습니다.", headerName));
+		}
+		return value;
+	}
 }
@@ -1,6 +1,11 @@
 package com.loopers.interfaces.api.member;
 
+import com.loopers.application.member.LoginInfo;
+import com.loopers.application.member.MemberBulkRegisterInfo;
+import com.loopers.domain.member.MemberRegistration;
+
 import java.time.LocalDate;
+import java.util.List;
 
 public class MemberV1Dto {
 
@@ -10,8 +15,51 @@ public class MemberV1Dto {
 			String name,
 			LocalDate birthDate,
 			String email
+	) {
+		public MemberRegistration toRegistration() {
+			return new MemberRegistration(loginId, password, name, birthDate, email);
+		}
+	}
+
+	public record BulkRegisterRequest(
+			List<RegisterRequest> members
+	) {}
+
+	public record BulkRegisterResponse(
+			int requested,
+			int registered,
+			List<RowError> errors
+	) {
+		public static BulkRegisterResponse from(MemberBulkRegisterInfo info) {
+			List<RowError> errors = info.errors().stream()
+					.map(error -> new RowError(error.index(), error.loginId(), error.code(), error.message()))
+					.toList();
+			return new BulkRegisterResponse(info.requested(), info.registered(), errors);
+		}
+
+		public record RowError(
+				int index,
+				String loginId,
+				String code,
+				String message
+		) {}
+	}
+
+	public record LoginRequest(
+			String loginId,
+			String password
 	) {}
 
+	public record LoginResponse(
+			String accessToken,
+			String tokenType,
+			long expiresIn
+	) {
+		public static LoginResponse from(LoginInfo info) {
+			return new LoginResponse(info.accessToken(), "Bearer", info.expiresIn());
+		}
+	}
+
 	public record MyInfoResponse(
 			String loginId,
 			String maskedName,
@@ -0,0 +1,9 @@
+package com.loopers.support.auth;
+
+import java.time.Instant;
+
+public record AccessToken(
+		String loginId,
+		Instant issuedAt,
+		Instant expiresAt
+) {}
@@ -0,0 +1,72 @@
+package com.loopers.support.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bearer 토큰이 있는 요청만 검증한다. 토큰이 없으면 기존 헤더 기반 인증으로 그대로 넘긴다.
+ */
+@RequiredArgsConstructor
+@Component
+public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
+
+	public static final String AUTHENTICATED_LOGIN_ID = "authenticatedLoginId";
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final AccessTokenProvider accessTokenProvider;
+	private final AccessTokenRevocationStore accessTokenRevocationStore;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+		return authorization == null || !authorization.startsWith(BEARER_PREFIX);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String token = request.getHeader(HttpHeaders.AUTHORIZATION).substring(BEARER_PREFIX.length());
+		AccessToken accessToken;
+		try {
+			accessToken = accessTokenProvider.verify(token);
+			if (accessTokenRevocationStore.isRevoked(accessToken)) {
+				throw new CoreException(ErrorType.UNAUTHORIZED, "폐기된 토큰입니다.");
+			}
+		} catch (CoreException e) {
+			writeError(response, e);
+			return;
+		}
+
+		request.setAttribute(AUTHENTICATED_LOGIN_ID, accessToken.loginId());
+		filterChain.doFilter(request, response);
+	}
+
+	/**
+	 * 검증에 실패하면 401, 폐기 여부를 확인할 수 없으면 503 으로 응답한다.
+	 */
+	private void writeError(HttpServletResponse response, CoreException e) throws IOException {
+		ErrorType errorType = e.getErrorType();
+		response.setStatus(errorType.getStatus().value());
+		if (e.getRetryAfter() != null) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000)));
+		}
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		objectMapper.writeValue(response.getWriter(), ApiResponse.fail(errorType.getCode(), e.getMessage()));
+	}
+}
@@ -0,0 +1,25 @@
+package com.loopers.support.auth;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 서명 키는 여러 개를 동시에 등록할 수 있다.
+ * 새 키를 추가하고 activeKeyId 를 바꾼 뒤, 기존 토큰이 만료되면 이전 키를 제거하는 방식으로 교체한다.
+ *
+ * @param revocationCacheTtl 회원별 토큰 폐기 기준 시각을 노드에 두는 시간. 다른 노드에서 폐기한 토큰이 이 시간만큼 더 통과할 수 있다.
+ */
+@ConfigurationProperties(value = "auth.access-token")
+public record AccessTokenProperties(
+		Duration ttl,
+		String activeKeyId,
+		List<SigningKey> keys,
+		Duration revocationCacheTtl
+) {
+	public record SigningKey(
+			String id,
+			String secret
+	) {}
+}
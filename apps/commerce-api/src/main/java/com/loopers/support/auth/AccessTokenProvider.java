@@ -0,0 +1,136 @@
+package com.loopers.support.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * HS256 으로 서명한 JWT 형식의 액세스 토큰을 발급하고, DB 조회 없이 서명과 만료만으로 검증한다.
+ * 발급 시각(iat)은 폐기 기준 시각과 같은 정밀도로 비교하도록 소수점 아래 밀리초까지 담는다.
+ */
+@Component
+public class AccessTokenProvider {
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	/** HS256 은 해시 출력 길이(32바이트) 이상의 키를 요구한다. */
+	private static final int MIN_SECRET_BYTES = 32;
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final AccessTokenProperties properties;
+	private final Map<String, SecretKeySpec> signingKeys;
+	private final ObjectMapper objectMapper;
+	private final Clock clock;
+
+	public AccessTokenProvider(AccessTokenProperties properties, ObjectMapper objectMapper) {
+		this(properties, objectMapper, Clock.systemUTC());
+	}
+
+	AccessTokenProvider(AccessTokenProperties properties, ObjectMapper objectMapper, Clock clock) {
+		this.properties = properties;
+		for (AccessTokenProperties.SigningKey key : properties.keys()) {
+			if (key.secret() == null || key.secret().getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+				throw new IllegalStateException("서명 키(" + key.id() + ")의 secret 은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+			}
+		}
+		this.signingKeys = properties.keys().stream()
+				.collect(Collectors.toUnmodifiableMap(
+						AccessTokenProperties.SigningKey::id,
+						key -> new SecretKeySpec(key.secret().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM)
+				));
+		if (!signingKeys.containsKey(properties.activeKeyId())) {
+			throw new IllegalStateException("활성 서명 키(" + properties.activeKeyId() + ")가 등록되어 있지 않습니다.");
+		}
+		this.objectMapper = objectMapper;
+		this.clock = clock;
+	}
+
+	public String issue(String loginId) {
+		Instant now = clock.instant();
+		Map<String, Object> header = new LinkedHashMap<>();
+		header.put("alg", "HS256");
+		header.put("typ", "JWT");
+		header.put("kid", properties.activeKeyId());
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("sub", loginId);
+		payload.put("iat", BigDecimal.valueOf(now.toEpochMilli(), 3));
+		payload.put("exp", now.plus(properties.ttl()).getEpochSecond());
+
+		String signingInput = encode(header) + "." + encode(payload);
+		return signingInput + "." + ENCODER.encodeToString(sign(properties.activeKeyId(), signingInput));
+	}
+
+	public AccessToken verify(String token) {
+		String[] parts = token.split("\\.");
+		if (parts.length != 3) {
+			throw invalidToken();
+		}
+		try {
+			JsonNode header = objectMapper.readTree(DECODER.decode(parts[0]));
+			String keyId = header.path("kid").asText();
+			if (!signingKeys.containsKey(keyId) || !"HS256".equals(header.path("alg").asText())) {
+				throw invalidToken();
+			}
+			byte[] expected = sign(keyId, parts[0] + "." + parts[1]);
+			if (!MessageDigest.isEqual(expected, DECODER.decode(parts[2]))) {
+				throw invalidToken();
+			}
+
+			JsonNode payload = objectMapper.readTree(DECODER.decode(parts[1]));
+			AccessToken accessToken = new AccessToken(
+					payload.path("sub").asText(),
+					Instant.ofEpochMilli(payload.path("iat").decimalValue().movePointRight(3).longValue()),
+					Instant.ofEpochSecond(payload.path("exp").asLong())
+			);
+			if (!accessToken.expiresAt().isAfter(clock.instant())) {
+				throw new CoreException(ErrorType.UNAUTHORIZED, "만료된 토큰입니다.");
+			}
+			return accessToken;
+		} catch (IllegalArgumentException | IOException e) {
+			throw invalidToken();
+		}
+	}
+
+	public long ttlSeconds() {
+		return properties.ttl().toSeconds();
+	}
+
+	private String encode(Map<String, Object> claims) {
+		try {
+			return ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("토큰을 직렬화할 수 없습니다.", e);
+		}
+	}
+
+	private byte[] sign(String keyId, String signingInput) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(signingKeys.get(keyId));
+			return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("토큰 서명에 실패했습니다.", e);
+		}
+	}
+
+	private static CoreException invalidToken() {
+		return new CoreException(ErrorType.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+	}
+}
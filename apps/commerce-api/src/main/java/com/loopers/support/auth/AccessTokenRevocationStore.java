@@ -0,0 +1,83 @@
+package com.loopers.support.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.RedisResilience;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 회원별 "이 시각 이전에 발급된 토큰은 무효" 기준 시각을 Redis 에 기록한다.
+ * 기준 시각은 토큰 유효기간이 지나면 의미가 없으므로 같은 TTL 로 만료시킨다.
+ * <ul>
+ *     <li>읽은 기준 시각(없음 포함)은 노드에 revocation-cache-ttl 동안 두어, 같은 회원의 요청마다 Redis 를 거치지 않게 한다.
+ *     폐기한 노드는 바로 지우지만, 다른 노드에서는 그 시간만큼 폐기된 토큰이 통과할 수 있다.</li>
+ *     <li>Redis 호출은 서킷 브레이커를 거친다. 폐기 여부를 확인할 수 없으면 토큰을 통과시키지 않고 503 으로 거절한다. (fail-closed)</li>
+ * </ul>
+ */
+@Component
+public class AccessTokenRevocationStore {
+
+	private static final String KEY_PREFIX = "member:token:revoked-at:";
+	private static final String OPERATION = "token-revocation";
+	private static final long NOT_REVOKED = 0L;
+
+	private final RedisTemplate<String, String> masterRedisTemplate;
+	private final RedisResilience redisResilience;
+	private final Cache<String, Long> revokedAts;
+	private final Duration ttl;
+	private final Clock clock;
+
+	public AccessTokenRevocationStore(
+			@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+			RedisResilience redisResilience,
+			AccessTokenProperties properties
+	) {
+		this.masterRedisTemplate = masterRedisTemplate;
+		this.redisResilience = redisResilience;
+		this.revokedAts = Caffeine.newBuilder()
+				.expireAfterWrite(properties.revocationCacheTtl())
+				.maximumSize(100_000)
+				.build();
+		this.ttl = properties.ttl();
+		this.clock = Clock.systemUTC();
+	}
+
+	public void revokeAll(String loginId) {
+		masterRedisTemplate.opsForValue().set(KEY_PREFIX + loginId, String.valueOf(clock.millis()), ttl);
+		revokedAts.invalidate(loginId);
+	}
+
+	/**
+	 * 복제 지연 중에 폐기된 토큰이 통과하지 않도록 master 에서 읽는다.
+	 * 기준 시각과 발급 시각 모두 밀리초 단위이므로, 폐기 직후 같은 초에 발급된 토큰은 통과하고 그 전에 발급된 토큰만 거절된다.
+	 *
+	 * @throws CoreException Redis 가 응답하지 않거나 브레이커가 열려 있어 확인할 수 없으면 SERVICE_UNAVAILABLE
+	 */
+	public boolean isRevoked(AccessToken accessToken) {
+		long revokedAt = revokedAts.get(accessToken.loginId(), this::load);
+		return revokedAt != NOT_REVOKED && accessToken.issuedAt().toEpochMilli() < revokedAt;
+	}
+
+	private Long load(String loginId) {
+		Long revokedAt = redisResilience.call(
+				OPERATION,
+				() -> {
+					String value = masterRedisTemplate.opsForValue().get(KEY_PREFIX + loginId);
+					return value != null ? Long.parseLong(value) : NOT_REVOKED;
+				},
+				() -> null
+		);
+		if (revokedAt == null) {
+			throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "토큰 폐기 여부를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.", Duration.ofSeconds(1));
+		}
+		return revokedAt;
+	}
+}
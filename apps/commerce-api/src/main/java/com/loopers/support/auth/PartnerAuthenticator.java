@@ -0,0 +1,38 @@
+package com.loopers.support.auth;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 파트너 id 와 키를 확인한다. 키는 길이와 관계없이 같은 시간에 비교한다.
+ */
+@Component
+public class PartnerAuthenticator {
+
+	private final Map<String, byte[]> keys;
+
+	public PartnerAuthenticator(PartnerProperties properties) {
+		this.keys = properties.clients().stream()
+				.collect(Collectors.toUnmodifiableMap(
+						PartnerProperties.Partner::id,
+						partner -> partner.key().getBytes(StandardCharsets.UTF_8)
+				));
+	}
+
+	/**
+	 * @return 확인된 파트너 id
+	 */
+	public String authenticate(String partnerId, String partnerKey) {
+		byte[] expected = partnerId != null ? keys.get(partnerId) : null;
+		if (expected == null || partnerKey == null || !MessageDigest.isEqual(expected, partnerKey.getBytes(StandardCharsets.UTF_8))) {
+			throw new CoreException(ErrorType.UNAUTHORIZED, "파트너 인증에 실패했습니다.");
+		}
+		return partnerId;
+	}
+}
@@ -0,0 +1,22 @@
+package com.loopers.support.auth;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 일괄 가입처럼 온보딩 파트너에게만 여는 API 의 호출자. 키는 환경 변수로 주입하며, 등록된 파트너가 없으면 모든 호출을 거절한다.
+ */
+@ConfigurationProperties(value = "auth.partners")
+public record PartnerProperties(
+		List<Partner> clients
+) {
+	public PartnerProperties {
+		clients = clients == null ? List.of() : List.copyOf(clients);
+	}
+
+	public record Partner(
+			String id,
+			String key
+	) {}
+}
@@ -0,0 +1,58 @@
+package com.loopers.support.crypto;
+
+import java.util.Map;
+
+/**
+ * 해시 앞에 {@code {알고리즘}} 태그를 붙여 저장하고, 검증 시 태그로 알고리즘을 고른다.
+ * 태그가 없는 해시는 태그 도입 이전에 저장된 SHA-256 해시로 간주한다.
+ */
+public class DelegatingPasswordEncoder implements PasswordEncoder {
+
+	public static final String LEGACY_ID = "sha256";
+
+	private final String encodingId;
+	private final Map<String, PasswordEncoder> encoders;
+
+	public DelegatingPasswordEncoder(String encodingId, Map<String, PasswordEncoder> encoders) {
+		if (!encoders.containsKey(encodingId)) {
+			throw new IllegalArgumentException("등록되지 않은 비밀번호 알고리즘입니다: " + encodingId);
+		}
+		this.encodingId = encodingId;
+		this.encoders = Map.copyOf(encoders);
+	}
+
+	@Override
+	public String encode(String rawPassword) {
+		return "{" + encodingId + "}" + encoders.get(encodingId).encode(rawPassword);
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encodedPassword) {
+		if (encodedPassword == null) {
+			return false;
+		}
+		PasswordEncoder encoder = encoders.get(idOf(encodedPassword));
+		return encoder != null && encoder.matches(rawPassword, hashOf(encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		String id = idOf(encodedPassword);
+		return !encodingId.equals(id) || encoders.get(id).upgradeEncoding(hashOf(encodedPassword));
+	}
+
+	private static String idOf(String encodedPassword) {
+		if (!encodedPassword.startsWith("{")) {
+			return LEGACY_ID;
+		}
+		int end = encodedPassword.indexOf('}');
+		return end < 0 ? LEGACY_ID : encodedPassword.substring(1, end);
+	}
+
+	private static String hashOf(String encodedPassword) {
+		if (!encodedPassword.startsWith("{")) {
+			return encodedPassword;
+		}
+		return encodedPassword.substring(encodedPassword.indexOf('}') + 1);
+	}
+}
@@ -0,0 +1,41 @@
+package com.loopers.support.crypto;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 해싱과 검증을 {@link PasswordHashingExecutor} 에서 실행한다.
+ * 호출 스레드는 결과를 기다리는 동안 CPU 를 사용하지 않는다.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final PasswordHashingExecutor executor;
+
+	public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+	@Override
+	public String encode(String rawPassword) {
+		return executor.encode(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public List<String> encodeAll(List<String> rawPasswords) {
+		return executor.encodeAll(rawPasswords.stream()
+				.<Supplier<String>>map(rawPassword -> () -> delegate.encode(rawPassword))
+				.toList());
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return executor.matches(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+}
@@ -1,30 +1,25 @@
 package com.loopers.support.crypto;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.List;
 
-public class PasswordEncoder {
+public interface PasswordEncoder {
 
-	public static String encode(String rawPassword) {
-		try {
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hash = digest.digest(rawPassword.getBytes(StandardCharsets.UTF_8));
-			StringBuilder hexString = new StringBuilder();
-			for (byte b : hash) {
-				String hex = Integer.toHexString(0xff & b);
-				if (hex.length() == 1) {
-					hexString.append('0');
-				}
-				hexString.append(hex);
-			}
-			return hexString.toString();
-		} catch (NoSuchAlgorithmException e) {
-			throw new RuntimeException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
-		}
+	String encode(String rawPassword);
+
+	/**
+	 * 여러 비밀번호를 해싱한다. 결과는 입력과 같은 순서로 반환한다.
+	 */
+	default List<String> encodeAll(List<String> rawPasswords) {
+		return rawPasswords.stream().map(this::encode).toList();
 	}
 
-	public static boolean matches(String rawPassword, String encodedPassword) {
-		return encode(rawPassword).equals(encodedPassword);
+	boolean matches(String rawPassword, String encodedPassword);
+
+	/**
+	 * 저장된 해시가 현재 정책보다 약한 방식으로 만들어졌으면 true 를 반환한다.
+	 * 로그인에 성공한 시점에 원문으로 다시 해싱해 교체하는 데 사용한다.
+	 */
+	default boolean upgradeEncoding(String encodedPassword) {
+		return false;
 	}
 }
@@ -0,0 +1,28 @@
+package com.loopers.support.crypto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+class PasswordEncoderConfig {
+
+	@Bean
+	PasswordHashingExecutor passwordHashingExecutor(PasswordEncoderProperties properties, MeterRegistry meterRegistry) {
+		return new PasswordHashingExecutor(properties.queueCapacity(), properties.timeout(), meterRegistry);
+	}
+
+	@Bean
+	PasswordEncoder passwordEncoder(PasswordEncoderProperties properties, PasswordHashingExecutor passwordHashingExecutor) {
+		PasswordEncoder delegating = new DelegatingPasswordEncoder(
+				properties.algorithm(),
+				Map.of(
+						DelegatingPasswordEncoder.LEGACY_ID, new Sha256PasswordEncoder(),
+						"pbkdf2", new Pbkdf2PasswordEncoder(properties.pbkdf2Iterations())
+				)
+		);
+		return new OffloadingPasswordEncoder(delegating, passwordHashingExecutor);
+	}
+}
@@ -0,0 +1,13 @@
+package com.loopers.support.crypto;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(value = "member.password-encoder")
+public record PasswordEncoderProperties(
+		String algorithm,
+		int pbkdf2Iterations,
+		int queueCapacity,
+		Duration timeout
+) {}
@@ -0,0 +1,130 @@
+package com.loopers.support.crypto;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀. 동시에 해싱하는 스레드 수를 CPU 코어 수로 제한해,
+ * 요청이 몰려도 해싱이 Tomcat 워커들의 CPU 를 잠식하지 않도록 한다.
+ * 대기열이 가득 차거나 제한 시간 안에 해싱이 끝나지 않으면 더 기다리게 하지 않고,
+ * 제한 시간만큼 뒤에 다시 시도하라는 Retry-After 와 함께 503 으로 실패시킨다.
+ * 해싱은 인터럽트로 멈추지 않으므로 취소하지 않는다. 이미 시작한 해싱은 호출자가 포기해도 끝까지 실행되고,
+ * 쌓이는 양은 queue-capacity 로만 제한한다. 대기열에서 제한 시간을 넘긴 작업은 기다리는 호출자가 없으므로 꺼낸 뒤 해싱하지 않고 버린다.
+ */
+public class PasswordHashingExecutor {
+
+	private final ThreadPoolExecutor executor;
+	private final Duration timeout;
+	private final Timer waitTimer;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejectedCounter;
+	private final Counter expiredCounter;
+
+	public PasswordHashingExecutor(int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+		int threads = Runtime.getRuntime().availableProcessors();
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+				threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> {
+					Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy()
+		);
+		this.timeout = timeout;
+
+		Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+		Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+		this.waitTimer = Timer.builder("password.hashing.wait").publishPercentileHistogram().register(meterRegistry);
+		this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode")
+				.publishPercentileHistogram().register(meterRegistry);
+		this.matchesTimer = Timer.builder("password.hashing.duration").tag("operation", "matches")
+				.publishPercentileHistogram().register(meterRegistry);
+		this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+		this.expiredCounter = Counter.builder("password.hashing.expired").register(meterRegistry);
+	}
+
+	public String encode(Supplier<String> task) {
+		return await(submit(encodeTimer, task));
+	}
+
+	/**
+	 * 여러 건을 병렬로 해싱한다. 한 번에 풀 크기만큼만 제출해, 대량 요청이 대기열을 채워
+	 * 다른 요청의 해싱이 거절되지 않도록 한다.
+	 */
+	public List<String> encodeAll(List<Supplier<String>> tasks) {
+		int window = executor.getMaximumPoolSize();
+		List<String> results = new ArrayList<>(tasks.size());
+		for (int from = 0; from < tasks.size(); from += window) {
+			List<Future<String>> futures = tasks.subList(from, Math.min(from + window, tasks.size())).stream()
+					.map(task -> submit(encodeTimer, task))
+					.toList();
+			for (Future<String> future : futures) {
+				results.add(await(future));
+			}
+		}
+		return results;
+	}
+
+	public boolean matches(Supplier<Boolean> task) {
+		return await(submit(matchesTimer, task));
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private <T> Future<T> submit(Timer timer, Supplier<T> task) {
+		long submittedAt = System.nanoTime();
+		try {
+			return executor.submit(() -> {
+				long waited = System.nanoTime() - submittedAt;
+				waitTimer.record(waited, TimeUnit.NANOSECONDS);
+				if (waited >= timeout.toNanos()) {
+					expiredCounter.increment();
+					throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "비밀번호 처리 시간이 초과되었습니다.", timeout);
+				}
+				return timer.record(task);
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.", timeout);
+		}
+	}
+
+	private <T> T await(Future<T> future) {
+		try {
+			return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "비밀번호 처리 시간이 초과되었습니다.", timeout);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(ErrorType.INTERNAL_ERROR);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.loopers.support.crypto;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * PBKDF2-HMAC-SHA256 해시. {@code 반복횟수$솔트$해시} 형식으로 저장해, 반복 횟수를 올려도 기존 해시를 검증할 수 있다.
+ */
+public class Pbkdf2PasswordEncoder implements PasswordEncoder {
+
+	private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+	private static final int SALT_LENGTH = 16;
+	private static final int HASH_BITS = 256;
+	private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getDecoder();
+	private static final ThreadLocal<SecretKeyFactory> KEY_FACTORY = ThreadLocal.withInitial(() -> {
+		try {
+			return SecretKeyFactory.getInstance(ALGORITHM);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(ALGORITHM + " 알고리즘을 찾을 수 없습니다.", e);
+		}
+	});
+
+	private final int iterations;
+	private final SecureRandom random = new SecureRandom();
+
+	public Pbkdf2PasswordEncoder(int iterations) {
+		this.iterations = iterations;
+	}
+
+	@Override
+	public String encode(String rawPassword) {
+		byte[] salt = new byte[SALT_LENGTH];
+		random.nextBytes(salt);
+		byte[] hash = hash(rawPassword, salt, iterations);
+		return iterations + "$" + ENCODER.encodeToString(salt) + "$" + ENCODER.encodeToString(hash);
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encodedPassword) {
+		String[] parts = encodedPassword.split("\\$");
+		if (parts.length != 3) {
+			return false;
+		}
+		try {
+			byte[] expected = DECODER.decode(parts[2]);
+			return MessageDigest.isEqual(expected, hash(rawPassword, DECODER.decode(parts[1]), Integer.parseInt(parts[0])));
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		int separator = encodedPassword.indexOf('$');
+		if (separator < 0) {
+			return true;
+		}
+		try {
+			return Integer.parseInt(encodedPassword.substring(0, separator)) < iterations;
+		} catch (NumberFormatException e) {
+			return true;
+		}
+	}
+
+	private static byte[] hash(String rawPassword, byte[] salt, int iterations) {
+		PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, HASH_BITS);
+		try {
+			return KEY_FACTORY.get().generateSecret(spec).getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e);
+		} finally {
+			spec.clearPassword();
+		}
+	}
+}
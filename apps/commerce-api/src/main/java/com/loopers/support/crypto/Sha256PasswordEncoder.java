@@ -0,0 +1,44 @@
+package com.loopers.support.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 솔트 없는 SHA-256 해시. 기존에 저장된 비밀번호를 검증하기 위해서만 유지한다.
+ */
+public class Sha256PasswordEncoder implements PasswordEncoder {
+
+	private static final HexFormat HEX = HexFormat.of();
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+		}
+	});
+
+	@Override
+	public String encode(String rawPassword) {
+		return HEX.formatHex(digest(rawPassword));
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encodedPassword) {
+		if (encodedPassword == null || encodedPassword.length() != 64) {
+			return false;
+		}
+		try {
+			return MessageDigest.isEqual(digest(rawPassword), HEX.parseHex(encodedPassword));
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static byte[] digest(String rawPassword) {
+		MessageDigest digest = DIGEST.get();
+		digest.reset();
+		return digest.digest(rawPassword.getBytes(StandardCharsets.UTF_8));
+	}
+}
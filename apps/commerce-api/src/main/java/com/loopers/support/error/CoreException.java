@@ -2,18 +2,27 @@ package com.loopers.support.error;
 
 import lombok.Getter;
 
+import java.time.Duration;
+
 @Getter
 public class CoreException extends RuntimeException {
     private final ErrorType errorType;
     private final String customMessage;
+    /** 클라이언트가 다시 시도하기까지 기다려야 하는 시간. 없으면 null. */
+    private final Duration retryAfter;
 
     public CoreException(ErrorType errorType) {
         this(errorType, null);
     }
 
     public CoreException(ErrorType errorType, String customMessage) {
+        this(errorType, customMessage, null);
+    }
+
+    public CoreException(ErrorType errorType, String customMessage, Duration retryAfter) {
         super(customMessage != null ? customMessage : errorType.getMessage());
         this.errorType = errorType;
         this.customMessage = customMessage;
+        this.retryAfter = retryAfter;
     }
 }
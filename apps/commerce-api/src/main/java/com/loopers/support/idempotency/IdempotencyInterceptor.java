@@ -0,0 +1,168 @@
+package com.loopers.support.idempotency;
+
+import com.loopers.support.auth.AccessTokenAuthenticationFilter;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * {@link Idempotent} 엔드포인트에 Idempotency-Key 헤더가 오면, 키를 선점한 요청만 처리하고 결과를 저장한다.
+ * <ul>
+ *     <li>같은 키의 요청이 처리 중이면 결과가 저장될 때까지 기다렸다가 그 결과를 돌려준다.</li>
+ *     <li>처리가 끝난 키의 재시도에는 저장된 상태 코드와 본문을 그대로 돌려주고, 컨트롤러와 DB 는 거치지 않는다.</li>
+ *     <li>5xx 나 처리되지 않은 예외로 끝나면 결과를 저장하지 않고 키를 풀어, 같은 키로 다시 시도할 수 있게 한다.</li>
+ * </ul>
+ * 키는 메서드, URI 패턴, 요청자별로 따로 관리한다.
+ * <ul>
+ *     <li>액세스 토큰으로 인증된 요청은 loginId 별로 관리해, 다른 회원이 같은 키를 보내도 서로의 결과를 받지 않는다. 같은 키로 본문이 다른 요청을 보내면 422 로 거절한다.</li>
+ *     <li>인증되지 않은 요청은 본문 해시별로 관리한다. 같은 키와 같은 본문이면 네트워크가 바뀌어도 처음 결과를 받고, 본문이 다르면 새 요청으로 처리한다.
+ *     X-Loopers-LoginId 헤더나 클라이언트 IP 는 검증되지 않았거나 재시도마다 바뀔 수 있어 쓰지 않는다.</li>
+ * </ul>
+ * 요청과 응답 본문은 {@link IdempotencyResponseCachingFilter} 가 감싼 요청과 응답에서 읽는다.
+ */
+@Slf4j
+@Component
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+	private static final int MAX_KEY_LENGTH = 255;
+	private static final String ACQUIRED_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".acquired";
+
+	private final IdempotencyStore idempotencyStore;
+	private final Duration waitTimeout;
+	private final Duration pollInterval;
+
+	public IdempotencyInterceptor(IdempotencyStore idempotencyStore, IdempotencyProperties properties) {
+		this.idempotencyStore = idempotencyStore;
+		this.waitTimeout = properties.waitTimeout();
+		this.pollInterval = properties.pollInterval();
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+		if (!(handler instanceof HandlerMethod handlerMethod) || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+			return true;
+		}
+		String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+		if (idempotencyKey == null) {
+			return true;
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new CoreException(ErrorType.BAD_REQUEST, String.format("%s 헤더는 1~%d자여야 합니다.", IDEMPOTENCY_KEY_HEADER, MAX_KEY_LENGTH));
+		}
+
+		String fingerprint = fingerprintOf(request);
+		String key = request.getMethod() + ":" + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)
+				+ ":" + requesterOf(request, fingerprint) + ":" + idempotencyKey;
+		long deadline = System.nanoTime() + waitTimeout.toNanos();
+		while (true) {
+			IdempotencyStore.Entry entry = idempotencyStore.acquire(key, fingerprint);
+			switch (entry) {
+				case IdempotencyStore.Entry.Acquired acquired -> {
+					request.setAttribute(ACQUIRED_ATTRIBUTE, new AcquiredKey(key, fingerprint, acquired.pending()));
+					return true;
+				}
+				case IdempotencyStore.Entry.Mismatched mismatched -> throw new CoreException(
+						ErrorType.UNPROCESSABLE_ENTITY,
+						String.format("같은 %s 로 다른 요청을 보낼 수 없습니다. 요청마다 새 키를 만들어주세요.", IDEMPOTENCY_KEY_HEADER)
+				);
+				case IdempotencyStore.Entry.Completed completed -> {
+					replay(response, completed);
+					return false;
+				}
+				case IdempotencyStore.Entry.Unavailable unavailable -> {
+					log.warn("Redis 를 쓸 수 없어 Idempotency-Key 없이 처리합니다: {}", key);
+					return true;
+				}
+				case IdempotencyStore.Entry.Pending pending -> awaitNextPoll(deadline);
+				case IdempotencyStore.Entry.Expired expired -> {
+					// 처리 중 표시가 방금 만료되었으므로 바로 다시 선점을 시도한다.
+				}
+			}
+		}
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (!(request.getAttribute(ACQUIRED_ATTRIBUTE) instanceof AcquiredKey acquired)) {
+			return;
+		}
+		ContentCachingResponseWrapper cachingResponse = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+		if (ex != null || response.getStatus() >= 500 || cachingResponse == null) {
+			idempotencyStore.release(acquired.key(), acquired.pending());
+			return;
+		}
+		boolean completed = idempotencyStore.complete(
+				acquired.key(),
+				acquired.fingerprint(),
+				acquired.pending(),
+				response.getStatus(),
+				new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8)
+		);
+		if (!completed) {
+			log.warn("처리 중 표시가 만료되었거나 Redis 를 쓸 수 없어 결과를 저장하지 못했습니다: {}", acquired.key());
+		}
+	}
+
+	private static String requesterOf(HttpServletRequest request, String fingerprint) {
+		if (request.getAttribute(AccessTokenAuthenticationFilter.AUTHENTICATED_LOGIN_ID) instanceof String authenticatedLoginId) {
+			return "member:" + authenticatedLoginId;
+		}
+		return "anonymous:" + fingerprint;
+	}
+
+	/**
+	 * 요청 본문의 SHA-256 해시. 본문을 미리 읽어 둔 요청이 아니면 빈 본문으로 본다.
+	 */
+	private static String fingerprintOf(HttpServletRequest request) {
+		IdempotencyResponseCachingFilter.CachedBodyRequest cachedRequest =
+				WebUtils.getNativeRequest(request, IdempotencyResponseCachingFilter.CachedBodyRequest.class);
+		byte[] body = cachedRequest != null ? cachedRequest.body() : new byte[0];
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void awaitNextPoll(long deadline) {
+		if (System.nanoTime() >= deadline) {
+			throw new CoreException(ErrorType.CONFLICT, "같은 Idempotency-Key 로 보낸 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+		}
+		try {
+			Thread.sleep(pollInterval);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(ErrorType.CONFLICT, "같은 Idempotency-Key 로 보낸 요청을 기다리는 중 중단되었습니다.");
+		}
+	}
+
+	private static void replay(HttpServletResponse response, IdempotencyStore.Entry.Completed completed) throws IOException {
+		byte[] body = completed.body().getBytes(StandardCharsets.UTF_8);
+		response.setStatus(completed.status());
+		response.setHeader(REPLAYED_HEADER, "true");
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private record AcquiredKey(String key, String fingerprint, String pending) {}
+}
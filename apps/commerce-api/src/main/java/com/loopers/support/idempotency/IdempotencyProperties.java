@@ -0,0 +1,19 @@
+package com.loopers.support.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param lockTtl      처리 중 표시의 유지 시간. 처리하던 노드가 죽어도 이 시간이 지나면 같은 키로 다시 처리할 수 있다.
+ * @param resultTtl    처리 결과를 재시도에 돌려주는 기간
+ * @param waitTimeout  같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간. 넘기면 409 로 응답한다.
+ * @param pollInterval 처리 중인 요청의 결과를 확인하는 간격
+ */
+@ConfigurationProperties(value = "idempotency")
+public record IdempotencyProperties(
+		Duration lockTtl,
+		Duration resultTtl,
+		Duration waitTimeout,
+		Duration pollInterval
+) {}
@@ -0,0 +1,151 @@
+package com.loopers.support.idempotency;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.RedisResilience;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 키마다 "pending:요청지문:토큰"(처리 중) 또는 "completed:요청지문:상태코드:본문"(처리 결과)을 저장한다.
+ * 요청 지문은 요청 본문의 해시로, 같은 키로 다른 요청을 보냈는지 가려낸다.
+ * 처리 중 표시는 lock-ttl 뒤에 사라지므로, 처리하던 노드가 죽어도 키가 영원히 묶이지 않는다.
+ * 중복 실행을 막는 경로이므로 복제 지연이 없는 master 에서 읽고 쓴다.
+ */
+@Component
+public class IdempotencyStore {
+
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final String PENDING_PREFIX = "pending:";
+	private static final String COMPLETED_PREFIX = "completed:";
+	private static final String OPERATION = "idempotency";
+
+	/**
+	 * KEYS[1]: 키, ARGV: 처리 중 표시, 유지 시간(ms)
+	 * 선점하면 처리 중 표시를, 이미 있으면 저장된 값을, 그 사이 만료되었으면 빈 문자열을 돌려준다.
+	 */
+	private static final RedisScript<String> ACQUIRE = RedisScript.of("""
+			if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+			    return ARGV[1]
+			end
+			return redis.call('GET', KEYS[1]) or ''
+			""", String.class);
+
+	/**
+	 * 그 사이 lock-ttl 이 지나 다른 요청이 선점했으면 지우지 않는다. KEYS[1]: 키, ARGV: 처리 중 표시
+	 */
+	private static final RedisScript<Long> RELEASE = RedisScript.of("""
+			if redis.call('GET', KEYS[1]) == ARGV[1] then
+			    return redis.call('DEL', KEYS[1])
+			end
+			return 0
+			""", Long.class);
+
+	/**
+	 * 그 사이 lock-ttl 이 지나 다른 요청이 선점했으면 덮어쓰지 않는다. KEYS[1]: 키, ARGV: 처리 중 표시, 처리 결과, 유지 시간(ms)
+	 */
+	private static final RedisScript<Long> COMPLETE = RedisScript.of("""
+			if redis.call('GET', KEYS[1]) == ARGV[1] then
+			    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+			    return 1
+			end
+			return 0
+			""", Long.class);
+
+	private final RedisTemplate<String, String> masterRedisTemplate;
+	private final RedisResilience redisResilience;
+	private final Duration lockTtl;
+	private final Duration resultTtl;
+
+	public IdempotencyStore(
+			@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+			RedisResilience redisResilience,
+			IdempotencyProperties properties
+	) {
+		this.masterRedisTemplate = masterRedisTemplate;
+		this.redisResilience = redisResilience;
+		this.lockTtl = properties.lockTtl();
+		this.resultTtl = properties.resultTtl();
+	}
+
+	/**
+	 * 키를 선점하거나, 이미 있는 상태를 돌려준다. 이미 있는 상태의 요청 지문이 다르면 {@link Entry.Mismatched} 를,
+	 * Redis 를 쓸 수 없으면 {@link Entry.Unavailable} 을 돌려준다.
+	 */
+	public Entry acquire(String key, String fingerprint) {
+		String pending = PENDING_PREFIX + fingerprint + ":" + UUID.randomUUID();
+		String stored = redisResilience.call(
+				OPERATION,
+				() -> masterRedisTemplate.execute(ACQUIRE, List.of(KEY_PREFIX + key), pending, String.valueOf(lockTtl.toMillis())),
+				() -> null
+		);
+		if (stored == null) {
+			return new Entry.Unavailable();
+		}
+		if (stored.equals(pending)) {
+			return new Entry.Acquired(pending);
+		}
+		if (stored.isEmpty()) {
+			return new Entry.Expired();
+		}
+		String prefix = stored.startsWith(COMPLETED_PREFIX) ? COMPLETED_PREFIX : PENDING_PREFIX;
+		int fingerprintEnd = stored.indexOf(':', prefix.length());
+		if (!stored.startsWith(fingerprint, prefix.length()) || fingerprintEnd != prefix.length() + fingerprint.length()) {
+			return new Entry.Mismatched();
+		}
+		if (prefix.equals(PENDING_PREFIX)) {
+			return new Entry.Pending();
+		}
+		int separator = stored.indexOf(':', fingerprintEnd + 1);
+		return new Entry.Completed(
+				Integer.parseInt(stored, fingerprintEnd + 1, separator, 10),
+				stored.substring(separator + 1)
+		);
+	}
+
+	/**
+	 * 선점한 요청의 결과를 저장한다. 그 사이 lock-ttl 이 지나 다른 요청이 선점했으면 저장하지 않고 false 를 돌려준다.
+	 */
+	public boolean complete(String key, String fingerprint, String pending, int status, String body) {
+		Long completed = redisResilience.call(
+				OPERATION,
+				() -> masterRedisTemplate.execute(
+						COMPLETE,
+						List.of(KEY_PREFIX + key),
+						pending,
+						COMPLETED_PREFIX + fingerprint + ":" + status + ":" + body,
+						String.valueOf(resultTtl.toMillis())
+				),
+				() -> 0L
+		);
+		return completed != null && completed == 1L;
+	}
+
+	/**
+	 * 처리하지 못했으면 처리 중 표시를 지워 같은 키로 다시 시도할 수 있게 한다.
+	 */
+	public void release(String key, String pending) {
+		redisResilience.run(OPERATION, () -> masterRedisTemplate.execute(RELEASE, List.of(KEY_PREFIX + key), pending));
+	}
+
+	public sealed interface Entry {
+		record Acquired(String pending) implements Entry {}
+
+		record Pending() implements Entry {}
+
+		record Completed(int status, String body) implements Entry {}
+
+		/** 확인하는 사이 처리 중 표시가 만료되었다. 다시 선점을 시도한다. */
+		record Expired() implements Entry {}
+
+		/** 같은 키로 본문이 다른 요청이 이미 처리되었거나 처리 중이다. */
+		record Mismatched() implements Entry {}
+
+		record Unavailable() implements Entry {}
+	}
+}
@@ -0,0 +1,17 @@
+package com.loopers.support.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 보낸 요청은 같은 키로 한 번만 처리하고, 재시도에는 처음 응답을 그대로 돌려준다.
+ * 상태를 바꾸는 엔드포인트(POST, PATCH 등) 메서드에 붙인다. 헤더가 없으면 평소처럼 처리한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,103 @@
+package com.loopers.support.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.ErrorType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원 인증 엔드포인트 요청을 DB 조회와 비밀번호 해싱 전에 클라이언트 IP, loginId 별로 제한한다.
+ * 클라이언트 IP 는 모든 요청을 세고, loginId 는 인증에 실패한 요청(없는 회원, 틀린 비밀번호)만 세어 정상 사용자가 자기 한도를 쓰지 않게 한다.
+ * loginId 는 인증 전에 토큰을 꺼내 두고 성공하면 돌려주므로, 동시에 보낸 요청도 남은 토큰 수만큼만 인증까지 간다.
+ * loginId 는 X-Loopers-LoginId 헤더로 보낸 요청만 제한한다. (로그인 요청 본문의 loginId 는 IP 제한만 받는다.)
+ * 클라이언트 IP 는 getRemoteAddr() 로 정하므로, 프록시 뒤에서는 server.forward-headers-strategy 를 설정한다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final String LOGIN_ID_HEADER = "X-Loopers-LoginId";
+
+	private final RateLimitProperties properties;
+	private final RateLimiter rateLimiter;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final byte[] rejectedBody;
+
+	public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter, ObjectMapper objectMapper) throws JsonProcessingException {
+		this.properties = properties;
+		this.rateLimiter = rateLimiter;
+		this.rejectedBody = objectMapper.writeValueAsBytes(
+				ApiResponse.fail(ErrorType.TOO_MANY_REQUESTS.getCode(), ErrorType.TOO_MANY_REQUESTS.getMessage())
+		);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (!properties.enabled()) {
+			return true;
+		}
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return properties.paths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		RateLimiter.Decision decision = rateLimiter.tryAcquire(RateLimiter.Scope.CLIENT_IP, request.getRemoteAddr());
+		if (!decision.allowed()) {
+			writeTooManyRequests(response, decision.retryAfterMillis());
+			return;
+		}
+		String loginId = request.getHeader(LOGIN_ID_HEADER);
+		if (loginId == null || loginId.isBlank()) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		RateLimiter.Decision reservation = rateLimiter.reserve(RateLimiter.Scope.LOGIN_ID, loginId);
+		if (!reservation.allowed()) {
+			writeTooManyRequests(response, reservation.retryAfterMillis());
+			return;
+		}
+		filterChain.doFilter(request, response);
+		if (!isAuthenticationFailure(response.getStatus())) {
+			rateLimiter.release(RateLimiter.Scope.LOGIN_ID, loginId, reservation);
+		}
+	}
+
+	/**
+	 * 없는 회원은 404, 틀린 비밀번호는 400 으로 응답한다.
+	 */
+	private static boolean isAuthenticationFailure(int status) {
+		return status == HttpStatus.BAD_REQUEST.value()
+				|| status == HttpStatus.UNAUTHORIZED.value()
+				|| status == HttpStatus.NOT_FOUND.value();
+	}
+
+	/**
+	 * 거절 응답은 매번 같으므로 미리 직렬화해 둔 본문을 쓴다.
+	 */
+	private void writeTooManyRequests(HttpServletResponse response, long retryAfterMillis) throws IOException {
+		response.setStatus(ErrorType.TOO_MANY_REQUESTS.getStatus().value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setContentLength(rejectedBody.length);
+		response.getOutputStream().write(rejectedBody);
+	}
+}
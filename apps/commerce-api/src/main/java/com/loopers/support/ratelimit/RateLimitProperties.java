@@ -0,0 +1,34 @@
+package com.loopers.support.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param paths         제한할 요청 경로 (Ant 패턴)
+ * @param loginId       loginId 별 인증 실패 한도
+ * @param clientIp      클라이언트 IP 별 요청 한도
+ * @param partnerRows   파트너별 일괄 가입 행 한도. 한 요청의 행 수가 용량을 넘지 않도록 둔다.
+ * @param reservoirSize 클라이언트 IP 한도에서 Redis 에서 한 번에 가져와 노드에 두는 토큰 수. 이만큼의 요청은 Redis 를 거치지 않는다.
+ * @param reservoirTtl  가져온 토큰을 노드에 두는 시간. 쓰지 못한 토큰은 버리므로, 노드가 많을수록 짧게 둔다.
+ */
+@ConfigurationProperties(value = "member.rate-limit")
+public record RateLimitProperties(
+		boolean enabled,
+		List<String> paths,
+		Bucket loginId,
+		Bucket clientIp,
+		Bucket partnerRows,
+		int reservoirSize,
+		Duration reservoirTtl
+) {
+	/**
+	 * @param capacity        한 번에 몰아서 보낼 수 있는 요청 수
+	 * @param refillPerSecond 초당 채워지는 토큰 수 (지속 가능한 요청률)
+	 */
+	public record Bucket(
+			int capacity,
+			double refillPerSecond
+	) {}
+}
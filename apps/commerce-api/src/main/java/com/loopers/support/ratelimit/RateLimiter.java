@@ -0,0 +1,207 @@
+package com.loopers.support.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 클라이언트 IP 는 요청마다 토큰을 꺼낸다. Redis 토큰 버킷에서 토큰을 reservoir-size 개씩 가져와 노드에 두고, 남아 있는 동안에는 Redis 를 거치지 않고 허용한다.
+ * 가져온 토큰은 공유 버킷에서 이미 빠진 것이므로 노드가 늘어도 허용량이 한도를 넘지 않는다. 대신 reservoir-ttl 안에 쓰지 못한 토큰은 버려진다.
+ * loginId 는 인증에 실패한 요청만 세지만, 요청을 받기 전에 토큰 하나를 먼저 꺼내 두고 인증에 성공하면 돌려준다.
+ * 남았는지 보기만 하고 실패한 뒤에 꺼내면, 동시에 들어온 요청이 모두 같은 마지막 토큰을 보고 통과하기 때문이다.
+ * 한도가 작아 미리 가져오면 다른 노드의 몫을 빼앗으므로 매번 Redis 에 묻는다.
+ * 거절되면 다음 토큰이 채워질 때까지 노드에서 바로 거절해, 몰려드는 요청이 Redis 까지 가지 않게 한다. 이 차단은 reservoir 와 따로 두어 reservoir-ttl 과 관계없이 유지된다.
+ * 파트너 일괄 가입은 요청의 행 수만큼 한 번에 꺼낸다.
+ * Redis 가 응답하지 않으면 정상 요청을 막지 않도록 허용한다.
+ */
+@Component
+public class RateLimiter {
+
+	private final RateLimitProperties properties;
+	private final RedisTokenBucket redisTokenBucket;
+	private final Cache<String, Reservoir> reservoirs;
+	private final Cache<String, Long> blockedUntil;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Counter> decisionCounters = new ConcurrentHashMap<>();
+
+	public RateLimiter(RateLimitProperties properties, RedisTokenBucket redisTokenBucket, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.redisTokenBucket = redisTokenBucket;
+		this.reservoirs = Caffeine.newBuilder()
+				.expireAfterWrite(properties.reservoirTtl())
+				.build();
+		this.blockedUntil = Caffeine.newBuilder()
+				.expireAfter(Expiry.<String, Long>writing((key, until) -> Duration.ofNanos(Math.max(0, until - System.nanoTime()))))
+				.build();
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 토큰 하나를 꺼낸다. 요청마다 한도를 세는 범위에 쓴다.
+	 */
+	public Decision tryAcquire(Scope scope, String key) {
+		String bucketKey = scope.prefix + key;
+		long now = System.nanoTime();
+		long blockedFor = blockedFor(bucketKey, now);
+		if (blockedFor > 0) {
+			return record(scope, Source.LOCAL, Decision.rejected(blockedFor / 1_000_000));
+		}
+		Reservoir reservoir = reservoirs.get(bucketKey, ignored -> new Reservoir());
+		if (reservoir.tryTake()) {
+			return record(scope, Source.LOCAL, Decision.ALLOWED);
+		}
+
+		Optional<RedisTokenBucket.Grant> grant = redisTokenBucket.take(bucketKey, scope.bucketOf(properties), scope.reservoirSizeOf(properties));
+		if (grant.isEmpty()) {
+			return record(scope, Source.FALLBACK, Decision.ALLOWED);
+		}
+		if (grant.get().granted() == 0) {
+			long retryAfterMillis = grant.get().retryAfterMillis();
+			blockUntil(bucketKey, now, retryAfterMillis);
+			return record(scope, Source.REDIS, Decision.rejected(retryAfterMillis));
+		}
+		reservoir.add(grant.get().granted() - 1);
+		return record(scope, Source.REDIS, Decision.ALLOWED);
+	}
+
+	/**
+	 * permits 개를 한 번에 꺼낸다. 모자라면 하나도 꺼내지 않고 거절한다. 여러 단위를 한 요청이 쓰는 범위에 쓰며, 제한이 꺼져 있으면 허용한다.
+	 */
+	public Decision tryAcquire(Scope scope, String key, int permits) {
+		if (!properties.enabled()) {
+			return Decision.ALLOWED;
+		}
+		Optional<RedisTokenBucket.Grant> grant = redisTokenBucket.takeAll(scope.prefix + key, scope.bucketOf(properties), permits);
+		if (grant.isEmpty()) {
+			return record(scope, Source.FALLBACK, Decision.ALLOWED);
+		}
+		if (grant.get().granted() < permits) {
+			return record(scope, Source.REDIS, Decision.rejected(grant.get().retryAfterMillis()));
+		}
+		return record(scope, Source.REDIS, Decision.ALLOWED);
+	}
+
+	/**
+	 * 토큰 하나를 꺼내 둔다. 실패한 요청만 세는 범위에서 요청을 받기 전에 쓰고, 성공하면 {@link #release} 로 돌려준다.
+	 * 꺼낸 토큰은 돌려받을 수 있으므로, 마지막 토큰을 꺼냈다고 해서 노드에서 미리 막지 않는다.
+	 */
+	public Decision reserve(Scope scope, String key) {
+		String bucketKey = scope.prefix + key;
+		long now = System.nanoTime();
+		long blockedFor = blockedFor(bucketKey, now);
+		if (blockedFor > 0) {
+			return record(scope, Source.LOCAL, Decision.rejected(blockedFor / 1_000_000));
+		}
+
+		Optional<RedisTokenBucket.Grant> grant = redisTokenBucket.take(bucketKey, scope.bucketOf(properties), 1);
+		if (grant.isEmpty()) {
+			return record(scope, Source.FALLBACK, Decision.ALLOWED);
+		}
+		if (grant.get().granted() == 0) {
+			long retryAfterMillis = grant.get().retryAfterMillis();
+			blockUntil(bucketKey, now, retryAfterMillis);
+			return record(scope, Source.REDIS, Decision.rejected(retryAfterMillis));
+		}
+		return record(scope, Source.REDIS, Decision.RESERVED);
+	}
+
+	/**
+	 * {@link #reserve} 로 꺼낸 토큰을 돌려준다. Redis 가 응답하지 않아 꺼내지 않고 허용한 요청은 돌려주지 않는다.
+	 */
+	public void release(Scope scope, String key, Decision reservation) {
+		if (reservation.reserved()) {
+			redisTokenBucket.refund(scope.prefix + key, scope.bucketOf(properties), 1);
+		}
+	}
+
+	private long blockedFor(String bucketKey, long now) {
+		Long until = blockedUntil.getIfPresent(bucketKey);
+		return until != null ? until - now : 0;
+	}
+
+	private void blockUntil(String bucketKey, long now, long retryAfterMillis) {
+		blockedUntil.put(bucketKey, now + retryAfterMillis * 1_000_000);
+	}
+
+	private Decision record(Scope scope, Source source, Decision decision) {
+		String result = decision.allowed() ? "allowed" : "rejected";
+		decisionCounters.computeIfAbsent(scope.tag + ":" + source.tag + ":" + result, ignored -> Counter.builder("rate_limit.decisions")
+				.tag("scope", scope.tag)
+				.tag("source", source.tag)
+				.tag("result", result)
+				.register(meterRegistry)
+		).increment();
+		return decision;
+	}
+
+	public enum Scope {
+		LOGIN_ID("login-id:", "login_id"),
+		CLIENT_IP("client-ip:", "client_ip"),
+		PARTNER_ROWS("partner-rows:", "partner_rows");
+
+		private final String prefix;
+		private final String tag;
+
+		Scope(String prefix, String tag) {
+			this.prefix = prefix;
+			this.tag = tag;
+		}
+
+		private RateLimitProperties.Bucket bucketOf(RateLimitProperties properties) {
+			return switch (this) {
+				case LOGIN_ID -> properties.loginId();
+				case CLIENT_IP -> properties.clientIp();
+				case PARTNER_ROWS -> properties.partnerRows();
+			};
+		}
+
+		private int reservoirSizeOf(RateLimitProperties properties) {
+			return this == LOGIN_ID ? 1 : properties.reservoirSize();
+		}
+	}
+
+	/**
+	 * @param reserved {@link #reserve} 가 Redis 에서 토큰을 꺼냈는지. 꺼냈을 때만 돌려준다.
+	 */
+	public record Decision(boolean allowed, long retryAfterMillis, boolean reserved) {
+		static final Decision ALLOWED = new Decision(true, 0, false);
+		static final Decision RESERVED = new Decision(true, 0, true);
+
+		static Decision rejected(long retryAfterMillis) {
+			return new Decision(false, retryAfterMillis, false);
+		}
+	}
+
+	private enum Source {
+		LOCAL("local"),
+		REDIS("redis"),
+		FALLBACK("fallback");
+
+		private final String tag;
+
+		Source(String tag) {
+			this.tag = tag;
+		}
+	}
+
+	private static final class Reservoir {
+		private final AtomicInteger tokens = new AtomicInteger();
+
+		boolean tryTake() {
+			return tokens.getAndUpdate(current -> current > 0 ? current - 1 : 0) > 0;
+		}
+
+		void add(int granted) {
+			tokens.addAndGet(granted);
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package com.loopers.support.ratelimit;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.RedisResilience;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 노드가 공유하는 토큰 버킷. 채우기와 꺼내기를 Lua 스크립트 하나로 처리해 동시에 요청해도 토큰을 초과해서 내주지 않는다.
+ * 노드마다 시계가 다를 수 있으므로 채울 양은 Redis 서버 시각(TIME)으로 계산한다.
+ */
+@Component
+public class RedisTokenBucket {
+
+	private static final String KEY_PREFIX = "rate-limit:";
+	private static final String OPERATION = "rate-limit";
+
+	/**
+	 * KEYS[1]: 버킷, ARGV: 용량, ms 당 채우는 토큰 수, 요청 토큰 수, 전부 아니면 없음(1/0)
+	 * 남은 토큰 안에서 최대한 내주고, 남은 토큰이 하나도 없으면 토큰 하나가 채워질 때까지의 시간(ms)을 돌려준다.
+	 * 전부 아니면 없음이면 요청한 만큼 남아 있을 때만 내주고, 모자라면 하나도 꺼내지 않고 그만큼 채워질 때까지의 시간(ms)을 돌려준다.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static final RedisScript<List<Long>> TAKE = (RedisScript) RedisScript.of("""
+			local capacity = tonumber(ARGV[1])
+			local refillPerMs = tonumber(ARGV[2])
+			local requested = tonumber(ARGV[3])
+			local allOrNothing = ARGV[4] == '1'
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'at')
+			local tokens = tonumber(bucket[1])
+			local at = tonumber(bucket[2])
+			if tokens == nil or at == nil then
+			    tokens = capacity
+			    at = now
+			end
+			tokens = math.min(capacity, tokens + math.max(0, now - at) * refillPerMs)
+			local granted = math.min(requested, math.floor(tokens))
+			if allOrNothing and granted < requested then
+			    granted = 0
+			end
+			tokens = tokens - granted
+			redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'at', now)
+			redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / refillPerMs) + 1000)
+			local retryAfter = 0
+			if allOrNothing then
+			    if granted < requested then
+			        retryAfter = math.ceil((requested - tokens) / refillPerMs)
+			    end
+			elseif tokens < 1 then
+			    retryAfter = math.ceil((1 - tokens) / refillPerMs)
+			end
+			return {granted, retryAfter}
+			""", List.class);
+
+	/**
+	 * KEYS[1]: 버킷, ARGV: 용량, ms 당 채우는 토큰 수, 돌려줄 토큰 수
+	 * 꺼냈던 토큰을 돌려준다. 용량을 넘겨 채우지 않는다.
+	 */
+	private static final RedisScript<Long> REFUND = RedisScript.of("""
+			local capacity = tonumber(ARGV[1])
+			local refillPerMs = tonumber(ARGV[2])
+			local refunded = tonumber(ARGV[3])
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'at')
+			if not bucket[1] then
+			    return 0
+			end
+			local tokens = tonumber(bucket[1])
+			local at = tonumber(bucket[2])
+			tokens = math.min(capacity, tokens + math.max(0, now - at) * refillPerMs + refunded)
+			redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'at', now)
+			redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / refillPerMs) + 1000)
+			return 1
+			""", Long.class);
+
+	private final RedisTemplate<String, String> masterRedisTemplate;
+	private final RedisResilience redisResilience;
+	private final Timer latency;
+
+	public RedisTokenBucket(
+			@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+			RedisResilience redisResilience,
+			MeterRegistry meterRegistry
+	) {
+		this.masterRedisTemplate = masterRedisTemplate;
+		this.redisResilience = redisResilience;
+		this.latency = Timer.builder("rate_limit.redis.latency")
+				.description("토큰 버킷 Lua 스크립트 왕복 시간")
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 최대 requested 개의 토큰을 꺼낸다. 꺼낸 뒤 남은 토큰이 없으면 retryAfterMillis 가 0 보다 크다.
+	 * Redis 가 느리거나 응답하지 않으면 빈 값을 돌려준다.
+	 */
+	public Optional<Grant> take(String key, RateLimitProperties.Bucket bucket, int requested) {
+		return execute(key, bucket, requested, false);
+	}
+
+	/**
+	 * requested 개를 한 번에 꺼낸다. 모자라면 하나도 꺼내지 않고, 그만큼 채워질 때까지의 시간을 retryAfterMillis 로 돌려준다.
+	 * Redis 가 느리거나 응답하지 않으면 빈 값을 돌려준다.
+	 */
+	public Optional<Grant> takeAll(String key, RateLimitProperties.Bucket bucket, int requested) {
+		return execute(key, bucket, requested, true);
+	}
+
+	private Optional<Grant> execute(String key, RateLimitProperties.Bucket bucket, int requested, boolean allOrNothing) {
+		List<Long> result = redisResilience.call(
+				OPERATION,
+				() -> latency.record(() -> masterRedisTemplate.execute(
+						TAKE,
+						List.of(KEY_PREFIX + key),
+						String.valueOf(bucket.capacity()),
+						String.valueOf(bucket.refillPerSecond() / 1000),
+						String.valueOf(requested),
+						allOrNothing ? "1" : "0"
+				)),
+				() -> null
+		);
+		if (result == null || result.size() < 2) {
+			return Optional.empty();
+		}
+		return Optional.of(new Grant(result.get(0).intValue(), result.get(1)));
+	}
+
+	/**
+	 * 꺼냈던 토큰을 돌려준다. 버킷이 이미 만료되었으면 가득 찬 것이므로 아무것도 하지 않는다.
+	 * Redis 가 느리거나 응답하지 않으면 돌려주지 못하고 넘어간다.
+	 */
+	public void refund(String key, RateLimitProperties.Bucket bucket, int refunded) {
+		redisResilience.call(
+				OPERATION,
+				() -> latency.record(() -> masterRedisTemplate.execute(
+						REFUND,
+						List.of(KEY_PREFIX + key),
+						String.valueOf(bucket.capacity()),
+						String.valueOf(bucket.refillPerSecond() / 1000),
+						String.valueOf(refunded)
+				)),
+				() -> null
+		);
+	}
+
+	public record Grant(int granted, long retryAfterMillis) {}
+}
@@ -0,0 +1,27 @@
+package com.loopers.support.web;
+
+import com.loopers.config.jpa.ConnectionHoldTimeContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청이 매핑된 엔드포인트(메서드 + URI 패턴)를 커넥션 점유 시간 지표의 태그로 설정한다.
+ */
+class ConnectionHoldTimeInterceptor implements HandlerInterceptor {
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (pattern != null) {
+			ConnectionHoldTimeContext.set(request.getMethod() + " " + pattern);
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		ConnectionHoldTimeContext.clear();
+	}
+}
@@ -0,0 +1,20 @@
+package com.loopers.support.web;
+
+import com.loopers.support.idempotency.IdempotencyInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@RequiredArgsConstructor
+@Configuration
+class WebMvcConfig implements WebMvcConfigurer {
+
+	private final IdempotencyInterceptor idempotencyInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ConnectionHoldTimeInterceptor()).addPathPatterns("/api/**");
+		registry.addInterceptor(idempotencyInterceptor).addPathPatterns("/api/**");
+	}
+}
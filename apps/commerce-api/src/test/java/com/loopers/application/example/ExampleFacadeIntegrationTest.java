@@ -0,0 +1,143 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleRepository;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class ExampleFacadeIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    @Autowired
+    private ExampleFacade exampleFacade;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoSpyBean
+    private ExampleRepository exampleRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    /**
+     * 모든 요청이 동시에 출발하도록 맞춘 뒤, 각 요청의 결과(또는 예외)를 모은다.
+     */
+    private <T> List<Future<T>> concurrently(Callable<T> request) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return request.call();
+            }));
+        }
+        ready.await();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        return results;
+    }
+
+    @DisplayName("같은 예시를 동시에 조회할 때,")
+    @Nested
+    class ConcurrentGet {
+
+        @DisplayName("존재하는 id 면, DB 조회는 한 번만 일어나고 모든 요청이 같은 결과를 받는다.")
+        @Test
+        void loadsOnce_whenExampleExists() throws Exception {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+
+            // act
+            List<Future<ExampleInfo>> results = concurrently(() -> exampleFacade.getExample(example.getId()));
+
+            // assert
+            for (Future<ExampleInfo> result : results) {
+                assertThat(result.get()).isEqualTo(new ExampleInfo(example.getId(), "예시 제목", "예시 설명"));
+            }
+            verify(exampleRepository, times(1)).find(example.getId());
+        }
+
+        @DisplayName("존재하지 않는 id 면, DB 조회는 한 번만 일어나고 이후 조회도 캐시된 NOT_FOUND 로 응답한다.")
+        @Test
+        void cachesNotFound_whenExampleDoesNotExist() throws Exception {
+            // arrange
+            Long missingId = 404L;
+
+            // act
+            List<Future<ExampleInfo>> results = concurrently(() -> exampleFacade.getExample(missingId));
+            CoreException again = assertThrows(CoreException.class, () -> exampleFacade.getExample(missingId));
+
+            // assert
+            for (Future<ExampleInfo> result : results) {
+                ExecutionException failure = assertThrows(ExecutionException.class, result::get);
+                assertThat(failure.getCause()).isInstanceOfSatisfying(CoreException.class,
+                    e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.NOT_FOUND));
+            }
+            assertThat(again.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+            verify(exampleRepository, times(1)).find(missingId);
+        }
+
+        @DisplayName("캐시가 만료된 뒤 다시 몰리면, 만료마다 DB 조회는 한 번만 일어난다.")
+        @Test
+        void loadsOncePerRefresh_afterExpiry() throws Exception {
+            // arrange
+            ExampleModel example = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+            concurrently(() -> exampleFacade.getExample(example.getId()));
+
+            // act
+            cacheManager.getCache(ExampleFacade.CACHE_NAME).evict(example.getId());
+            List<Future<ExampleInfo>> results = concurrently(() -> exampleFacade.getExample(example.getId()));
+
+            // assert
+            for (Future<ExampleInfo> result : results) {
+                assertThat(result.get().id()).isEqualTo(example.getId());
+            }
+            verify(exampleRepository, times(2)).find(example.getId());
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class MemberModelTest {
@@ -229,33 +230,25 @@ class MemberModelTest {
 		}
 	}
 
-	@DisplayName("비밀번호를 변경할 때,")
+	@DisplayName("새 비밀번호를 검증할 때,")
 	@Nested
-	class ChangePassword {
+	class ValidatePassword {
 
-		@DisplayName("유효한 새 비밀번호로 변경하면, 비밀번호가 변경된다.")
-		@Test
-		void changePasswordSuccess() {
-			// given
-			MemberModel member = new MemberModel("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-			String newPassword = "newpass1!@";
-
-			// when
-			member.changePassword(newPassword);
+		private static final LocalDate BIRTH_DATE = LocalDate.of(2000, 6, 5);
 
-			// then
-			assertThat(member.getPassword()).isEqualTo(newPassword);
+		@DisplayName("유효한 새 비밀번호면, 예외가 발생하지 않는다.")
+		@Test
+		void passesWithValidPassword() {
+			// when & then
+			assertDoesNotThrow(() -> MemberModel.validatePassword("newpass1!@", BIRTH_DATE));
 		}
 
 		@DisplayName("새 비밀번호에 허용되지 않는 문자(한글)가 포함되면, BAD_REQUEST 예외가 발생한다.")
 		@Test
 		void failWithKoreanNewPassword() {
-			// given
-			MemberModel member = new MemberModel("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-
 			// when
 			CoreException result = assertThrows(CoreException.class, () ->
-					member.changePassword("새비밀번호입력!@")
+					MemberModel.validatePassword("새비밀번호입력!@", BIRTH_DATE)
 			);
 
 			// then
@@ -265,12 +258,9 @@ class MemberModelTest {
 		@DisplayName("새 비밀번호가 8자 미만이면, BAD_REQUEST 예외가 발생한다.")
 		@Test
 		void failWithShortNewPassword() {
-			// given
-			MemberModel member = new MemberModel("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-
 			// when
 			CoreException result = assertThrows(CoreException.class, () ->
-					member.changePassword("short!")
+					MemberModel.validatePassword("short!", BIRTH_DATE)
 			);
 
 			// then
@@ -280,12 +270,9 @@ class MemberModelTest {
 		@DisplayName("새 비밀번호가 16자 초과이면, BAD_REQUEST 예외가 발생한다.")
 		@Test
 		void failWithLongNewPassword() {
-			// given
-			MemberModel member = new MemberModel("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-
 			// when
 			CoreException result = assertThrows(CoreException.class, () ->
-					member.changePassword("a".repeat(17))
+					MemberModel.validatePassword("a".repeat(17), BIRTH_DATE)
 			);
 
 			// then
@@ -295,12 +282,9 @@ class MemberModelTest {
 		@DisplayName("새 비밀번호에 생년월일이 포함되면, BAD_REQUEST 예외가 발생한다.")
 		@Test
 		void failWithBirthDateInNewPassword() {
-			// given
-			MemberModel member = new MemberModel("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-
 			// when
 			CoreException result = assertThrows(CoreException.class, () ->
-					member.changePassword("pass20000605!")
+					MemberModel.validatePassword("pass20000605!", BIRTH_DATE)
 			);
 
 			// then
@@ -1,9 +1,14 @@
 package com.loopers.domain.member;
 
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.infrastructure.outbox.OutboxEventJpaRepository;
 import com.loopers.support.crypto.PasswordEncoder;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -23,9 +29,21 @@ class MemberServiceIntegrationTest {
 	@Autowired
 	private MemberService memberService;
 
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
 	@Autowired
 	private DatabaseCleanUp databaseCleanUp;
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private OutboxEventJpaRepository outboxEventJpaRepository;
+
 	@AfterEach
 	void tearDown() {
 		databaseCleanUp.truncateAllTables();
@@ -56,7 +74,7 @@ class MemberServiceIntegrationTest {
 					() -> assertThat(result.getName()).isEqualTo(name),
 					() -> assertThat(result.getBirthDate()).isEqualTo(birthDate),
 					() -> assertThat(result.getEmail()).isEqualTo(email),
-					() -> assertThat(result.getPassword()).isEqualTo(PasswordEncoder.encode(password))
+					() -> assertThat(passwordEncoder.matches(password, result.getPassword())).isTrue()
 			);
 		}
 	}
@@ -80,6 +98,24 @@ class MemberServiceIntegrationTest {
 			// then
 			assertThat(result.getErrorType()).isEqualTo(ErrorType.CONFLICT);
 		}
+
+		@DisplayName("loginId 필터에 없는 loginId가 이미 저장되어 있으면, 유니크 제약에 의해 CONFLICT 예외가 발생한다.")
+		@Test
+		void failWithDuplicateLoginIdUnknownToFilter() {
+			// given
+			String loginId = "notinfilter";
+			MemberModel existing = new MemberModel(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			existing.applyEncodedPassword(passwordEncoder.encode("password1!@"));
+			memberRepository.save(existing);
+
+			// when
+			CoreException result = assertThrows(CoreException.class, () ->
+					memberService.register(loginId, "other1234!@", "김철수", LocalDate.of(1995, 3, 10), "other@example.com")
+			);
+
+			// then
+			assertThat(result.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+		}
 	}
 
 	@DisplayName("존재하지 않는 회원을 조회할 때,")
@@ -123,8 +159,147 @@ class MemberServiceIntegrationTest {
 			MemberModel result = memberService.getMyInfo(loginId, newPassword);
 			assertAll(
 					() -> assertThat(result.getLoginId()).isEqualTo(loginId),
-					() -> assertThat(result.getPassword()).isEqualTo(PasswordEncoder.encode(newPassword))
+					() -> assertThat(passwordEncoder.matches(newPassword, result.getPassword())).isTrue()
+			);
+		}
+	}
+
+	@DisplayName("loginId로 회원을 조회할 때,")
+	@Nested
+	class FindByLoginId {
+
+		@DisplayName("같은 loginId를 다시 조회하면, DB 대신 2차 캐시에서 반환된다.")
+		@Test
+		void hitsSecondLevelCache_whenLoadedAgain() {
+			// given
+			String loginId = "testuser";
+			memberService.register(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			memberRepository.findByLoginId(loginId);
+			Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			statistics.clear();
+
+			// when
+			MemberModel result = memberRepository.findByLoginId(loginId).orElseThrow();
+
+			// then
+			assertAll(
+					() -> assertThat(result.getLoginId()).isEqualTo(loginId),
+					() -> assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1),
+					() -> assertThat(statistics.getSecondLevelCacheHitCount()).isPositive(),
+					() -> assertThat(statistics.getPrepareStatementCount()).isZero()
+			);
+		}
+
+		@DisplayName("비밀번호를 변경해도, 다른 회원의 캐시 항목은 지워지지 않는다.")
+		@Test
+		void keepsOtherMembersCached_afterPasswordChange() {
+			// given
+			memberService.register("changer", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "changer@example.com");
+			memberService.register("bystander", "password1!@", "김철수", LocalDate.of(2000, 6, 5), "bystander@example.com");
+			memberRepository.findByLoginId("bystander");
+			memberService.changePassword("changer", "password1!@", "newpass1!@#");
+			Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			statistics.clear();
+
+			// when
+			MemberModel result = memberRepository.findByLoginId("bystander").orElseThrow();
+
+			// then
+			assertAll(
+					() -> assertThat(result.getLoginId()).isEqualTo("bystander"),
+					() -> assertThat(statistics.getPrepareStatementCount()).isZero()
+			);
+		}
+
+		@DisplayName("비밀번호 변경 후 다시 조회하면, 캐시된 이전 비밀번호가 아니라 변경된 비밀번호가 반환된다.")
+		@Test
+		void returnsChangedPassword_afterPasswordChange() {
+			// given
+			String loginId = "testuser";
+			String newPassword = "newpass1!@#";
+			memberService.register(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			memberRepository.findByLoginId(loginId);
+
+			// when
+			memberService.changePassword(loginId, "password1!@", newPassword);
+
+			// then
+			MemberModel result = memberRepository.findByLoginId(loginId).orElseThrow();
+			assertThat(passwordEncoder.matches(newPassword, result.getPassword())).isTrue();
+		}
+	}
+
+	@DisplayName("회원 상태가 바뀔 때,")
+	@Nested
+	class MemberEvents {
+
+		@DisplayName("회원가입하면, 가입 이벤트가 loginId 를 키로 outbox 에 남는다.")
+		@Test
+		void appendsRegisteredEvent_whenRegistered() {
+			// given
+			String loginId = "testuser";
+
+			// when
+			MemberModel member = memberService.register(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+
+			// then
+			List<OutboxEventModel> events = outboxEventJpaRepository.findAll();
+			assertAll(
+					() -> assertThat(events).hasSize(1),
+					() -> assertThat(events.get(0).getTopic()).isEqualTo(MemberEvent.TOPIC),
+					() -> assertThat(events.get(0).getEventKey()).isEqualTo(loginId),
+					() -> assertThat(events.get(0).getEventType()).isEqualTo("MemberEvent.Registered"),
+					() -> assertThat(events.get(0).getPayload()).contains("\"memberId\":" + member.getId()),
+					() -> assertThat(events.get(0).getPublishedAt()).isNull()
 			);
 		}
+
+		@DisplayName("중복 loginId 로 가입에 실패하면, 이벤트가 남지 않는다.")
+		@Test
+		void appendsNothing_whenRegistrationFails() {
+			// given
+			memberService.register("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+
+			// when
+			assertThrows(CoreException.class, () ->
+					memberService.register("testuser", "password2!@", "김철수", LocalDate.of(1999, 1, 1), "other@example.com"));
+
+			// then
+			assertThat(outboxEventJpaRepository.count()).isEqualTo(1);
+		}
+
+		@DisplayName("일괄 가입하면, 가입한 회원마다 이벤트가 남는다.")
+		@Test
+		void appendsRegisteredEvents_whenRegisteredInBulk() {
+			// given
+			List<MemberRegistration> registrations = List.of(
+					new MemberRegistration("bulkuser1", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "bulk1@example.com"),
+					new MemberRegistration("bulkuser2", "password1!@", "김철수", LocalDate.of(2000, 6, 5), "bulk2@example.com")
+			);
+
+			// when
+			memberService.registerAll(registrations);
+
+			// then
+			assertThat(outboxEventJpaRepository.findAll())
+					.extracting(OutboxEventModel::getEventKey)
+					.containsExactlyInAnyOrder("bulkuser1", "bulkuser2");
+		}
+
+		@DisplayName("비밀번호를 변경하면, 변경 이벤트가 남는다.")
+		@Test
+		void appendsPasswordChangedEvent_whenPasswordChanged() {
+			// given
+			String loginId = "testuser";
+			memberService.register(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+
+			// when
+			memberService.changePassword(loginId, "password1!@", "newpass1!@#");
+
+			// then
+			assertThat(outboxEventJpaRepository.findAll())
+					.extracting(OutboxEventModel::getEventType)
+					.containsExactlyInAnyOrder("MemberEvent.Registered", "MemberEvent.PasswordChanged");
+		}
 	}
 }
@@ -1,6 +1,10 @@
 package com.loopers.domain.member;
 
+import com.loopers.support.auth.AccessTokenRevocationStore;
+import com.loopers.support.crypto.DelegatingPasswordEncoder;
 import com.loopers.support.crypto.PasswordEncoder;
+import com.loopers.support.crypto.Pbkdf2PasswordEncoder;
+import com.loopers.support.crypto.Sha256PasswordEncoder;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import org.junit.jupiter.api.DisplayName;
@@ -9,17 +13,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +41,18 @@ class MemberServiceUnitTest {
 	@Mock
 	private MemberRepository memberRepository;
 
+	@Mock
+	private MemberLoginIdFilter memberLoginIdFilter;
+
+	@Mock
+	private MemberCredentialCache memberCredentialCache;
+
+	@Mock
+	private AccessTokenRevocationStore accessTokenRevocationStore;
+
+	@Spy
+	private PasswordEncoder passwordEncoder = new Sha256PasswordEncoder();
+
 	@InjectMocks
 	private MemberService memberService;
 
@@ -40,7 +65,7 @@ class MemberServiceUnitTest {
 		void failWithSamePasswordWithoutRepositoryAccess() {
 			// given
 			MemberRepository dummyRepository = mock(MemberRepository.class);
-			MemberService service = new MemberService(dummyRepository);
+			MemberService service = new MemberService(dummyRepository, memberLoginIdFilter, memberCredentialCache, accessTokenRevocationStore, passwordEncoder);
 
 			// when
 			CoreException result = assertThrows(CoreException.class, () ->
@@ -67,6 +92,7 @@ class MemberServiceUnitTest {
 			LocalDate birthDate = LocalDate.of(2000, 6, 5);
 			String email = "test@example.com";
 
+			when(memberLoginIdFilter.mightContain(loginId)).thenReturn(true);
 			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.empty());
 			when(memberRepository.save(any(MemberModel.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -77,7 +103,7 @@ class MemberServiceUnitTest {
 			assertAll(
 					() -> assertThat(result.getLoginId()).isEqualTo(loginId),
 					() -> assertThat(result.getName()).isEqualTo(name),
-					() -> assertThat(result.getPassword()).isEqualTo(PasswordEncoder.encode(password)),
+					() -> assertThat(result.getPassword()).isEqualTo(passwordEncoder.encode(password)),
 					() -> assertThat(result.getPassword()).isNotEqualTo(password)
 			);
 		}
@@ -89,17 +115,17 @@ class MemberServiceUnitTest {
 			String loginId = "testuser";
 			String password = "password1!@";
 			MemberModel member = new MemberModel(loginId, password, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-			member.applyEncodedPassword(PasswordEncoder.encode(password));
+			member.applyEncodedPassword(passwordEncoder.encode(password));
 
 			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
 
 			// when
-			MemberModel result = memberService.getMyInfo(loginId, password);
+			MemberSnapshot result = memberService.getMyInfo(loginId, password);
 
 			// then
 			assertAll(
-					() -> assertThat(result.getLoginId()).isEqualTo(loginId),
-					() -> assertThat(result.getName()).isEqualTo("홍길동")
+					() -> assertThat(result.loginId()).isEqualTo(loginId),
+					() -> assertThat(result.name()).isEqualTo("홍길동")
 			);
 		}
 
@@ -124,7 +150,7 @@ class MemberServiceUnitTest {
 			// given
 			String loginId = "testuser";
 			MemberModel member = new MemberModel(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-			member.applyEncodedPassword(PasswordEncoder.encode("password1!@"));
+			member.applyEncodedPassword(passwordEncoder.encode("password1!@"));
 
 			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
 
@@ -136,6 +162,36 @@ class MemberServiceUnitTest {
 			// then
 			assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
 		}
+
+		@DisplayName("일괄 가입 시, 유효하지 않은 행과 중복 loginId 는 index 와 함께 실패로 반환되고 나머지는 저장된다.")
+		@Test
+		void registerAllWithRowFailures() {
+			// given
+			List<MemberRegistration> registrations = List.of(
+					new MemberRegistration("user1", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "user1@example.com"),
+					new MemberRegistration("user2", "short!", "홍길동", LocalDate.of(2000, 6, 5), "user2@example.com"),
+					new MemberRegistration("user1", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "dup@example.com"),
+					new MemberRegistration("taken", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "taken@example.com"),
+					new MemberRegistration("raced", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "raced@example.com")
+			);
+			when(memberLoginIdFilter.mightContain("taken")).thenReturn(true);
+			when(memberRepository.findExistingLoginIds(List.of("taken"))).thenReturn(Set.of("taken"));
+			when(memberRepository.insertAll(anyList())).thenReturn(Set.of("raced"));
+
+			// when
+			MemberBulkRegistrationResult result = memberService.registerAll(registrations);
+
+			// then
+			assertAll(
+					() -> assertThat(result.requested()).isEqualTo(5),
+					() -> assertThat(result.registered()).isEqualTo(1),
+					() -> assertThat(result.failures()).extracting(MemberBulkRegistrationResult.Failure::index).containsExactly(1, 2, 3, 4),
+					() -> assertThat(result.failures()).extracting(MemberBulkRegistrationResult.Failure::errorType)
+							.containsExactly(ErrorType.BAD_REQUEST, ErrorType.CONFLICT, ErrorType.CONFLICT, ErrorType.CONFLICT)
+			);
+			verify(memberLoginIdFilter, times(1)).add("user1");
+			verify(memberLoginIdFilter, never()).add("raced");
+		}
 	}
 
 	@DisplayName("[Mock] 메서드 호출 여부를 검증할 때,")
@@ -147,6 +203,7 @@ class MemberServiceUnitTest {
 		void verifySaveCalledOnRegister() {
 			// given
 			String loginId = "testuser";
+			when(memberLoginIdFilter.mightContain(loginId)).thenReturn(true);
 			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.empty());
 			when(memberRepository.save(any(MemberModel.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -158,12 +215,111 @@ class MemberServiceUnitTest {
 			verify(memberRepository, times(1)).save(any(MemberModel.class));
 		}
 
+		@DisplayName("loginId 필터가 확실히 없다고 답하면, 사전 조회 없이 저장하고 필터에 추가한다.")
+		@Test
+		void verifyFindByLoginIdSkippedWhenFilterSaysAbsent() {
+			// given
+			String loginId = "testuser";
+			when(memberLoginIdFilter.mightContain(loginId)).thenReturn(false);
+			when(memberRepository.save(any(MemberModel.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+			// when
+			memberService.register(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+
+			// then
+			verify(memberRepository, never()).findByLoginId(loginId);
+			verify(memberRepository, times(1)).save(any(MemberModel.class));
+			verify(memberLoginIdFilter, times(1)).add(loginId);
+		}
+
+		@DisplayName("저장 시 중복 loginId 로 CONFLICT 가 발생하면, 필터에 추가하지 않는다.")
+		@Test
+		void verifyFilterNotUpdatedOnConflictAtSave() {
+			// given
+			String loginId = "testuser";
+			when(memberLoginIdFilter.mightContain(loginId)).thenReturn(false);
+			when(memberRepository.save(any(MemberModel.class))).thenThrow(new CoreException(ErrorType.CONFLICT, "이미 존재하는 loginId입니다."));
+
+			// when
+			CoreException result = assertThrows(CoreException.class, () ->
+					memberService.register(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com")
+			);
+
+			// then
+			assertThat(result.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+			verify(memberLoginIdFilter, never()).add(loginId);
+		}
+
+		@DisplayName("인증 캐시에 적중하면, Repository에 접근하지 않는다.")
+		@Test
+		void verifyRepositoryNotCalledOnCacheHit() {
+			// given
+			String loginId = "testuser";
+			String password = "password1!@";
+			MemberSnapshot member = new MemberSnapshot(loginId, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			when(memberCredentialCache.get(loginId, password)).thenReturn(Optional.of(member));
+
+			// when
+			MemberSnapshot result = memberService.getMyInfo(loginId, password);
+
+			// then
+			assertThat(result).isSameAs(member);
+			verify(memberRepository, never()).findByLoginId(loginId);
+		}
+
+		@DisplayName("인증 캐시에 없으면, 검증에 성공한 회원의 불변 사본을 캐시에 저장한다.")
+		@Test
+		void verifyCachePutOnCacheMiss() {
+			// given
+			String loginId = "testuser";
+			String password = "password1!@";
+			MemberModel member = new MemberModel(loginId, password, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			member.applyEncodedPassword(passwordEncoder.encode(password));
+			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+
+			// when
+			memberService.getMyInfo(loginId, password);
+
+			// then
+			verify(memberCredentialCache, times(1)).put(loginId, password, MemberSnapshot.from(member));
+		}
+
+		@DisplayName("저장된 해시가 이전 알고리즘이면, 인증 성공 시 현재 알고리즘의 해시로 교체된다.")
+		@Test
+		void verifyPasswordRehashedOnLogin() {
+			// given
+			String loginId = "testuser";
+			String password = "password1!@";
+			PasswordEncoder upgradingEncoder = new DelegatingPasswordEncoder("pbkdf2", Map.of(
+					DelegatingPasswordEncoder.LEGACY_ID, new Sha256PasswordEncoder(),
+					"pbkdf2", new Pbkdf2PasswordEncoder(1000)
+			));
+			MemberModel member = new MemberModel(loginId, password, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			member.applyEncodedPassword(new Sha256PasswordEncoder().encode(password));
+			String legacyHash = member.getPassword();
+			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+			when(memberRepository.rehashPassword(eq(loginId), eq(legacyHash), anyString())).thenReturn(true);
+			MemberService service = new MemberService(memberRepository, memberLoginIdFilter, memberCredentialCache, accessTokenRevocationStore, upgradingEncoder);
+
+			// when
+			service.getMyInfo(loginId, password);
+
+			// then
+			verify(memberRepository, times(1)).rehashPassword(eq(loginId), eq(legacyHash), startsWith("{pbkdf2}"));
+			verify(memberRepository, never()).updatePassword(anyString(), anyString(), anyString());
+			assertAll(
+					() -> assertThat(member.getPassword()).startsWith("{pbkdf2}"),
+					() -> assertThat(upgradingEncoder.matches(password, member.getPassword())).isTrue()
+			);
+		}
+
 		@DisplayName("중복 loginId로 가입 시, save가 호출되지 않는다.")
 		@Test
 		void verifySaveNotCalledOnDuplicateLoginId() {
 			// given
 			String loginId = "testuser";
 			MemberModel existingMember = new MemberModel(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			when(memberLoginIdFilter.mightContain(loginId)).thenReturn(true);
 			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(existingMember));
 
 			// when
@@ -183,14 +339,80 @@ class MemberServiceUnitTest {
 			String loginId = "testuser";
 			String currentPassword = "password1!@";
 			MemberModel member = new MemberModel(loginId, currentPassword, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-			member.applyEncodedPassword(PasswordEncoder.encode(currentPassword));
+			member.applyEncodedPassword(passwordEncoder.encode(currentPassword));
 			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+			when(memberRepository.updatePassword(eq(loginId), eq(member.getPassword()), anyString())).thenReturn(true);
 
 			// when
 			memberService.changePassword(loginId, currentPassword, "newpass1!@#");
 
 			// then
 			verify(memberRepository, times(1)).findByLoginId(loginId);
+			verify(memberRepository, never()).save(any(MemberModel.class));
+		}
+
+		@DisplayName("비밀번호 변경 시, 새 비밀번호 해시는 현재 해시를 조건으로 한 UPDATE 로 반영된다.")
+		@Test
+		void verifyConditionalUpdateOnChangePassword() {
+			// given
+			String loginId = "testuser";
+			String currentPassword = "password1!@";
+			String newPassword = "newpass1!@#";
+			String currentHash = new Sha256PasswordEncoder().encode(currentPassword);
+			String newHash = new Sha256PasswordEncoder().encode(newPassword);
+			MemberModel member = new MemberModel(loginId, currentPassword, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			member.applyEncodedPassword(currentHash);
+			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+			when(memberRepository.updatePassword(loginId, currentHash, newHash)).thenReturn(true);
+
+			// when
+			memberService.changePassword(loginId, currentPassword, newPassword);
+
+			// then
+			verify(memberRepository, times(1)).updatePassword(loginId, currentHash, newHash);
+		}
+
+		@DisplayName("그 사이 다른 요청이 비밀번호를 먼저 바꿔 UPDATE 가 반영되지 않으면, CONFLICT 예외가 발생하고 캐시와 토큰은 그대로 둔다.")
+		@Test
+		void failWithConflictWhenPasswordChangedConcurrently() {
+			// given
+			String loginId = "testuser";
+			String currentPassword = "password1!@";
+			MemberModel member = new MemberModel(loginId, currentPassword, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			member.applyEncodedPassword(passwordEncoder.encode(currentPassword));
+			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+			when(memberRepository.updatePassword(eq(loginId), anyString(), anyString())).thenReturn(false);
+
+			// when
+			CoreException result = assertThrows(CoreException.class, () ->
+					memberService.changePassword(loginId, currentPassword, "newpass1!@#")
+			);
+
+			// then
+			assertThat(result.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+			verify(memberCredentialCache, never()).evict(loginId);
+			verify(accessTokenRevocationStore, never()).revokeAll(loginId);
+		}
+
+		@DisplayName("새 비밀번호가 규칙에 맞지 않으면, 해싱과 UPDATE 없이 BAD_REQUEST 예외가 발생한다.")
+		@Test
+		void failWithInvalidNewPasswordBeforeHashing() {
+			// given
+			String loginId = "testuser";
+			String currentPassword = "password1!@";
+			MemberModel member = new MemberModel(loginId, currentPassword, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			member.applyEncodedPassword(passwordEncoder.encode(currentPassword));
+			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+
+			// when
+			CoreException result = assertThrows(CoreException.class, () ->
+					memberService.changePassword(loginId, currentPassword, "short!")
+			);
+
+			// then
+			assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+			verify(passwordEncoder, never()).encode("short!");
+			verify(memberRepository, never()).updatePassword(anyString(), anyString(), anyString());
 		}
 	}
 
@@ -198,25 +420,29 @@ class MemberServiceUnitTest {
 	@Nested
 	class SpyTest {
 
-		@DisplayName("changePassword 호출 시, 내부적으로 getMyInfo가 호출된다.")
+		@DisplayName("changePassword 호출 시, 캐시를 거치지 않고 인증한 뒤 해당 회원의 캐시를 제거한다.")
 		@Test
-		void verifyGetMyInfoCalledInChangePassword() {
+		void verifyCacheBypassedAndEvictedInChangePassword() {
 			// given
 			String loginId = "testuser";
 			String currentPassword = "password1!@";
 			String newPassword = "newpass1!@#";
 			MemberModel member = new MemberModel(loginId, currentPassword, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-			member.applyEncodedPassword(PasswordEncoder.encode(currentPassword));
+			member.applyEncodedPassword(passwordEncoder.encode(currentPassword));
 
 			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
-			MemberService spyService = spy(new MemberService(memberRepository));
+			when(memberRepository.updatePassword(eq(loginId), eq(member.getPassword()), anyString())).thenReturn(true);
+			MemberService spyService = spy(new MemberService(memberRepository, memberLoginIdFilter, memberCredentialCache, accessTokenRevocationStore, passwordEncoder));
 
 			// when
 			spyService.changePassword(loginId, currentPassword, newPassword);
 
 			// then
-			verify(spyService).getMyInfo(loginId, currentPassword);
-			assertThat(member.getPassword()).isEqualTo(PasswordEncoder.encode(newPassword));
+			verify(spyService, never()).getMyInfo(loginId, currentPassword);
+			verify(memberCredentialCache, never()).get(loginId, currentPassword);
+			verify(memberCredentialCache, times(1)).evict(loginId);
+			verify(accessTokenRevocationStore, times(1)).revokeAll(loginId);
+			verify(passwordEncoder, atLeastOnce()).encode(newPassword);
 		}
 
 		@DisplayName("register 호출 시, 실제 암호화 로직이 동작하며 save가 호출된다.")
@@ -226,16 +452,17 @@ class MemberServiceUnitTest {
 			String loginId = "testuser";
 			String password = "password1!@";
 
+			when(memberLoginIdFilter.mightContain(loginId)).thenReturn(true);
 			when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.empty());
 			when(memberRepository.save(any(MemberModel.class))).thenAnswer(invocation -> invocation.getArgument(0));
-			MemberService spyService = spy(new MemberService(memberRepository));
+			MemberService spyService = spy(new MemberService(memberRepository, memberLoginIdFilter, memberCredentialCache, accessTokenRevocationStore, passwordEncoder));
 
 			// when
 			MemberModel result = spyService.register(loginId, password, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
 
 			// then
 			verify(spyService).register(loginId, password, "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
-			assertThat(result.getPassword()).isEqualTo(PasswordEncoder.encode(password));
+			assertThat(result.getPassword()).isEqualTo(passwordEncoder.encode(password));
 		}
 	}
 
@@ -248,7 +475,9 @@ class MemberServiceUnitTest {
 
 			@Override
 			public MemberModel save(MemberModel member) {
-				store.put(member.getLoginId(), member);
+				if (store.putIfAbsent(member.getLoginId(), member) != null) {
+					throw new CoreException(ErrorType.CONFLICT, "이미 존재하는 loginId입니다.");
+				}
 				return member;
 			}
 
@@ -256,6 +485,34 @@ class MemberServiceUnitTest {
 			public Optional<MemberModel> findByLoginId(String loginId) {
 				return Optional.ofNullable(store.get(loginId));
 			}
+
+			@Override
+			public Set<String> findExistingLoginIds(Collection<String> loginIds) {
+				return loginIds.stream().filter(store::containsKey).collect(Collectors.toSet());
+			}
+
+			@Override
+			public Set<String> insertAll(List<MemberModel> members) {
+				return members.stream()
+						.filter(member -> store.putIfAbsent(member.getLoginId(), member) != null)
+						.map(MemberModel::getLoginId)
+						.collect(Collectors.toSet());
+			}
+
+			@Override
+			public boolean updatePassword(String loginId, String currentEncodedPassword, String newEncodedPassword) {
+				MemberModel member = store.get(loginId);
+				if (member == null || !member.getPassword().equals(currentEncodedPassword)) {
+					return false;
+				}
+				member.applyEncodedPassword(newEncodedPassword);
+				return true;
+			}
+
+			@Override
+			public boolean rehashPassword(String loginId, String currentEncodedPassword, String rehashedPassword) {
+				return updatePassword(loginId, currentEncodedPassword, rehashedPassword);
+			}
 		}
 
 		@DisplayName("회원가입 후 내 정보 조회가 정상 동작한다.")
@@ -263,7 +520,7 @@ class MemberServiceUnitTest {
 		void registerAndGetMyInfo() {
 			// given
 			InMemoryMemberRepository fakeRepository = new InMemoryMemberRepository();
-			MemberService service = new MemberService(fakeRepository);
+			MemberService service = new MemberService(fakeRepository, mock(MemberLoginIdFilter.class), mock(MemberCredentialCache.class), mock(AccessTokenRevocationStore.class), passwordEncoder);
 
 			String loginId = "testuser";
 			String password = "password1!@";
@@ -276,7 +533,7 @@ class MemberServiceUnitTest {
 			assertAll(
 					() -> assertThat(result.getLoginId()).isEqualTo(loginId),
 					() -> assertThat(result.getName()).isEqualTo("홍길동"),
-					() -> assertThat(result.getPassword()).isEqualTo(PasswordEncoder.encode(password))
+					() -> assertThat(result.getPassword()).isEqualTo(passwordEncoder.encode(password))
 			);
 		}
 
@@ -285,7 +542,7 @@ class MemberServiceUnitTest {
 		void failWithDuplicateLoginId() {
 			// given
 			InMemoryMemberRepository fakeRepository = new InMemoryMemberRepository();
-			MemberService service = new MemberService(fakeRepository);
+			MemberService service = new MemberService(fakeRepository, mock(MemberLoginIdFilter.class), mock(MemberCredentialCache.class), mock(AccessTokenRevocationStore.class), passwordEncoder);
 			service.register("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
 
 			// when
@@ -302,7 +559,7 @@ class MemberServiceUnitTest {
 		void changePasswordAndVerify() {
 			// given
 			InMemoryMemberRepository fakeRepository = new InMemoryMemberRepository();
-			MemberService service = new MemberService(fakeRepository);
+			MemberService service = new MemberService(fakeRepository, mock(MemberLoginIdFilter.class), mock(MemberCredentialCache.class), mock(AccessTokenRevocationStore.class), passwordEncoder);
 			String loginId = "testuser";
 			String currentPassword = "password1!@";
 			String newPassword = "newpass1!@#";
@@ -0,0 +1,219 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.member.MemberEvent;
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import com.loopers.domain.outbox.OutboxMessage;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class OutboxRelayIntegrationTest {
+
+	private static final int BATCH_SIZE = 10;
+
+	@MockitoBean
+	private KafkaTemplate<Object, Object> kafkaTemplate;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private OutboxEventJpaRepository outboxEventJpaRepository;
+
+	@Autowired
+	private OutboxJdbcRepository outboxJdbcRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DatabaseCleanUp databaseCleanUp;
+
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		outboxRelay = newRelay();
+	}
+
+	private OutboxRelay newRelay() {
+		OutboxRelayProperties properties = new OutboxRelayProperties(
+				true, BATCH_SIZE, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofDays(7)
+		);
+		return new OutboxRelay(outboxJdbcRepository, kafkaTemplate, objectMapper, properties, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxRelay.close();
+		databaseCleanUp.truncateAllTables();
+	}
+
+	private void appendPasswordChanged(int count) {
+		transactionTemplate.executeWithoutResult(status -> outboxEventRepository.appendAll(
+				IntStream.range(0, count)
+						.mapToObj(i -> new OutboxMessage(MemberEvent.TOPIC, "user" + i, new MemberEvent.PasswordChanged("user" + i, ZonedDateTime.now())))
+						.toList()
+		));
+	}
+
+	@DisplayName("outbox 에 이벤트를 남길 때,")
+	@Nested
+	class Append {
+
+		@DisplayName("트랜잭션 밖에서 남기면, IllegalTransactionStateException 이 발생한다.")
+		@Test
+		void throwsException_whenCalledOutsideTransaction() {
+			// given
+			OutboxMessage message = new OutboxMessage(MemberEvent.TOPIC, "testuser", new MemberEvent.PasswordChanged("testuser", ZonedDateTime.now()));
+
+			// when & then
+			assertThrows(IllegalTransactionStateException.class, () -> outboxEventRepository.append(message));
+		}
+	}
+
+	@DisplayName("밀린 이벤트를 발행할 때,")
+	@Nested
+	class Relay {
+
+		@DisplayName("발행에 성공하면, loginId 를 키로 보내고 발행 완료로 표시한다.")
+		@Test
+		void marksPublished_whenSendSucceeds() {
+			// given
+			appendPasswordChanged(3);
+			when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+			// when
+			outboxRelay.drain();
+
+			// then
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<ProducerRecord<Object, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+			verify(kafkaTemplate, times(3)).send(captor.capture());
+			ProducerRecord<Object, Object> record = captor.getAllValues().get(0);
+			assertAll(
+					() -> assertThat(record.topic()).isEqualTo(MemberEvent.TOPIC),
+					() -> assertThat(record.key()).isEqualTo("user0"),
+					() -> assertThat(((JsonNode) record.value()).get("loginId").asText()).isEqualTo("user0"),
+					() -> assertThat(record.headers().lastHeader(OutboxRelay.EVENT_TYPE_HEADER).value()).asString().isEqualTo("MemberEvent.PasswordChanged"),
+					() -> assertThat(outboxEventJpaRepository.findAll()).allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull())
+			);
+		}
+
+		@DisplayName("배치 크기보다 많이 밀려 있으면, 한 번에 모두 발행한다.")
+		@Test
+		void drainsAllBatches_whenBacklogExceedsBatchSize() {
+			// given
+			appendPasswordChanged(BATCH_SIZE * 2 + 3);
+			when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+			// when
+			outboxRelay.drain();
+			outboxRelay.refreshBacklog();
+
+			// then
+			assertAll(
+					() -> verify(kafkaTemplate, times(BATCH_SIZE * 2 + 3)).send(any(ProducerRecord.class)),
+					() -> assertThat(outboxRelay.backlogCount()).isZero()
+			);
+		}
+
+		@DisplayName("발행에 실패한 이벤트는, 발행 완료로 표시하지 않고 남겨 둔다.")
+		@Test
+		void keepsPending_whenSendFails() {
+			// given
+			appendPasswordChanged(3);
+			when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+			when(kafkaTemplate.send(argThat((ProducerRecord<Object, Object> record) -> "user1".equals(record.key()))))
+					.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+			// when
+			outboxRelay.drain();
+			outboxRelay.refreshBacklog();
+
+			// then
+			assertAll(
+					() -> assertThat(outboxRelay.backlogCount()).isEqualTo(1),
+					() -> assertThat(outboxEventJpaRepository.findAll())
+							.filteredOn(event -> event.getPublishedAt() == null)
+							.extracting(OutboxEventModel::getEventKey)
+							.containsExactly("user1")
+			);
+		}
+
+		@DisplayName("다른 노드의 릴레이가 리스를 가지고 있으면, 발행하지 않는다.")
+		@Test
+		void skipsRelay_whenAnotherNodeHoldsLease() {
+			// given
+			outboxRelay.drain();
+			appendPasswordChanged(3);
+			OutboxRelay follower = newRelay();
+
+			try {
+				// when
+				follower.drain();
+
+				// then
+				verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+			} finally {
+				follower.close();
+			}
+		}
+
+		@DisplayName("리스를 가진 릴레이가 닫히면, 다른 노드의 릴레이가 이어받아 발행한다.")
+		@Test
+		void takesOverLease_whenLeaderCloses() {
+			// given
+			when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+			outboxRelay.drain();
+			appendPasswordChanged(3);
+			outboxRelay.close();
+			OutboxRelay follower = newRelay();
+
+			try {
+				// when
+				follower.drain();
+
+				// then
+				verify(kafkaTemplate, times(3)).send(any(ProducerRecord.class));
+			} finally {
+				follower.close();
+			}
+		}
+	}
+}
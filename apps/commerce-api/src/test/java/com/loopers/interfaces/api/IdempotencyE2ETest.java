@@ -0,0 +1,196 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.interfaces.api.member.MemberV1Dto;
+import com.loopers.support.idempotency.IdempotencyInterceptor;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class IdempotencyE2ETest {
+
+	private static final String ENDPOINT_REGISTER = "/api/v1/members";
+	private static final ParameterizedTypeReference<ApiResponse<Void>> RESPONSE_TYPE = new ParameterizedTypeReference<>() {};
+
+	private final TestRestTemplate testRestTemplate;
+	private final DatabaseCleanUp databaseCleanUp;
+	private final RedisCleanUp redisCleanUp;
+
+	@Autowired
+	public IdempotencyE2ETest(
+			TestRestTemplate testRestTemplate,
+			DatabaseCleanUp databaseCleanUp,
+			RedisCleanUp redisCleanUp
+	) {
+		this.testRestTemplate = testRestTemplate;
+		this.databaseCleanUp = databaseCleanUp;
+		this.redisCleanUp = redisCleanUp;
+	}
+
+	@AfterEach
+	void tearDown() {
+		databaseCleanUp.truncateAllTables();
+		redisCleanUp.truncateAll();
+	}
+
+	private ResponseEntity<ApiResponse<Void>> register(String idempotencyKey, String loginId) {
+		return register(idempotencyKey, loginId, new HttpHeaders());
+	}
+
+	private ResponseEntity<ApiResponse<Void>> register(String idempotencyKey, String loginId, HttpHeaders headers) {
+		headers.set(IdempotencyInterceptor.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+		MemberV1Dto.RegisterRequest request = new MemberV1Dto.RegisterRequest(
+				loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), loginId + "@example.com"
+		);
+		return testRestTemplate.exchange(ENDPOINT_REGISTER, HttpMethod.POST, new HttpEntity<>(request, headers), RESPONSE_TYPE);
+	}
+
+	private static boolean replayed(ResponseEntity<?> response) {
+		return "true".equals(response.getHeaders().getFirst(IdempotencyInterceptor.REPLAYED_HEADER));
+	}
+
+	@DisplayName("POST /api/v1/members")
+	@Nested
+	class Register {
+
+		@DisplayName("같은 Idempotency-Key 로 다시 요청하면, 가입을 다시 처리하지 않고 처음 응답을 그대로 받는다.")
+		@Test
+		void replaysFirstResponse_whenRetriedWithSameKey() {
+			// given
+			ResponseEntity<ApiResponse<Void>> first = register("retry-key", "retryuser");
+
+			// when
+			ResponseEntity<ApiResponse<Void>> retried = register("retry-key", "retryuser");
+
+			// then
+			assertAll(
+					() -> assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK),
+					() -> assertThat(replayed(first)).isFalse(),
+					() -> assertThat(retried.getStatusCode()).isEqualTo(HttpStatus.OK),
+					() -> assertThat(replayed(retried)).isTrue(),
+					() -> assertThat(retried.getBody().meta().result()).isEqualTo(ApiResponse.Metadata.Result.SUCCESS)
+			);
+		}
+
+		@DisplayName("같은 Idempotency-Key 로 동시에 요청하면, 한 번만 처리되고 나머지는 그 결과를 받는다.")
+		@Test
+		void processesOnce_whenSameKeyArrivesConcurrently() throws Exception {
+			// given
+			int threadCount = 8;
+			CountDownLatch ready = new CountDownLatch(1);
+			ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+			// when
+			List<ResponseEntity<ApiResponse<Void>>> responses;
+			try {
+				List<Future<ResponseEntity<ApiResponse<Void>>>> futures = IntStream.range(0, threadCount)
+						.mapToObj(i -> executor.submit(() -> {
+							ready.await();
+							return register("concurrent-key", "concurrent");
+						}))
+						.toList();
+				ready.countDown();
+				responses = futures.stream().map(future -> {
+					try {
+						return future.get();
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}).toList();
+			} finally {
+				executor.shutdownNow();
+			}
+
+			// then
+			assertAll(
+					() -> assertThat(responses).allSatisfy(response -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK)),
+					() -> assertThat(responses).filteredOn(response -> !replayed(response)).hasSize(1)
+			);
+		}
+
+		@DisplayName("다른 Idempotency-Key 로 같은 회원을 가입하면, 새 요청으로 처리되어 409 CONFLICT 응답을 받는다.")
+		@Test
+		void processesAgain_whenKeyDiffers() {
+			// given
+			register("first-key", "samemember");
+
+			// when
+			ResponseEntity<ApiResponse<Void>> response = register("second-key", "samemember");
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT),
+					() -> assertThat(replayed(response)).isFalse()
+			);
+		}
+
+		@DisplayName("인증 없이 같은 Idempotency-Key 로 본문이 다른 요청을 보내면, 처음 응답을 돌려받지 않고 새 요청으로 처리된다.")
+		@Test
+		void processesAgain_whenBodyDiffers() {
+			// given
+			register("reused-key", "firstbody");
+
+			// when
+			ResponseEntity<ApiResponse<Void>> response = register("reused-key", "secondbody");
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+					() -> assertThat(replayed(response)).isFalse()
+			);
+		}
+
+		@DisplayName("인증 없이 같은 Idempotency-Key 와 본문으로 재시도하면, X-Loopers-LoginId 헤더가 달라도 처음 응답을 그대로 받는다.")
+		@Test
+		void replays_whenUnverifiedLoginIdHeaderDiffers() {
+			// given
+			HttpHeaders firstAttempt = new HttpHeaders();
+			firstAttempt.set("X-Loopers-LoginId", "requester1");
+			register("shared-key", "sharedkey", firstAttempt);
+			HttpHeaders retry = new HttpHeaders();
+			retry.set("X-Loopers-LoginId", "requester2");
+
+			// when
+			ResponseEntity<ApiResponse<Void>> response = register("shared-key", "sharedkey", retry);
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+					() -> assertThat(replayed(response)).isTrue()
+			);
+		}
+
+		@DisplayName("Idempotency-Key 가 255자를 넘으면, 400 BAD_REQUEST 응답을 받는다.")
+		@Test
+		void failsWithBadRequest_whenKeyTooLong() {
+			// when
+			ResponseEntity<ApiResponse<Void>> response = register("k".repeat(256), "longkey");
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		}
+	}
+}
@@ -3,6 +3,9 @@ package com.loopers.interfaces.api;
 import com.loopers.domain.member.MemberService;
 import com.loopers.interfaces.api.member.MemberV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -26,21 +30,26 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 class MemberV1ApiE2ETest {
 
 	private static final String ENDPOINT_REGISTER = "/api/v1/members";
+	private static final String ENDPOINT_BULK_REGISTER = "/api/v1/members/bulk";
+	private static final String ENDPOINT_LOGIN = "/api/v1/members/login";
 	private static final String ENDPOINT_ME = "/api/v1/members/me";
 	private static final String ENDPOINT_CHANGE_PASSWORD = "/api/v1/members/me/password";
 
 	private final TestRestTemplate testRestTemplate;
 	private final MemberService memberService;
+	private final EntityManagerFactory entityManagerFactory;
 	private final DatabaseCleanUp databaseCleanUp;
 
 	@Autowired
 	public MemberV1ApiE2ETest(
 			TestRestTemplate testRestTemplate,
 			MemberService memberService,
+			EntityManagerFactory entityManagerFactory,
 			DatabaseCleanUp databaseCleanUp
 	) {
 		this.testRestTemplate = testRestTemplate;
 		this.memberService = memberService;
+		this.entityManagerFactory = entityManagerFactory;
 		this.databaseCleanUp = databaseCleanUp;
 	}
 
@@ -56,6 +65,13 @@ class MemberV1ApiE2ETest {
 		return headers;
 	}
 
+	private HttpHeaders partnerHeaders(String partnerId, String partnerKey) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-Loopers-Partner-Id", partnerId);
+		headers.set("X-Loopers-Partner-Key", partnerKey);
+		return headers;
+	}
+
 	@DisplayName("POST /api/v1/members")
 	@Nested
 	class Register {
@@ -102,10 +118,251 @@ class MemberV1ApiE2ETest {
 		}
 	}
 
+	@DisplayName("POST /api/v1/members/bulk")
+	@Nested
+	class BulkRegister {
+
+		@DisplayName("일부 행이 유효하지 않거나 중복이면, 나머지는 가입되고 실패한 행의 index 와 사유가 반환된다.")
+		@Test
+		void bulkRegisterWithRowErrors() {
+			// given
+			memberService.register("existing", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "existing@example.com");
+			MemberV1Dto.BulkRegisterRequest request = new MemberV1Dto.BulkRegisterRequest(List.of(
+					new MemberV1Dto.RegisterRequest("bulkuser1", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "bulk1@example.com"),
+					new MemberV1Dto.RegisterRequest("bulkuser2", "short!", "김철수", LocalDate.of(1995, 3, 10), "bulk2@example.com"),
+					new MemberV1Dto.RegisterRequest("existing", "password1!@", "이영희", LocalDate.of(1990, 1, 1), "bulk3@example.com"),
+					new MemberV1Dto.RegisterRequest("bulkuser1", "password1!@", "박민수", LocalDate.of(1990, 1, 1), "bulk4@example.com"),
+					new MemberV1Dto.RegisterRequest("bulkuser5", "password1!@", "최지우", LocalDate.of(1990, 1, 1), "bulk5@example.com")
+			));
+
+			// when
+			ParameterizedTypeReference<ApiResponse<MemberV1Dto.BulkRegisterResponse>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<MemberV1Dto.BulkRegisterResponse>> response = testRestTemplate.exchange(
+					ENDPOINT_BULK_REGISTER, HttpMethod.POST, new HttpEntity<>(request, partnerHeaders("local-partner", "local-partner-key")), responseType
+			);
+
+			// then
+			MemberV1Dto.BulkRegisterResponse body = response.getBody().data();
+			assertAll(
+					() -> assertThat(response.getStatusCode().is2xxSuccessful()).isTrue(),
+					() -> assertThat(body.requested()).isEqualTo(5),
+					() -> assertThat(body.registered()).isEqualTo(2),
+					() -> assertThat(body.errors()).extracting(MemberV1Dto.BulkRegisterResponse.RowError::index).containsExactly(1, 2, 3),
+					() -> assertThat(body.errors()).extracting(MemberV1Dto.BulkRegisterResponse.RowError::code)
+							.containsExactly("Bad Request", "Conflict", "Conflict"),
+					() -> assertThat(memberService.getMember("bulkuser5").getName()).isEqualTo("최지우")
+			);
+		}
+
+		@DisplayName("가입할 회원 목록이 비어있으면, 400 BAD_REQUEST 응답을 받는다.")
+		@Test
+		void failWithEmptyMembers() {
+			// given
+			MemberV1Dto.BulkRegisterRequest request = new MemberV1Dto.BulkRegisterRequest(List.of());
+
+			// when
+			ParameterizedTypeReference<ApiResponse<Void>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<Void>> response = testRestTemplate.exchange(
+					ENDPOINT_BULK_REGISTER, HttpMethod.POST, new HttpEntity<>(request, partnerHeaders("local-partner", "local-partner-key")), responseType
+			);
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		}
+
+		@DisplayName("파트너 키가 틀리면, 401 UNAUTHORIZED 응답을 받는다.")
+		@Test
+		void failWithInvalidPartnerKey() {
+			// given
+			MemberV1Dto.BulkRegisterRequest request = new MemberV1Dto.BulkRegisterRequest(List.of(
+					new MemberV1Dto.RegisterRequest("bulkuser1", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "bulk1@example.com")
+			));
+
+			// when
+			ParameterizedTypeReference<ApiResponse<Void>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<Void>> response = testRestTemplate.exchange(
+					ENDPOINT_BULK_REGISTER, HttpMethod.POST, new HttpEntity<>(request, partnerHeaders("local-partner", "wrong-key")), responseType
+			);
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		}
+
+		@DisplayName("파트너 헤더 없이 요청하면, 401 UNAUTHORIZED 응답을 받는다.")
+		@Test
+		void failWithoutPartnerCredentials() {
+			// given
+			MemberV1Dto.BulkRegisterRequest request = new MemberV1Dto.BulkRegisterRequest(List.of(
+					new MemberV1Dto.RegisterRequest("bulkuser1", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "bulk1@example.com")
+			));
+
+			// when
+			ParameterizedTypeReference<ApiResponse<Void>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<Void>> response = testRestTemplate.exchange(
+					ENDPOINT_BULK_REGISTER, HttpMethod.POST, new HttpEntity<>(request), responseType
+			);
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		}
+	}
+
+	private String login(String loginId, String password) {
+		ParameterizedTypeReference<ApiResponse<MemberV1Dto.LoginResponse>> responseType = new ParameterizedTypeReference<>() {};
+		ResponseEntity<ApiResponse<MemberV1Dto.LoginResponse>> response = testRestTemplate.exchange(
+				ENDPOINT_LOGIN, HttpMethod.POST, new HttpEntity<>(new MemberV1Dto.LoginRequest(loginId, password)), responseType
+		);
+		return response.getBody().data().accessToken();
+	}
+
+	@DisplayName("POST /api/v1/members/login")
+	@Nested
+	class Login {
+
+		@DisplayName("유효한 인증 정보로 로그인하면, Bearer 액세스 토큰을 발급받는다.")
+		@Test
+		void loginSuccess() {
+			// given
+			memberService.register("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+
+			// when
+			ParameterizedTypeReference<ApiResponse<MemberV1Dto.LoginResponse>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<MemberV1Dto.LoginResponse>> response = testRestTemplate.exchange(
+					ENDPOINT_LOGIN, HttpMethod.POST, new HttpEntity<>(new MemberV1Dto.LoginRequest("testuser", "password1!@")), responseType
+			);
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode().is2xxSuccessful()).isTrue(),
+					() -> assertThat(response.getBody().data().accessToken()).isNotBlank(),
+					() -> assertThat(response.getBody().data().tokenType()).isEqualTo("Bearer")
+			);
+		}
+
+		@DisplayName("잘못된 비밀번호로 로그인하면, 400 BAD_REQUEST 응답을 받는다.")
+		@Test
+		void failWithWrongPassword() {
+			// given
+			memberService.register("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+
+			// when
+			ParameterizedTypeReference<ApiResponse<MemberV1Dto.LoginResponse>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<MemberV1Dto.LoginResponse>> response = testRestTemplate.exchange(
+					ENDPOINT_LOGIN, HttpMethod.POST, new HttpEntity<>(new MemberV1Dto.LoginRequest("testuser", "wrongpass1!@")), responseType
+			);
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		}
+	}
+
 	@DisplayName("GET /api/v1/members/me")
 	@Nested
 	class GetMyInfo {
 
+		@DisplayName("유효한 액세스 토큰으로 조회하면, 비밀번호 헤더 없이 200 응답을 받는다.")
+		@Test
+		void getMyInfoSuccessWithAccessToken() {
+			// given
+			memberService.register("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			HttpHeaders headers = new HttpHeaders();
+			headers.setBearerAuth(login("testuser", "password1!@"));
+
+			// when
+			ParameterizedTypeReference<ApiResponse<MemberV1Dto.MyInfoResponse>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = testRestTemplate.exchange(
+					ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), responseType
+			);
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode().is2xxSuccessful()).isTrue(),
+					() -> assertThat(response.getBody().data().loginId()).isEqualTo("testuser"),
+					() -> assertThat(response.getBody().data().maskedName()).isEqualTo("홍길*")
+			);
+		}
+
+		@DisplayName("액세스 토큰으로 다시 조회하면, DB 를 조회하지 않고 캐시된 회원 정보로 응답한다.")
+		@Test
+		void getMyInfoWithoutDatabase_whenAccessTokenIsUsedAgain() {
+			// given
+			memberService.register("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			HttpHeaders headers = new HttpHeaders();
+			headers.setBearerAuth(login("testuser", "password1!@"));
+			ParameterizedTypeReference<ApiResponse<MemberV1Dto.MyInfoResponse>> responseType = new ParameterizedTypeReference<>() {};
+			testRestTemplate.exchange(ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+			Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			statistics.clear();
+
+			// when
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = testRestTemplate.exchange(
+					ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), responseType
+			);
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode().is2xxSuccessful()).isTrue(),
+					() -> assertThat(statistics.getPrepareStatementCount()).isZero()
+			);
+		}
+
+		@DisplayName("비밀번호 변경 직후 다시 로그인해 받은 토큰으로 조회하면, 200 응답을 받는다.")
+		@Test
+		void getMyInfoSuccess_withTokenIssuedRightAfterPasswordChange() {
+			// given
+			memberService.register("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			memberService.changePassword("testuser", "password1!@", "newpass1!@#");
+			HttpHeaders headers = new HttpHeaders();
+			headers.setBearerAuth(login("testuser", "newpass1!@#"));
+
+			// when
+			ParameterizedTypeReference<ApiResponse<MemberV1Dto.MyInfoResponse>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = testRestTemplate.exchange(
+					ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), responseType
+			);
+
+			// then
+			assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+		}
+
+		@DisplayName("비밀번호 변경 전에 발급된 토큰으로 조회하면, 401 UNAUTHORIZED 응답을 받는다.")
+		@Test
+		void failWithTokenIssuedBeforePasswordChange() {
+			// given
+			memberService.register("testuser", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "test@example.com");
+			String accessToken = login("testuser", "password1!@");
+			memberService.changePassword("testuser", "password1!@", "newpass1!@#");
+
+			HttpHeaders headers = new HttpHeaders();
+			headers.setBearerAuth(accessToken);
+
+			// when
+			ParameterizedTypeReference<ApiResponse<MemberV1Dto.MyInfoResponse>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = testRestTemplate.exchange(
+					ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), responseType
+			);
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		}
+
+		@DisplayName("변조된 토큰으로 조회하면, 401 UNAUTHORIZED 응답을 받는다.")
+		@Test
+		void failWithInvalidToken() {
+			// given
+			HttpHeaders headers = new HttpHeaders();
+			headers.setBearerAuth("invalid.token.value");
+
+			// when
+			ParameterizedTypeReference<ApiResponse<MemberV1Dto.MyInfoResponse>> responseType = new ParameterizedTypeReference<>() {};
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = testRestTemplate.exchange(
+					ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), responseType
+			);
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		}
+
 		@DisplayName("유효한 인증 정보로 조회하면, 마스킹된 이름이 포함된 200 응답을 받는다.")
 		@Test
 		void getMyInfoSuccess() {
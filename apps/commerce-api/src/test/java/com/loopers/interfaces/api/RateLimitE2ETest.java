@@ -0,0 +1,241 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.domain.member.MemberService;
+import com.loopers.interfaces.api.member.MemberV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {
+				"member.rate-limit.enabled=true",
+				"member.rate-limit.login-id.capacity=3",
+				"member.rate-limit.login-id.refill-per-second=0.001",
+				"member.rate-limit.client-ip.capacity=1000",
+				"member.rate-limit.client-ip.refill-per-second=1000",
+				"member.rate-limit.partner-rows.capacity=3",
+				"member.rate-limit.partner-rows.refill-per-second=0.001",
+				"member.rate-limit.reservoir-size=5",
+				"member.rate-limit.reservoir-ttl=1m"
+		}
+)
+class RateLimitE2ETest {
+
+	private static final String ENDPOINT_ME = "/api/v1/members/me";
+	private static final String ENDPOINT_BULK_REGISTER = "/api/v1/members/bulk";
+	private static final ParameterizedTypeReference<ApiResponse<MemberV1Dto.MyInfoResponse>> RESPONSE_TYPE = new ParameterizedTypeReference<>() {};
+
+	private final TestRestTemplate testRestTemplate;
+	private final MemberService memberService;
+	private final MeterRegistry meterRegistry;
+	private final DatabaseCleanUp databaseCleanUp;
+	private final RedisCleanUp redisCleanUp;
+
+	@Autowired
+	public RateLimitE2ETest(
+			TestRestTemplate testRestTemplate,
+			MemberService memberService,
+			MeterRegistry meterRegistry,
+			DatabaseCleanUp databaseCleanUp,
+			RedisCleanUp redisCleanUp
+	) {
+		this.testRestTemplate = testRestTemplate;
+		this.memberService = memberService;
+		this.meterRegistry = meterRegistry;
+		this.databaseCleanUp = databaseCleanUp;
+		this.redisCleanUp = redisCleanUp;
+	}
+
+	@AfterEach
+	void tearDown() {
+		databaseCleanUp.truncateAllTables();
+		redisCleanUp.truncateAll();
+	}
+
+	private ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> getMyInfo(String loginId, String loginPw) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-Loopers-LoginId", loginId);
+		headers.set("X-Loopers-LoginPw", loginPw);
+		return testRestTemplate.exchange(ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(headers), RESPONSE_TYPE);
+	}
+
+	private ResponseEntity<ApiResponse<MemberV1Dto.BulkRegisterResponse>> bulkRegister(String... loginIds) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-Loopers-Partner-Id", "local-partner");
+		headers.set("X-Loopers-Partner-Key", "local-partner-key");
+		MemberV1Dto.BulkRegisterRequest request = new MemberV1Dto.BulkRegisterRequest(Arrays.stream(loginIds)
+				.map(loginId -> new MemberV1Dto.RegisterRequest(loginId, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), loginId + "@example.com"))
+				.toList());
+		return testRestTemplate.exchange(ENDPOINT_BULK_REGISTER, HttpMethod.POST, new HttpEntity<>(request, headers), new ParameterizedTypeReference<>() {});
+	}
+
+	private double decisions(String source, String result) {
+		Counter counter = meterRegistry.find("rate_limit.decisions")
+				.tag("scope", "login_id")
+				.tag("source", source)
+				.tag("result", result)
+				.counter();
+		return counter != null ? counter.count() : 0;
+	}
+
+	@DisplayName("GET /api/v1/members/me")
+	@Nested
+	class GetMyInfo {
+
+		@DisplayName("같은 loginId 로 한도를 넘겨 요청하면, 올바른 비밀번호여도 429 TOO_MANY_REQUESTS 응답을 받는다.")
+		@Test
+		void rejectsWithTooManyRequests_whenLoginIdExceedsLimit() {
+			// given
+			memberService.register("stuffed", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "stuffed@example.com");
+			for (int i = 0; i < 3; i++) {
+				assertThat(getMyInfo("stuffed", "wrong" + i + "!@#").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+			}
+
+			// when
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = getMyInfo("stuffed", "password1!@");
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS),
+					() -> assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank(),
+					() -> assertThat(response.getBody().meta().errorCode()).isEqualTo("Too Many Requests")
+			);
+		}
+
+		@DisplayName("틀린 비밀번호를 동시에 보내면, loginId 한도만큼만 인증을 시도하고 나머지는 429 TOO_MANY_REQUESTS 응답을 받는다.")
+		@Test
+		void admitsOnlyLimit_whenFailuresArriveConcurrently() throws Exception {
+			// given
+			memberService.register("burst", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "burst@example.com");
+			int threadCount = 10;
+			CountDownLatch ready = new CountDownLatch(1);
+			ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+			// when
+			List<ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>>> responses;
+			try {
+				List<Future<ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>>>> futures = IntStream.range(0, threadCount)
+						.mapToObj(i -> executor.submit(() -> {
+							ready.await();
+							return getMyInfo("burst", "wrong" + i + "!@#");
+						}))
+						.toList();
+				ready.countDown();
+				responses = futures.stream().map(future -> {
+					try {
+						return future.get();
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}).toList();
+			} finally {
+				executor.shutdownNow();
+			}
+
+			// then
+			assertAll(
+					() -> assertThat(responses).filteredOn(response -> response.getStatusCode() == HttpStatus.BAD_REQUEST).hasSize(3),
+					() -> assertThat(responses).filteredOn(response -> response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS).hasSize(threadCount - 3)
+			);
+		}
+
+		@DisplayName("인증에 성공한 요청은, 한도를 넘겨 보내도 loginId 한도를 쓰지 않는다.")
+		@Test
+		void doesNotCountSuccessfulAuthentications() {
+			// given
+			memberService.register("regular", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "regular@example.com");
+			for (int i = 0; i < 5; i++) {
+				assertThat(getMyInfo("regular", "password1!@").getStatusCode()).isEqualTo(HttpStatus.OK);
+			}
+
+			// when
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = getMyInfo("regular", "wrong!@#");
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		}
+
+		@DisplayName("거절된 뒤의 요청은, Redis 를 거치지 않고 노드에서 바로 거절된다.")
+		@Test
+		void rejectsLocally_afterRejection() {
+			// given
+			for (int i = 0; i < 4; i++) {
+				getMyInfo("flooded", "wrong!@#");
+			}
+			double before = decisions("local", "rejected");
+
+			// when
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = getMyInfo("flooded", "wrong!@#");
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS),
+					() -> assertThat(decisions("local", "rejected")).isEqualTo(before + 1)
+			);
+		}
+
+		@DisplayName("다른 loginId 의 한도는, 서로 영향을 주지 않는다.")
+		@Test
+		void limitsEachLoginIdSeparately() {
+			// given
+			memberService.register("victim", "password1!@", "홍길동", LocalDate.of(2000, 6, 5), "victim@example.com");
+			for (int i = 0; i < 4; i++) {
+				getMyInfo("attacker", "wrong!@#");
+			}
+
+			// when
+			ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = getMyInfo("victim", "password1!@");
+
+			// then
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		}
+	}
+
+	@DisplayName("POST /api/v1/members/bulk")
+	@Nested
+	class BulkRegister {
+
+		@DisplayName("파트너의 남은 행 한도보다 많은 행을 보내면, 429 TOO_MANY_REQUESTS 응답을 받는다.")
+		@Test
+		void rejectsWithTooManyRequests_whenPartnerRowsExceedLimit() {
+			// given
+			assertThat(bulkRegister("bulkuser1", "bulkuser2").getStatusCode()).isEqualTo(HttpStatus.OK);
+
+			// when
+			ResponseEntity<ApiResponse<MemberV1Dto.BulkRegisterResponse>> response = bulkRegister("bulkuser3", "bulkuser4");
+
+			// then
+			assertAll(
+					() -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS),
+					() -> assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank()
+			);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.loopers.interfaces.api.benchmark;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.SnowflakeBaseEntity;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 전략 엔티티와 Snowflake id 엔티티의 INSERT 처리량(rows/s)을 Testcontainers MySQL 에서 비교한다.
+ * 실행 시간이 길어 기본 테스트에서는 제외하며, BENCHMARK=true 환경변수로 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@SpringBootTest
+class EntityInsertBenchmarkTest {
+
+	private static final int ROW_COUNT = 20_000;
+	private static final int FLUSH_SIZE = 100;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private DatabaseCleanUp databaseCleanUp;
+
+	@AfterEach
+	void tearDown() {
+		databaseCleanUp.truncateAllTables();
+	}
+
+	@DisplayName("IDENTITY 와 Snowflake id 엔티티의 INSERT 처리량(rows/s)을 출력한다.")
+	@Test
+	void compareInsertThroughput() {
+		// warm-up
+		insert(1_000, IdentityRow::new);
+		insert(1_000, SnowflakeRow::new);
+
+		double identityThroughput = insert(ROW_COUNT, IdentityRow::new);
+		double snowflakeThroughput = insert(ROW_COUNT, SnowflakeRow::new);
+
+		System.out.printf("[benchmark] insert identity: %.1f rows/s, snowflake(batched): %.1f rows/s%n",
+				identityThroughput, snowflakeThroughput);
+		Long snowflakeRows = entityManager.createQuery("select count(r) from SnowflakeRow r", Long.class).getSingleResult();
+		assertThat(snowflakeRows).isEqualTo(ROW_COUNT + 1_000L);
+	}
+
+	private double insert(int count, IntFunction<Object> factory) {
+		long start = System.nanoTime();
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < count; i++) {
+				entityManager.persist(factory.apply(i));
+				if ((i + 1) % FLUSH_SIZE == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+		});
+		return count / ((System.nanoTime() - start) / 1_000_000_000.0);
+	}
+
+	@Entity
+	@Table(name = "benchmark_identity_row")
+	public static class IdentityRow extends BaseEntity {
+		private String payload;
+
+		protected IdentityRow() {}
+
+		IdentityRow(int index) {
+			this.payload = "row-" + index;
+		}
+	}
+
+	@Entity
+	@Table(name = "benchmark_snowflake_row")
+	public static class SnowflakeRow extends SnowflakeBaseEntity {
+		private String payload;
+
+		protected SnowflakeRow() {}
+
+		SnowflakeRow(int index) {
+			this.payload = "row-" + index;
+		}
+	}
+}
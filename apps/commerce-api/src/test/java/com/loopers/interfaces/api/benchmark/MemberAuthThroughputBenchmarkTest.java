@@ -0,0 +1,116 @@
+package com.loopers.interfaces.api.benchmark;
+
+import com.loopers.domain.member.MemberService;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.member.MemberV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 인증과 비밀번호 헤더 인증의 /me 처리량을 비교한다.
+ * 실행 시간이 길어 기본 테스트에서는 제외하며, BENCHMARK=true 환경변수로 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MemberAuthThroughputBenchmarkTest {
+
+	private static final String ENDPOINT_ME = "/api/v1/members/me";
+	private static final int MEMBER_COUNT = 50;
+	private static final int REQUESTS_PER_MEMBER = 40;
+	private static final int CONCURRENCY = 16;
+
+	@Autowired
+	private TestRestTemplate testRestTemplate;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private DatabaseCleanUp databaseCleanUp;
+
+	@AfterEach
+	void tearDown() {
+		databaseCleanUp.truncateAllTables();
+	}
+
+	@DisplayName("토큰 인증과 비밀번호 인증의 /me 처리량(req/s)을 출력한다.")
+	@Test
+	void compareThroughput() throws Exception {
+		List<HttpHeaders> passwordHeaders = new ArrayList<>();
+		List<HttpHeaders> tokenHeaders = new ArrayList<>();
+		for (int i = 0; i < MEMBER_COUNT; i++) {
+			String loginId = "bench" + i;
+			String password = "password1!@";
+			memberService.register(loginId, password, "홍길동", LocalDate.of(2000, 6, 5), loginId + "@example.com");
+
+			HttpHeaders passwordHeader = new HttpHeaders();
+			passwordHeader.set("X-Loopers-LoginId", loginId);
+			passwordHeader.set("X-Loopers-LoginPw", password);
+			passwordHeaders.add(passwordHeader);
+
+			HttpHeaders tokenHeader = new HttpHeaders();
+			tokenHeader.setBearerAuth(testRestTemplate.postForObject(
+					"/api/v1/members/login", new MemberV1Dto.LoginRequest(loginId, password), LoginResponseBody.class
+			).data().accessToken());
+			tokenHeaders.add(tokenHeader);
+		}
+
+		// warm-up
+		run(passwordHeaders);
+		run(tokenHeaders);
+
+		double passwordThroughput = run(passwordHeaders);
+		double tokenThroughput = run(tokenHeaders);
+
+		System.out.printf("[benchmark] /me password-verified: %.1f req/s, token-verified: %.1f req/s%n",
+				passwordThroughput, tokenThroughput);
+		assertThat(tokenThroughput).isPositive();
+	}
+
+	private double run(List<HttpHeaders> headers) throws Exception {
+		ParameterizedTypeReference<ApiResponse<MemberV1Dto.MyInfoResponse>> responseType = new ParameterizedTypeReference<>() {};
+		int total = headers.size() * REQUESTS_PER_MEMBER;
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>(total);
+			long start = System.nanoTime();
+			for (int i = 0; i < total; i++) {
+				HttpHeaders header = headers.get(i % headers.size());
+				results.add(executor.submit(() -> {
+					ResponseEntity<ApiResponse<MemberV1Dto.MyInfoResponse>> response = testRestTemplate.exchange(
+							ENDPOINT_ME, HttpMethod.GET, new HttpEntity<>(header), responseType
+					);
+					return response.getStatusCode().is2xxSuccessful();
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get()).isTrue();
+			}
+			return total / ((System.nanoTime() - start) / 1_000_000_000.0);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private record LoginResponseBody(MemberV1Dto.LoginResponse data) {}
+}
@@ -0,0 +1,70 @@
+package com.loopers.interfaces.api.benchmark;
+
+import com.loopers.domain.member.MemberBulkRegistrationResult;
+import com.loopers.domain.member.MemberRegistration;
+import com.loopers.domain.member.MemberService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 건씩 가입하는 경로와 일괄 가입 경로의 처리량(rows/s)을 비교한다.
+ * 실행 시간이 길어 기본 테스트에서는 제외하며, BENCHMARK=true 환경변수로 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@SpringBootTest
+class MemberBulkRegisterBenchmarkTest {
+
+	private static final int ROW_COUNT = 5_000;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private DatabaseCleanUp databaseCleanUp;
+
+	@AfterEach
+	void tearDown() {
+		databaseCleanUp.truncateAllTables();
+	}
+
+	@DisplayName("단건 가입 반복과 일괄 가입의 처리량(rows/s)을 출력한다.")
+	@Test
+	void compareThroughput() {
+		List<MemberRegistration> singles = registrations("single");
+		List<MemberRegistration> bulk = registrations("bulk");
+
+		long start = System.nanoTime();
+		for (MemberRegistration registration : singles) {
+			memberService.register(
+					registration.loginId(), registration.password(), registration.name(), registration.birthDate(), registration.email()
+			);
+		}
+		double singleThroughput = ROW_COUNT / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+		start = System.nanoTime();
+		MemberBulkRegistrationResult result = memberService.registerAll(bulk);
+		double bulkThroughput = ROW_COUNT / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+		System.out.printf("[benchmark] register single: %.1f rows/s, bulk: %.1f rows/s%n", singleThroughput, bulkThroughput);
+		assertThat(result.registered()).isEqualTo(ROW_COUNT);
+	}
+
+	private static List<MemberRegistration> registrations(String prefix) {
+		return IntStream.range(0, ROW_COUNT)
+				.mapToObj(i -> new MemberRegistration(
+						prefix + i, "password1!@", "홍길동", LocalDate.of(2000, 6, 5), prefix + i + "@example.com"
+				))
+				.toList();
+	}
+}
@@ -0,0 +1,137 @@
+package com.loopers.support.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AccessTokenProviderTest {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	private static final AccessTokenProperties.SigningKey KEY_V1 = new AccessTokenProperties.SigningKey("v1", "first-secret-for-access-token-0001");
+	private static final AccessTokenProperties.SigningKey KEY_V2 = new AccessTokenProperties.SigningKey("v2", "second-secret-for-access-token-002");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private AccessTokenProvider provider(String activeKeyId, List<AccessTokenProperties.SigningKey> keys, Instant now) {
+		AccessTokenProperties properties = new AccessTokenProperties(Duration.ofMinutes(30), activeKeyId, keys, Duration.ofSeconds(1));
+		return new AccessTokenProvider(properties, objectMapper, Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+	@DisplayName("토큰을 검증할 때,")
+	@Nested
+	class Verify {
+
+		@DisplayName("발급한 토큰이면, 발급 대상 loginId와 발급/만료 시각을 반환한다.")
+		@Test
+		void returnsClaims_whenTokenIsIssuedByProvider() {
+			// arrange
+			AccessTokenProvider provider = provider("v1", List.of(KEY_V1), NOW);
+			String token = provider.issue("testuser");
+
+			// act
+			AccessToken result = provider.verify(token);
+
+			// assert
+			assertAll(
+					() -> assertThat(result.loginId()).isEqualTo("testuser"),
+					() -> assertThat(result.issuedAt()).isEqualTo(NOW),
+					() -> assertThat(result.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(30)))
+			);
+		}
+
+		@DisplayName("발급 시각은, 밀리초까지 그대로 반환한다.")
+		@Test
+		void keepsMillisecondsOfIssuedAt() {
+			// arrange
+			Instant now = NOW.plusMillis(123);
+			AccessTokenProvider provider = provider("v1", List.of(KEY_V1), now);
+			String token = provider.issue("testuser");
+
+			// act
+			AccessToken result = provider.verify(token);
+
+			// assert
+			assertThat(result.issuedAt()).isEqualTo(now);
+		}
+
+		@DisplayName("활성 키가 교체되어도, 등록된 이전 키로 서명된 토큰은 통과한다.")
+		@Test
+		void acceptsTokenSignedWithPreviousKey_afterRotation() {
+			// arrange
+			String token = provider("v1", List.of(KEY_V1), NOW).issue("testuser");
+			AccessTokenProvider rotated = provider("v2", List.of(KEY_V1, KEY_V2), NOW);
+
+			// act
+			AccessToken result = rotated.verify(token);
+
+			// assert
+			assertThat(result.loginId()).isEqualTo("testuser");
+		}
+
+		@DisplayName("이전 키가 제거되면, 해당 키로 서명된 토큰은 UNAUTHORIZED 예외가 발생한다.")
+		@Test
+		void throwsUnauthorized_whenSigningKeyIsRetired() {
+			// arrange
+			String token = provider("v1", List.of(KEY_V1), NOW).issue("testuser");
+			AccessTokenProvider rotated = provider("v2", List.of(KEY_V2), NOW);
+
+			// act
+			CoreException result = assertThrows(CoreException.class, () -> rotated.verify(token));
+
+			// assert
+			assertThat(result.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+		}
+
+		@DisplayName("서명이 변조되면, UNAUTHORIZED 예외가 발생한다.")
+		@Test
+		void throwsUnauthorized_whenSignatureIsTampered() {
+			// arrange
+			AccessTokenProvider provider = provider("v1", List.of(KEY_V1), NOW);
+			String token = provider.issue("testuser");
+			String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+			// act
+			CoreException result = assertThrows(CoreException.class, () -> provider.verify(tampered));
+
+			// assert
+			assertThat(result.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+		}
+
+		@DisplayName("만료 시각이 지나면, UNAUTHORIZED 예외가 발생한다.")
+		@Test
+		void throwsUnauthorized_whenTokenIsExpired() {
+			// arrange
+			String token = provider("v1", List.of(KEY_V1), NOW).issue("testuser");
+			AccessTokenProvider later = provider("v1", List.of(KEY_V1), NOW.plus(Duration.ofMinutes(31)));
+
+			// act
+			CoreException result = assertThrows(CoreException.class, () -> later.verify(token));
+
+			// assert
+			assertThat(result.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+		}
+	}
+
+	@DisplayName("서명 키가 32바이트보다 짧거나 비어 있으면, 생성할 때 예외가 발생한다.")
+	@Test
+	void failsToCreate_whenSecretIsTooShort() {
+		// arrange
+		List<AccessTokenProperties.SigningKey> keys = List.of(new AccessTokenProperties.SigningKey("v1", ""));
+
+		// act & assert
+		assertThrows(IllegalStateException.class, () -> provider("v1", keys, NOW));
+	}
+}
@@ -0,0 +1,122 @@
+package com.loopers.support.auth;
+
+import com.loopers.config.redis.RedisResilience;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenRevocationStoreTest {
+
+	private static final Instant ISSUED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final RedisResilience redisResilience = mock(RedisResilience.class);
+
+	private AccessTokenRevocationStore store;
+
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		AccessTokenProperties properties = new AccessTokenProperties(Duration.ofMinutes(30), "v1", List.of(), Duration.ofMinutes(1));
+		store = new AccessTokenRevocationStore(redisTemplate, redisResilience, properties);
+	}
+
+	private void redisAvailable() {
+		when(redisResilience.call(eq("token-revocation"), any(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+	}
+
+	private void redisUnavailable() {
+		when(redisResilience.call(eq("token-revocation"), any(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+	}
+
+	@DisplayName("토큰 폐기 여부를 확인할 때,")
+	@Nested
+	class IsRevoked {
+
+		@DisplayName("기준 시각 이전에 발급된 토큰이면, true 를 반환한다.")
+		@Test
+		void returnsTrue_whenIssuedBeforeRevocation() {
+			// arrange
+			redisAvailable();
+			when(valueOperations.get("member:token:revoked-at:testuser")).thenReturn(String.valueOf(ISSUED_AT.plusMillis(1).toEpochMilli()));
+
+			// act
+			boolean result = store.isRevoked(new AccessToken("testuser", ISSUED_AT, ISSUED_AT.plus(Duration.ofMinutes(30))));
+
+			// assert
+			assertThat(result).isTrue();
+		}
+
+		@DisplayName("같은 회원을 다시 확인하면, Redis 를 거치지 않고 노드에 둔 기준 시각을 쓴다.")
+		@Test
+		void usesCachedRevocation_whenCheckedAgain() {
+			// arrange
+			redisAvailable();
+			AccessToken accessToken = new AccessToken("testuser", ISSUED_AT, ISSUED_AT.plus(Duration.ofMinutes(30)));
+			store.isRevoked(accessToken);
+
+			// act
+			boolean result = store.isRevoked(accessToken);
+
+			// assert
+			assertThat(result).isFalse();
+			verify(valueOperations, times(1)).get(anyString());
+		}
+
+		@DisplayName("이 노드에서 폐기하면, 노드에 둔 기준 시각을 지워 바로 거절한다.")
+		@Test
+		void rejectsImmediately_afterRevokingOnThisNode() {
+			// arrange
+			redisAvailable();
+			AccessToken accessToken = new AccessToken("testuser", ISSUED_AT, ISSUED_AT.plus(Duration.ofMinutes(30)));
+			store.isRevoked(accessToken);
+			when(valueOperations.get("member:token:revoked-at:testuser")).thenReturn(String.valueOf(ISSUED_AT.plusMillis(1).toEpochMilli()));
+
+			// act
+			store.revokeAll("testuser");
+			boolean result = store.isRevoked(accessToken);
+
+			// assert
+			assertThat(result).isTrue();
+		}
+
+		@DisplayName("Redis 를 쓸 수 없으면, 토큰을 통과시키지 않고 SERVICE_UNAVAILABLE 예외가 발생한다.")
+		@Test
+		void throwsServiceUnavailable_whenRedisIsUnavailable() {
+			// arrange
+			redisUnavailable();
+			AccessToken accessToken = new AccessToken("testuser", ISSUED_AT, ISSUED_AT.plus(Duration.ofMinutes(30)));
+
+			// act
+			CoreException result = assertThrows(CoreException.class, () -> store.isRevoked(accessToken));
+
+			// assert
+			assertThat(result.getErrorType()).isEqualTo(ErrorType.SERVICE_UNAVAILABLE);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.loopers.support.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DelegatingPasswordEncoderTest {
+
+	private static final String RAW_PASSWORD = "password1!@";
+
+	private DelegatingPasswordEncoder encoder(String encodingId, int iterations) {
+		return new DelegatingPasswordEncoder(encodingId, Map.of(
+				DelegatingPasswordEncoder.LEGACY_ID, new Sha256PasswordEncoder(),
+				"pbkdf2", new Pbkdf2PasswordEncoder(iterations)
+		));
+	}
+
+	@DisplayName("비밀번호를 해싱할 때,")
+	@Nested
+	class Encode {
+
+		@DisplayName("알고리즘 태그가 붙고, 같은 비밀번호라도 솔트 때문에 매번 다른 해시가 만들어진다.")
+		@Test
+		void encodesWithTagAndRandomSalt() {
+			// arrange
+			DelegatingPasswordEncoder encoder = encoder("pbkdf2", 1000);
+
+			// act
+			String first = encoder.encode(RAW_PASSWORD);
+			String second = encoder.encode(RAW_PASSWORD);
+
+			// assert
+			assertAll(
+					() -> assertThat(first).startsWith("{pbkdf2}1000$"),
+					() -> assertThat(first).isNotEqualTo(second),
+					() -> assertThat(encoder.matches(RAW_PASSWORD, first)).isTrue(),
+					() -> assertThat(encoder.matches(RAW_PASSWORD, second)).isTrue(),
+					() -> assertThat(encoder.matches("wrongpass1!@", first)).isFalse()
+			);
+		}
+	}
+
+	@DisplayName("저장된 해시를 검증할 때,")
+	@Nested
+	class Matches {
+
+		@DisplayName("태그가 없는 기존 SHA-256 해시도 검증되며, 교체 대상으로 판단된다.")
+		@Test
+		void matchesLegacyHash_andRequiresUpgrade() {
+			// arrange
+			DelegatingPasswordEncoder encoder = encoder("pbkdf2", 1000);
+			String legacy = new Sha256PasswordEncoder().encode(RAW_PASSWORD);
+
+			// act & assert
+			assertAll(
+					() -> assertThat(encoder.matches(RAW_PASSWORD, legacy)).isTrue(),
+					() -> assertThat(encoder.upgradeEncoding(legacy)).isTrue()
+			);
+		}
+
+		@DisplayName("반복 횟수가 현재 설정보다 적으면, 교체 대상으로 판단된다.")
+		@Test
+		void requiresUpgrade_whenIterationsAreLowerThanPolicy() {
+			// arrange
+			String weak = encoder("pbkdf2", 1000).encode(RAW_PASSWORD);
+			DelegatingPasswordEncoder encoder = encoder("pbkdf2", 2000);
+
+			// act & assert
+			assertAll(
+					() -> assertThat(encoder.matches(RAW_PASSWORD, weak)).isTrue(),
+					() -> assertThat(encoder.upgradeEncoding(weak)).isTrue(),
+					() -> assertThat(encoder.upgradeEncoding(encoder.encode(RAW_PASSWORD))).isFalse()
+			);
+		}
+
+		@DisplayName("반복 횟수를 읽을 수 없는 해시는, 예외 없이 불일치이자 교체 대상으로 판단된다.")
+		@Test
+		void requiresUpgrade_whenIterationsAreMalformed() {
+			// arrange
+			DelegatingPasswordEncoder encoder = encoder("pbkdf2", 1000);
+			String malformed = "{pbkdf2}abc$c2FsdA$aGFzaA";
+
+			// act & assert
+			assertAll(
+					() -> assertThat(encoder.matches(RAW_PASSWORD, malformed)).isFalse(),
+					() -> assertThat(encoder.upgradeEncoding(malformed)).isTrue()
+			);
+		}
+	}
+}
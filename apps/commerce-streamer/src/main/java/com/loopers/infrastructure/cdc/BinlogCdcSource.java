@@ -0,0 +1,379 @@
+package com.loopers.infrastructure.cdc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.QueryEventData;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.XAPrepareEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL binlog 를 복제 클라이언트로 읽어, BaseEntity 테이블의 행 변경을 id 를 키로 "topic-prefix.테이블" 토픽에 보낸다.
+ * <ul>
+ *     <li>MySQL 트랜잭션이 끝난 변경만 모아 두었다가, flush-interval 이 지나거나 max-batch-size 만큼 모이면 한 Kafka 트랜잭션으로
+ *     변경 레코드와 다음 트랜잭션의 binlog 위치(체크포인트)를 함께 커밋한다.</li>
+ *     <li>연결이 끊기거나 커밋에 실패하면 모아 둔 변경을 버리고, 마지막으로 커밋된 체크포인트부터 다시 읽는다.
+ *     그 사이 중단된 Kafka 트랜잭션은 read_committed 소비자에게 보이지 않으므로, 같은 변경이 두 번 보이지 않는다.</li>
+ *     <li>같은 transactional-id 로 새 인스턴스가 뜨면 이전 인스턴스의 트랜잭션은 더 커밋되지 않는다.</li>
+ *     <li>트랜잭션의 끝은 XID 와 COMMIT 뿐이다. SAVEPOINT, XA END 같은 쿼리는 트랜잭션 안의 표시일 뿐이고, DDL 은 테이블 정의만 다시 읽게 한다.
+ *     PREPARE 된 XA 트랜잭션의 변경은 XA COMMIT 을 만날 때까지 보관하고, 그동안은 체크포인트가 PREPARE 를 넘지 않도록 커밋하지 않는다.</li>
+ *     <li>테이블 토픽은 처음 만난 테이블의 TABLE_MAP 에서 만들기를 요청만 하고, 그 토픽으로 보내기 직전에 끝났는지 확인한다.</li>
+ * </ul>
+ * 체크포인트가 없으면 현재 binlog 끝부터 읽는다. 이미 있던 행의 스냅샷은 보내지 않는다.
+ * 레코드 값은 {"op": c|u|d, "table", "before", "after", "source": {file, position}, "ts"} 형식의 JSON 이다.
+ */
+@Slf4j
+public class BinlogCdcSource implements AutoCloseable {
+
+    private static final Set<String> DDL_PREFIXES = Set.of("alter", "create", "drop", "rename", "truncate");
+
+    private final CdcProperties properties;
+    private final CdcTableRegistry tableRegistry;
+    private final CdcCheckpointStore checkpointStore;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Timer flushTimer;
+    private final String host;
+    private final int port;
+
+    private volatile boolean running;
+    private volatile BinaryLogClient client;
+    private Thread thread;
+
+    // 아래 상태는 binlog 를 읽는 스레드에서만 다룬다.
+    private final Map<Long, Optional<CdcTable>> tablesById = new HashMap<>();
+    private final List<ProducerRecord<String, String>> transactionRecords = new ArrayList<>();
+    private final List<ProducerRecord<String, String>> pendingRecords = new ArrayList<>();
+    private final Map<String, List<ProducerRecord<String, String>>> preparedXaRecords = new HashMap<>();
+    private String currentXid;
+    private String currentFile;
+    private BinlogPosition boundary;
+    private BinlogPosition checkpointed;
+    private long lastFlushNanos;
+    private boolean failed;
+
+    public BinlogCdcSource(
+        CdcProperties properties,
+        CdcTableRegistry tableRegistry,
+        CdcCheckpointStore checkpointStore,
+        KafkaTemplate<String, String> kafkaTemplate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.tableRegistry = tableRegistry;
+        this.checkpointStore = checkpointStore;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.flushTimer = Timer.builder("cdc.flush")
+            .description("변경과 체크포인트를 한 Kafka 트랜잭션으로 커밋하는 데 걸린 시간")
+            .register(meterRegistry);
+        Gauge.builder("cdc.connected", this, source -> source.connected() ? 1 : 0)
+            .description("binlog 에 연결되어 있으면 1")
+            .register(meterRegistry);
+
+        URI uri = URI.create(properties.source().jdbcUrl().substring("jdbc:".length()));
+        this.host = uri.getHost();
+        this.port = uri.getPort() == -1 ? 3306 : uri.getPort();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "binlog-cdc");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void close() {
+        Thread stopping;
+        synchronized (this) {
+            running = false;
+            stopping = thread;
+        }
+        disconnect();
+        if (stopping != null) {
+            stopping.interrupt();
+            try {
+                stopping.join(properties.reconnectBackoff().toMillis() + 5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean connected() {
+        BinaryLogClient current = client;
+        return current != null && current.isConnected();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Optional<BinlogPosition> checkpoint = checkpointStore.load();
+                reset(checkpoint.orElse(null));
+                BinaryLogClient connecting = newClient(checkpoint);
+                client = connecting;
+                if (!running) {
+                    break;
+                }
+                log.info("binlog 를 {} 부터 읽습니다.", checkpoint.map(BinlogPosition::toString).orElse("현재 위치"));
+                connecting.connect();
+            } catch (IOException | RuntimeException e) {
+                log.warn("binlog 를 읽지 못했습니다: {}", e.toString());
+            }
+            if (running) {
+                try {
+                    Thread.sleep(properties.reconnectBackoff());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 스스로 다시 연결하면 모아 둔 변경 뒤의 위치부터 읽게 되므로, keep-alive 를 끄고 끊기면 체크포인트부터 다시 연결한다.
+     */
+    private BinaryLogClient newClient(Optional<BinlogPosition> checkpoint) {
+        CdcProperties.Source source = properties.source();
+        BinaryLogClient binaryLogClient = new BinaryLogClient(host, port, source.username(), source.password());
+        binaryLogClient.setServerId(source.serverId());
+        binaryLogClient.setKeepAlive(false);
+        binaryLogClient.setHeartbeatInterval(properties.flushInterval().toMillis());
+        checkpoint.ifPresent(position -> {
+            binaryLogClient.setBinlogFilename(position.file());
+            binaryLogClient.setBinlogPosition(position.position());
+        });
+
+        EventDeserializer deserializer = new EventDeserializer();
+        deserializer.setCompatibilityMode(
+            EventDeserializer.CompatibilityMode.DATE_AND_TIME_AS_LONG_MICRO,
+            EventDeserializer.CompatibilityMode.CHAR_AND_BINARY_AS_BYTE_ARRAY
+        );
+        binaryLogClient.setEventDeserializer(deserializer);
+        binaryLogClient.registerEventListener(this::onEvent);
+        return binaryLogClient;
+    }
+
+    private void reset(BinlogPosition checkpoint) {
+        tablesById.clear();
+        transactionRecords.clear();
+        pendingRecords.clear();
+        preparedXaRecords.clear();
+        currentXid = null;
+        currentFile = checkpoint == null ? null : checkpoint.file();
+        boundary = checkpoint;
+        checkpointed = checkpoint;
+        lastFlushNanos = System.nanoTime();
+        failed = false;
+    }
+
+    private void onEvent(Event event) {
+        if (failed) {
+            return;
+        }
+        try {
+            handle(event);
+        } catch (RuntimeException e) {
+            failed = true;
+            log.warn("binlog 변경을 보내지 못해 {} 부터 다시 읽습니다: {}", checkpointed, e.toString());
+            disconnect();
+        }
+    }
+
+    private void handle(Event event) {
+        EventHeaderV4 header = event.getHeader();
+        EventType type = header.getEventType();
+        switch (type) {
+            case ROTATE -> {
+                RotateEventData data = event.getData();
+                currentFile = data.getBinlogFilename();
+                boundary = new BinlogPosition(data.getBinlogFilename(), data.getBinlogPosition());
+            }
+            case TABLE_MAP -> {
+                TableMapEventData data = event.getData();
+                Optional<CdcTable> table = tableRegistry.find(data.getDatabase(), data.getTable());
+                table.ifPresent(captured -> checkpointStore.createTopicAsync(topic(captured), properties.topicPartitions()));
+                tablesById.put(data.getTableId(), table);
+            }
+            case WRITE_ROWS, EXT_WRITE_ROWS -> {
+                WriteRowsEventData data = event.getData();
+                table(data.getTableId()).ifPresent(table -> data.getRows().forEach(row ->
+                    append(table, "c", null, table.toRow(data.getIncludedColumns(), row), header)));
+            }
+            case UPDATE_ROWS, EXT_UPDATE_ROWS -> {
+                UpdateRowsEventData data = event.getData();
+                table(data.getTableId()).ifPresent(table -> data.getRows().forEach(row -> append(
+                    table,
+                    "u",
+                    table.toRow(data.getIncludedColumnsBeforeUpdate(), row.getKey()),
+                    table.toRow(data.getIncludedColumns(), row.getValue()),
+                    header
+                )));
+            }
+            case DELETE_ROWS, EXT_DELETE_ROWS -> {
+                DeleteRowsEventData data = event.getData();
+                table(data.getTableId()).ifPresent(table -> data.getRows().forEach(row ->
+                    append(table, "d", table.toRow(data.getIncludedColumns(), row), null, header)));
+            }
+            case XID -> commitTransaction(header);
+            case XA_PREPARE -> {
+                XAPrepareEventData data = event.getData();
+                if (data.isOnePhase()) {
+                    commitTransaction(header);
+                } else {
+                    preparedXaRecords.put(currentXid, new ArrayList<>(transactionRecords));
+                    transactionRecords.clear();
+                }
+                currentXid = null;
+            }
+            case QUERY -> onQuery(((QueryEventData) event.getData()).getSql().strip().toLowerCase(Locale.ROOT), header);
+            case HEARTBEAT -> flushIfDue();
+            default -> {
+                // FORMAT_DESCRIPTION, GTID 등은 보낼 변경이 없다.
+            }
+        }
+    }
+
+    private void onQuery(String sql, EventHeaderV4 header) {
+        if (sql.equals("commit")) {
+            commitTransaction(header);
+        } else if (sql.equals("rollback")) {
+            transactionRecords.clear();
+        } else if (sql.startsWith("xa start ")) {
+            currentXid = sql.substring("xa start ".length()).strip();
+        } else if (sql.startsWith("xa commit ")) {
+            List<ProducerRecord<String, String>> prepared = preparedXaRecords.remove(sql.substring("xa commit ".length()).strip());
+            if (prepared != null) {
+                transactionRecords.addAll(prepared);
+            }
+            commitTransaction(header);
+        } else if (sql.startsWith("xa rollback ")) {
+            preparedXaRecords.remove(sql.substring("xa rollback ".length()).strip());
+            flushIfDue();
+        } else if (DDL_PREFIXES.stream().anyMatch(sql::startsWith)) {
+            tableRegistry.invalidate();
+            tablesById.clear();
+        }
+        // BEGIN, SAVEPOINT, ROLLBACK TO SAVEPOINT, RELEASE SAVEPOINT, XA END 는 트랜잭션 안의 표시일 뿐이다.
+    }
+
+    private Optional<CdcTable> table(long tableId) {
+        return tablesById.getOrDefault(tableId, Optional.empty());
+    }
+
+    private void append(CdcTable table, String op, Map<String, Object> before, Map<String, Object> after, EventHeaderV4 header) {
+        Map<String, Object> row = after != null ? after : before;
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("op", op);
+        value.put("table", table.name());
+        value.put("before", before);
+        value.put("after", after);
+        value.put("source", new BinlogPosition(currentFile, header.getPosition()));
+        value.put("ts", header.getTimestamp());
+        try {
+            transactionRecords.add(new ProducerRecord<>(
+                topic(table),
+                String.valueOf(row.get(CdcTable.KEY_COLUMN)),
+                objectMapper.writeValueAsString(value)
+            ));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(table.name() + " 변경을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * MySQL 트랜잭션이 끝난 위치가 다음 체크포인트가 된다. 트랜잭션 중간에서는 보내지 않는다.
+     */
+    private void commitTransaction(EventHeaderV4 header) {
+        pendingRecords.addAll(transactionRecords);
+        transactionRecords.clear();
+        boundary = new BinlogPosition(currentFile, header.getNextPosition());
+        if (pendingRecords.size() >= properties.maxBatchSize() && preparedXaRecords.isEmpty()) {
+            flush();
+        } else {
+            flushIfDue();
+        }
+    }
+
+    private void flushIfDue() {
+        if (!transactionRecords.isEmpty() || !preparedXaRecords.isEmpty()) {
+            return;
+        }
+        if (System.nanoTime() - lastFlushNanos >= properties.flushInterval().toNanos()
+            && (!pendingRecords.isEmpty() || !Objects.equals(boundary, checkpointed))) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (boundary == null) {
+            return;
+        }
+        BinlogPosition checkpoint = boundary;
+        checkpointStore.awaitTopics(pendingRecords.stream().map(ProducerRecord::topic).collect(Collectors.toSet()));
+        flushTimer.record(() -> kafkaTemplate.executeInTransaction(operations -> {
+            pendingRecords.forEach(operations::send);
+            operations.send(checkpointStore.record(checkpoint));
+            return null;
+        }));
+        pendingRecords.forEach(record -> Counter.builder("cdc.records")
+            .tag("topic", record.topic())
+            .register(meterRegistry)
+            .increment());
+        pendingRecords.clear();
+        checkpointed = checkpoint;
+        lastFlushNanos = System.nanoTime();
+    }
+
+    private String topic(CdcTable table) {
+        return properties.topicPrefix() + "." + table.name();
+    }
+
+    private void disconnect() {
+        BinaryLogClient current = client;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.disconnect();
+        } catch (IOException e) {
+            log.warn("binlog 연결을 닫지 못했습니다: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.loopers.infrastructure.cdc;
+
+/**
+ * 다시 읽기 시작할 binlog 위치. 항상 트랜잭션 경계를 가리킨다.
+ */
+public record BinlogPosition(String file, long position) {}
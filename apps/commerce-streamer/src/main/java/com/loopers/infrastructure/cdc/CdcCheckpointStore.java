@@ -0,0 +1,158 @@
+package com.loopers.infrastructure.cdc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.IsolationLevel;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * binlog 위치를 파티션 하나짜리 compact 토픽에 transactional-id 를 키로 남긴다.
+ * 위치는 변경 레코드와 같은 Kafka 트랜잭션으로 쓰므로, read_committed 로 읽은 마지막 위치는 항상 발행이 끝난 변경의 바로 뒤를 가리킨다.
+ * 테이블 토픽도 여기서 만들되, binlog 를 읽는 스레드가 관리 요청을 기다리지 않도록 요청만 보내 두고 보내기 직전에 결과를 확인한다.
+ */
+public class CdcCheckpointStore implements AutoCloseable {
+
+    private static final Duration ADMIN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final Map<String, Object> clientProperties;
+    private final Admin admin;
+    private final ObjectMapper objectMapper;
+    private final String checkpointTopic;
+    private final String checkpointKey;
+    private final Map<String, CompletableFuture<Void>> topicCreations = new ConcurrentHashMap<>();
+
+    public CdcCheckpointStore(Map<String, Object> clientProperties, ObjectMapper objectMapper, String checkpointTopic, String checkpointKey) {
+        this.clientProperties = Map.copyOf(clientProperties);
+        this.admin = Admin.create(this.clientProperties);
+        this.objectMapper = objectMapper;
+        this.checkpointTopic = checkpointTopic;
+        this.checkpointKey = checkpointKey;
+    }
+
+    /**
+     * 남긴 위치가 없으면 비어 있다. 이때는 현재 binlog 끝부터 읽는다.
+     */
+    public Optional<BinlogPosition> load() {
+        ensureTopic(new NewTopic(checkpointTopic, Optional.of(1), Optional.empty())
+            .configs(Map.of(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT)));
+
+        Map<String, Object> consumerProperties = new HashMap<>(clientProperties);
+        consumerProperties.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, IsolationLevel.READ_COMMITTED.toString());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        TopicPartition partition = new TopicPartition(checkpointTopic, 0);
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(consumerProperties, new StringDeserializer(), new StringDeserializer())) {
+            consumer.assign(List.of(partition));
+            consumer.seekToBeginning(List.of(partition));
+            long end = consumer.endOffsets(List.of(partition)).get(partition);
+            String last = null;
+            while (consumer.position(partition) < end) {
+                for (ConsumerRecord<String, String> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (checkpointKey.equals(record.key())) {
+                        last = record.value();
+                    }
+                }
+            }
+            return Optional.ofNullable(last).map(this::parse);
+        }
+    }
+
+    public ProducerRecord<String, String> record(BinlogPosition position) {
+        try {
+            return new ProducerRecord<>(checkpointTopic, checkpointKey, objectMapper.writeValueAsString(position));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 토픽 만들기를 요청만 하고 기다리지 않는다. 이미 요청한 토픽이면 아무것도 하지 않는다.
+     */
+    public void createTopicAsync(String topic, int partitions) {
+        topicCreations.computeIfAbsent(topic, name -> admin.createTopics(List.of(new NewTopic(name, Optional.of(partitions), Optional.empty())))
+            .all()
+            .toCompletionStage()
+            .toCompletableFuture()
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                if (cause instanceof TopicExistsException) {
+                    return null;
+                }
+                throw new CompletionException(cause);
+            }));
+    }
+
+    /**
+     * 요청해 둔 토픽 만들기가 끝날 때까지 기다린다. 실패한 토픽은 잊어, 다음 createTopicAsync 에서 다시 요청하게 한다.
+     */
+    public void awaitTopics(Collection<String> topics) {
+        for (String topic : topics) {
+            CompletableFuture<Void> creation = topicCreations.get(topic);
+            if (creation == null) {
+                continue;
+            }
+            try {
+                creation.get(ADMIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                topicCreations.remove(topic, creation);
+                throw new IllegalStateException("토픽 " + topic + " 을 만들지 못했습니다.", e.getCause());
+            } catch (TimeoutException e) {
+                topicCreations.remove(topic, creation);
+                throw new IllegalStateException("토픽 " + topic + " 을 만들지 못했습니다.", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("토픽 " + topic + " 을 만드는 중 중단되었습니다.", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        admin.close(ADMIN_TIMEOUT);
+    }
+
+    private void ensureTopic(NewTopic topic) {
+        try {
+            admin.createTopics(List.of(topic)).all().get(ADMIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof TopicExistsException)) {
+                throw new IllegalStateException("토픽 " + topic.name() + " 을 만들지 못했습니다.", e.getCause());
+            }
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("토픽 " + topic.name() + " 을 만들지 못했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("토픽 " + topic.name() + " 을 만드는 중 중단되었습니다.", e);
+        }
+    }
+
+    private BinlogPosition parse(String value) {
+        try {
+            return objectMapper.readValue(value, BinlogPosition.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("체크포인트를 읽지 못했습니다: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.loopers.infrastructure.cdc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * cdc.enabled 로 켜는 commerce-streamer 의 CDC 모드. 소비자와 같은 프로세스에서 함께 돌거나, 이 모드만 켜서 따로 띄울 수 있다.
+ * 공용 KafkaTemplate 은 트랜잭션을 쓰지 않으므로 CDC 전용 트랜잭션 프로듀서를 따로 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cdc", name = "enabled", havingValue = "true")
+class CdcConfig {
+    @Bean
+    CdcTableRegistry cdcTableRegistry(JdbcTemplate jdbcTemplate, CdcProperties properties) {
+        return new CdcTableRegistry(jdbcTemplate, properties.tables());
+    }
+
+    @Bean(destroyMethod = "close")
+    CdcCheckpointStore cdcCheckpointStore(KafkaProperties kafkaProperties, ObjectMapper objectMapper, CdcProperties properties) {
+        Map<String, Object> clientProperties = Map.of(
+            CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG, String.join(",", kafkaProperties.getBootstrapServers())
+        );
+        return new CdcCheckpointStore(clientProperties, objectMapper, properties.checkpointTopic(), properties.transactionalId());
+    }
+
+    @Bean(destroyMethod = "destroy")
+    DefaultKafkaProducerFactory<String, String> cdcProducerFactory(KafkaProperties kafkaProperties, CdcProperties properties) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        DefaultKafkaProducerFactory<String, String> producerFactory =
+            new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new StringSerializer());
+        producerFactory.setTransactionIdPrefix(properties.transactionalId());
+        return producerFactory;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    BinlogCdcSource binlogCdcSource(
+        CdcProperties properties,
+        CdcTableRegistry cdcTableRegistry,
+        CdcCheckpointStore cdcCheckpointStore,
+        DefaultKafkaProducerFactory<String, String> cdcProducerFactory,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        return new BinlogCdcSource(
+            properties,
+            cdcTableRegistry,
+            cdcCheckpointStore,
+            new KafkaTemplate<>(cdcProducerFactory),
+            objectMapper,
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.cdc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param enabled          true 면 이 노드가 binlog 를 읽어 Kafka 로 보낸다. 체크포인트가 하나이므로 한 노드에서만 켠다.
+ * @param source           binlog 를 읽을 MySQL. REPLICATION SLAVE, REPLICATION CLIENT 권한이 필요하다.
+ * @param tables           보낼 테이블. 비우면 BaseEntity 컬럼(id, created_at, updated_at, deleted_at)을 가진 모든 테이블을 보낸다.
+ * @param topicPrefix      테이블 변경은 "topic-prefix.테이블" 토픽에 보낸다.
+ * @param topicPartitions  테이블 토픽을 만들 때의 파티션 수
+ * @param checkpointTopic  binlog 위치를 남기는 compact 토픽
+ * @param transactionalId  Kafka 트랜잭션 id. 재시작해도 같아야 이전 인스턴스의 트랜잭션을 정리하고 막을 수 있다.
+ * @param flushInterval    변경을 모아 한 트랜잭션으로 보내는 최대 간격. 변경이 없을 때의 heartbeat 간격으로도 쓴다.
+ * @param maxBatchSize     이 수만큼 모이면 간격을 기다리지 않고 보낸다.
+ * @param reconnectBackoff 연결이 끊기거나 발행에 실패한 뒤 체크포인트부터 다시 읽기까지 기다리는 시간
+ */
+@ConfigurationProperties(value = "cdc")
+public record CdcProperties(
+    boolean enabled,
+    Source source,
+    List<String> tables,
+    String topicPrefix,
+    int topicPartitions,
+    String checkpointTopic,
+    String transactionalId,
+    Duration flushInterval,
+    int maxBatchSize,
+    Duration reconnectBackoff
+) {
+    /**
+     * @param jdbcUrl  jdbc:mysql://host:port/... 형식. 호스트와 포트만 쓴다.
+     * @param serverId 복제 클라이언트 id. 같은 MySQL 에 붙는 복제본, 다른 CDC 와 겹치면 안 된다.
+     */
+    public record Source(String jdbcUrl, String username, String password, long serverId) {}
+}
@@ -0,0 +1,82 @@
+package com.loopers.infrastructure.cdc;
+
+import com.github.shyiko.mysql.binlog.event.deserialization.json.JsonBinary;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 행 이벤트에는 컬럼 이름이 없으므로, information_schema 에서 읽은 컬럼 순서로 값 배열을 풀어낸다.
+ * 문자열과 바이너리는 바이트 배열로, 날짜와 시각은 epoch 부터의 마이크로초로 받아 컬럼 타입에 맞게 바꾼다.
+ */
+public record CdcTable(String database, String name, List<Column> columns) {
+
+    static final String KEY_COLUMN = "id";
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long MICROS_PER_DAY = 86_400L * MICROS_PER_SECOND;
+
+    /**
+     * 컬럼 수가 이 정의보다 많으면 정의를 읽은 뒤 컬럼이 추가된 것이므로, 모르는 컬럼은 버린다.
+     */
+    public Map<String, Object> toRow(BitSet includedColumns, Serializable[] values) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        int index = 0;
+        for (int column = includedColumns.nextSetBit(0); column >= 0; column = includedColumns.nextSetBit(column + 1)) {
+            Serializable value = values[index++];
+            if (column < columns.size()) {
+                row.put(columns.get(column).name(), columns.get(column).convert(value));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * @param dataType information_schema.columns.data_type (예: varchar, datetime)
+     */
+    public record Column(String name, String dataType) {
+
+        Object convert(Serializable value) {
+            if (value == null) {
+                return null;
+            }
+            return switch (dataType) {
+                case "char", "varchar", "tinytext", "text", "mediumtext", "longtext" ->
+                    value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : value.toString();
+                case "json" -> parseJson((byte[]) value);
+                case "datetime" -> LocalDateTime.ofEpochSecond(
+                    Math.floorDiv((long) value, MICROS_PER_SECOND),
+                    (int) Math.floorMod((long) value, MICROS_PER_SECOND) * 1000,
+                    ZoneOffset.UTC
+                );
+                case "timestamp" -> Instant.EPOCH.plus((long) value, ChronoUnit.MICROS);
+                case "date" -> LocalDate.ofEpochDay(Math.floorDiv((long) value, MICROS_PER_DAY));
+                default -> switch (value) {
+                    case byte[] bytes -> Base64.getEncoder().encodeToString(bytes);
+                    case BitSet bits -> bits.isEmpty() ? 0L : bits.toLongArray()[0];
+                    default -> value;
+                };
+            };
+        }
+
+        private static String parseJson(byte[] value) {
+            try {
+                return JsonBinary.parseAsString(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.cdc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BaseEntity 를 상속한 엔티티의 테이블을 찾는다. 엔티티 클래스는 각 앱에 있으므로, 공통 컬럼(id, created_at, updated_at, deleted_at)을
+ * 모두 가진 테이블을 그런 테이블로 본다. 정의는 테이블마다 처음 변경을 만났을 때 읽고, DDL 을 만나면 다시 읽는다.
+ */
+public class CdcTableRegistry {
+
+    private static final Set<String> BASE_ENTITY_COLUMNS = Set.of(CdcTable.KEY_COLUMN, "created_at", "updated_at", "deleted_at");
+
+    private static final String COLUMNS_SQL = """
+        select column_name, data_type
+        from information_schema.columns
+        where table_schema = ? and table_name = ?
+        order by ordinal_position
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<String> includedTables;
+    private final Map<String, Optional<CdcTable>> tables = new ConcurrentHashMap<>();
+
+    public CdcTableRegistry(JdbcTemplate jdbcTemplate, List<String> includedTables) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.includedTables = Set.copyOf(includedTables);
+    }
+
+    /**
+     * 보낼 테이블이 아니면 비어 있다.
+     */
+    public Optional<CdcTable> find(String database, String table) {
+        if (!includedTables.isEmpty() && !includedTables.contains(table)) {
+            return Optional.empty();
+        }
+        return tables.computeIfAbsent(database + "." + table, key -> load(database, table));
+    }
+
+    public void invalidate() {
+        tables.clear();
+    }
+
+    private Optional<CdcTable> load(String database, String table) {
+        List<CdcTable.Column> columns = jdbcTemplate.query(
+            COLUMNS_SQL,
+            (rs, rowNum) -> new CdcTable.Column(rs.getString(1), rs.getString(2)),
+            database,
+            table
+        );
+        Set<String> names = new HashSet<>();
+        columns.forEach(column -> names.add(column.name()));
+        return names.containsAll(BASE_ENTITY_COLUMNS) ? Optional.of(new CdcTable(database, table, columns)) : Optional.empty();
+    }
+}
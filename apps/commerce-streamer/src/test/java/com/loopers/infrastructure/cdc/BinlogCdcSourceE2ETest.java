@@ -0,0 +1,213 @@
+package com.loopers.infrastructure.cdc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.IsolationLevel;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = {
+    "cdc.enabled=true",
+    "cdc.source.username=root", // 복제 권한이 있는 계정
+    "cdc.topic-prefix=cdc.test",
+    "cdc.checkpoint-topic=cdc.test.checkpoints",
+    "cdc.flush-interval=100ms",
+    "cdc.reconnect-backoff=100ms"
+})
+class BinlogCdcSourceE2ETest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final BinlogCdcSource binlogCdcSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaProperties kafkaProperties;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public BinlogCdcSourceE2ETest(
+        BinlogCdcSource binlogCdcSource,
+        JdbcTemplate jdbcTemplate,
+        KafkaProperties kafkaProperties,
+        ObjectMapper objectMapper
+    ) {
+        this.binlogCdcSource = binlogCdcSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaProperties = kafkaProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        awaitConnected();
+    }
+
+    private void awaitConnected() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!binlogCdcSource.connected()) {
+            assertThat(System.nanoTime()).as("binlog 연결 대기").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private void createBaseEntityTable(String table) {
+        jdbcTemplate.execute("create table " + table + " ("
+            + "id bigint not null auto_increment primary key, "
+            + "name varchar(50) not null, "
+            + "created_at datetime(6) not null, "
+            + "updated_at datetime(6) not null, "
+            + "deleted_at datetime(6))");
+    }
+
+    private void insert(String table, long id, String name) {
+        jdbcTemplate.update("insert into " + table + " (id, name, created_at, updated_at) values (?, ?, now(6), now(6))", id, name);
+    }
+
+    /**
+     * read_committed 로 읽어, 커밋된 Kafka 트랜잭션의 레코드만 센다. expected 건을 받은 뒤에도 잠시 더 읽어 중복이 없는지 확인한다.
+     */
+    private List<ConsumerRecord<String, String>> consume(String topic, int expected) {
+        Map<String, Object> props = Map.of(
+            ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, String.join(",", kafkaProperties.getBootstrapServers()),
+            ConsumerConfig.GROUP_ID_CONFIG, "cdc-test-" + UUID.randomUUID(),
+            ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+            ConsumerConfig.ISOLATION_LEVEL_CONFIG, IsolationLevel.READ_COMMITTED.toString(),
+            ConsumerConfig.METADATA_MAX_AGE_CONFIG, 500
+        );
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props, new StringDeserializer(), new StringDeserializer())) {
+            consumer.subscribe(List.of(topic));
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (records.size() < expected && System.nanoTime() < deadline) {
+                consumer.poll(Duration.ofMillis(200)).forEach(records::add);
+            }
+            long settle = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+            while (System.nanoTime() < settle) {
+                consumer.poll(Duration.ofMillis(200)).forEach(records::add);
+            }
+        }
+        return records;
+    }
+
+    private JsonNode value(ConsumerRecord<String, String> record) {
+        try {
+            return objectMapper.readTree(record.value());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @DisplayName("BaseEntity 컬럼을 가진 테이블의 INSERT, UPDATE, DELETE 는, id 를 키로 순서대로 발행된다.")
+    @Test
+    void publishesRowChangesKeyedById() {
+        // given
+        createBaseEntityTable("cdc_product");
+
+        // when
+        insert("cdc_product", 1L, "상품");
+        jdbcTemplate.update("update cdc_product set name = ?, updated_at = now(6) where id = ?", "새 상품", 1L);
+        jdbcTemplate.update("delete from cdc_product where id = ?", 1L);
+
+        // then
+        List<ConsumerRecord<String, String>> records = consume("cdc.test.cdc_product", 3);
+        assertAll(
+            () -> assertThat(records).extracting(ConsumerRecord::key).containsExactly("1", "1", "1"),
+            () -> assertThat(records).extracting(record -> value(record).get("op").asText()).containsExactly("c", "u", "d"),
+            () -> assertThat(value(records.get(0)).get("after").get("name").asText()).isEqualTo("상품"),
+            () -> assertThat(value(records.get(1)).get("before").get("name").asText()).isEqualTo("상품"),
+            () -> assertThat(value(records.get(1)).get("after").get("name").asText()).isEqualTo("새 상품"),
+            () -> assertThat(value(records.get(2)).get("before").get("id").asLong()).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("BaseEntity 컬럼이 없는 테이블의 변경은, 발행되지 않는다.")
+    @Test
+    void ignoresTablesWithoutBaseEntityColumns() throws Exception {
+        // given
+        jdbcTemplate.execute("create table cdc_audit_log (id bigint not null auto_increment primary key, message varchar(50) not null)");
+        createBaseEntityTable("cdc_brand");
+
+        // when
+        jdbcTemplate.update("insert into cdc_audit_log (message) values (?)", "무시");
+        insert("cdc_brand", 1L, "브랜드");
+
+        // then
+        assertThat(consume("cdc.test.cdc_brand", 1)).hasSize(1);
+        try (Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, String.join(",", kafkaProperties.getBootstrapServers())))) {
+            assertThat(admin.listTopics().names().get()).doesNotContain("cdc.test.cdc_audit_log");
+        }
+    }
+
+    @DisplayName("멈춘 사이의 변경은, 다시 시작하면 마지막 체크포인트부터 중복 없이 발행된다.")
+    @Test
+    void resumesFromCheckpointWithoutDuplicates() throws InterruptedException {
+        // given
+        createBaseEntityTable("cdc_coupon");
+        insert("cdc_coupon", 1L, "첫 쿠폰");
+        assertThat(consume("cdc.test.cdc_coupon", 1)).hasSize(1);
+        binlogCdcSource.close();
+        insert("cdc_coupon", 2L, "멈춘 사이 쿠폰");
+        insert("cdc_coupon", 3L, "멈춘 사이 쿠폰");
+
+        // when
+        binlogCdcSource.start();
+        awaitConnected();
+
+        // then
+        assertThat(consume("cdc.test.cdc_coupon", 3))
+            .extracting(ConsumerRecord::key)
+            .containsExactlyInAnyOrder("1", "2", "3");
+    }
+    @DisplayName("PREPARE 된 XA 트랜잭션의 변경은, XA COMMIT 전에는 뒤따른 변경과 함께 발행되지 않고 커밋 뒤에 한 번만 발행된다.")
+    @Test
+    void holdsPreparedXaChangesUntilCommit() {
+        // given
+        createBaseEntityTable("cdc_order");
+        createBaseEntityTable("cdc_point");
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("xa start 'cdc-xa'");
+                statement.executeUpdate("insert into cdc_order (id, name, created_at, updated_at) values (1, '주문', now(6), now(6))");
+                statement.execute("xa end 'cdc-xa'");
+                statement.execute("xa prepare 'cdc-xa'");
+            }
+            return null;
+        });
+        insert("cdc_point", 1L, "포인트");
+        assertAll(
+            () -> assertThat(consume("cdc.test.cdc_order", 0)).isEmpty(),
+            () -> assertThat(consume("cdc.test.cdc_point", 0)).isEmpty()
+        );
+
+        // when
+        jdbcTemplate.execute("xa commit 'cdc-xa'");
+
+        // then
+        assertAll(
+            () -> assertThat(consume("cdc.test.cdc_order", 1)).extracting(ConsumerRecord::key).containsExactly("1"),
+            () -> assertThat(consume("cdc.test.cdc_point", 1)).extracting(ConsumerRecord::key).containsExactly("1")
+        );
+    }
+}
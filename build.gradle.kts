@@ -46,6 +46,13 @@ subprojects {
         }
     }
 
+    // org.lz4:lz4-java 는 1.8.0 이후 배포되지 않아 CVE-2025-12183 이 고쳐지지 않았다. kafka-clients 등이 끌어오는 것도 후속 배포본으로 바꾼다.
+    configurations.all {
+        resolutionStrategy.dependencySubstitution {
+            substitute(module("org.lz4:lz4-java")).using(module("at.yawk.lz4:lz4-java:${project.properties["lz4JavaVersion"]}"))
+        }
+    }
+
     dependencies {
         // Web
         runtimeOnly("org.springframework.boot:spring-boot-starter-validation")
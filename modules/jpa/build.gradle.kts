@@ -13,6 +13,16 @@ dependencies {
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
+    // second-level cache
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    // @Workload 풀 라우팅
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    // 풀 크기 자동 조정 endpoint
+    implementation("org.springframework.boot:spring-boot-actuator")
 
     testImplementation("org.testcontainers:mysql")
 
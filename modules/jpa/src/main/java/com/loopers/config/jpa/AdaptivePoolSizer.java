@@ -0,0 +1,214 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 대기 스레드 수, 획득 지연, 커넥션 사용 시간을 주기적으로 측정해 풀의 최대 크기를 설정된 범위 안에서 조정한다.
+ * <ul>
+ *     <li>대기 스레드가 있거나 평균 획득 지연이 목표를 넘으면 즉시 늘린다.</li>
+ *     <li>필요한 크기(처리량 × 평균 사용 시간, Little's law)와 사용 중인 커넥션이 현재 크기의 절반 아래인 구간이
+ *     scale-down-after 번 이어지면 한 단계 줄인다.</li>
+ * </ul>
+ * 크기는 {@link HikariConfigMXBean} 으로 바꾼다. 늘어난 크기는 커넥션을 기다리는 요청이 생길 때 채워지고,
+ * 줄어든 크기를 넘는 유휴 커넥션은 Hikari 의 housekeeper 가 정리한다.
+ */
+@Slf4j
+public class AdaptivePoolSizer implements AutoCloseable {
+
+    static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+    static final String USAGE_TIMER = "hikaricp.connections.usage";
+    private static final double HEADROOM = 1.2;
+    private static final int MAX_DECISIONS = 20;
+
+    private final HikariDataSource dataSource;
+    private final MySqlJpaProperties.AdaptiveSizing sizing;
+    private final MeterRegistry meterRegistry;
+    private final int configuredMinimumIdle;
+    private final Counter scaleUpCounter;
+    private final Counter scaleDownCounter;
+    private final Deque<Decision> decisions = new ArrayDeque<>();
+    private final ScheduledExecutorService scheduler;
+
+    private TimerWindow acquireWindow = TimerWindow.EMPTY;
+    private TimerWindow usageWindow = TimerWindow.EMPTY;
+    private long lastSampledNanos = System.nanoTime();
+    private int calmIntervals;
+    private volatile int demand;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource, MySqlJpaProperties.AdaptiveSizing sizing, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.sizing = sizing;
+        this.meterRegistry = meterRegistry;
+        this.configuredMinimumIdle = dataSource.getMinimumIdle();
+
+        String pool = dataSource.getPoolName();
+        this.scaleUpCounter = Counter.builder("datasource.pool.adaptive.resizes")
+            .tag("pool", pool)
+            .tag("direction", "up")
+            .register(meterRegistry);
+        this.scaleDownCounter = Counter.builder("datasource.pool.adaptive.resizes")
+            .tag("pool", pool)
+            .tag("direction", "down")
+            .register(meterRegistry);
+        Gauge.builder("datasource.pool.adaptive.max_size", dataSource, HikariDataSource::getMaximumPoolSize)
+            .description("조정된 풀 최대 크기")
+            .tag("pool", pool)
+            .register(meterRegistry);
+        Gauge.builder("datasource.pool.adaptive.demand", this, sizer -> sizer.demand)
+            .description("처리량과 평균 사용 시간으로 추정한 필요 커넥션 수")
+            .tag("pool", pool)
+            .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "adaptive-pool-sizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        long intervalMillis = sizing.interval().toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                adjust();
+            } catch (RuntimeException e) {
+                log.warn("풀 {} 크기 조정에 실패했습니다: {}", dataSource.getPoolName(), e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    public String poolName() {
+        return dataSource.getPoolName();
+    }
+
+    public MySqlJpaProperties.AdaptiveSizing sizing() {
+        return sizing;
+    }
+
+    public int maximumPoolSize() {
+        return dataSource.getMaximumPoolSize();
+    }
+
+    public synchronized List<Decision> decisions() {
+        return List.copyOf(decisions);
+    }
+
+    /**
+     * 직전 호출 이후 구간을 측정하고, 필요하면 크기를 바꾼다.
+     */
+    synchronized Decision adjust() {
+        Sample sample = sample();
+        demand = sample.demand();
+
+        int current = dataSource.getMaximumPoolSize();
+        int target = current;
+        String reason;
+        if (sample.pending() > 0 || sample.acquireMillis() > sizing.targetAcquireTime().toMillis()) {
+            calmIntervals = 0;
+            target = Math.max(current + Math.max(sizing.step(), sample.pending()), sample.demand());
+            reason = "커넥션 대기";
+        } else if (Math.max(sample.active(), sample.demand()) * 2 < current) {
+            calmIntervals++;
+            if (calmIntervals >= sizing.scaleDownAfter()) {
+                calmIntervals = 0;
+                target = Math.max(current - sizing.step(), Math.max(sample.active(), sample.demand()));
+            }
+            reason = "유휴 커넥션";
+        } else {
+            calmIntervals = 0;
+            reason = "유지";
+        }
+        target = Math.clamp(target, sizing.minPoolSize(), sizing.maxPoolSize());
+
+        Decision decision = new Decision(Instant.now(), current, target, reason, sample);
+        if (target != current) {
+            resize(target);
+            (target > current ? scaleUpCounter : scaleDownCounter).increment();
+            log.info("풀 {} 최대 크기 변경 {} -> {} ({}, 대기 {}, 획득 {}ms, 필요 {})",
+                dataSource.getPoolName(), current, target, reason, sample.pending(),
+                String.format("%.1f", sample.acquireMillis()), sample.demand());
+            decisions.addFirst(decision);
+            if (decisions.size() > MAX_DECISIONS) {
+                decisions.removeLast();
+            }
+        }
+        return decision;
+    }
+
+    private void resize(int target) {
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        // 최소 유휴 수는 최대 크기보다 클 수 없으므로, 줄일 때는 먼저 최소 유휴 수를 낮춘다.
+        int minimumIdle = Math.min(configuredMinimumIdle, target);
+        if (target < config.getMaximumPoolSize()) {
+            config.setMinimumIdle(minimumIdle);
+            config.setMaximumPoolSize(target);
+        } else {
+            config.setMaximumPoolSize(target);
+            config.setMinimumIdle(minimumIdle);
+        }
+    }
+
+    private Sample sample() {
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max((now - lastSampledNanos) / 1e9, 1e-3);
+        lastSampledNanos = now;
+
+        TimerWindow acquire = TimerWindow.of(timer(ACQUIRE_TIMER));
+        TimerWindow usage = TimerWindow.of(timer(USAGE_TIMER));
+        double acquireMillis = acquire.meanMillisSince(acquireWindow);
+        double usageMillis = usage.meanMillisSince(usageWindow);
+        double throughput = (usage.count() - usageWindow.count()) / elapsedSeconds;
+        acquireWindow = acquire;
+        usageWindow = usage;
+
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        int pending = pool != null ? pool.getThreadsAwaitingConnection() : 0;
+        int active = pool != null ? pool.getActiveConnections() : 0;
+        int demand = (int) Math.ceil(throughput * usageMillis / 1000 * HEADROOM);
+        return new Sample(pending, active, acquireMillis, usageMillis, throughput, demand);
+    }
+
+    private Timer timer(String name) {
+        return meterRegistry.find(name).tag("pool", dataSource.getPoolName()).timer();
+    }
+
+    public record Sample(int pending, int active, double acquireMillis, double usageMillis, double throughput, int demand) { }
+
+    public record Decision(Instant at, int from, int to, String reason, Sample sample) { }
+
+    /**
+     * Hikari 의 Timer 는 누적값만 제공하므로, 직전 측정값과의 차이로 구간 평균을 구한다.
+     */
+    private record TimerWindow(long count, double totalMillis) {
+        static final TimerWindow EMPTY = new TimerWindow(0, 0);
+
+        static TimerWindow of(Timer timer) {
+            return timer != null ? new TimerWindow(timer.count(), timer.totalTime(TimeUnit.MILLISECONDS)) : EMPTY;
+        }
+
+        double meanMillisSince(TimerWindow previous) {
+            long count = this.count - previous.count;
+            return count > 0 ? (totalMillis - previous.totalMillis) / count : 0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.loopers.config.jpa;
+
+/**
+ * 현재 스레드가 처리 중인 작업(예: API 엔드포인트)의 이름을 보관해, 커넥션 점유 시간 지표의 태그로 사용한다.
+ */
+public final class ConnectionHoldTimeContext {
+    public static final String UNKNOWN = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ConnectionHoldTimeContext() {}
+
+    public static void set(String name) {
+        CURRENT.set(name);
+    }
+
+    public static String get() {
+        String name = CURRENT.get();
+        return name != null ? name : UNKNOWN;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
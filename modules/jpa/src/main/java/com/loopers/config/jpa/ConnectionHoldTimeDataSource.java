@@ -0,0 +1,66 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션을 풀에서 꺼낸 시점부터 반납(close)할 때까지의 시간을 {@code jdbc.connections.hold} 히스토그램으로 기록한다.
+ * 태그는 {@link ConnectionHoldTimeContext} 에 설정된 작업 이름과 커넥션을 내어준 대상(main, replica 등)을 사용한다.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+    private static final String METRIC_NAME = "jdbc.connections.hold";
+
+    private final String target;
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, String target, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.target = target;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        String endpoint = ConnectionHoldTimeContext.get();
+        long acquiredAt = System.nanoTime();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && !connection.isClosed()) {
+                    timer(endpoint).record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+        );
+    }
+
+    private Timer timer(String endpoint) {
+        return Timer.builder(METRIC_NAME)
+            .tag("endpoint", endpoint)
+            .tag("target", target)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
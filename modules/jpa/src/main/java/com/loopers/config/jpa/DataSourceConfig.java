@@ -2,13 +2,24 @@ package com.loopers.config.jpa;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties(MySqlJpaProperties.class)
 class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
@@ -16,9 +27,114 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
+    /**
+     * 풀 크기 자동 조정이 커넥션 획득 지연과 사용 시간을 읽을 수 있도록 Hikari 지표를 직접 등록한다.
+     */
     @Bean
-    HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
+    HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig, MeterRegistry meterRegistry) {
+        if (hikariConfig.getMetricRegistry() == null && hikariConfig.getMetricsTrackerFactory() == null) {
+            hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
         return new HikariDataSource(hikariConfig);
     }
+
+    /**
+     * OLTP 는 main 풀을 사용하고, pools 에 설정된 작업 유형마다 별도의 풀을 만든다.
+     */
+    @Bean
+    WorkloadPools mySqlWorkloadPools(
+        @Qualifier("mySqlMainHikariConfig") HikariConfig mainHikariConfig,
+        @Qualifier("mySqlMainDataSource") HikariDataSource mySqlMainDataSource,
+        MySqlJpaProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        pools.put(WorkloadType.OLTP, mySqlMainDataSource);
+        properties.pools().forEach((workload, pool) -> {
+            if (workload == WorkloadType.OLTP) {
+                return;
+            }
+            HikariConfig hikariConfig = copyOf(mainHikariConfig, "mysql-" + workload.name().toLowerCase() + "-pool", meterRegistry);
+            if (pool.maximumPoolSize() != null) {
+                hikariConfig.setMaximumPoolSize(pool.maximumPoolSize());
+            }
+            if (pool.minimumIdle() != null) {
+                hikariConfig.setMinimumIdle(pool.minimumIdle());
+            }
+            if (pool.connectionTimeout() != null) {
+                hikariConfig.setConnectionTimeout(pool.connectionTimeout().toMillis());
+            }
+            pools.put(workload, new HikariDataSource(hikariConfig));
+        });
+        return new WorkloadPools(pools, meterRegistry);
+    }
+
+    /**
+     * 복제본마다 main 풀 설정을 복사해 별도의 풀을 만든다. 각 풀의 지표는 pool 태그로 구분된다.
+     */
+    @Bean
+    ReplicaRoutingDataSource mySqlReplicaDataSource(
+        @Qualifier("mySqlMainHikariConfig") HikariConfig mainHikariConfig,
+        @Qualifier("mySqlMainDataSource") HikariDataSource mySqlMainDataSource,
+        MySqlJpaProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<MySqlJpaProperties.Replica> replicaConfigs = properties.replicas();
+        for (int i = 0; i < replicaConfigs.size(); i++) {
+            MySqlJpaProperties.Replica replica = replicaConfigs.get(i);
+            HikariConfig hikariConfig = copyOf(mainHikariConfig, "mysql-replica-pool-" + (i + 1), meterRegistry);
+            hikariConfig.setJdbcUrl(replica.jdbcUrl());
+            hikariConfig.setReadOnly(true);
+            if (replica.maximumPoolSize() != null) {
+                hikariConfig.setMaximumPoolSize(replica.maximumPoolSize());
+            }
+            if (replica.minimumIdle() != null) {
+                hikariConfig.setMinimumIdle(replica.minimumIdle());
+            }
+            replicas.add(new HikariDataSource(hikariConfig));
+        }
+        return new ReplicaRoutingDataSource(mySqlMainDataSource, replicas, properties.replicaRouting(), meterRegistry);
+    }
+
+    /**
+     * 트랜잭션이 시작될 때가 아니라 첫 쿼리를 실행할 때 커넥션을 얻는다.
+     * 그 시점에는 readOnly 여부와 작업 유형이 정해져 있으므로, 이에 맞는 풀에서 커넥션을 얻는다.
+     * 읽기 전용 OLTP 트랜잭션만 복제본으로 보내고, BULK/REPORTING 은 읽기 전용이어도 자기 풀을 사용한다.
+     */
+    @Primary
+    @Bean
+    DataSource mySqlDataSource(
+        WorkloadPools mySqlWorkloadPools,
+        ReplicaRoutingDataSource mySqlReplicaDataSource,
+        MySqlJpaProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        Map<WorkloadType, DataSource> writeTargets = new EnumMap<>(WorkloadType.class);
+        mySqlWorkloadPools.pools().forEach((workload, pool) ->
+            writeTargets.put(workload, new ConnectionHoldTimeDataSource(pool, pool.getPoolName(), meterRegistry))
+        );
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new WorkloadRoutingDataSource(writeTargets));
+
+        if (!properties.replicas().isEmpty()) {
+            Map<WorkloadType, DataSource> readTargets = new EnumMap<>(writeTargets);
+            readTargets.put(WorkloadType.OLTP, new ConnectionHoldTimeDataSource(mySqlReplicaDataSource, "replica", meterRegistry));
+            dataSource.setReadOnlyDataSource(new WorkloadRoutingDataSource(readTargets));
+        }
+        return dataSource;
+    }
+
+    @Bean
+    WorkloadAspect workloadAspect() {
+        return new WorkloadAspect();
+    }
+
+    private static HikariConfig copyOf(HikariConfig source, String poolName, MeterRegistry meterRegistry) {
+        HikariConfig hikariConfig = new HikariConfig();
+        source.copyStateTo(hikariConfig);
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setMetricRegistry(null);
+        hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return hikariConfig;
+    }
 }
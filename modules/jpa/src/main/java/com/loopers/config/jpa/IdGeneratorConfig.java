@@ -0,0 +1,17 @@
+package com.loopers.config.jpa;
+
+import com.loopers.domain.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class IdGeneratorConfig {
+    /**
+     * node-id 를 지정하지 않으면 호스트 이름에서 유도한다. 노드 간 충돌 가능성이 있으므로 운영 환경에서는 지정해야 한다.
+     */
+    @Bean
+    SnowflakeIdGenerator snowflakeIdGenerator(@Value("${datasource.mysql-jpa.id-generator.node-id:}") String nodeId) {
+        return SnowflakeIdGenerator.install(nodeId.isBlank() ? SnowflakeIdGenerator.hostNodeId() : Integer.parseInt(nodeId));
+    }
+}
@@ -0,0 +1,77 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * main 풀 외의 풀(복제본, 작업 유형별 풀) 설정과 main 풀의 크기 자동 조정 설정.
+ * 추가 풀은 main 풀 설정을 복사한 뒤 여기서 지정한 값만 덮어쓴다.
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa")
+public record MySqlJpaProperties(
+        List<Replica> replicas,
+        ReplicaRouting replicaRouting,
+        Map<WorkloadType, Pool> pools,
+        AdaptiveSizing adaptiveSizing
+) {
+    public MySqlJpaProperties {
+        replicas = replicas != null ? replicas : List.of();
+        replicaRouting = replicaRouting != null ? replicaRouting : new ReplicaRouting(null, null, 0);
+        pools = pools != null ? pools : Map.of();
+        adaptiveSizing = adaptiveSizing != null ? adaptiveSizing : new AdaptiveSizing(false, 0, 0, null, null, 0, 0);
+    }
+
+    public record Replica(
+            String jdbcUrl,
+            Integer maximumPoolSize,
+            Integer minimumIdle
+    ) { }
+
+    public record ReplicaRouting(
+            Selection selection,
+            Duration healthCheckInterval,
+            int failureThreshold
+    ) {
+        public ReplicaRouting {
+            selection = selection != null ? selection : Selection.ROUND_ROBIN;
+            healthCheckInterval = healthCheckInterval != null ? healthCheckInterval : Duration.ofSeconds(5);
+            failureThreshold = failureThreshold > 0 ? failureThreshold : 3;
+        }
+    }
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_BUSY
+    }
+
+    public record Pool(
+            Integer maximumPoolSize,
+            Integer minimumIdle,
+            Duration connectionTimeout
+    ) { }
+
+    /**
+     * @param scaleDownAfter 한가한 측정 구간이 이 횟수만큼 이어져야 줄인다. 부하가 잠깐 멈춘 사이에 줄였다 다시 늘리는 것을 막는다.
+     */
+    public record AdaptiveSizing(
+            boolean enabled,
+            int minPoolSize,
+            int maxPoolSize,
+            Duration interval,
+            Duration targetAcquireTime,
+            int step,
+            int scaleDownAfter
+    ) {
+        public AdaptiveSizing {
+            minPoolSize = minPoolSize > 0 ? minPoolSize : 1;
+            maxPoolSize = Math.max(maxPoolSize, minPoolSize);
+            interval = interval != null ? interval : Duration.ofSeconds(5);
+            targetAcquireTime = targetAcquireTime != null ? targetAcquireTime : Duration.ofMillis(10);
+            step = step > 0 ? step : 2;
+            scaleDownAfter = scaleDownAfter > 0 ? scaleDownAfter : 6;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.mysql-jpa.adaptive-sizing", name = "enabled", havingValue = "true")
+class PoolSizingConfig {
+    @Bean(initMethod = "start")
+    AdaptivePoolSizer mySqlMainPoolSizer(
+        @Qualifier("mySqlMainDataSource") HikariDataSource mySqlMainDataSource,
+        MySqlJpaProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new AdaptivePoolSizer(mySqlMainDataSource, properties.adaptiveSizing(), meterRegistry);
+    }
+
+    @Bean
+    PoolSizingEndpoint poolSizingEndpoint(AdaptivePoolSizer mySqlMainPoolSizer) {
+        return new PoolSizingEndpoint(mySqlMainPoolSizer);
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * 풀 크기 자동 조정 상태와 최근 결정(최대 20건)을 보여준다. ( GET /actuator/poolsizing )
+ */
+@Endpoint(id = "poolsizing")
+public class PoolSizingEndpoint {
+
+    private final AdaptivePoolSizer sizer;
+
+    public PoolSizingEndpoint(AdaptivePoolSizer sizer) {
+        this.sizer = sizer;
+    }
+
+    @ReadOperation
+    public PoolSizingReport report() {
+        return new PoolSizingReport(
+            sizer.poolName(),
+            sizer.maximumPoolSize(),
+            sizer.sizing().minPoolSize(),
+            sizer.sizing().maxPoolSize(),
+            sizer.decisions()
+        );
+    }
+
+    public record PoolSizingReport(
+        String pool,
+        int maximumPoolSize,
+        int lowerBound,
+        int upperBound,
+        List<AdaptivePoolSizer.Decision> decisions
+    ) { }
+}
@@ -0,0 +1,175 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 복제본 중 하나에서 꺼내준다.
+ * 주기적인 헬스 체크가 연속으로 실패한 복제본은 후보에서 제외하고, 다시 성공하면 복귀시킨다.
+ * 사용할 수 있는 복제본이 없거나 커넥션 획득에 실패하면 main 으로 대체한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource fallback;
+    private final List<Replica> replicas;
+    private final MySqlJpaProperties.ReplicaRouting routing;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(
+        DataSource fallback,
+        List<HikariDataSource> replicaDataSources,
+        MySqlJpaProperties.ReplicaRouting routing,
+        MeterRegistry meterRegistry
+    ) {
+        this.fallback = fallback;
+        this.replicas = replicaDataSources.stream().map(Replica::new).toList();
+        this.routing = routing;
+        this.fallbackCounter = Counter.builder("datasource.replica.fallback")
+            .description("복제본 대신 main 에서 읽기 커넥션을 꺼낸 횟수")
+            .register(meterRegistry);
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                .tag("pool", replica.name())
+                .register(meterRegistry);
+        }
+
+        // 복제본이 없으면 항상 main 에서 읽으므로, 헬스 체크 스레드를 띄우지 않는다.
+        this.healthChecker = replicas.isEmpty() ? null : startHealthChecker(routing.healthCheckInterval().toMillis());
+    }
+
+    private ScheduledExecutorService startHealthChecker(long intervalMillis) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    private Connection route(ConnectionSupplier supplier) throws SQLException {
+        Replica replica = select();
+        if (replica != null) {
+            try {
+                return supplier.get(replica.dataSource());
+            } catch (SQLException e) {
+                log.warn("복제본 {} 에서 커넥션을 얻지 못해 main 으로 대체합니다: {}", replica.name(), e.getMessage());
+            }
+        }
+        fallbackCounter.increment();
+        return supplier.get(fallback);
+    }
+
+    private Replica select() {
+        List<Replica> candidates = replicas.stream().filter(replica -> replica.healthy).toList();
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return switch (routing.selection()) {
+            case ROUND_ROBIN -> candidates.get(Math.floorMod(cursor.getAndIncrement(), candidates.size()));
+            case LEAST_BUSY -> candidates.stream().min(Comparator.comparingInt(Replica::load)).orElseThrow();
+        };
+    }
+
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            if (replica.isSaturated()) {
+                // 풀이 모두 사용 중이면 커넥션을 얻지 못하는 것이 장애 때문은 아니므로 판정을 미룬다.
+                continue;
+            }
+            boolean valid;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                valid = false;
+            }
+            replica.record(valid, routing.failureThreshold());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+        private int consecutiveFailures;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        String name() {
+            return dataSource.getPoolName();
+        }
+
+        int load() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() + pool.getThreadsAwaitingConnection() : 0;
+        }
+
+        boolean isSaturated() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null && pool.getIdleConnections() == 0 && pool.getThreadsAwaitingConnection() > 0;
+        }
+
+        void record(boolean valid, int failureThreshold) {
+            if (valid) {
+                if (!healthy) {
+                    log.info("복제본 {} 이(가) 복구되어 읽기 대상에 다시 포함합니다.", name());
+                }
+                consecutiveFailures = 0;
+                healthy = true;
+                return;
+            }
+            if (++consecutiveFailures >= failureThreshold && healthy) {
+                log.warn("복제본 {} 의 헬스 체크가 {}회 연속 실패해 읽기 대상에서 제외합니다.", name(), consecutiveFailures);
+                healthy = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.config.jpa;
+
+import java.util.function.Consumer;
+
+/**
+ * 2차 캐시 무효화 메시지를 다른 노드에 전달한다. 등록된 구현이 없으면 무효화는 현재 노드에만 적용된다.
+ */
+public interface SecondLevelCacheBroadcaster {
+
+    void publish(String message);
+
+    void subscribe(Consumer<String> listener);
+}
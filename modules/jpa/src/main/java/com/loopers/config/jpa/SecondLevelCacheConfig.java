@@ -0,0 +1,19 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class SecondLevelCacheConfig {
+    @Bean
+    SecondLevelCacheInvalidator secondLevelCacheInvalidator(
+        EntityManagerFactory entityManagerFactory,
+        ObjectProvider<SecondLevelCacheBroadcaster> broadcaster,
+        MeterRegistry meterRegistry
+    ) {
+        return new SecondLevelCacheInvalidator(entityManagerFactory, broadcaster.getIfAvailable(), meterRegistry);
+    }
+}
@@ -0,0 +1,211 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.UUID;
+
+/**
+ * 2차 캐시는 노드마다 따로 있으므로, 한 노드에서 커밋된 변경을 다른 노드의 캐시에서 지운다.
+ * <ul>
+ *     <li>엔티티 UPDATE/DELETE 가 커밋되면 해당 엔티티를 지우라는 메시지를 보낸다.</li>
+ *     <li>네이티브 UPDATE 처럼 Hibernate 를 거치지 않고 바꾼 행은 {@link #evict(Class, Object)} 로 그 엔티티만 지운다.</li>
+ *     <li>JPQL 벌크 UPDATE 처럼 Hibernate 가 어떤 엔티티가 바뀌었는지 모르는 변경은 {@link #evictAll(Class)} 로 영역 전체를 지운다.</li>
+ * </ul>
+ * 리전별 조회/적재/제거 수와 크기는 Micrometer 로 내보낸다. 적중률은 hibernate-micrometer 의 hibernate.* 지표로 확인한다.
+ */
+@Slf4j
+public class SecondLevelCacheInvalidator implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String SEPARATOR = "\t";
+    private static final String ALL = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SessionFactoryImplementor sessionFactory;
+    private final SecondLevelCacheBroadcaster broadcaster;
+    private final boolean enabled;
+
+    public SecondLevelCacheInvalidator(
+        EntityManagerFactory entityManagerFactory,
+        SecondLevelCacheBroadcaster broadcaster,
+        MeterRegistry meterRegistry
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.broadcaster = broadcaster;
+        this.enabled = sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled();
+        if (!enabled) {
+            return;
+        }
+
+        registerMetrics(meterRegistry);
+        if (broadcaster != null) {
+            EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+            listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+            broadcaster.subscribe(this::onMessage);
+        }
+    }
+
+    /**
+     * 엔티티 영역과 natural id 영역을 모두 지운다. 트랜잭션 안에서 호출하면 커밋 후에 지운다.
+     */
+    public void evictAll(Class<?> entityClass) {
+        if (!enabled) {
+            return;
+        }
+        String entityName = entityClass.getName();
+        afterCommit(() -> {
+            evictLocally(Kind.ALL, entityName, null);
+            publish(Kind.ALL, entityName, ALL);
+        });
+    }
+
+    /**
+     * 엔티티 하나의 캐시 항목만 모든 노드에서 지운다. natural id 매핑은 그대로 둔다. 트랜잭션 안에서 호출하면 커밋 후에 지운다.
+     */
+    public void evict(Class<?> entityClass, Object id) {
+        if (!enabled) {
+            return;
+        }
+        String entityName = entityClass.getName();
+        afterCommit(() -> {
+            evictLocally(Kind.UPDATE, entityName, id);
+            publish(Kind.UPDATE, entityName, String.valueOf(id));
+        });
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        // 커밋 전에 지우면, 다른 요청이 커밋되지 않은 이전 값을 다시 캐시할 수 있다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(Kind.UPDATE, event.getPersister().getEntityName(), String.valueOf(event.getId()));
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(Kind.DELETE, event.getPersister().getEntityName(), String.valueOf(event.getId()));
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void publish(Kind kind, String entityName, String id) {
+        if (broadcaster == null) {
+            return;
+        }
+        try {
+            broadcaster.publish(String.join(SEPARATOR, nodeId, kind.name(), entityName, id));
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 커밋된 변경을 되돌릴 수는 없으므로, 다른 노드는 캐시 만료에 맡긴다.
+            log.warn("2차 캐시 무효화 전파에 실패했습니다 ({} {}): {}", entityName, id, e.getMessage());
+        }
+    }
+
+    private void onMessage(String message) {
+        String[] parts = message.split(SEPARATOR, 4);
+        if (parts.length != 4 || parts[0].equals(nodeId)) {
+            return;
+        }
+        Kind kind = Kind.valueOf(parts[1]);
+        String entityName = parts[2];
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityName);
+        if (persister == null) {
+            return;
+        }
+        evictLocally(kind, entityName, kind == Kind.ALL ? null : identifierOf(persister, parts[3]));
+    }
+
+    private void evictLocally(Kind kind, String entityName, Object id) {
+        org.hibernate.Cache cache = sessionFactory.getCache();
+        if (id == null) {
+            cache.evictEntityData(entityName);
+            cache.evictNaturalIdData(entityName);
+            return;
+        }
+        cache.evictEntityData(entityName, id);
+        if (kind == Kind.DELETE) {
+            // natural id -> id 매핑은 UPDATE 로 바뀌지 않지만, 삭제된 엔티티를 가리키는 매핑은 지워야 한다.
+            cache.evictNaturalIdData(entityName);
+        }
+    }
+
+    /**
+     * 식별자 타입을 알 수 없으면 null 을 돌려주어 영역 전체를 지운다.
+     */
+    private static Object identifierOf(EntityPersister persister, String value) {
+        Class<?> type = persister.getIdentifierType().getReturnedClass();
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == String.class) {
+            return value;
+        }
+        return null;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        if (!(sessionFactory.getCache().getRegionFactory() instanceof JCacheRegionFactory regionFactory)) {
+            return;
+        }
+        CacheManager cacheManager = regionFactory.getCacheManager();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = cacheManager.getCache(name);
+            JCacheMetrics.monitor(meterRegistry, cache);
+            Gauge.builder("hibernate.cache.region.size", cache, SecondLevelCacheInvalidator::estimatedSize)
+                .description("2차 캐시 리전에 적재된 항목 수 (추정)")
+                .tag("region", name)
+                .register(meterRegistry);
+        }
+    }
+
+    private static long estimatedSize(Cache<Object, Object> cache) {
+        return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+    }
+
+    private enum Kind {
+        UPDATE,
+        DELETE,
+        ALL
+    }
+}
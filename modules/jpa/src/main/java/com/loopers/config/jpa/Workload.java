@@ -0,0 +1,18 @@
+package com.loopers.config.jpa;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드(또는 클래스의 모든 메서드)가 실행되는 동안 얻는 커넥션을 지정한 작업 유형의 풀에서 꺼낸다.
+ * 이미 진행 중인 트랜잭션에 참여하는 경우에는 그 트랜잭션의 커넥션을 그대로 사용한다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Workload {
+    WorkloadType value();
+}
@@ -0,0 +1,36 @@
+package com.loopers.config.jpa;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 트랜잭션 어드바이스보다 바깥에서 실행되어, 커밋 시점의 flush 까지 같은 작업 유형이 유지되도록 한다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    @Around("@annotation(com.loopers.config.jpa.Workload) || @within(com.loopers.config.jpa.Workload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        WorkloadType previous = WorkloadContext.set(resolve(joinPoint).value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private static Workload resolve(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Workload.class);
+        if (workload != null) {
+            return workload;
+        }
+        return AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+    }
+}
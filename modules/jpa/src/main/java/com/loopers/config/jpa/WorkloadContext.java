@@ -0,0 +1,32 @@
+package com.loopers.config.jpa;
+
+/**
+ * 현재 스레드의 작업 유형. 지정되지 않았으면 {@link WorkloadType#OLTP} 이다.
+ */
+public final class WorkloadContext {
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {}
+
+    public static WorkloadType get() {
+        WorkloadType workload = CURRENT.get();
+        return workload != null ? workload : WorkloadType.OLTP;
+    }
+
+    /**
+     * @return 이전에 지정되어 있던 작업 유형 (없으면 null). {@link #restore(WorkloadType)} 에 넘겨 되돌린다.
+     */
+    public static WorkloadType set(WorkloadType workload) {
+        WorkloadType previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(WorkloadType previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
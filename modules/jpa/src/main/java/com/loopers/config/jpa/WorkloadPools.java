@@ -0,0 +1,50 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 작업 유형별 풀. OLTP 는 main 풀이며, 나머지 풀의 생명주기는 이 객체가 관리한다.
+ * 풀마다 포화도((사용 중 + 대기 중) / 최대 크기)를 {@code datasource.pool.saturation} 으로 내보낸다.
+ */
+public class WorkloadPools implements AutoCloseable {
+
+    private final Map<WorkloadType, HikariDataSource> pools;
+
+    public WorkloadPools(Map<WorkloadType, HikariDataSource> pools, MeterRegistry meterRegistry) {
+        this.pools = Collections.unmodifiableMap(new EnumMap<>(pools));
+        this.pools.forEach((workload, pool) ->
+            Gauge.builder("datasource.pool.saturation", pool, WorkloadPools::saturation)
+                .tag("pool", pool.getPoolName())
+                .tag("workload", workload.name().toLowerCase())
+                .register(meterRegistry)
+        );
+    }
+
+    public Map<WorkloadType, HikariDataSource> pools() {
+        return pools;
+    }
+
+    @Override
+    public void close() {
+        pools.forEach((workload, pool) -> {
+            if (workload != WorkloadType.OLTP) {
+                pool.close();
+            }
+        });
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null) {
+            return 0;
+        }
+        return (double) (mxBean.getActiveConnections() + mxBean.getThreadsAwaitingConnection()) / pool.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.config.jpa;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link WorkloadContext} 의 작업 유형에 해당하는 풀로 커넥션 요청을 보낸다. 풀이 따로 없는 유형은 OLTP 풀을 사용한다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public WorkloadRoutingDataSource(Map<WorkloadType, DataSource> targets) {
+        setTargetDataSources(new HashMap<>(targets));
+        setDefaultTargetDataSource(targets.get(WorkloadType.OLTP));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.get();
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.config.jpa;
+
+/**
+ * 커넥션 풀을 나누는 작업 유형. 유형마다 별도의 풀을 사용해, 한 유형의 작업이 다른 유형의 커넥션을 고갈시키지 못하게 한다.
+ */
+public enum WorkloadType {
+    /** 사용자 요청을 처리하는 짧은 쿼리. main 풀을 사용한다. */
+    OLTP,
+    /** 대량 INSERT/UPDATE, 전체 스캔 등 오래 걸리는 쓰기 작업 */
+    BULK,
+    /** 집계, 리포트 등 오래 걸리는 조회 작업 */
+    REPORTING
+}
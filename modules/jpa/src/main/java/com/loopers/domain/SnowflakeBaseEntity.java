@@ -0,0 +1,19 @@
+package com.loopers.domain;
+
+import com.loopers.domain.id.SnowflakeId;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 애플리케이션에서 시간 순으로 정렬되는 64비트 id 를 발급한다.
+ * INSERT 전에 id 가 정해지므로 hibernate.jdbc.batch_size 에 따라 INSERT 가 배치로 전송된다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class SnowflakeBaseEntity extends BaseTimeEntity {
+
+    @Id
+    @SnowflakeId
+    private final Long id = 0L;
+}
@@ -0,0 +1,120 @@
+package com.loopers.domain.id;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 41비트 타임스탬프(ms) + 10비트 노드 id + 12비트 시퀀스로 구성된 64비트 id 를 발급한다.
+ * 노드마다 밀리초당 4096개까지 발급하며, 같은 노드에서 발급한 id 는 단조 증가한다.
+ * 노드 id 가 겹치면 id 가 중복될 수 있으므로, 운영 환경에서는 노드 id 를 명시적으로 지정한다.
+ */
+public class SnowflakeIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_BACKWARD_MILLIS = 5L;
+
+    private static volatile SnowflakeIdGenerator shared;
+
+    private final int nodeId;
+    private final LongSupplier clock;
+    private long lastMillis = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 id 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 애플리케이션 전역에서 사용할 발급기를 지정한다. 같은 노드 id 로 다시 지정하면 기존 발급기를 유지한다.
+     */
+    public static synchronized SnowflakeIdGenerator install(int nodeId) {
+        if (shared == null || shared.nodeId != nodeId) {
+            shared = new SnowflakeIdGenerator(nodeId);
+        }
+        return shared;
+    }
+
+    /**
+     * 지정된 발급기가 없으면 호스트 이름에서 노드 id 를 유도해 만든다.
+     */
+    public static SnowflakeIdGenerator shared() {
+        SnowflakeIdGenerator generator = shared;
+        return generator != null ? generator : install(hostNodeId());
+    }
+
+    public static int hostNodeId() {
+        String hostName = System.getenv("HOSTNAME");
+        if (hostName == null || hostName.isBlank()) {
+            try {
+                hostName = InetAddress.getLocalHost().getHostName();
+            } catch (UnknownHostException e) {
+                hostName = "localhost";
+            }
+        }
+        return Math.floorMod(hostName.hashCode(), MAX_NODE_ID + 1);
+    }
+
+    public int nodeId() {
+        return nodeId;
+    }
+
+    public synchronized long nextId() {
+        long now = currentMillis();
+
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                now = awaitNextMillis(lastMillis);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+
+        return ((now - EPOCH_MILLIS) << (NODE_ID_BITS + SEQUENCE_BITS))
+            | ((long) nodeId << SEQUENCE_BITS)
+            | sequence;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * 시계가 조금(NTP 보정 등) 뒤로 가면 따라잡을 때까지 기다리고, 크게 뒤로 가면 중복을 막기 위해 발급을 거부한다.
+     */
+    private long currentMillis() {
+        long now = clock.getAsLong();
+        if (now >= lastMillis) {
+            return now;
+        }
+        if (lastMillis - now > MAX_BACKWARD_MILLIS) {
+            throw new IllegalStateException("시스템 시계가 " + (lastMillis - now) + "ms 뒤로 이동해 id 를 발급할 수 없습니다.");
+        }
+        return awaitNextMillis(lastMillis - 1);
+    }
+
+    private long awaitNextMillis(long millis) {
+        long now = clock.getAsLong();
+        while (now <= millis) {
+            LockSupport.parkNanos(100_000L);
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+}
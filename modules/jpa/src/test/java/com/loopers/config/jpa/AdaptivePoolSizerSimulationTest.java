@@ -0,0 +1,149 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 실제 MySQL 에 몰리는 요청과 한가한 구간을 흉내 내, 풀 크기가 부하를 따라 늘었다가 줄어드는지 확인한다.
+ * 조정 주기는 테스트가 직접 {@link AdaptivePoolSizer#adjust()} 를 호출해 제어한다.
+ */
+class AdaptivePoolSizerSimulationTest {
+
+    private static final int CLIENTS = 24;
+    private static final MySQLContainer<?> mySqlContainer = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+        .withDatabaseName("loopers")
+        .withUsername("test")
+        .withPassword("test");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HikariDataSource dataSource;
+    private AdaptivePoolSizer sizer;
+
+    @BeforeAll
+    static void startContainer() {
+        mySqlContainer.start();
+    }
+
+    @AfterAll
+    static void stopContainer() {
+        mySqlContainer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(mySqlContainer.getJdbcUrl());
+        config.setUsername(mySqlContainer.getUsername());
+        config.setPassword(mySqlContainer.getPassword());
+        config.setPoolName("simulation-pool");
+        config.setMaximumPoolSize(2);
+        config.setMinimumIdle(2);
+        config.setConnectionTimeout(5_000);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        dataSource = new HikariDataSource(config);
+
+        sizer = new AdaptivePoolSizer(
+            dataSource,
+            new MySqlJpaProperties.AdaptiveSizing(true, 2, 16, Duration.ofMillis(200), Duration.ofMillis(50), 4, 3),
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        sizer.close();
+        dataSource.close();
+    }
+
+    @DisplayName("요청이 몰리면 상한까지 늘리고, 한가해지면 하한까지 줄인다.")
+    @Test
+    void followsLoad_withinBounds() throws InterruptedException {
+        // arrange
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.submit(() -> {
+                while (running.get()) {
+                    query("select sleep(0.05)");
+                }
+            });
+        }
+
+        // act - 부하 구간
+        int peak = 0;
+        for (int i = 0; i < 10; i++) {
+            Thread.sleep(200);
+            sizer.adjust();
+            peak = Math.max(peak, sizer.maximumPoolSize());
+        }
+        int totalUnderLoad = dataSource.getHikariPoolMXBean().getTotalConnections();
+
+        running.set(false);
+        clients.shutdown();
+        clients.awaitTermination(10, TimeUnit.SECONDS);
+
+        // act - 한가한 구간
+        for (int i = 0; i < 30 && sizer.maximumPoolSize() > 2; i++) {
+            Thread.sleep(100);
+            sizer.adjust();
+        }
+
+        // assert
+        assertAll(
+            () -> assertThat(peak).isEqualTo(16),
+            () -> assertThat(totalUnderLoad).isGreaterThan(2),
+            () -> assertThat(sizer.maximumPoolSize()).isEqualTo(2),
+            () -> assertThat(dataSource.getMinimumIdle()).isEqualTo(2),
+            () -> assertThat(meterRegistry.get("datasource.pool.adaptive.resizes").tag("direction", "up").counter().count()).isPositive(),
+            () -> assertThat(meterRegistry.get("datasource.pool.adaptive.resizes").tag("direction", "down").counter().count()).isPositive(),
+            () -> assertThat(sizer.decisions()).isNotEmpty()
+        );
+    }
+
+    @DisplayName("대기 없이 처리되는 부하에서는 크기를 바꾸지 않는다.")
+    @Test
+    void keepsSize_whenNoOneWaits() throws InterruptedException {
+        // act
+        for (int i = 0; i < 5; i++) {
+            query("select 1");
+            Thread.sleep(50);
+            sizer.adjust();
+        }
+
+        // assert
+        assertAll(
+            () -> assertThat(sizer.maximumPoolSize()).isEqualTo(2),
+            () -> assertThat(sizer.decisions()).isEmpty()
+        );
+    }
+
+    private void query(String sql) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource main = mock(DataSource.class);
+    private final Connection mainConnection = mock(Connection.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    private ReplicaRoutingDataSource routing(MySqlJpaProperties.Selection selection, HikariDataSource... replicas) throws SQLException {
+        when(main.getConnection()).thenReturn(mainConnection);
+        routingDataSource = new ReplicaRoutingDataSource(
+            main,
+            List.of(replicas),
+            new MySqlJpaProperties.ReplicaRouting(selection, Duration.ofHours(1), 2),
+            meterRegistry
+        );
+        return routingDataSource;
+    }
+
+    private static HikariDataSource replica(String poolName, Connection connection) throws SQLException {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getPoolName()).thenReturn(poolName);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    @DisplayName("round-robin 으로 선택할 때,")
+    @Nested
+    class RoundRobin {
+
+        @DisplayName("정상 복제본들에서 번갈아 커넥션을 꺼낸다.")
+        @Test
+        void alternatesBetweenReplicas() throws SQLException {
+            // given
+            Connection first = mock(Connection.class);
+            Connection second = mock(Connection.class);
+            ReplicaRoutingDataSource dataSource = routing(
+                MySqlJpaProperties.Selection.ROUND_ROBIN,
+                replica("replica-1", first),
+                replica("replica-2", second)
+            );
+
+            // when & then
+            assertAll(
+                () -> assertThat(dataSource.getConnection()).isSameAs(first),
+                () -> assertThat(dataSource.getConnection()).isSameAs(second),
+                () -> assertThat(dataSource.getConnection()).isSameAs(first)
+            );
+        }
+    }
+
+    @DisplayName("헬스 체크가 실패할 때,")
+    @Nested
+    class HealthCheck {
+
+        @DisplayName("연속 실패 횟수가 기준에 도달한 복제본은 제외하고, 남은 복제본이 없으면 main 으로 대체한다.")
+        @Test
+        void ejectsUnhealthyReplicaAndFallsBackToMain() throws SQLException {
+            // given
+            Connection broken = mock(Connection.class);
+            when(broken.isValid(1)).thenReturn(false);
+            ReplicaRoutingDataSource dataSource = routing(MySqlJpaProperties.Selection.ROUND_ROBIN, replica("replica-1", broken));
+
+            // when
+            dataSource.checkHealth();
+            Connection beforeEjection = dataSource.getConnection();
+            dataSource.checkHealth();
+            Connection afterEjection = dataSource.getConnection();
+
+            // then
+            assertAll(
+                () -> assertThat(beforeEjection).isSameAs(broken),
+                () -> assertThat(afterEjection).isSameAs(mainConnection),
+                () -> assertThat(meterRegistry.get("datasource.replica.healthy").tag("pool", "replica-1").gauge().value()).isZero(),
+                () -> assertThat(meterRegistry.get("datasource.replica.fallback").counter().count()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("제외된 복제본의 헬스 체크가 다시 성공하면, 읽기 대상에 복귀한다.")
+        @Test
+        void readmitsRecoveredReplica() throws SQLException {
+            // given
+            Connection flaky = mock(Connection.class);
+            when(flaky.isValid(1)).thenReturn(false, false, true);
+            ReplicaRoutingDataSource dataSource = routing(MySqlJpaProperties.Selection.ROUND_ROBIN, replica("replica-1", flaky));
+            dataSource.checkHealth();
+            dataSource.checkHealth();
+
+            // when
+            dataSource.checkHealth();
+
+            // then
+            assertThat(dataSource.getConnection()).isSameAs(flaky);
+        }
+    }
+    @DisplayName("계정을 지정해 커넥션을 요청할 때,")
+    @Nested
+    class WithCredentials {
+
+        @DisplayName("선택한 복제본에 같은 계정으로 위임한다.")
+        @Test
+        void delegatesToSelectedReplica() throws SQLException {
+            // given
+            Connection connection = mock(Connection.class);
+            HikariDataSource replica = replica("replica-1", mock(Connection.class));
+            when(replica.getConnection("reader", "secret")).thenReturn(connection);
+            ReplicaRoutingDataSource dataSource = routing(MySqlJpaProperties.Selection.ROUND_ROBIN, replica);
+
+            // when
+            Connection actual = dataSource.getConnection("reader", "secret");
+
+            // then
+            assertThat(actual).isSameAs(connection);
+        }
+
+        @DisplayName("복제본이 없으면, main 에 같은 계정으로 위임한다.")
+        @Test
+        void delegatesToMain_whenNoReplicas() throws SQLException {
+            // given
+            Connection connection = mock(Connection.class);
+            when(main.getConnection("reader", "secret")).thenReturn(connection);
+            ReplicaRoutingDataSource dataSource = routing(MySqlJpaProperties.Selection.ROUND_ROBIN);
+
+            // when
+            Connection actual = dataSource.getConnection("reader", "secret");
+
+            // then
+            assertThat(actual).isSameAs(connection);
+        }
+    }
+}
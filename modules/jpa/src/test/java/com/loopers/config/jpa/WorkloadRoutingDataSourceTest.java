@@ -0,0 +1,96 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WorkloadRoutingDataSourceTest {
+
+    private final DataSource oltp = mock(DataSource.class);
+    private final DataSource bulk = mock(DataSource.class);
+    private final Connection oltpConnection = mock(Connection.class);
+    private final Connection bulkConnection = mock(Connection.class);
+
+    @AfterEach
+    void tearDown() {
+        WorkloadContext.restore(null);
+    }
+
+    private WorkloadRoutingDataSource routing() throws SQLException {
+        when(oltp.getConnection()).thenReturn(oltpConnection);
+        when(bulk.getConnection()).thenReturn(bulkConnection);
+        return new WorkloadRoutingDataSource(Map.of(WorkloadType.OLTP, oltp, WorkloadType.BULK, bulk));
+    }
+
+    @DisplayName("커넥션을 얻을 때, ")
+    @Nested
+    class GetConnection {
+
+        @DisplayName("작업 유형이 지정되지 않았으면, OLTP 풀에서 얻는다.")
+        @Test
+        void usesOltpPool_whenWorkloadIsNotSet() throws SQLException {
+            // arrange
+            WorkloadRoutingDataSource dataSource = routing();
+
+            // act
+            Connection connection = dataSource.getConnection();
+
+            // assert
+            assertThat(connection).isSameAs(oltpConnection);
+        }
+
+        @DisplayName("BULK 로 지정되어 있으면, BULK 풀에서 얻는다.")
+        @Test
+        void usesBulkPool_whenWorkloadIsBulk() throws SQLException {
+            // arrange
+            WorkloadRoutingDataSource dataSource = routing();
+            WorkloadContext.set(WorkloadType.BULK);
+
+            // act
+            Connection connection = dataSource.getConnection();
+
+            // assert
+            assertThat(connection).isSameAs(bulkConnection);
+        }
+
+        @DisplayName("별도 풀이 없는 유형으로 지정되어 있으면, OLTP 풀에서 얻는다.")
+        @Test
+        void fallsBackToOltpPool_whenWorkloadHasNoPool() throws SQLException {
+            // arrange
+            WorkloadRoutingDataSource dataSource = routing();
+            WorkloadContext.set(WorkloadType.REPORTING);
+
+            // act
+            Connection connection = dataSource.getConnection();
+
+            // assert
+            assertThat(connection).isSameAs(oltpConnection);
+        }
+    }
+
+    @DisplayName("중첩된 구간을 벗어나면, 바깥 구간의 작업 유형으로 되돌아간다.")
+    @Test
+    void restoresOuterWorkload_afterNestedScope() {
+        // arrange
+        WorkloadType outer = WorkloadContext.set(WorkloadType.REPORTING);
+
+        // act
+        WorkloadType inner = WorkloadContext.set(WorkloadType.BULK);
+        WorkloadContext.restore(inner);
+
+        // assert
+        assertThat(WorkloadContext.get()).isEqualTo(WorkloadType.REPORTING);
+        WorkloadContext.restore(outer);
+        assertThat(WorkloadContext.get()).isEqualTo(WorkloadType.OLTP);
+    }
+}
@@ -0,0 +1,122 @@
+package com.loopers.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    @DisplayName("id 를 발급할 때,")
+    @Nested
+    class NextId {
+
+        @DisplayName("타임스탬프, 노드 id, 시퀀스가 각 비트 영역에 담긴다.")
+        @Test
+        void encodesTimestampNodeAndSequence() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(513, () -> NOW);
+
+            // when
+            long first = generator.nextId();
+            long second = generator.nextId();
+
+            // then
+            assertAll(
+                () -> assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(Instant.ofEpochMilli(NOW)),
+                () -> assertThat((first >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(513),
+                () -> assertThat(first & 0xFFF).isZero(),
+                () -> assertThat(second - first).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("같은 밀리초의 시퀀스를 모두 쓰면, 다음 밀리초까지 기다렸다가 발급한다.")
+        @Test
+        void waitsForNextMillisWhenSequenceExhausted() {
+            // given
+            AtomicLong reads = new AtomicLong();
+            // 4097번째 발급 요청까지는 같은 밀리초를, 그 이후에는 다음 밀리초를 돌려준다.
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> reads.incrementAndGet() <= 4097 ? NOW : NOW + 1);
+            for (int i = 0; i < 4096; i++) {
+                generator.nextId();
+            }
+
+            // when
+            long id = generator.nextId();
+
+            // then
+            assertAll(
+                () -> assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW + 1)),
+                () -> assertThat(id & 0xFFF).isZero()
+            );
+        }
+
+        @DisplayName("여러 스레드에서 동시에 발급해도, 중복 없이 발급된다.")
+        @Test
+        void uniqueUnderConcurrency() throws Exception {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(ids).hasSize(80_000);
+        }
+    }
+
+    @DisplayName("시스템 시계가 뒤로 이동했을 때,")
+    @Nested
+    class ClockMovedBackwards {
+
+        @DisplayName("허용 범위를 넘어 뒤로 이동하면, 중복을 막기 위해 예외가 발생한다.")
+        @Test
+        void failWhenClockMovesBackTooFar() {
+            // given
+            AtomicLong clock = new AtomicLong(NOW);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+            generator.nextId();
+            clock.set(NOW - 1_000);
+
+            // when & then
+            assertThrows(IllegalStateException.class, generator::nextId);
+        }
+    }
+
+    @DisplayName("노드 id 가 0 ~ 1023 범위를 벗어나면, 예외가 발생한다.")
+    @Test
+    void failWithOutOfRangeNodeId() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024))
+        );
+    }
+}
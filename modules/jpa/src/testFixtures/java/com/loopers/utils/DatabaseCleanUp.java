@@ -37,5 +37,7 @@ public class DatabaseCleanUp implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 1").executeUpdate();
+        // TRUNCATE 는 2차 캐시에 반영되지 않으므로, 지워진 행이 캐시에서 조회되지 않도록 함께 비운다.
+        entityManager.getEntityManagerFactory().getCache().evictAll();
     }
 }
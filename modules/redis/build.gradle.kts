@@ -5,6 +5,21 @@ plugins {
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    // near cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
+    // resilience
+    implementation("io.github.resilience4j:resilience4j-circuitbreaker:${project.properties["resilience4jVersion"]}")
+    implementation("io.github.resilience4j:resilience4j-micrometer:${project.properties["resilience4jVersion"]}")
+    // value codec
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("at.yawk.lz4:lz4-java:${project.properties["lz4JavaVersion"]}")
+    implementation("com.github.luben:zstd-jni:${project.properties["zstdJniVersion"]}")
+    // hot key endpoint
+    implementation("org.springframework.boot:spring-boot-actuator")
+
+    testImplementation("com.redis:testcontainers-redis")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
@@ -0,0 +1,135 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드에서 동시에 들어온 명령을 짧은 window 동안 모아 파이프라인 하나로 보낸다.
+ * 첫 명령이 들어온 뒤 window 가 지나거나 max-batch-size 개가 모이면 보내므로, 각 명령은 최대 window 만큼 늦게 출발하는 대신
+ * 동시 요청이 많을수록 왕복 횟수가 줄어든다. 한가할 때는 window 만큼의 지연만 늘어나므로, window 는 Redis 왕복 시간보다 짧게 둔다.
+ */
+@Slf4j
+public class AutoBatchingRedisCommands implements RedisBatchCommands, AutoCloseable {
+
+    private final RedisPipelineExecutor executor;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService flusher = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter windowFlushCounter;
+    private final Counter sizeFlushCounter;
+
+    private List<PendingRedisCommand<?>> pending = new ArrayList<>();
+    private long windowId;
+
+    public AutoBatchingRedisCommands(RedisPipelineExecutor executor, Duration window, int maxBatchSize, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-auto-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.windowFlushCounter = Counter.builder("redis.auto_batch.flushes").tag("trigger", "window").register(meterRegistry);
+        this.sizeFlushCounter = Counter.builder("redis.auto_batch.flushes").tag("trigger", "size").register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<String> get(String key) {
+        return enqueue(PendingRedisCommand.get(key));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> multiGet(Collection<String> keys) {
+        return enqueue(PendingRedisCommand.multiGet(keys));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> hashGetAll(String key) {
+        return enqueue(PendingRedisCommand.hashGetAll(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> set(String key, String value, Duration ttl) {
+        return enqueue(PendingRedisCommand.set(key, value, ttl));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> zAdd(String key, String member, double score) {
+        return enqueue(PendingRedisCommand.zAdd(key, member, score));
+    }
+
+    @Override
+    public void close() {
+        List<PendingRedisCommand<?>> remaining;
+        synchronized (this) {
+            remaining = pending;
+            pending = new ArrayList<>();
+        }
+        scheduler.shutdownNow();
+        if (!remaining.isEmpty()) {
+            executor.execute(remaining);
+        }
+        flusher.shutdown();
+    }
+
+    private <T> CompletableFuture<T> enqueue(PendingRedisCommand<T> command) {
+        List<PendingRedisCommand<?>> full = null;
+        synchronized (this) {
+            pending.add(command);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new ArrayList<>();
+                windowId++;
+            } else if (pending.size() == 1) {
+                long id = windowId;
+                scheduler.schedule(() -> flushWindow(id), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            sizeFlushCounter.increment();
+            flush(full);
+        }
+        return command.result();
+    }
+
+    /**
+     * 예약된 window 가 이미 크기로 보내졌으면(id 가 바뀌었으면) 아무것도 하지 않는다.
+     */
+    private void flushWindow(long id) {
+        List<PendingRedisCommand<?>> batch;
+        synchronized (this) {
+            if (id != windowId || pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+            windowId++;
+        }
+        windowFlushCounter.increment();
+        flush(batch);
+    }
+
+    private void flush(List<PendingRedisCommand<?>> batch) {
+        try {
+            flusher.execute(() -> executor.execute(batch));
+        } catch (RejectedExecutionException e) {
+            log.warn("종료 중이라 Redis 명령 {} 개를 보내지 못했습니다.", batch.size());
+            batch.forEach(command -> command.fail(e));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.JavaType;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 한 타입의 값을 {@link RedisValueCodec} 으로 읽고 쓴다.
+ */
+public class BinaryRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final RedisValueCodec codec;
+    private final JavaType type;
+
+    public BinaryRedisSerializer(RedisValueCodec codec, JavaType type) {
+        this.codec = codec;
+        this.type = type;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        return value != null ? codec.encode(value) : EMPTY;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return codec.decode(bytes, 0, bytes.length, type);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type.getRawClass();
+    }
+}
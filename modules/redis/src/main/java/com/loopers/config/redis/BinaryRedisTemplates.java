@@ -0,0 +1,73 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 값 타입별 RedisTemplate. 키와 해시 필드는 문자열로, 값과 해시 값은 {@link RedisValueCodec} 으로 저장한다.
+ * <pre>
+ *     RedisTemplate&lt;String, ProductSnapshot&gt; products = binaryRedisTemplates.template(ProductSnapshot.class);
+ *     RedisTemplate&lt;String, List&lt;ProductSnapshot&gt;&gt; pages = binaryRedisTemplates.template(new TypeReference&lt;&gt;() {});
+ * </pre>
+ * template 은 replica 우선으로 읽고, 방금 쓴 값을 바로 읽어야 하면 masterTemplate 을 쓴다.
+ */
+public class BinaryRedisTemplates {
+
+    private final LettuceConnectionFactory defaultConnectionFactory;
+    private final LettuceConnectionFactory masterConnectionFactory;
+    private final RedisValueCodec codec;
+    private final Map<JavaType, RedisTemplate<String, ?>> defaultTemplates = new ConcurrentHashMap<>();
+    private final Map<JavaType, RedisTemplate<String, ?>> masterTemplates = new ConcurrentHashMap<>();
+
+    public BinaryRedisTemplates(
+            LettuceConnectionFactory defaultConnectionFactory,
+            LettuceConnectionFactory masterConnectionFactory,
+            RedisValueCodec codec
+    ) {
+        this.defaultConnectionFactory = defaultConnectionFactory;
+        this.masterConnectionFactory = masterConnectionFactory;
+        this.codec = codec;
+    }
+
+    public <T> RedisTemplate<String, T> template(Class<T> type) {
+        return template(defaultTemplates, defaultConnectionFactory, codec.javaType(type));
+    }
+
+    public <T> RedisTemplate<String, T> template(TypeReference<T> type) {
+        return template(defaultTemplates, defaultConnectionFactory, codec.javaType(type.getType()));
+    }
+
+    public <T> RedisTemplate<String, T> masterTemplate(Class<T> type) {
+        return template(masterTemplates, masterConnectionFactory, codec.javaType(type));
+    }
+
+    public <T> RedisTemplate<String, T> masterTemplate(TypeReference<T> type) {
+        return template(masterTemplates, masterConnectionFactory, codec.javaType(type.getType()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> RedisTemplate<String, T> template(
+            Map<JavaType, RedisTemplate<String, ?>> templates,
+            LettuceConnectionFactory connectionFactory,
+            JavaType type
+    ) {
+        return (RedisTemplate<String, T>) templates.computeIfAbsent(type, key -> {
+            StringRedisSerializer keySerializer = new StringRedisSerializer();
+            BinaryRedisSerializer<T> valueSerializer = new BinaryRedisSerializer<>(codec, key);
+            RedisTemplate<String, T> template = new RedisTemplate<>();
+            template.setConnectionFactory(connectionFactory);
+            template.setKeySerializer(keySerializer);
+            template.setHashKeySerializer(keySerializer);
+            template.setValueSerializer(valueSerializer);
+            template.setHashValueSerializer(valueSerializer);
+            template.afterPropertiesSet();
+            return template;
+        });
+    }
+}
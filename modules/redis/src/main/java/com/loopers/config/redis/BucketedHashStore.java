@@ -0,0 +1,199 @@
+package com.loopers.config.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * id 로 정한 해시 버킷에 작은 값을 모아 저장한다. 값마다 최상위 키를 만들면 키마다 dict 항목과 객체 헤더가 들지만,
+ * listpack 으로 인코딩된 작은 해시에 모으면 항목 하나에 필드와 값 길이 정도만 든다.
+ * <ul>
+ *     <li>버킷은 id / entries-per-bucket, 필드는 id % entries-per-bucket 이다. 연속된 id 가 같은 버킷을 채우므로 버킷 크기가 고르게 유지된다.</li>
+ *     <li>값은 "만료 시각(ms, 36진수):값" 으로 저장하고, 만료가 없으면 ":값" 으로 저장한다.</li>
+ *     <li>Redis 해시 필드에는 만료가 없으므로 만료는 흉내 낸다. 만료된 필드는 읽을 때 없는 것으로 보고 지우며,
+ *     같은 버킷에 쓸 때도 함께 지운다. 버킷 키는 만료 없는 필드가 하나라도 있으면 유지되고, 아니면 가장 늦은 만료 시각에 지워진다.
+ *     버킷 키의 만료는 쓰거나 지울 때마다 남은 필드로 다시 계산한다.</li>
+ *     <li>조회가 몰리는 id 는 {@link HotKeyCache} 가 노드에 잠깐 올려 두므로, 다른 노드가 쓴 값이나 만료는 promoted-ttl 만큼 늦게 보일 수 있다.</li>
+ * </ul>
+ */
+public class BucketedHashStore {
+
+    private static final char EXPIRES_AT_SEPARATOR = ':';
+
+    /**
+     * 만료된 필드를 지우고, 남은 필드로 버킷 키의 만료를 다시 정한다.
+     * 만료 없는 필드가 하나라도 있으면 만료를 없애고, 아니면 가장 늦은 필드 만료 시각에 맞춘다. 필드가 모두 지워지면 Redis 가 키를 지운다.
+     */
+    private static final String REFRESH_EXPIRY = """
+            local function refreshExpiry(key, now)
+                local entries = redis.call('HGETALL', key)
+                local latest = 0
+                for i = 1, #entries, 2 do
+                    local separator = string.find(entries[i + 1], ':', 1, true)
+                    if separator == 1 then
+                        latest = -1
+                    elseif separator then
+                        local expiresAt = tonumber(string.sub(entries[i + 1], 1, separator - 1), 36)
+                        if expiresAt <= now then
+                            redis.call('HDEL', key, entries[i])
+                        elseif latest >= 0 and expiresAt > latest then
+                            latest = expiresAt
+                        end
+                    end
+                end
+                if latest < 0 then
+                    redis.call('PERSIST', key)
+                elseif latest > 0 then
+                    redis.call('PEXPIREAT', key, latest)
+                end
+            end
+            """;
+
+    /**
+     * KEYS[1]: 버킷, ARGV: 필드, 값, 현재 시각(ms)
+     */
+    private static final RedisScript<Long> PUT = RedisScript.of(REFRESH_EXPIRY + """
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            refreshExpiry(KEYS[1], tonumber(ARGV[3]))
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 버킷, ARGV: 현재 시각(ms), 필드, 값, 필드, 값, ...
+     */
+    private static final RedisScript<Long> PUT_ALL = RedisScript.of(REFRESH_EXPIRY + """
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            refreshExpiry(KEYS[1], tonumber(ARGV[1]))
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 버킷, ARGV: 필드, 현재 시각(ms)
+     */
+    private static final RedisScript<Long> DELETE = RedisScript.of(REFRESH_EXPIRY + """
+            local deleted = redis.call('HDEL', KEYS[1], ARGV[1])
+            refreshExpiry(KEYS[1], tonumber(ARGV[2]))
+            return deleted
+            """, Long.class);
+
+    /**
+     * 읽은 뒤 다른 노드가 새 값을 썼으면 지우지 않는다. KEYS[1]: 버킷, ARGV: 필드, 만료된 값, 현재 시각(ms)
+     */
+    private static final RedisScript<Long> DELETE_EXPIRED = RedisScript.of(REFRESH_EXPIRY + """
+            if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            refreshExpiry(KEYS[1], tonumber(ARGV[3]))
+            return 1
+            """, Long.class);
+
+    private final String namespace;
+    private final int entriesPerBucket;
+    private final int maxValueBytes;
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final HotKeyCache hotKeyCache;
+
+    public BucketedHashStore(
+            String namespace,
+            RedisHashBucketProperties properties,
+            RedisTemplate<String, String> readTemplate,
+            RedisTemplate<String, String> writeTemplate,
+            HotKeyCache hotKeyCache
+    ) {
+        this.namespace = namespace;
+        this.entriesPerBucket = properties.entriesPerBucket();
+        this.maxValueBytes = properties.maxValueBytes();
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+        this.hotKeyCache = hotKeyCache;
+    }
+
+    public Optional<String> get(long id) {
+        return hotKeyCache.read(hotKey(id), () -> read(id));
+    }
+
+    public void put(long id, String value) {
+        put(id, value, Duration.ZERO);
+    }
+
+    /**
+     * ttl 이 0 이면 만료 없이 저장한다.
+     */
+    public void put(long id, String value, Duration ttl) {
+        long now = System.currentTimeMillis();
+        String encoded = encode(value, ttl.isZero() ? 0 : now + ttl.toMillis());
+        writeTemplate.execute(PUT, List.of(bucketKey(id)), field(id), encoded, String.valueOf(now));
+        hotKeyCache.invalidate(hotKey(id));
+    }
+
+    /**
+     * 만료 없는 값을 버킷별로 한 번에 저장한다. 대량 적재에 쓴다.
+     */
+    public void putAll(Map<Long, String> values) {
+        String now = String.valueOf(System.currentTimeMillis());
+        Map<String, List<String>> buckets = new TreeMap<>();
+        values.forEach((id, value) -> {
+            List<String> fields = buckets.computeIfAbsent(bucketKey(id), key -> new ArrayList<>(List.of(now)));
+            fields.add(field(id));
+            fields.add(encode(value, 0));
+        });
+        buckets.forEach((bucket, fields) -> writeTemplate.execute(PUT_ALL, List.of(bucket), fields.toArray()));
+        values.keySet().forEach(id -> hotKeyCache.invalidate(hotKey(id)));
+    }
+
+    public boolean delete(long id) {
+        Long deleted = writeTemplate.execute(DELETE, List.of(bucketKey(id)), field(id), String.valueOf(System.currentTimeMillis()));
+        hotKeyCache.invalidate(hotKey(id));
+        return deleted != null && deleted > 0;
+    }
+
+    private Optional<String> read(long id) {
+        String bucket = bucketKey(id);
+        String field = field(id);
+        Object stored = readTemplate.opsForHash().get(bucket, field);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        String encoded = (String) stored;
+        int separator = encoded.indexOf(EXPIRES_AT_SEPARATOR);
+        if (separator > 0 && Long.parseLong(encoded, 0, separator, Character.MAX_RADIX) <= System.currentTimeMillis()) {
+            writeTemplate.execute(DELETE_EXPIRED, List.of(bucket), field, encoded, String.valueOf(System.currentTimeMillis()));
+            return Optional.empty();
+        }
+        return Optional.of(encoded.substring(separator + 1));
+    }
+
+    String bucketKey(long id) {
+        return namespace + ":" + Math.floorDiv(id, entriesPerBucket);
+    }
+
+    String field(long id) {
+        return String.valueOf(Math.floorMod(id, entriesPerBucket));
+    }
+
+    /**
+     * 버킷이 아니라 id 단위로 세고 올린다. 버킷 키와 헷갈리지 않도록 구분자를 다르게 쓴다.
+     */
+    private String hotKey(long id) {
+        return namespace + "#" + id;
+    }
+
+    private String encode(String value, long expiresAt) {
+        String encoded = (expiresAt > 0 ? Long.toString(expiresAt, Character.MAX_RADIX) : "") + EXPIRES_AT_SEPARATOR + value;
+        int bytes = encoded.getBytes(StandardCharsets.UTF_8).length;
+        if (bytes > maxValueBytes) {
+            throw new IllegalArgumentException(
+                    "값이 " + bytes + " 바이트로 버킷에 담을 수 있는 크기(" + maxValueBytes + " 바이트)를 넘습니다. 별도 키로 저장하세요.");
+        }
+        return encoded;
+    }
+}
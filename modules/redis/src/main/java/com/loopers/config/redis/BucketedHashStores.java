@@ -0,0 +1,64 @@
+package com.loopers.config.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Properties;
+
+/**
+ * 이름공간별 {@link BucketedHashStore} 를 만든다.
+ * <pre>
+ *     BucketedHashStore lastSeen = bucketedHashStores.of("member:last-seen");
+ *     lastSeen.put(memberId, "1718000000", Duration.ofDays(30));
+ * </pre>
+ */
+@Slf4j
+public class BucketedHashStores {
+
+    private final RedisHashBucketProperties properties;
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final HotKeyCache hotKeyCache;
+
+    public BucketedHashStores(
+            RedisHashBucketProperties properties,
+            RedisTemplate<String, String> readTemplate,
+            RedisTemplate<String, String> writeTemplate,
+            HotKeyCache hotKeyCache
+    ) {
+        this.properties = properties;
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+        this.hotKeyCache = hotKeyCache;
+    }
+
+    public BucketedHashStore of(String namespace) {
+        return new BucketedHashStore(namespace, properties, readTemplate, writeTemplate, hotKeyCache);
+    }
+
+    /**
+     * 버킷 크기가 서버의 listpack 한도를 넘으면 버킷이 hashtable 로 바뀌어 메모리를 아끼지 못하므로, 기동 시 경고한다.
+     * 관리형 Redis 처럼 CONFIG 가 막혀 있으면 확인하지 않는다.
+     */
+    public void verifyEncodingLimits() {
+        try {
+            Properties config = writeTemplate.execute((RedisCallback<Properties>) connection -> {
+                RedisServerCommands server = connection.serverCommands();
+                Properties limits = new Properties();
+                limits.putAll(server.getConfig("hash-max-listpack-entries"));
+                limits.putAll(server.getConfig("hash-max-listpack-value"));
+                return limits;
+            });
+            long maxEntries = Long.parseLong(config.getProperty("hash-max-listpack-entries"));
+            long maxValue = Long.parseLong(config.getProperty("hash-max-listpack-value"));
+            if (properties.entriesPerBucket() > maxEntries || properties.maxValueBytes() > maxValue) {
+                log.warn("해시 버킷 설정(entries-per-bucket={}, max-value-bytes={})이 서버의 listpack 한도(entries={}, value={})를 넘어 메모리를 아끼지 못합니다.",
+                        properties.entriesPerBucket(), properties.maxValueBytes(), maxEntries, maxValue);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Redis 해시 listpack 한도를 확인하지 못했습니다: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 조회를 replica 로 보내고, delay 안에 응답이 없거나 replica 가 실패하면 같은 조회를 master 로 한 번 더 보내 먼저 온 응답을 쓴다.
+ * AOF rewrite 처럼 replica 가 잠깐 느려지는 구간의 꼬리 지연을 master 응답 시간으로 줄이는 대신, 그만큼 master 부하가 늘어난다.
+ * <ul>
+ *     <li>delay 를 정하지 않으면 최근 replica 응답 시간의 percentile(기본 p95) 을 쓰므로, 평소에는 조회의 약 5% 만 한 번 더 보낸다.</li>
+ *     <li>읽기 전용 조회에만 사용한다. 같은 명령이 두 노드에서 모두 실행될 수 있다.</li>
+ * </ul>
+ * 조회 수, 추가로 보낸 수, 어느 쪽이 이겼는지는 redis.hedged.* 로 내보내므로, hedges / reads 로 늘어난 부하를 확인하고 설정을 조정한다.
+ */
+public class HedgedRedisReader implements AutoCloseable {
+
+    private final RedisTemplate<String, String> replicaTemplate;
+    private final RedisTemplate<String, String> masterTemplate;
+    private final RedisHedgedReadProperties properties;
+    private final LatencyWindow replicaLatencies;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter readCounter;
+    private final Counter hedgeCounter;
+    private final Counter replicaWinCounter;
+    private final Counter masterWinCounter;
+    private volatile long delayNanos;
+
+    public HedgedRedisReader(
+            RedisTemplate<String, String> replicaTemplate,
+            RedisTemplate<String, String> masterTemplate,
+            RedisHedgedReadProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicaTemplate = replicaTemplate;
+        this.masterTemplate = masterTemplate;
+        this.properties = properties;
+        this.replicaLatencies = new LatencyWindow(properties.windowSize());
+        this.delayNanos = (properties.delay() != null ? properties.delay() : properties.maxDelay()).toNanos();
+
+        this.readCounter = Counter.builder("redis.hedged.reads").register(meterRegistry);
+        this.hedgeCounter = Counter.builder("redis.hedged.hedges").register(meterRegistry);
+        this.replicaWinCounter = Counter.builder("redis.hedged.wins").tag("target", "replica").register(meterRegistry);
+        this.masterWinCounter = Counter.builder("redis.hedged.wins").tag("target", "master").register(meterRegistry);
+        TimeGauge.builder("redis.hedged.delay", this, TimeUnit.NANOSECONDS, reader -> reader.delayNanos)
+                .description("master 로 한 번 더 보내기까지 기다리는 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽기 전용 조회를 실행한다. 두 노드가 모두 실패하면 마지막 예외를 던진다.
+     */
+    public <T> T read(Function<RedisTemplate<String, String>, T> operation) {
+        if (!properties.enabled()) {
+            return operation.apply(replicaTemplate);
+        }
+        readCounter.increment();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<T> replica = send(operation, replicaTemplate, replicaWinCounter, result, failures);
+        try {
+            replica.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 늦거나 실패하면 master 로 보낸다. 실패한 결과는 result 에 반영되어 있다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Redis 조회를 기다리는 중 중단되었습니다.", e);
+        }
+
+        CompletableFuture<T> master = null;
+        if (!result.isDone()) {
+            hedgeCounter.increment();
+            master = send(operation, masterTemplate, masterWinCounter, result, failures);
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Redis 조회를 기다리는 중 중단되었습니다.", e);
+        } finally {
+            replica.cancel(false);
+            if (master != null) {
+                master.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    long delayNanos() {
+        return delayNanos;
+    }
+
+    private <T> CompletableFuture<T> send(
+            Function<RedisTemplate<String, String>, T> operation,
+            RedisTemplate<String, String> template,
+            Counter winCounter,
+            CompletableFuture<T> result,
+            AtomicInteger failures
+    ) {
+        long start = System.nanoTime();
+        CompletableFuture<T> attempt = CompletableFuture.supplyAsync(() -> operation.apply(template), executor);
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                if (template == replicaTemplate) {
+                    recordReplicaLatency(System.nanoTime() - start);
+                }
+                if (result.complete(value)) {
+                    winCounter.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            }
+        });
+        return attempt;
+    }
+
+    private void recordReplicaLatency(long nanos) {
+        if (replicaLatencies.record(nanos) && properties.delay() == null) {
+            long percentile = replicaLatencies.percentile(properties.percentile());
+            delayNanos = Math.clamp(percentile, properties.minDelay().toNanos(), properties.maxDelay().toNanos());
+        }
+    }
+
+    /**
+     * 최근 응답 시간을 고리 버퍼에 담고, 버퍼가 처음 찬 뒤부터 1/8 이 바뀔 때마다 percentile 을 다시 계산하라고 알린다.
+     */
+    static final class LatencyWindow {
+        private final long[] samples;
+        private final AtomicLong count = new AtomicLong();
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        boolean record(long nanos) {
+            long index = count.getAndIncrement();
+            samples[(int) (index % samples.length)] = nanos;
+            long recorded = index + 1;
+            return recorded >= samples.length && recorded % Math.max(1, samples.length / 8) == 0;
+        }
+
+        long percentile(double percentile) {
+            int size = (int) Math.min(count.get(), samples.length);
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return sorted[Math.max(0, (int) Math.ceil(percentile * size) - 1)];
+        }
+    }
+}
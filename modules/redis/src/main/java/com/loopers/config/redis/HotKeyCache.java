@@ -0,0 +1,142 @@
+package com.loopers.config.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 조회가 몰리는 키를 노드 안에 잠깐 올려 두어, 평균 부하는 낮아도 키 몇 개가 한 샤드와 그 네트워크 경로를 채우는 일을 막는다.
+ * <ul>
+ *     <li>{@link #read} 로 읽는 키를 모두 {@link HotKeyDetector} 로 세고, 추정치가 promote-threshold 이상이면
+ *     Redis 에서 읽은 값을 promoted-ttl 동안 노드에 두고 그 값으로 답한다.</li>
+ *     <li>노드에 둔 값이 만료되거나 다시 Redis 에서 읽을 때 추정치가 기준 아래로 내려갔으면 내린다.</li>
+ *     <li>다른 노드가 값을 바꾸면 올린 키는 promoted-ttl 동안 이전 값을 돌려줄 수 있다. 이 노드에서 쓰거나 지운 키는 {@link #invalidate} 로 바로 버린다.</li>
+ * </ul>
+ * RedisTemplate 에는 키 단위로 조회를 가로챌 곳이 없으므로, 잠깐 이전 값을 읽어도 되는 조회를 이 클래스로 감싼다.
+ * 지금은 {@link BucketedHashStore} 의 조회와 {@link NearCache} 의 L2 조회만 세고 올린다. 그 밖의 RedisTemplate 조회는 세지 않는다.
+ * <pre>
+ *     Optional&lt;String&gt; value = hotKeyCache.read(key, () -&gt; Optional.ofNullable(redisTemplate.opsForValue().get(key)));
+ * </pre>
+ */
+@Slf4j
+public class HotKeyCache {
+
+    private static final int MAX_DECISIONS = 20;
+
+    private final RedisHotKeyProperties properties;
+    private final HotKeyDetector detector;
+    private final Cache<String, Object> promoted;
+    private final Set<String> promotedKeys = ConcurrentHashMap.newKeySet();
+    private final Deque<Decision> decisions = new ArrayDeque<>();
+    private final Counter localHitCounter;
+    private final Counter promotionCounter;
+    private final Counter demotionCounter;
+
+    public HotKeyCache(RedisHotKeyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.detector = new HotKeyDetector(properties.sketchWidth(), properties.sketchDepth(), properties.topK(), properties.decayInterval());
+        this.promoted = Caffeine.newBuilder()
+                .maximumSize(properties.maxPromoted())
+                .expireAfterWrite(properties.promotedTtl())
+                .<String, Object>evictionListener((key, value, cause) -> {
+                    long estimate = detector.estimate(key);
+                    if (estimate < properties.promoteThreshold()) {
+                        demote(key, estimate);
+                    }
+                })
+                .build();
+
+        this.localHitCounter = Counter.builder("redis.hot_key.local_hits").register(meterRegistry);
+        this.promotionCounter = Counter.builder("redis.hot_key.decisions").tag("action", "promoted").register(meterRegistry);
+        this.demotionCounter = Counter.builder("redis.hot_key.decisions").tag("action", "demoted").register(meterRegistry);
+        Gauge.builder("redis.hot_key.promoted", promotedKeys, Set::size)
+                .description("노드에 올린 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 올린 키면 노드에 둔 값을, 아니면 redisRead 의 결과를 돌려준다. null 결과는 올리지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String key, Supplier<T> redisRead) {
+        if (!properties.enabled()) {
+            return redisRead.get();
+        }
+        long estimate = detector.record(key);
+        Object local = promoted.getIfPresent(key);
+        if (local != null) {
+            localHitCounter.increment();
+            return (T) local;
+        }
+
+        T value = redisRead.get();
+        if (estimate >= properties.promoteThreshold()) {
+            if (value != null) {
+                promoted.put(key, value);
+            }
+            if (promotedKeys.add(key)) {
+                promotionCounter.increment();
+                record(new Decision(Instant.now(), key, Action.PROMOTED, estimate));
+                log.info("조회가 몰리는 Redis 키를 노드에 올립니다: {} (추정치 {})", key, estimate);
+            }
+        } else {
+            demote(key, estimate);
+        }
+        return value;
+    }
+
+    /**
+     * 노드에 둔 값을 버린다. 키가 여전히 많이 읽히면 다음 조회에서 새 값으로 다시 올린다.
+     */
+    public void invalidate(String key) {
+        promoted.invalidate(key);
+    }
+
+    public RedisHotKeyProperties properties() {
+        return properties;
+    }
+
+    public List<HotKeyDetector.HotKey> topKeys() {
+        return detector.topKeys();
+    }
+
+    public List<String> promotedKeys() {
+        return promotedKeys.stream().sorted().toList();
+    }
+
+    public synchronized List<Decision> decisions() {
+        return List.copyOf(decisions);
+    }
+
+    private void demote(String key, long estimate) {
+        if (promotedKeys.remove(key)) {
+            demotionCounter.increment();
+            record(new Decision(Instant.now(), key, Action.DEMOTED, estimate));
+        }
+    }
+
+    private synchronized void record(Decision decision) {
+        decisions.addFirst(decision);
+        if (decisions.size() > MAX_DECISIONS) {
+            decisions.removeLast();
+        }
+    }
+
+    public enum Action {
+        PROMOTED,
+        DEMOTED
+    }
+
+    public record Decision(Instant at, String key, Action action, long estimate) { }
+}
@@ -0,0 +1,164 @@
+package com.loopers.config.redis;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조회한 키의 빈도를 count-min sketch 로 추정하고, 추정치가 가장 큰 top-k 개를 유지한다.
+ * <ul>
+ *     <li>depth 개의 행마다 키를 width 칸 중 하나에 세고, 그중 가장 작은 칸을 추정치로 쓴다.
+ *     해시 충돌로 실제보다 크게 셀 수는 있어도 작게 세지는 않는다.</li>
+ *     <li>행마다 다른 시드로 키 문자열 전체를 murmur3 로 해싱한다. String.hashCode() 가 같은 키도 행마다 다른 칸에 떨어진다.</li>
+ *     <li>decay-interval 마다 모든 칸을 절반으로 줄여 최근 조회에 가중치를 둔다.</li>
+ *     <li>키마다 메모리를 쓰지 않으므로, 키가 아무리 많아도 크기는 depth × width 칸으로 고정된다.</li>
+ * </ul>
+ */
+public class HotKeyDetector {
+
+    static final int MAX_DEPTH = 8;
+    private static final int[] SEEDS = {
+            0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F, 0x165667B1, 0xD3A2646C, 0xFD7046C5, 0xB55A4F09
+    };
+
+    private final int width;
+    private final int depth;
+    private final int topK;
+    private final long decayIntervalNanos;
+    private final AtomicLongArray counters;
+    private final AtomicLong nextDecayAt;
+    private final Map<String, Long> top = new ConcurrentHashMap<>();
+    private volatile long topFloor;
+
+    public HotKeyDetector(int width, int depth, int topK, Duration decayInterval) {
+        this.width = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.depth = Math.clamp(depth, 1, MAX_DEPTH);
+        this.topK = topK;
+        this.decayIntervalNanos = decayInterval.toNanos();
+        this.counters = new AtomicLongArray(this.width * this.depth);
+        this.nextDecayAt = new AtomicLong(System.nanoTime() + decayIntervalNanos);
+    }
+
+    /**
+     * 조회 한 번을 세고, 센 뒤의 추정치를 돌려준다.
+     */
+    public long record(String key) {
+        decayIfDue(System.nanoTime());
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+        }
+        if (estimate > topFloor) {
+            offer(key, estimate);
+        }
+        return estimate;
+    }
+
+    public long estimate(String key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, key)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 추정치가 큰 순서로 돌려준다.
+     */
+    public List<HotKey> topKeys() {
+        return top.entrySet().stream()
+                .map(entry -> new HotKey(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(HotKey::estimate).reversed())
+                .toList();
+    }
+
+    /**
+     * 이미 상위에 있는 키는 추정치만 고치고, 새 키는 가장 작은 키를 밀어낼 때만 잠근다.
+     */
+    private void offer(String key, long estimate) {
+        if (top.computeIfPresent(key, (ignored, previous) -> Math.max(previous, estimate)) != null) {
+            return;
+        }
+        synchronized (this) {
+            if (top.size() >= topK) {
+                Map.Entry<String, Long> smallest = smallest();
+                if (smallest == null || estimate <= smallest.getValue()) {
+                    topFloor = smallest != null ? smallest.getValue() : 0;
+                    return;
+                }
+                top.remove(smallest.getKey());
+            }
+            top.put(key, estimate);
+            updateFloor();
+        }
+    }
+
+    /**
+     * 조회가 없던 동안 지난 간격만큼 한 번에 줄인다.
+     */
+    private void decayIfDue(long now) {
+        long due = nextDecayAt.get();
+        if (now - due < 0) {
+            return;
+        }
+        long intervals = 1 + (now - due) / decayIntervalNanos;
+        if (!nextDecayAt.compareAndSet(due, due + intervals * decayIntervalNanos)) {
+            return;
+        }
+        int shift = (int) Math.min(intervals, Long.SIZE - 1);
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >> shift);
+        }
+        synchronized (this) {
+            top.replaceAll((ignored, estimate) -> estimate >> shift);
+            top.values().removeIf(estimate -> estimate == 0);
+            updateFloor();
+        }
+    }
+
+    private void updateFloor() {
+        Map.Entry<String, Long> smallest = smallest();
+        topFloor = top.size() >= topK && smallest != null ? smallest.getValue() : 0;
+    }
+
+    private Map.Entry<String, Long> smallest() {
+        return top.entrySet().stream().min(Map.Entry.comparingByValue()).orElse(null);
+    }
+
+    private int index(int row, String key) {
+        return row * width + (murmur3(key, SEEDS[row]) & (width - 1));
+    }
+
+    /**
+     * 문자열의 UTF-16 문자를 두 개씩 32비트 블록으로 묶어 해싱하는 murmur3_32.
+     */
+    static int murmur3(String key, int seed) {
+        int hash = seed;
+        int length = key.length();
+        int i = 0;
+        for (; i + 1 < length; i += 2) {
+            hash ^= mixBlock(key.charAt(i) | (key.charAt(i + 1) << 16));
+            hash = Integer.rotateLeft(hash, 13) * 5 + 0xE6546B64;
+        }
+        if (i < length) {
+            hash ^= mixBlock(key.charAt(i));
+        }
+        hash ^= length * Character.BYTES;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int mixBlock(int block) {
+        return Integer.rotateLeft(block * 0xCC9E2D51, 15) * 0x1B873593;
+    }
+
+    public record HotKey(String key, long estimate) { }
+}
@@ -0,0 +1,42 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 추정치 상위 키, 노드에 올린 키, 최근 올리고 내린 결정(최대 20건)을 보여준다. ( GET /actuator/hotkeys )
+ */
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    private final HotKeyCache hotKeyCache;
+
+    public HotKeysEndpoint(HotKeyCache hotKeyCache) {
+        this.hotKeyCache = hotKeyCache;
+    }
+
+    @ReadOperation
+    public HotKeysReport report() {
+        RedisHotKeyProperties properties = hotKeyCache.properties();
+        return new HotKeysReport(
+                properties.enabled(),
+                properties.promoteThreshold(),
+                properties.promotedTtl(),
+                hotKeyCache.topKeys(),
+                hotKeyCache.promotedKeys(),
+                hotKeyCache.decisions()
+        );
+    }
+
+    public record HotKeysReport(
+            boolean enabled,
+            long promoteThreshold,
+            Duration promotedTtl,
+            List<HotKeyDetector.HotKey> topKeys,
+            List<String> promotedKeys,
+            List<HotKeyCache.Decision> decisions
+    ) { }
+}
@@ -0,0 +1,105 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 값을 "클래스 이름\n 본문" 으로 저장한다. 타입 정보를 값 밖에 두어 record 처럼 final 인 타입도 그대로 복원한다.
+ * 본문은 {@link RedisValueCodec} 으로 쓰므로, 헤더 없는 JSON 으로 저장된 이전 값도 그대로 읽는다.
+ * 제네릭 컬렉션의 원소 타입은 보존되지 않으므로, 캐시 값은 record 같은 구체 타입으로 감싸 저장한다.
+ * Redis 에 쓰인 타입 이름을 그대로 믿지 않도록, 허용한 패키지의 타입과 기본 값 타입만 읽고 쓴다.
+ */
+public class JacksonNearCacheSerializer implements RedisSerializer<Object> {
+
+    private static final byte TYPE_SEPARATOR = '\n';
+    private static final byte[] NULL_VALUE = {0};
+    private static final Set<String> VALUE_TYPES = Set.of(
+            String.class.getName(), Boolean.class.getName(), Integer.class.getName(), Long.class.getName(), Double.class.getName(),
+            BigDecimal.class.getName(), BigInteger.class.getName(), UUID.class.getName(),
+            Instant.class.getName(), LocalDate.class.getName(), LocalDateTime.class.getName(), ZonedDateTime.class.getName()
+    );
+
+    private final RedisValueCodec codec;
+    private final List<String> allowedPackages;
+
+    public JacksonNearCacheSerializer(ObjectMapper objectMapper) {
+        this(new RedisValueCodec(objectMapper, RedisCodecProperties.json()), NearCacheProperties.DEFAULT_ALLOWED_PACKAGES);
+    }
+
+    /**
+     * @param allowedPackages 캐시 값으로 허용할 타입의 패키지 접두어 (예: "com.loopers.")
+     */
+    public JacksonNearCacheSerializer(RedisValueCodec codec, List<String> allowedPackages) {
+        this.codec = codec;
+        this.allowedPackages = List.copyOf(allowedPackages);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null || value instanceof NullValue) {
+            return NULL_VALUE;
+        }
+        String typeName = value.getClass().getName();
+        if (!isAllowed(typeName)) {
+            throw new SerializationException("캐시 값으로 허용되지 않은 타입입니다: " + typeName);
+        }
+        byte[] type = typeName.getBytes(StandardCharsets.UTF_8);
+        byte[] body = codec.encode(value);
+        byte[] bytes = Arrays.copyOf(type, type.length + 1 + body.length);
+        bytes[type.length] = TYPE_SEPARATOR;
+        System.arraycopy(body, 0, bytes, type.length + 1, body.length);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        if (Arrays.equals(bytes, NULL_VALUE)) {
+            return NullValue.INSTANCE;
+        }
+        int separator = indexOf(bytes, TYPE_SEPARATOR);
+        if (separator < 0) {
+            throw new SerializationException("캐시 값에 타입 정보가 없습니다.");
+        }
+        String typeName = new String(bytes, 0, separator, StandardCharsets.UTF_8);
+        if (!isAllowed(typeName)) {
+            throw new SerializationException("캐시 값으로 허용되지 않은 타입입니다: " + typeName);
+        }
+        try {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            Class<?> type = Class.forName(typeName, false, classLoader != null ? classLoader : getClass().getClassLoader());
+            return codec.decode(bytes, separator + 1, bytes.length - separator - 1, codec.javaType(type));
+        } catch (ClassNotFoundException e) {
+            throw new SerializationException("캐시 값을 역직렬화할 수 없습니다: " + typeName, e);
+        }
+    }
+
+    private boolean isAllowed(String typeName) {
+        return VALUE_TYPES.contains(typeName) || allowedPackages.stream().anyMatch(typeName::startsWith);
+    }
+
+    private static int indexOf(byte[] bytes, byte target) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
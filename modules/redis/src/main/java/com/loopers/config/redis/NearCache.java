@@ -0,0 +1,315 @@
+package com.loopers.config.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 노드 안의 Caffeine(L1, W-TinyLFU) 을 Redis(L2) 앞에 둔 2단 캐시.
+ * <ul>
+ *     <li>조회는 L1 → L2 → valueLoader 순이며, 같은 키를 동시에 적재하는 요청은 하나의 적재를 기다린다.</li>
+ *     <li>L2 에 쓰거나 지우면 Redis keyspace 알림이 모든 노드의 L1 에서 해당 키를 지운다. ({@link NearCacheManager})</li>
+ *     <li>L2 에서 읽는 사이 다른 노드가 값을 바꾸면 이전 값이 L1 에 남을 수 있으며, 이는 local-ttl 이 지나면 사라진다.</li>
+ *     <li>L2 호출은 {@link RedisResilience} 를 거친다. Redis 가 느리거나 내려가면 L2 조회는 없음으로 보고 valueLoader(원본)에서 읽으며,
+ *     L2 쓰기/삭제는 건너뛴다. 삭제를 건너뛴 키는 L2 유지 시간이 지날 때까지 이전 값이 남을 수 있다.</li>
+ *     <li>L2 는 replica 에서 읽되, 최근에 쓰거나 지운 키는 복제 지연으로 이전 값을 읽지 않도록 master 에서 읽는다. ({@link ReadYourWrites})</li>
+ *     <li>L2 조회는 {@link HotKeyCache} 로 센다. L1 이 자주 비워져 L2 조회가 몰리는 키는 노드에 잠깐 올리고, 쓰거나 무효화 알림을 받으면 함께 버린다.</li>
+ * </ul>
+ * refresh-ahead 는 {@link #get(Object, Callable)} 에 넘긴 valueLoader 를 다른 스레드에서 다시 호출하므로,
+ * 여러 번, 다른 스레드에서 호출해도 되는 valueLoader 에서만 동작한다.
+ */
+@Slf4j
+public class NearCache extends AbstractValueAdaptingCache {
+
+    private static final int EXPIRES_AT_BYTES = Long.BYTES;
+
+    private final String name;
+    private final String keyPrefix;
+    private final NearCacheProperties.Spec spec;
+    private final Cache<String, Entry> local;
+    private final HedgedRedisReader reader;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final RedisSerializer<Object> serializer;
+    private final Executor refreshExecutor;
+    private final RedisResilience resilience;
+    private final ReadYourWrites readYourWrites;
+    private final HotKeyCache hotKeyCache;
+    private final ConcurrentMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+    private final Counter loadCounter;
+    private final Counter refreshCounter;
+    private final Counter invalidationCounter;
+
+    public NearCache(
+            String name,
+            String keyPrefix,
+            NearCacheProperties.Spec spec,
+            HedgedRedisReader reader,
+            RedisTemplate<String, String> writeTemplate,
+            RedisSerializer<Object> serializer,
+            Executor refreshExecutor,
+            RedisResilience resilience,
+            ReadYourWrites readYourWrites,
+            HotKeyCache hotKeyCache,
+            MeterRegistry meterRegistry
+    ) {
+        super(spec.allowNullValues());
+        this.name = name;
+        this.keyPrefix = keyPrefix + name + "::";
+        this.spec = spec;
+        this.reader = reader;
+        this.writeTemplate = writeTemplate;
+        this.serializer = serializer;
+        this.refreshExecutor = refreshExecutor;
+        this.resilience = resilience;
+        this.readYourWrites = readYourWrites;
+        this.hotKeyCache = hotKeyCache;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.localMaximumSize())
+                .expireAfter(Expiry.<String, Entry>writing((key, entry) -> entry.localTtl(spec.localTtl())))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name + ".l1");
+        this.remoteHitCounter = Counter.builder("cache.near.l2.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.remoteMissCounter = Counter.builder("cache.near.l2.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.loadCounter = Counter.builder("cache.near.loads").tag("cache", name).register(meterRegistry);
+        this.refreshCounter = Counter.builder("cache.near.refreshes").tag("cache", name).register(meterRegistry);
+        this.invalidationCounter = Counter.builder("cache.near.invalidations").tag("cache", name).register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Entry entry = read(redisKey(key));
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String redisKey = redisKey(key);
+        Entry entry = read(redisKey);
+        if (entry != null) {
+            if (shouldRefresh(entry)) {
+                refreshAsync(redisKey, valueLoader);
+            }
+            return (T) fromStoreValue(entry.value());
+        }
+        return (T) fromStoreValue(load(key, redisKey, valueLoader).value());
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        write(redisKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String redisKey = redisKey(key);
+        local.invalidate(redisKey);
+        resilience.run("cache-evict", () -> writeTemplate.delete(redisKey));
+        readYourWrites.recordWrite(redisKey);
+        hotKeyCache.invalidate(redisKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        resilience.run("cache-clear", () -> {
+            List<String> keys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+            try (Cursor<String> cursor = writeTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+            if (!keys.isEmpty()) {
+                writeTemplate.delete(keys);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드(또는 이 노드)가 L2 를 바꿨다는 알림을 받으면 L1 에서만 지운다.
+     * 쓰기(SET, DEL 등)로 바뀐 키만 복제 지연 동안 master 에서 읽고, 만료나 메모리 부족으로 지워진 키는 replica 에서 읽는다.
+     */
+    void invalidateLocal(String redisKey, boolean written) {
+        if (written) {
+            readYourWrites.recordWrite(redisKey);
+        }
+        hotKeyCache.invalidate(redisKey);
+        if (local.getIfPresent(redisKey) != null) {
+            local.invalidate(redisKey);
+            invalidationCounter.increment();
+        }
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private Entry read(String redisKey) {
+        Entry entry = local.getIfPresent(redisKey);
+        if (entry != null && !entry.isExpired()) {
+            return entry;
+        }
+        RedisCallback<byte[]> get = connection -> connection.stringCommands().get(redisKey.getBytes(StandardCharsets.UTF_8));
+        boolean fromMaster = readYourWrites.readFromMaster(redisKey);
+        byte[] bytes = hotKeyCache.read(redisKey, () -> resilience.call(
+                "cache-get",
+                () -> fromMaster ? writeTemplate.execute(get) : reader.read(template -> template.execute(get)),
+                () -> null
+        ));
+        if (bytes == null || bytes.length < EXPIRES_AT_BYTES) {
+            remoteMissCounter.increment();
+            return null;
+        }
+        remoteHitCounter.increment();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long expiresAt = buffer.getLong();
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+        entry = new Entry(serializer.deserialize(payload), expiresAt);
+        local.put(redisKey, entry);
+        return entry;
+    }
+
+    private Entry write(String redisKey, Object storeValue) {
+        long ttlMillis = (storeValue instanceof NullValue ? spec.negativeTtl() : jitteredTtl()).toMillis();
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        byte[] payload = serializer.serialize(storeValue);
+        byte[] bytes = ByteBuffer.allocate(EXPIRES_AT_BYTES + payload.length).putLong(expiresAt).put(payload).array();
+        resilience.run("cache-put", () -> writeTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+                redisKey.getBytes(StandardCharsets.UTF_8),
+                bytes,
+                Expiration.milliseconds(ttlMillis),
+                RedisStringCommands.SetOption.upsert()
+        )));
+        readYourWrites.recordWrite(redisKey);
+        hotKeyCache.invalidate(redisKey);
+        Entry entry = new Entry(storeValue, expiresAt);
+        local.put(redisKey, entry);
+        return entry;
+    }
+
+    /**
+     * 같은 키의 적재는 한 번만 실행하고, 동시에 들어온 요청은 그 결과(또는 예외)를 함께 받는다.
+     */
+    private Entry load(Object key, String redisKey, Callable<?> valueLoader) {
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> running = inFlight.putIfAbsent(redisKey, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+        try {
+            // 앞선 적재가 방금 끝났을 수 있으므로 L2 를 한 번 더 확인한다.
+            Entry entry = read(redisKey);
+            if (entry == null) {
+                loadCounter.increment();
+                entry = write(redisKey, toStoreValue(valueLoader.call()));
+            }
+            mine.complete(entry);
+            return entry;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(redisKey, mine);
+        }
+    }
+
+    private void refreshAsync(String redisKey, Callable<?> valueLoader) {
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(redisKey, mine) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshCounter.increment();
+                    mine.complete(write(redisKey, toStoreValue(valueLoader.call())));
+                } catch (Exception e) {
+                    log.warn("캐시 {} 의 {} 를 미리 적재하지 못했습니다: {}", name, redisKey, e.getMessage());
+                    mine.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(redisKey, mine);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 미리 적재는 최선의 노력이므로, 실행기가 가득 차면 만료 후 적재에 맡긴다.
+            inFlight.remove(redisKey, mine);
+        }
+    }
+
+    private boolean shouldRefresh(Entry entry) {
+        // 없는 키는 미리 적재하지 않고 negative-ttl 이 지나면 다시 확인한다.
+        if (spec.refreshAhead() <= 0 || entry.value() instanceof NullValue) {
+            return false;
+        }
+        long remaining = entry.expiresAt() - System.currentTimeMillis();
+        return remaining < spec.ttl().toMillis() * spec.refreshAhead();
+    }
+
+    Duration jitteredTtl() {
+        double jitter = spec.ttlJitter();
+        if (jitter <= 0) {
+            return spec.ttl();
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Duration.ofMillis(Math.max(1, (long) (spec.ttl().toMillis() * factor)));
+    }
+
+    private String redisKey(Object key) {
+        return keyPrefix + key;
+    }
+
+    private record Entry(Object value, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+
+        Duration localTtl(Duration max) {
+            long remaining = Math.max(0, expiresAt - System.currentTimeMillis());
+            return remaining < max.toMillis() ? Duration.ofMillis(remaining) : max;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Properties;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class NearCacheConfig {
+    /**
+     * L1 무효화에 필요한 keyspace 알림 종류. K: keyspace 채널, g: DEL/EXPIRE 등, $: SET 등, x: 만료, e: 메모리 부족으로 인한 제거
+     */
+    private static final String REQUIRED_KEYSPACE_EVENTS = "Kg$xe";
+
+    @Bean
+    public NearCacheManager nearCacheManager(
+            NearCacheProperties nearCacheProperties,
+            RedisProperties redisProperties,
+            HedgedRedisReader hedgedRedisReader,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            RedisResilience redisResilience,
+            ReadYourWrites readYourWrites,
+            RedisValueCodec redisValueCodec,
+            HotKeyCache hotKeyCache,
+            MeterRegistry meterRegistry
+    ) {
+        if (nearCacheProperties.configureKeyspaceNotifications()) {
+            enableKeyspaceNotifications(masterRedisTemplate);
+        }
+        NearCacheManager cacheManager = new NearCacheManager(
+                nearCacheProperties,
+                redisProperties.database(),
+                hedgedRedisReader,
+                masterRedisTemplate,
+                new JacksonNearCacheSerializer(redisValueCodec, nearCacheProperties.allowedPackages()),
+                redisResilience,
+                readYourWrites,
+                hotKeyCache,
+                meterRegistry
+        );
+        redisMessageListenerContainer.addMessageListener(cacheManager, new PatternTopic(cacheManager.keyspacePattern()));
+        return cacheManager;
+    }
+
+    /**
+     * 기존 설정에 필요한 알림 종류만 더한다. 관리형 Redis 처럼 CONFIG 가 막혀 있으면 서버 설정에 맡긴다.
+     */
+    private static void enableKeyspaceNotifications(RedisTemplate<String, String> masterRedisTemplate) {
+        try {
+            masterRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                RedisServerCommands server = connection.serverCommands();
+                Properties config = server.getConfig("notify-keyspace-events");
+                String current = config != null ? config.getProperty("notify-keyspace-events", "") : "";
+                StringBuilder events = new StringBuilder(current);
+                for (char event : REQUIRED_KEYSPACE_EVENTS.toCharArray()) {
+                    if (current.indexOf(event) < 0 && !(event != 'K' && current.indexOf('A') >= 0)) {
+                        events.append(event);
+                    }
+                }
+                if (!events.toString().equals(current)) {
+                    server.setConfig("notify-keyspace-events", events.toString());
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Redis keyspace 알림을 설정하지 못했습니다. notify-keyspace-events 에 {} 가 포함되어 있어야 합니다: {}",
+                    REQUIRED_KEYSPACE_EVENTS, e.getMessage());
+        }
+    }
+}
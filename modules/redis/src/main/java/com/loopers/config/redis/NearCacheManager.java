@@ -0,0 +1,139 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NearCache} 를 만드는 Spring {@link org.springframework.cache.CacheManager}.
+ * 설정에 없는 이름으로 요청하면 defaults 로 만든다.
+ * Redis keyspace 알림({@code __keyspace@<db>__:<key-prefix>*})을 구독해, 바뀐 키를 해당 캐시의 L1 에서 지운다.
+ */
+public class NearCacheManager extends AbstractCacheManager implements MessageListener, AutoCloseable {
+
+    /**
+     * 명령 없이 서버가 스스로 지운 알림. 쓰기가 아니므로 master 에서 읽도록 기록하지 않는다.
+     */
+    private static final Set<String> SERVER_REMOVAL_EVENTS = Set.of("expired", "evicted");
+
+    private final NearCacheProperties properties;
+    private final String channelPrefix;
+    private final HedgedRedisReader reader;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final RedisSerializer<Object> serializer;
+    private final RedisResilience resilience;
+    private final ReadYourWrites readYourWrites;
+    private final HotKeyCache hotKeyCache;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public NearCacheManager(
+            NearCacheProperties properties,
+            int database,
+            HedgedRedisReader reader,
+            RedisTemplate<String, String> writeTemplate,
+            RedisSerializer<Object> serializer,
+            RedisResilience resilience,
+            ReadYourWrites readYourWrites,
+            HotKeyCache hotKeyCache,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.channelPrefix = "__keyspace@" + database + "__:";
+        this.reader = reader;
+        this.writeTemplate = writeTemplate;
+        this.serializer = serializer;
+        this.resilience = resilience;
+        this.readYourWrites = readYourWrites;
+        this.hotKeyCache = hotKeyCache;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = new ThreadPoolExecutor(
+                2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1024),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "near-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 구독할 keyspace 채널 패턴
+     */
+    public String keyspacePattern() {
+        return channelPrefix + properties.keyPrefix() + "*";
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return properties.caches().keySet().stream().map(this::createCache).toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        if (!channel.startsWith(channelPrefix)) {
+            return;
+        }
+        String key = channel.substring(channelPrefix.length());
+        String keyPrefix = properties.keyPrefix();
+        int separator = key.indexOf("::", keyPrefix.length());
+        if (!key.startsWith(keyPrefix) || separator < 0) {
+            return;
+        }
+        if (lookupCache(key.substring(keyPrefix.length(), separator)) instanceof NearCache cache) {
+            String event = new String(message.getBody(), StandardCharsets.UTF_8);
+            cache.invalidateLocal(key, !SERVER_REMOVAL_EVENTS.contains(event));
+        }
+    }
+
+    /**
+     * 이 노드의 L1 만 비운다. FLUSHDB 처럼 keyspace 알림 없이 L2 가 비워졌을 때 사용한다.
+     */
+    public void clearLocal() {
+        getCacheNames().forEach(name -> {
+            if (lookupCache(name) instanceof NearCache cache) {
+                cache.clearLocal();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private NearCache createCache(String name) {
+        return new NearCache(
+                name,
+                properties.keyPrefix(),
+                properties.specOf(name),
+                reader,
+                writeTemplate,
+                serializer,
+                refreshExecutor,
+                resilience,
+                readYourWrites,
+                hotKeyCache,
+                meterRegistry
+        );
+    }
+}
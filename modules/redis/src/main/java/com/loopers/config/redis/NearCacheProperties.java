@@ -0,0 +1,65 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 근접 캐시 설정. caches 에 없는 캐시는 defaults 를 사용하고, caches 에 지정한 값은 defaults 를 덮어쓴다.
+ *
+ * @param allowedPackages 캐시 값으로 허용할 타입의 패키지 접두어. L2 에서 읽은 타입 이름이 여기에 없으면 역직렬화하지 않는다.
+ */
+@ConfigurationProperties(value = "datasource.redis.near-cache")
+public record NearCacheProperties(
+        String keyPrefix,
+        boolean configureKeyspaceNotifications,
+        Spec defaults,
+        Map<String, Spec> caches,
+        List<String> allowedPackages
+) {
+    static final List<String> DEFAULT_ALLOWED_PACKAGES = List.of("com.loopers.");
+    private static final Spec BUILT_IN = new Spec(10_000L, Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofSeconds(30), 0.1, 0.2, false);
+
+    public NearCacheProperties {
+        keyPrefix = keyPrefix != null ? keyPrefix : "cache:";
+        defaults = defaults != null ? defaults.orElse(BUILT_IN) : BUILT_IN;
+        caches = caches != null ? caches : Map.of();
+        allowedPackages = allowedPackages != null && !allowedPackages.isEmpty() ? allowedPackages : DEFAULT_ALLOWED_PACKAGES;
+    }
+
+    public Spec specOf(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null ? spec.orElse(defaults) : defaults;
+    }
+
+    /**
+     * @param localTtl     L1 유지 시간. 무효화 메시지가 유실되거나 늦게 도착해도 이 시간이 지나면 L2 에서 다시 읽는다.
+     * @param ttl          L2 유지 시간
+     * @param negativeTtl  allow-null-values 일 때 null(없음) 결과의 유지 시간. 없는 키를 반복 조회해도 원본까지 가지 않게 하되, 생성되면 곧 보이도록 짧게 둔다.
+     * @param ttlJitter    L2 유지 시간을 ±비율만큼 흩어, 한꺼번에 적재된 항목이 동시에 만료되지 않게 한다.
+     * @param refreshAhead 남은 유지 시간이 ttl 의 이 비율보다 짧아지면, 만료 전에 백그라운드에서 다시 적재한다. (0 이면 사용하지 않는다.)
+     */
+    public record Spec(
+            Long localMaximumSize,
+            Duration localTtl,
+            Duration ttl,
+            Duration negativeTtl,
+            Double ttlJitter,
+            Double refreshAhead,
+            Boolean allowNullValues
+    ) {
+        Spec orElse(Spec fallback) {
+            return new Spec(
+                    localMaximumSize != null ? localMaximumSize : fallback.localMaximumSize,
+                    localTtl != null ? localTtl : fallback.localTtl,
+                    ttl != null ? ttl : fallback.ttl,
+                    negativeTtl != null ? negativeTtl : fallback.negativeTtl,
+                    ttlJitter != null ? ttlJitter : fallback.ttlJitter,
+                    refreshAhead != null ? refreshAhead : fallback.refreshAhead,
+                    allowNullValues != null ? allowNullValues : fallback.allowNullValues
+            );
+        }
+    }
+}
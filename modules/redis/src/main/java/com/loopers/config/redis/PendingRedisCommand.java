@@ -0,0 +1,110 @@
+package com.loopers.config.redis;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisSystemException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * 보내기 전까지 모아 두는 명령 하나와 그 결과. 보낼 때 Lettuce 비동기 명령을 호출하고, 응답이 오면 결과를 완료한다.
+ */
+final class PendingRedisCommand<T> {
+
+    private final boolean write;
+    private final Function<RedisClusterAsyncCommands<byte[], byte[]>, CompletionStage<T>> command;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    private PendingRedisCommand(boolean write, Function<RedisClusterAsyncCommands<byte[], byte[]>, CompletionStage<T>> command) {
+        this.write = write;
+        this.command = command;
+    }
+
+    static PendingRedisCommand<String> get(String key) {
+        return new PendingRedisCommand<>(false, commands -> commands.get(bytes(key)).thenApply(PendingRedisCommand::string));
+    }
+
+    static PendingRedisCommand<Map<String, String>> multiGet(Collection<String> keys) {
+        byte[][] rawKeys = keys.stream().distinct().map(PendingRedisCommand::bytes).toArray(byte[][]::new);
+        return new PendingRedisCommand<>(false, commands -> rawKeys.length == 0
+                ? CompletableFuture.completedFuture(Map.of())
+                : commands.mget(rawKeys).thenApply(PendingRedisCommand::presentValues));
+    }
+
+    static PendingRedisCommand<Map<String, String>> hashGetAll(String key) {
+        return new PendingRedisCommand<>(false, commands -> commands.hgetall(bytes(key)).thenApply(hash -> {
+            Map<String, String> values = new LinkedHashMap<>();
+            hash.forEach((field, value) -> values.put(string(field), string(value)));
+            return values;
+        }));
+    }
+
+    static PendingRedisCommand<Void> set(String key, String value, Duration ttl) {
+        SetArgs args = SetArgs.Builder.px(ttl.toMillis());
+        return new PendingRedisCommand<>(true, commands -> commands.set(bytes(key), bytes(value), args).thenApply(ok -> null));
+    }
+
+    static PendingRedisCommand<Boolean> zAdd(String key, String member, double score) {
+        return new PendingRedisCommand<>(true, commands -> commands.zadd(bytes(key), score, bytes(member)).thenApply(added -> added > 0));
+    }
+
+    boolean isWrite() {
+        return write;
+    }
+
+    CompletableFuture<T> result() {
+        return result;
+    }
+
+    /**
+     * 명령을 보낸다. 응답을 기다리지 않는다.
+     */
+    void send(RedisClusterAsyncCommands<byte[], byte[]> commands) {
+        try {
+            command.apply(commands).whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    fail(error instanceof CompletionException ? error.getCause() : error);
+                }
+            });
+        } catch (RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    void fail(Throwable error) {
+        result.completeExceptionally(error instanceof DataAccessException
+                ? error
+                : new RedisSystemException("Redis 명령을 처리하지 못했습니다: " + error.getMessage(), error));
+    }
+
+    private static Map<String, String> presentValues(List<KeyValue<byte[], byte[]>> keyValues) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (KeyValue<byte[], byte[]> keyValue : keyValues) {
+            if (keyValue.hasValue()) {
+                values.put(string(keyValue.getKey()), string(keyValue.getValue()));
+            }
+        }
+        return values;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.loopers.config.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 최근에 쓴 키를 window 동안 기억해, 그 키의 조회만 master 로 보내고 나머지 조회는 replica 에 남긴다.
+ * 이 노드가 쓴 키는 {@link #recordWrite(String)} 로, 다른 노드가 쓴 키는 keyspace 알림({@link NearCacheManager})으로 기록한다.
+ * 기억할 수 있는 키 수를 넘으면 오래된 키부터 잊으므로, 그 키는 window 가 지나기 전이라도 replica 에서 읽을 수 있다.
+ */
+public class ReadYourWrites {
+
+    private final RedisReadYourWritesProperties properties;
+    private final Cache<String, Boolean> recentWrites;
+    private final Counter masterReadCounter;
+    private final Counter replicaReadCounter;
+
+    public ReadYourWrites(RedisReadYourWritesProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(properties.window())
+                .maximumSize(properties.maximumKeys())
+                .build();
+        this.masterReadCounter = Counter.builder("redis.read_your_writes.reads").tag("target", "master").register(meterRegistry);
+        this.replicaReadCounter = Counter.builder("redis.read_your_writes.reads").tag("target", "replica").register(meterRegistry);
+        Gauge.builder("redis.read_your_writes.keys", recentWrites, Cache::estimatedSize)
+                .description("master 에서 읽도록 기억하고 있는 최근에 쓴 키 수")
+                .register(meterRegistry);
+    }
+
+    public void recordWrite(String key) {
+        if (properties.enabled()) {
+            recentWrites.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * window 안에 쓴 키면 true. 조회 대상을 정할 때 한 번만 호출한다. (호출마다 조회 대상 지표가 오른다.)
+     */
+    public boolean readFromMaster(String key) {
+        if (properties.enabled() && recentWrites.getIfPresent(key) != null) {
+            masterReadCounter.increment();
+            return true;
+        }
+        replicaReadCounter.increment();
+        return false;
+    }
+}
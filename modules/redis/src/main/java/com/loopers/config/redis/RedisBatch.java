@@ -0,0 +1,81 @@
+package com.loopers.config.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 한 요청이나 배치 작업 안에서 쓰는 명령 모음. 스레드 간에 공유하지 않는다.
+ * <pre>
+ *     try (RedisBatch batch = redisPipelineExecutor.batch()) {
+ *         CompletableFuture&lt;String&gt; name = batch.get("product:1:name");
+ *         batch.set("product:1:viewed", "1", Duration.ofMinutes(10));
+ *     } // close() 에서 보내고 응답을 기다린다.
+ * </pre>
+ * 명령을 모으는 동안에는 future 가 완료되지 않으므로, flush() 전에 future 의 결과를 기다리면 안 된다.
+ * 명령은 추가한 순서대로 실행된다. 쓰기가 하나라도 있으면 배치 전체가 master 에서 실행되므로 같은 배치에서 쓴 값을 뒤의 조회가 읽는다.
+ * 조회만 있는 배치는 replica 에서 실행되어, 다른 배치에서 방금 쓴 값은 복제 지연 동안 보이지 않을 수 있다.
+ */
+public class RedisBatch implements RedisBatchCommands, AutoCloseable {
+
+    private final RedisPipelineExecutor executor;
+    private List<PendingRedisCommand<?>> commands = new ArrayList<>();
+
+    RedisBatch(RedisPipelineExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<String> get(String key) {
+        return add(PendingRedisCommand.get(key));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> multiGet(Collection<String> keys) {
+        return add(PendingRedisCommand.multiGet(keys));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> hashGetAll(String key) {
+        return add(PendingRedisCommand.hashGetAll(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> set(String key, String value, Duration ttl) {
+        return add(PendingRedisCommand.set(key, value, ttl));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> zAdd(String key, String member, double score) {
+        return add(PendingRedisCommand.zAdd(key, member, score));
+    }
+
+    public int size() {
+        return commands.size();
+    }
+
+    /**
+     * 모아 둔 명령을 보내고 응답을 기다린다. 이후 추가한 명령은 다음 flush() 에서 보낸다.
+     */
+    public void flush() {
+        if (commands.isEmpty()) {
+            return;
+        }
+        List<PendingRedisCommand<?>> sending = commands;
+        commands = new ArrayList<>();
+        executor.execute(sending);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private <T> CompletableFuture<T> add(PendingRedisCommand<T> command) {
+        commands.add(command);
+        return command.result();
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.config.redis;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 모아 두었다가 파이프라인으로 한꺼번에 보내는 명령들. 결과는 명령을 보낸 뒤 응답이 오면 완료되는 future 로 받는다.
+ * 조회(GET, MGET, HGETALL)는 replica 를 우선하는 커넥션으로, 쓰기(SET, ZADD)는 master 커넥션으로 보낸다.
+ */
+public interface RedisBatchCommands {
+
+    /**
+     * 값이 없으면 null 로 완료된다.
+     */
+    CompletableFuture<String> get(String key);
+
+    /**
+     * 값이 있는 키만 담은 Map 으로 완료된다.
+     */
+    CompletableFuture<Map<String, String>> multiGet(Collection<String> keys);
+
+    CompletableFuture<Map<String, String>> hashGetAll(String key);
+
+    CompletableFuture<Void> set(String key, String value, Duration ttl);
+
+    /**
+     * 새로 추가된 멤버면 true, 이미 있어 점수만 바뀌었으면 false 로 완료된다.
+     */
+    CompletableFuture<Boolean> zAdd(String key, String member, double score);
+}
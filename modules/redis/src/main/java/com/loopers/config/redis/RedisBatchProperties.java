@@ -0,0 +1,25 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 명령을 모아 파이프라인으로 보내는 설정.
+ *
+ * @param maxPipelineSize  파이프라인 한 번에 보내는 최대 명령 수. 넘치면 나눠 보낸다.
+ * @param autoBatchWindow  동시에 들어온 명령을 모으는 시간
+ * @param autoBatchMaxSize window 가 지나기 전이라도 이만큼 모이면 보낸다.
+ */
+@ConfigurationProperties(value = "datasource.redis.batch")
+public record RedisBatchProperties(
+        int maxPipelineSize,
+        Duration autoBatchWindow,
+        int autoBatchMaxSize
+) {
+    public RedisBatchProperties {
+        maxPipelineSize = maxPipelineSize > 0 ? maxPipelineSize : 500;
+        autoBatchWindow = autoBatchWindow != null ? autoBatchWindow : Duration.ofMillis(1);
+        autoBatchMaxSize = autoBatchMaxSize > 0 ? autoBatchMaxSize : 128;
+    }
+}
@@ -0,0 +1,34 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 구조화된 값을 Redis 에 쓰는 형식. 읽을 때는 값 헤더의 형식과 압축 방식을 따르므로, 설정을 바꿔도 이미 저장된 값은 그대로 읽는다.
+ *
+ * @param format               새로 쓰는 값의 형식
+ * @param compression          새로 쓰는 값의 압축 방식
+ * @param compressionThreshold 직렬화한 크기가 이보다 작으면 압축하지 않는다. 압축해도 작아지지 않으면 압축하지 않은 값을 쓴다.
+ * @param compressionLevel     ZSTD 압축 수준 (LZ4 는 사용하지 않는다.)
+ */
+@ConfigurationProperties(value = "datasource.redis.codec")
+public record RedisCodecProperties(
+        RedisValueFormat format,
+        RedisValueCompression compression,
+        DataSize compressionThreshold,
+        Integer compressionLevel
+) {
+    public RedisCodecProperties {
+        format = format != null ? format : RedisValueFormat.SMILE;
+        compression = compression != null ? compression : RedisValueCompression.LZ4;
+        compressionThreshold = compressionThreshold != null ? compressionThreshold : DataSize.ofBytes(512);
+        compressionLevel = compressionLevel != null ? compressionLevel : 3;
+    }
+
+    /**
+     * 헤더 없이 JSON 으로만 쓴다. 헤더를 읽지 못하는 이전 버전과 같은 값을 쓴다.
+     */
+    public static RedisCodecProperties json() {
+        return new RedisCodecProperties(RedisValueFormat.JSON, RedisValueCompression.NONE, null, null);
+    }
+}
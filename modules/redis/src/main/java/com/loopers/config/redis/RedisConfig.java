@@ -1,31 +1,51 @@
 package com.loopers.config.redis;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.util.List;
 import java.util.function.Consumer;
 
 @Configuration
-@EnableConfigurationProperties(RedisProperties.class)
+@EnableConfigurationProperties({
+        RedisProperties.class,
+        RedisResilienceProperties.class,
+        RedisHedgedReadProperties.class,
+        RedisReadYourWritesProperties.class,
+        RedisBatchProperties.class,
+        RedisCodecProperties.class,
+        RedisHashBucketProperties.class,
+        RedisHotKeyProperties.class
+})
 public class RedisConfig{
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    private static final String CONNECTION_PUBSUB = "redisConnectionPubSub";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     private final RedisProperties redisProperties;
+    private final RedisResilienceProperties resilienceProperties;
 
-    public RedisConfig(RedisProperties redisProperties){
+    public RedisConfig(RedisProperties redisProperties, RedisResilienceProperties resilienceProperties){
         this.redisProperties = redisProperties;
+        this.resilienceProperties = resilienceProperties;
     }
 
     @Primary
@@ -68,6 +88,157 @@ public class RedisConfig{
         return defaultRedisTemplate(redisTemplate, lettuceConnectionFactory);
     }
 
+    /**
+     * Master/Replica 구성의 커넥션은 Pub/Sub 을 지원하지 않으므로, 구독 전용으로 master 에 단독 연결한다.
+     * Cluster 에서는 PUBLISH 가 모든 노드로 전파되므로 클러스터 연결로 구독한다.
+     * 단, keyspace 알림은 키가 있는 노드에서만 발행되므로, 구독한 노드 밖의 키가 바뀌면 근접 캐시의 L1 은 local-ttl 이 지나야 갱신된다.
+     */
+    @Qualifier(CONNECTION_PUBSUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory() {
+        if (redisProperties.isCluster()) {
+            return new LettuceConnectionFactory(clusterConfiguration(), clusterClientConfiguration(LettuceClientConfiguration.builder()).build());
+        }
+        RedisNodeInfo master = redisProperties.master();
+        RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration(master.host(), master.port());
+        standaloneConfig.setDatabase(redisProperties.database());
+        return new LettuceConnectionFactory(standaloneConfig, LettuceClientConfiguration.defaultConfiguration());
+    }
+
+    /**
+     * 구조화된 값을 공유 ObjectMapper 설정으로 Smile/CBOR 직렬화하고 압축한다. (datasource.redis.codec)
+     */
+    @Bean
+    public RedisValueCodec redisValueCodec(ObjectProvider<ObjectMapper> objectMapper, RedisCodecProperties redisCodecProperties) {
+        return new RedisValueCodec(objectMapper.getIfAvailable(ObjectMapper::new), redisCodecProperties);
+    }
+
+    @Bean
+    public BinaryRedisTemplates binaryRedisTemplates(
+            LettuceConnectionFactory defaultRedisConnectionFactory,
+            @Qualifier(CONNECTION_MASTER) LettuceConnectionFactory masterRedisConnectionFactory,
+            RedisValueCodec redisValueCodec
+    ) {
+        return new BinaryRedisTemplates(defaultRedisConnectionFactory, masterRedisConnectionFactory, redisValueCodec);
+    }
+
+    /**
+     * 작은 값을 id 로 정한 해시 버킷에 모아 저장한다. (datasource.redis.hash-bucket)
+     */
+    @Bean(initMethod = "verifyEncodingLimits")
+    public BucketedHashStores bucketedHashStores(
+            RedisHashBucketProperties redisHashBucketProperties,
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            HotKeyCache hotKeyCache
+    ) {
+        return new BucketedHashStores(redisHashBucketProperties, defaultRedisTemplate, masterRedisTemplate, hotKeyCache);
+    }
+
+    /**
+     * 조회가 몰리는 키를 찾아 노드에 잠깐 올려 둔다. (datasource.redis.hot-key)
+     */
+    @Bean
+    public HotKeyCache hotKeyCache(RedisHotKeyProperties redisHotKeyProperties, MeterRegistry meterRegistry) {
+        return new HotKeyCache(redisHotKeyProperties, meterRegistry);
+    }
+
+    @Bean
+    public HotKeysEndpoint hotKeysEndpoint(HotKeyCache hotKeyCache) {
+        return new HotKeysEndpoint(hotKeyCache);
+    }
+
+    /**
+     * 여러 키를 다루는 명령을 Cluster 슬롯별로 나눠 파이프라인으로 보낸다.
+     */
+    @Bean
+    public SlotAwareRedisOperations slotAwareRedisOperations(
+            LettuceConnectionFactory defaultRedisConnectionFactory,
+            @Qualifier(CONNECTION_MASTER) LettuceConnectionFactory masterRedisConnectionFactory
+    ) {
+        return new SlotAwareRedisOperations(defaultRedisConnectionFactory, masterRedisConnectionFactory, resilienceProperties.commandTimeout());
+    }
+
+    /**
+     * 한 요청/작업 안의 명령을 모아 보내는 {@link RedisBatch} 를 만든다.
+     */
+    @Bean
+    public RedisPipelineExecutor redisPipelineExecutor(
+            LettuceConnectionFactory defaultRedisConnectionFactory,
+            @Qualifier(CONNECTION_MASTER) LettuceConnectionFactory masterRedisConnectionFactory,
+            RedisBatchProperties redisBatchProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new RedisPipelineExecutor(
+                defaultRedisConnectionFactory,
+                masterRedisConnectionFactory,
+                redisBatchProperties.maxPipelineSize(),
+                resilienceProperties.commandTimeout(),
+                meterRegistry
+        );
+    }
+
+    /**
+     * 여러 스레드의 명령을 짧은 시간 모아 한 번에 보낸다.
+     */
+    @Bean(destroyMethod = "close")
+    public AutoBatchingRedisCommands autoBatchingRedisCommands(
+            RedisPipelineExecutor redisPipelineExecutor,
+            RedisBatchProperties redisBatchProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new AutoBatchingRedisCommands(
+                redisPipelineExecutor,
+                redisBatchProperties.autoBatchWindow(),
+                redisBatchProperties.autoBatchMaxSize(),
+                meterRegistry
+        );
+    }
+
+    @Bean(destroyMethod = "close")
+    public RedisResilience redisResilience(RedisResilienceProperties redisResilienceProperties, MeterRegistry meterRegistry) {
+        return new RedisResilience(redisResilienceProperties, meterRegistry);
+    }
+
+    /**
+     * 느린 replica 대신 master 응답을 쓰도록 조회를 한 번 더 보낸다. (datasource.redis.hedged-read.enabled 로 켠다.)
+     */
+    @Bean(destroyMethod = "close")
+    public HedgedRedisReader hedgedRedisReader(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            RedisHedgedReadProperties redisHedgedReadProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new HedgedRedisReader(defaultRedisTemplate, masterRedisTemplate, redisHedgedReadProperties, meterRegistry);
+    }
+
+    /**
+     * 최근에 쓴 키만 master 에서 읽는다. (datasource.redis.read-your-writes)
+     */
+    @Bean
+    public ReadYourWrites readYourWrites(RedisReadYourWritesProperties redisReadYourWritesProperties, MeterRegistry meterRegistry) {
+        return new ReadYourWrites(redisReadYourWritesProperties, meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicationLagProbe replicationLagProbe(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            RedisReadYourWritesProperties redisReadYourWritesProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicationLagProbe(defaultRedisTemplate, masterRedisTemplate, redisReadYourWritesProperties, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            @Qualifier(CONNECTION_PUBSUB) LettuceConnectionFactory lettuceConnectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        return container;
+    }
 
     private LettuceConnectionFactory lettuceConnectionFactory(
             int database,
@@ -75,8 +246,12 @@ public class RedisConfig{
             List<RedisNodeInfo> replicas,
             Consumer<LettuceClientConfiguration.LettuceClientConfigurationBuilder> customizer
     ){
-        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+                .commandTimeout(resilienceProperties.commandTimeout());
         if(customizer != null) customizer.accept(builder);
+        if(redisProperties.isCluster()){
+            return new LettuceConnectionFactory(clusterConfiguration(), clusterClientConfiguration(builder).build());
+        }
         LettuceClientConfiguration clientConfig = builder.build();
         RedisStaticMasterReplicaConfiguration masterReplicaConfig = new RedisStaticMasterReplicaConfiguration(master.host(), master.port());
         masterReplicaConfig.setDatabase(database);
@@ -86,6 +261,36 @@ public class RedisConfig{
         return new LettuceConnectionFactory(masterReplicaConfig, clientConfig);
     }
 
+    private RedisClusterConfiguration clusterConfiguration(){
+        RedisProperties.Cluster cluster = redisProperties.cluster();
+        RedisClusterConfiguration clusterConfig = new RedisClusterConfiguration();
+        for(RedisNodeInfo node : cluster.nodes()){
+            clusterConfig.clusterNode(node.host(), node.port());
+        }
+        clusterConfig.setMaxRedirects(cluster.maxRedirects());
+        return clusterConfig;
+    }
+
+    /**
+     * 슬롯 이동이나 장애 조치로 MOVED/ASK, 연결 실패가 나면 토폴로지를 바로 다시 읽고(adaptive),
+     * 그런 신호가 없더라도 주기적으로 다시 읽는다.
+     */
+    private LettuceClientConfiguration.LettuceClientConfigurationBuilder clusterClientConfiguration(
+            LettuceClientConfiguration.LettuceClientConfigurationBuilder builder
+    ){
+        RedisProperties.Cluster cluster = redisProperties.cluster();
+        ClusterTopologyRefreshOptions refreshOptions = ClusterTopologyRefreshOptions.builder()
+                .enableAllAdaptiveRefreshTriggers()
+                .adaptiveRefreshTriggersTimeout(cluster.adaptiveRefreshTimeout())
+                .enablePeriodicRefresh(cluster.periodicRefresh())
+                .dynamicRefreshSources(true)
+                .build();
+        return builder.clientOptions(ClusterClientOptions.builder()
+                .topologyRefreshOptions(refreshOptions)
+                .maxRedirects(cluster.maxRedirects())
+                .build());
+    }
+
     private <K,V> RedisTemplate<K,V> defaultRedisTemplate(
             RedisTemplate<K,V> template,
             LettuceConnectionFactory connectionFactory
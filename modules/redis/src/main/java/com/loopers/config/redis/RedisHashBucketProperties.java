@@ -0,0 +1,20 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 작은 값을 해시 버킷에 모아 저장하는 설정. 버킷 하나가 listpack 인코딩을 유지해야 키마다 드는 메모리를 아낀다.
+ *
+ * @param entriesPerBucket 버킷 하나에 담는 최대 항목 수. 서버의 hash-max-listpack-entries(기본 128) 이하로 둔다.
+ * @param maxValueBytes    저장할 수 있는 값의 최대 크기(만료 시각 포함). 서버의 hash-max-listpack-value(기본 64) 이하로 둔다.
+ */
+@ConfigurationProperties(value = "datasource.redis.hash-bucket")
+public record RedisHashBucketProperties(
+        int entriesPerBucket,
+        int maxValueBytes
+) {
+    public RedisHashBucketProperties {
+        entriesPerBucket = entriesPerBucket > 0 ? entriesPerBucket : 100;
+        maxValueBytes = maxValueBytes > 0 ? maxValueBytes : 64;
+    }
+}
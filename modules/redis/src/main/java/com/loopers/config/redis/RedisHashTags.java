@@ -0,0 +1,57 @@
+package com.loopers.config.redis;
+
+import io.lettuce.core.cluster.SlotHash;
+
+import java.util.Collection;
+
+/**
+ * Redis Cluster 는 키의 해시 태그({...} 안의 문자열)만으로 슬롯을 정하므로, 같은 태그를 쓴 키는 같은 노드에 놓인다.
+ * 여러 키를 한 명령(MGET, 트랜잭션, Lua)으로 다뤄야 하면 {@link #key(String, Object, Object...)} 로 같은 태그를 붙인다.
+ * <pre>
+ *     RedisHashTags.key("cart", userId, "items")   // cart:{42}:items
+ *     RedisHashTags.key("cart", userId, "coupons") // cart:{42}:coupons (같은 슬롯)
+ * </pre>
+ * 태그 하나에 키가 몰리면 그 노드에만 부하가 쏠리므로, 사용자·주문처럼 값이 고르게 퍼지는 식별자를 태그로 쓴다.
+ */
+public final class RedisHashTags {
+
+    private RedisHashTags() {
+    }
+
+    /**
+     * {@code prefix:{tag}:part1:part2...} 형식의 키
+     */
+    public static String key(String prefix, Object tag, Object... parts) {
+        String tagValue = String.valueOf(tag);
+        if (tagValue.isEmpty() || tagValue.indexOf('{') >= 0 || tagValue.indexOf('}') >= 0) {
+            throw new IllegalArgumentException("해시 태그는 비어 있거나 중괄호를 포함할 수 없습니다: " + tagValue);
+        }
+        StringBuilder key = new StringBuilder(prefix).append(":{").append(tagValue).append('}');
+        for (Object part : parts) {
+            key.append(':').append(part);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 슬롯 계산에 쓰이는 부분. Redis 와 같은 규칙으로, 첫 '{' 와 그 뒤 첫 '}' 사이가 비어 있지 않을 때만 태그로 본다.
+     */
+    public static String hashTagOf(String key) {
+        int open = key.indexOf('{');
+        if (open >= 0) {
+            int close = key.indexOf('}', open + 1);
+            if (close > open + 1) {
+                return key.substring(open + 1, close);
+            }
+        }
+        return key;
+    }
+
+    public static int slotOf(String key) {
+        return SlotHash.getSlot(key);
+    }
+
+    public static boolean sameSlot(Collection<String> keys) {
+        return keys.stream().map(RedisHashTags::slotOf).distinct().count() <= 1;
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * replica 조회가 늦으면 master 에 같은 조회를 한 번 더 보내는 hedged read 설정.
+ *
+ * @param enabled    false 면 replica(REPLICA_PREFERRED) 로만 조회한다.
+ * @param delay      master 에 보내기까지 기다리는 시간. 비워 두면 최근 replica 응답 시간의 percentile 로 정한다.
+ * @param percentile delay 를 비워 둘 때 사용할 응답 시간 분위. 0.95 면 평소 요청의 약 5% 만 master 로 한 번 더 보낸다.
+ * @param minDelay   측정으로 정한 delay 의 하한
+ * @param maxDelay   측정으로 정한 delay 의 상한. 측정값이 충분히 모이기 전에는 이 값을 쓴다.
+ * @param windowSize percentile 을 계산할 최근 replica 응답 수
+ */
+@ConfigurationProperties(value = "datasource.redis.hedged-read")
+public record RedisHedgedReadProperties(
+        boolean enabled,
+        Duration delay,
+        double percentile,
+        Duration minDelay,
+        Duration maxDelay,
+        int windowSize
+) {
+    public RedisHedgedReadProperties {
+        percentile = percentile > 0 && percentile < 1 ? percentile : 0.95;
+        minDelay = minDelay != null ? minDelay : Duration.ofMillis(1);
+        maxDelay = maxDelay != null ? maxDelay : Duration.ofMillis(20);
+        windowSize = windowSize > 0 ? windowSize : 1024;
+    }
+
+    public static RedisHedgedReadProperties disabled() {
+        return new RedisHedgedReadProperties(false, null, 0, null, null, 0);
+    }
+}
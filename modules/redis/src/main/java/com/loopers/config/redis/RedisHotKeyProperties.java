@@ -0,0 +1,43 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 조회가 몰리는 키를 찾아 노드 안에 잠깐 올려 두는 설정.
+ *
+ * @param enabled          false 면 세지도 올리지도 않고 Redis 에서 읽는다.
+ * @param sketchWidth      count-min sketch 한 행의 칸 수(2 의 거듭제곱으로 올린다). 넓을수록 해시 충돌로 부풀려지는 추정치가 줄어든다.
+ * @param sketchDepth      count-min sketch 의 행 수(최대 8). 깊을수록 충돌에 덜 흔들리지만 조회마다 세는 칸이 늘어난다.
+ * @param decayInterval    모든 추정치를 절반으로 줄이는 간격
+ * @param promoteThreshold 노드에 올리는 추정치 기준. 꾸준히 초당 r 번 읽는 키의 추정치는 r × decay-interval(초) 와 그 두 배 사이를 오간다.
+ * @param topK             actuator 로 보여줄 추정치 상위 키 수
+ * @param promotedTtl      올린 값을 노드에 두는 시간. 다른 노드가 바꾼 값은 이 시간만큼 늦게 보인다.
+ * @param maxPromoted      노드에 올려 둘 최대 키 수
+ */
+@ConfigurationProperties(value = "datasource.redis.hot-key")
+public record RedisHotKeyProperties(
+        boolean enabled,
+        int sketchWidth,
+        int sketchDepth,
+        Duration decayInterval,
+        long promoteThreshold,
+        int topK,
+        Duration promotedTtl,
+        long maxPromoted
+) {
+    public RedisHotKeyProperties {
+        sketchWidth = sketchWidth > 1 ? sketchWidth : 4096;
+        sketchDepth = sketchDepth > 0 ? Math.min(sketchDepth, HotKeyDetector.MAX_DEPTH) : 4;
+        decayInterval = decayInterval != null ? decayInterval : Duration.ofSeconds(1);
+        promoteThreshold = promoteThreshold > 0 ? promoteThreshold : 1000;
+        topK = topK > 0 ? topK : 20;
+        promotedTtl = promotedTtl != null ? promotedTtl : Duration.ofSeconds(1);
+        maxPromoted = maxPromoted > 0 ? maxPromoted : 1000;
+    }
+
+    public static RedisHotKeyProperties disabled() {
+        return new RedisHotKeyProperties(false, 0, 0, null, 0, 0, null, 0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.loopers.config.redis;
+
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 모아 둔 명령을 max-pipeline-size 개씩 나눠, 한 묶음의 명령을 응답을 기다리지 않고 모두 보낸 뒤 한 번에 기다린다.
+ * 묶음 크기를 제한해 한 번에 쌓이는 응답 버퍼와 다른 요청이 뒤에서 기다리는 시간을 묶는다.
+ * Cluster 에서는 Lettuce 가 명령마다 슬롯을 가진 노드로 보내므로 노드별 파이프라인이 병렬로 처리된다.
+ * 조회만 있는 배치는 replica 로 보내고, 쓰기가 하나라도 있으면 배치 전체를 추가한 순서대로 master 로 보낸다.
+ * 쓰기 뒤의 조회가 복제되기 전의 replica 에서 이전 값을 읽지 않게 하기 위해서다.
+ */
+public class RedisPipelineExecutor {
+
+    private final LettuceConnectionFactory readConnectionFactory;
+    private final LettuceConnectionFactory writeConnectionFactory;
+    private final int maxPipelineSize;
+    private final Duration timeout;
+    private final DistributionSummary pipelineSize;
+
+    public RedisPipelineExecutor(
+            LettuceConnectionFactory readConnectionFactory,
+            LettuceConnectionFactory writeConnectionFactory,
+            int maxPipelineSize,
+            Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.readConnectionFactory = readConnectionFactory;
+        this.writeConnectionFactory = writeConnectionFactory;
+        this.maxPipelineSize = maxPipelineSize;
+        this.timeout = timeout;
+        this.pipelineSize = DistributionSummary.builder("redis.pipeline.commands")
+                .description("파이프라인 한 번에 보낸 명령 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 요청이나 작업 안에서 명령을 모으는 배치. flush() 또는 close() 할 때 보낸다.
+     */
+    public RedisBatch batch() {
+        return new RedisBatch(this);
+    }
+
+    /**
+     * 명령을 보내고 모든 응답(또는 실패)이 올 때까지 기다린다. 결과는 각 명령의 future 로 전달된다.
+     */
+    void execute(List<PendingRedisCommand<?>> commands) {
+        boolean hasWrite = commands.stream().anyMatch(PendingRedisCommand::isWrite);
+        LettuceConnectionFactory connectionFactory = hasWrite ? writeConnectionFactory : readConnectionFactory;
+        for (int from = 0; from < commands.size(); from += maxPipelineSize) {
+            List<PendingRedisCommand<?>> chunk = commands.subList(from, Math.min(from + maxPipelineSize, commands.size()));
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                send(connection, chunk);
+                pipelineSize.record(chunk.size());
+                await(chunk);
+            } catch (RuntimeException e) {
+                chunk.forEach(command -> command.fail(e));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void send(RedisConnection connection, List<PendingRedisCommand<?>> commands) {
+        RedisClusterAsyncCommands<byte[], byte[]> async = (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+        commands.forEach(command -> command.send(async));
+    }
+
+    private void await(List<PendingRedisCommand<?>> chunk) {
+        CompletableFuture<?>[] results = chunk.stream().map(PendingRedisCommand::result).toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(results).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // 실패는 각 명령의 future 에 담겨 있다.
+        } catch (TimeoutException e) {
+            QueryTimeoutException timedOut = new QueryTimeoutException("Redis 파이프라인이 " + timeout.toMillis() + "ms 안에 끝나지 않았습니다.");
+            chunk.forEach(command -> command.fail(timedOut));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            QueryTimeoutException interrupted = new QueryTimeoutException("Redis 파이프라인을 기다리는 중 중단되었습니다.");
+            chunk.forEach(command -> command.fail(interrupted));
+        }
+    }
+}
@@ -2,11 +2,44 @@ package com.loopers.config.redis;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.List;
 
+/**
+ * cluster.nodes 를 지정하면 Redis Cluster 로 연결하고, 비워 두면 master/replicas 로 고정된 master/replica 구성에 연결한다.
+ */
 @ConfigurationProperties(value = "datasource.redis")
 public record RedisProperties(
         int database,
         RedisNodeInfo master,
-        List<RedisNodeInfo> replicas
-) { }
+        List<RedisNodeInfo> replicas,
+        Cluster cluster
+) {
+    public RedisProperties {
+        replicas = replicas != null ? replicas : List.of();
+    }
+
+    public boolean isCluster() {
+        return cluster != null && !cluster.nodes().isEmpty();
+    }
+
+    /**
+     * @param nodes                  처음 연결할 노드들. 나머지 노드와 슬롯 배치는 CLUSTER SLOTS 로 알아낸다.
+     * @param maxRedirects           MOVED/ASK 를 따라가는 최대 횟수
+     * @param periodicRefresh        토폴로지를 주기적으로 다시 읽는 간격
+     * @param adaptiveRefreshTimeout MOVED, 연결 실패 등으로 토폴로지를 다시 읽은 뒤 다음 갱신까지 기다리는 최소 시간
+     */
+    public record Cluster(
+            List<RedisNodeInfo> nodes,
+            int maxRedirects,
+            Duration periodicRefresh,
+            Duration adaptiveRefreshTimeout
+    ) {
+        public Cluster {
+            nodes = nodes != null ? nodes : List.of();
+            maxRedirects = maxRedirects > 0 ? maxRedirects : 3;
+            periodicRefresh = periodicRefresh != null ? periodicRefresh : Duration.ofSeconds(60);
+            adaptiveRefreshTimeout = adaptiveRefreshTimeout != null ? adaptiveRefreshTimeout : Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 방금 쓴 키를 일정 시간 master 에서 읽는 read-your-writes 설정.
+ *
+ * @param enabled          false 면 모든 조회를 replica(REPLICA_PREFERRED) 로 보낸다.
+ * @param window           쓴 키를 master 에서 읽는 시간. 관측된 복제 지연(redis.replication.lag)보다 길게 둔다.
+ * @param maximumKeys      기억할 최근에 쓴 키의 최대 수. 넘치면 오래된 키부터 replica 로 돌아간다.
+ * @param lagProbeInterval 복제 지연을 측정하는 주기. 0 이면 측정하지 않는다.
+ */
+@ConfigurationProperties(value = "datasource.redis.read-your-writes")
+public record RedisReadYourWritesProperties(
+        Boolean enabled,
+        Duration window,
+        long maximumKeys,
+        Duration lagProbeInterval
+) {
+    public RedisReadYourWritesProperties {
+        enabled = enabled == null || enabled;
+        window = window != null ? window : Duration.ofSeconds(1);
+        maximumKeys = maximumKeys > 0 ? maximumKeys : 100_000;
+        lagProbeInterval = lagProbeInterval != null ? lagProbeInterval : Duration.ofSeconds(5);
+    }
+
+    public static RedisReadYourWritesProperties disabled() {
+        return new RedisReadYourWritesProperties(false, null, 0, Duration.ZERO);
+    }
+}
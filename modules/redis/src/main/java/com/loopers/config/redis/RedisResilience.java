@@ -0,0 +1,156 @@
+package com.loopers.config.redis;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Redis 호출에 연산별 시간 예산과 서킷 브레이커를 적용한다.
+ * <ul>
+ *     <li>호출은 가상 스레드에서 실행하고, 시간 예산을 넘기면 결과를 기다리지 않고 fallback 으로 넘어간다.</li>
+ *     <li>Redis 오류({@link DataAccessException})와 시간 초과의 비율, 또는 느린 호출의 비율이 임계치를 넘으면 브레이커가 열리고,
+ *     열린 동안에는 Redis 를 호출하지 않고 바로 fallback 을 돌려준다.</li>
+ *     <li>그 밖의 예외(직렬화 실패 등)는 Redis 장애가 아니므로 그대로 던진다.</li>
+ * </ul>
+ * 캐시 조회의 fallback 은 "없음"으로 두어 원본(DB)에서 읽게 하고, 캐시 쓰기는 건너뛴다.
+ * 브레이커 상태와 호출 결과(not_permitted 포함)는 resilience4j.circuitbreaker.* 로, 상태 전환과 fallback 사유는 redis.resilience.* 로 내보낸다.
+ */
+@Slf4j
+public class RedisResilience implements AutoCloseable {
+
+    public static final String CIRCUIT_BREAKER_NAME = "redis";
+
+    private final RedisResilienceProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public RedisResilience(RedisResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        RedisResilienceProperties.CircuitBreaker breaker = properties.circuitBreaker();
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(breaker.slidingWindowSize())
+                .minimumNumberOfCalls(breaker.minimumNumberOfCalls())
+                .failureRateThreshold(breaker.failureRateThreshold())
+                .slowCallRateThreshold(breaker.slowCallRateThreshold())
+                .slowCallDurationThreshold(breaker.slowCallDuration())
+                .waitDurationInOpenState(breaker.waitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(breaker.permittedCallsInHalfOpenState())
+                .recordExceptions(DataAccessException.class, TimeoutException.class)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        this.circuitBreaker = registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("Redis 서킷 브레이커 상태 변경 {} -> {}", transition.getFromState(), transition.getToState());
+            Counter.builder("redis.resilience.transitions")
+                    .tag("name", event.getCircuitBreakerName())
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+    }
+
+    /**
+     * Redis 를 호출하고, 차단되었거나 시간 예산을 넘겼거나 Redis 오류가 나면 fallback 의 값을 돌려준다.
+     */
+    public <T> T call(String operation, Supplier<T> redisCall, Supplier<T> fallback) {
+        if (!properties.enabled()) {
+            return redisCall.get();
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback(operation, Reason.SHORT_CIRCUIT, fallback);
+        }
+
+        long start = System.nanoTime();
+        Future<T> future = executor.submit(redisCall::get);
+        try {
+            T result = future.get(properties.timeoutOf(operation).toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            return fallback(operation, Reason.TIMEOUT, fallback);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, cause);
+            if (cause instanceof DataAccessException) {
+                log.debug("Redis {} 실패: {}", operation, cause.getMessage());
+                return fallback(operation, Reason.ERROR, fallback);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.releasePermission();
+            Thread.currentThread().interrupt();
+            return fallback(operation, Reason.INTERRUPTED, fallback);
+        }
+    }
+
+    /**
+     * 결과가 없는 호출(쓰기, 삭제). 실패하면 건너뛴다.
+     */
+    public void run(String operation, Runnable redisCall) {
+        call(operation, () -> {
+            redisCall.run();
+            return null;
+        }, () -> null);
+    }
+
+    public CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T fallback(String operation, Reason reason, Supplier<T> fallback) {
+        Counter.builder("redis.resilience.fallbacks")
+                .tag("operation", operation)
+                .tag("reason", reason.tag)
+                .register(meterRegistry)
+                .increment();
+        return fallback.get();
+    }
+
+    private enum Reason {
+        SHORT_CIRCUIT("short_circuit"),
+        TIMEOUT("timeout"),
+        ERROR("error"),
+        INTERRUPTED("interrupted");
+
+        private final String tag;
+
+        Reason(String tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Redis 호출의 시간 예산과 서킷 브레이커 설정.
+ *
+ * @param enabled        false 면 시간 제한과 차단 없이 호출한다.
+ * @param commandTimeout Lettuce 명령 타임아웃. 시간 예산을 넘겨 포기한 명령이 커넥션을 붙잡고 있는 시간의 상한이다.
+ * @param defaultTimeout timeouts 에 없는 연산의 시간 예산
+ * @param timeouts       연산 이름별 시간 예산 (예: cache-get, cache-put)
+ */
+@ConfigurationProperties(value = "datasource.redis.resilience")
+public record RedisResilienceProperties(
+        Boolean enabled,
+        Duration commandTimeout,
+        Duration defaultTimeout,
+        Map<String, Duration> timeouts,
+        CircuitBreaker circuitBreaker
+) {
+    public RedisResilienceProperties {
+        enabled = enabled == null || enabled;
+        commandTimeout = commandTimeout != null ? commandTimeout : Duration.ofSeconds(1);
+        defaultTimeout = defaultTimeout != null ? defaultTimeout : Duration.ofMillis(100);
+        timeouts = timeouts != null ? timeouts : Map.of();
+        circuitBreaker = circuitBreaker != null ? circuitBreaker : new CircuitBreaker(0, 0, null, 0, 0, null, 0);
+    }
+
+    public Duration timeoutOf(String operation) {
+        return timeouts.getOrDefault(operation, defaultTimeout);
+    }
+
+    /**
+     * @param failureRateThreshold          실패(예외, 시간 초과) 비율이 이 값(%) 이상이면 연다.
+     * @param slowCallRateThreshold         slow-call-duration 보다 오래 걸린 호출의 비율이 이 값(%) 이상이면 연다.
+     * @param slowCallDuration              느린 호출로 보는 기준
+     * @param slidingWindowSize             비율을 계산하는 최근 호출 수
+     * @param minimumNumberOfCalls          비율을 계산하기 전에 필요한 최소 호출 수
+     * @param waitDurationInOpenState       열린 뒤 반열림으로 넘어가 다시 시도하기까지의 시간
+     * @param permittedCallsInHalfOpenState 반열림 상태에서 회복 여부를 판단하려고 흘려보내는 호출 수
+     */
+    public record CircuitBreaker(
+            float failureRateThreshold,
+            float slowCallRateThreshold,
+            Duration slowCallDuration,
+            int slidingWindowSize,
+            int minimumNumberOfCalls,
+            Duration waitDurationInOpenState,
+            int permittedCallsInHalfOpenState
+    ) {
+        public CircuitBreaker {
+            failureRateThreshold = failureRateThreshold > 0 ? failureRateThreshold : 50;
+            slowCallRateThreshold = slowCallRateThreshold > 0 ? slowCallRateThreshold : 80;
+            slowCallDuration = slowCallDuration != null ? slowCallDuration : Duration.ofMillis(50);
+            slidingWindowSize = slidingWindowSize > 0 ? slidingWindowSize : 100;
+            minimumNumberOfCalls = minimumNumberOfCalls > 0 ? minimumNumberOfCalls : 20;
+            waitDurationInOpenState = waitDurationInOpenState != null ? waitDurationInOpenState : Duration.ofSeconds(10);
+            permittedCallsInHalfOpenState = permittedCallsInHalfOpenState > 0 ? permittedCallsInHalfOpenState : 5;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 값을 공유 ObjectMapper 설정 그대로 JSON/Smile/CBOR 로 직렬화하고, 크기가 threshold 이상이면 압축한다.
+ * <pre>
+ *     [0xCB][버전][형식 id][압축 id][압축 전 길이(int, 압축했을 때만)][본문]
+ * </pre>
+ * 읽을 때는 헤더를 보고 형식과 압축 방식을 고르므로, 설정을 바꿔도 이미 저장된 값을 읽을 수 있다.
+ * 압축하지 않은 JSON 은 헤더 없이 써서 헤더를 모르는 이전 버전과 같은 값을 유지하고, 헤더가 없는 값은 JSON 으로 읽는다.
+ */
+public class RedisValueCodec {
+
+    static final byte MAGIC = (byte) 0xCB;
+    static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 4;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    /** Redis 문자열 값의 최대 크기. 손상된 헤더로 큰 배열을 할당하지 않게 막는다. */
+    private static final int MAX_VALUE_BYTES = 512 * 1024 * 1024;
+
+    private final Map<RedisValueFormat, ObjectMapper> mappers = new EnumMap<>(RedisValueFormat.class);
+    private final RedisValueFormat format;
+    private final RedisValueCompression compression;
+    private final long compressionThreshold;
+    private final int compressionLevel;
+
+    public RedisValueCodec(ObjectMapper objectMapper, RedisCodecProperties properties) {
+        ObjectMapper base = objectMapper.copy()
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        for (RedisValueFormat valueFormat : RedisValueFormat.values()) {
+            mappers.put(valueFormat, base.copyWith(valueFormat.newFactory()));
+        }
+        this.format = properties.format();
+        this.compression = properties.compression();
+        this.compressionThreshold = properties.compressionThreshold().toBytes();
+        this.compressionLevel = properties.compressionLevel();
+    }
+
+    public byte[] encode(Object value) throws SerializationException {
+        byte[] payload;
+        try {
+            payload = mappers.get(format).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("값을 직렬화할 수 없습니다: " + value.getClass().getName(), e);
+        }
+        byte[] compressed = compress(payload);
+        if (compressed == null && format == RedisValueFormat.JSON) {
+            return payload;
+        }
+        byte[] body = compressed != null ? compressed : payload;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + (compressed != null ? LENGTH_BYTES : 0) + body.length)
+                .put(MAGIC)
+                .put(VERSION)
+                .put(format.id())
+                .put((compressed != null ? compression : RedisValueCompression.NONE).id());
+        if (compressed != null) {
+            buffer.putInt(payload.length);
+        }
+        return buffer.put(body).array();
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) throws SerializationException {
+        return decode(bytes, 0, bytes.length, javaType(type));
+    }
+
+    public <T> T decode(byte[] bytes, int offset, int length, JavaType type) throws SerializationException {
+        try {
+            if (length == 0 || bytes[offset] != MAGIC) {
+                return mappers.get(RedisValueFormat.JSON).readValue(bytes, offset, length, type);
+            }
+            if (length < HEADER_BYTES || bytes[offset + 1] != VERSION) {
+                throw new SerializationException("지원하지 않는 값 헤더입니다. 이 버전보다 새로운 애플리케이션이 쓴 값일 수 있습니다.");
+            }
+            ObjectMapper mapper = mappers.get(RedisValueFormat.of(bytes[offset + 2]));
+            RedisValueCompression valueCompression = RedisValueCompression.of(bytes[offset + 3]);
+            int start = offset + HEADER_BYTES;
+            int end = offset + length;
+            if (valueCompression == RedisValueCompression.NONE) {
+                return mapper.readValue(bytes, start, end - start, type);
+            }
+            int originalLength = ByteBuffer.wrap(bytes, start, LENGTH_BYTES).getInt();
+            if (originalLength < 0 || originalLength > MAX_VALUE_BYTES) {
+                throw new SerializationException("압축 전 길이가 올바르지 않습니다: " + originalLength);
+            }
+            byte[] payload = new byte[originalLength];
+            valueCompression.decompress(bytes, start + LENGTH_BYTES, end - start - LENGTH_BYTES, payload);
+            return mapper.readValue(payload, type);
+        } catch (SerializationException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("값을 역직렬화할 수 없습니다: " + type, e);
+        }
+    }
+
+    public JavaType javaType(Type type) {
+        return mappers.get(format).constructType(type);
+    }
+
+    /**
+     * 압축하지 않거나 압축해도 작아지지 않으면 null 을 돌려준다.
+     */
+    private byte[] compress(byte[] payload) {
+        if (compression == RedisValueCompression.NONE || payload.length < compressionThreshold) {
+            return null;
+        }
+        byte[] compressed = compression.compress(payload, compressionLevel);
+        return compressed.length + LENGTH_BYTES < payload.length ? compressed : null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.loopers.config.redis;
+
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Redis 값 압축 방식. id 는 값 헤더에 기록되므로 바꾸거나 재사용하지 않는다.
+ * LZ4 는 압축률보다 속도를, ZSTD 는 CPU 를 조금 더 쓰는 대신 압축률을 택한다.
+ */
+public enum RedisValueCompression {
+    NONE(0) {
+        @Override
+        byte[] compress(byte[] source, int level) {
+            return source;
+        }
+
+        @Override
+        void decompress(byte[] source, int offset, int length, byte[] target) {
+            System.arraycopy(source, offset, target, 0, length);
+        }
+    },
+    LZ4(1) {
+        @Override
+        byte[] compress(byte[] source, int level) {
+            return Lz4.FACTORY.fastCompressor().compress(source);
+        }
+
+        @Override
+        void decompress(byte[] source, int offset, int length, byte[] target) {
+            int decompressed = Lz4.FACTORY.safeDecompressor().decompress(source, offset, length, target, 0, target.length);
+            if (decompressed != target.length) {
+                throw new IllegalStateException("LZ4 로 압축을 푼 길이가 헤더와 다릅니다: " + decompressed + " != " + target.length);
+            }
+        }
+    },
+    ZSTD(2) {
+        @Override
+        byte[] compress(byte[] source, int level) {
+            return Zstd.compress(source, level);
+        }
+
+        @Override
+        void decompress(byte[] source, int offset, int length, byte[] target) {
+            long decompressed = Zstd.decompressByteArray(target, 0, target.length, source, offset, length);
+            if (Zstd.isError(decompressed) || decompressed != target.length) {
+                throw new IllegalStateException("ZSTD 로 압축을 풀지 못했습니다: " + (Zstd.isError(decompressed) ? Zstd.getErrorName(decompressed) : decompressed));
+            }
+        }
+    };
+
+    private final byte id;
+
+    RedisValueCompression(int id) {
+        this.id = (byte) id;
+    }
+
+    abstract byte[] compress(byte[] source, int level);
+
+    /**
+     * target 은 압축 전 길이만큼 할당해 넘긴다.
+     */
+    abstract void decompress(byte[] source, int offset, int length, byte[] target);
+
+    byte id() {
+        return id;
+    }
+
+    static RedisValueCompression of(byte id) {
+        for (RedisValueCompression compression : values()) {
+            if (compression.id == id) {
+                return compression;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 압축 방식입니다: " + id);
+    }
+
+    /**
+     * LZ4 를 쓰지 않으면 네이티브 라이브러리를 읽지 않도록 처음 사용할 때 초기화한다.
+     */
+    private static final class Lz4 {
+        private static final LZ4Factory FACTORY = LZ4Factory.fastestInstance();
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Redis 값을 쓰는 Jackson 형식. id 는 값 헤더에 기록되므로 바꾸거나 재사용하지 않는다.
+ */
+public enum RedisValueFormat {
+    JSON(0, JsonFactory::new),
+    /** 필드 이름을 한 번만 쓰고 이후에는 참조로 쓰므로, 같은 구조가 반복되는 목록에서 특히 작다. */
+    SMILE(1, SmileFactory::new),
+    CBOR(2, CBORFactory::new);
+
+    private final byte id;
+    private final Supplier<JsonFactory> factory;
+
+    RedisValueFormat(int id, Supplier<JsonFactory> factory) {
+        this.id = (byte) id;
+        this.factory = factory;
+    }
+
+    byte id() {
+        return id;
+    }
+
+    JsonFactory newFactory() {
+        return factory.get();
+    }
+
+    static RedisValueFormat of(byte id) {
+        for (RedisValueFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 값 형식입니다: " + id);
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 master 에 표식을 쓰고, replica 에서 그 표식이 보일 때까지 걸린 시간을 복제 지연으로 기록한다.
+ * read-your-writes window 가 관측된 지연보다 짧으면, 방금 쓴 키도 window 가 지난 뒤 replica 에서 이전 값으로 읽힐 수 있다.
+ */
+@Slf4j
+public class ReplicationLagProbe implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(1);
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    private final RedisTemplate<String, String> replicaTemplate;
+    private final RedisTemplate<String, String> masterTemplate;
+    private final RedisReadYourWritesProperties properties;
+    private final String key = "redis:replication-lag-probe:" + UUID.randomUUID();
+    private final Timer lagTimer;
+    private final Counter timeoutCounter;
+    private final ScheduledExecutorService scheduler;
+    private volatile long lastLagNanos;
+    private long sequence;
+
+    public ReplicationLagProbe(
+            RedisTemplate<String, String> replicaTemplate,
+            RedisTemplate<String, String> masterTemplate,
+            RedisReadYourWritesProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicaTemplate = replicaTemplate;
+        this.masterTemplate = masterTemplate;
+        this.properties = properties;
+        this.lagTimer = Timer.builder("redis.replication.lag")
+                .description("master 에 쓴 값이 replica 에서 보이기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("redis.replication.lag.timeouts").register(meterRegistry);
+        TimeGauge.builder("redis.replication.lag.last", this, TimeUnit.NANOSECONDS, probe -> probe.lastLagNanos)
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-replication-lag-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        long intervalMillis = properties.lagProbeInterval().toMillis();
+        if (intervalMillis <= 0) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                probe();
+            } catch (RuntimeException e) {
+                log.warn("Redis 복제 지연을 측정하지 못했습니다: {}", e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 표식을 쓰고 replica 에서 보일 때까지 기다린 시간을 돌려준다. MAX_WAIT 안에 보이지 않으면 MAX_WAIT 를 기록한다.
+     */
+    Duration probe() {
+        String marker = String.valueOf(++sequence);
+        masterTemplate.opsForValue().set(key, marker, Duration.ofMinutes(1));
+        long start = System.nanoTime();
+        long deadline = start + MAX_WAIT.toNanos();
+        while (!Objects.equals(marker, replicaTemplate.opsForValue().get(key))) {
+            if (System.nanoTime() >= deadline) {
+                timeoutCounter.increment();
+                return record(MAX_WAIT.toNanos());
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Duration.ZERO;
+            }
+        }
+        return record(System.nanoTime() - start);
+    }
+
+    private Duration record(long lagNanos) {
+        lastLagNanos = lagNanos;
+        lagTimer.record(lagNanos, TimeUnit.NANOSECONDS);
+        Duration lag = Duration.ofNanos(lagNanos);
+        if (lag.compareTo(properties.window()) > 0) {
+            log.warn("Redis 복제 지연 {}ms 가 read-your-writes window {}ms 보다 깁니다.", lag.toMillis(), properties.window().toMillis());
+        }
+        return lag;
+    }
+}
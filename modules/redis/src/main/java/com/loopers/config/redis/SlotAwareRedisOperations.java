@@ -0,0 +1,161 @@
+package com.loopers.config.redis;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * 여러 키를 다루는 명령을 Cluster 에서도 쓸 수 있게 나눠 보낸다.
+ * <ul>
+ *     <li>다중 키 명령(MGET, DEL)은 같은 슬롯의 키끼리 묶어야 하므로, 슬롯별로 나눠 명령 하나씩 만든다.</li>
+ *     <li>명령은 응답을 기다리지 않고 비동기로 모두 보낸 뒤 한 번에 기다린다. Lettuce 는 슬롯을 가진 노드의 커넥션으로 명령을 보내므로,
+ *     같은 노드로 가는 명령은 한 커넥션에서 파이프라인으로, 다른 노드로 가는 명령은 병렬로 처리된다.</li>
+ *     <li>고정 master/replica 구성에서는 슬롯이 없으므로 나누지 않고 한 명령으로 보낸다.</li>
+ * </ul>
+ * 조회는 replica 를 우선하는 커넥션으로, 쓰기와 삭제는 master 커넥션으로 보낸다.
+ */
+public class SlotAwareRedisOperations {
+
+    private final LettuceConnectionFactory readConnectionFactory;
+    private final LettuceConnectionFactory writeConnectionFactory;
+    private final Duration timeout;
+
+    public SlotAwareRedisOperations(
+            LettuceConnectionFactory readConnectionFactory,
+            LettuceConnectionFactory writeConnectionFactory,
+            Duration timeout
+    ) {
+        this.readConnectionFactory = readConnectionFactory;
+        this.writeConnectionFactory = writeConnectionFactory;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 값이 있는 키만 담아 돌려준다. (Cluster 에서는 슬롯 순서로 담기므로 요청한 순서와 다를 수 있다.)
+     */
+    public Map<String, String> multiGet(Collection<String> keys) {
+        List<byte[]> rawKeys = rawKeys(keys);
+        if (rawKeys.isEmpty()) {
+            return Map.of();
+        }
+        return execute(readConnectionFactory, commands -> {
+            List<RedisFuture<List<KeyValue<byte[], byte[]>>>> futures = new ArrayList<>();
+            for (List<byte[]> group : groupBySlot(readConnectionFactory, rawKeys)) {
+                futures.add(commands.mget(group.toArray(byte[][]::new)));
+            }
+            await(futures);
+
+            Map<String, String> values = new LinkedHashMap<>();
+            for (RedisFuture<List<KeyValue<byte[], byte[]>>> future : futures) {
+                for (KeyValue<byte[], byte[]> keyValue : result(future)) {
+                    if (keyValue.hasValue()) {
+                        values.put(string(keyValue.getKey()), string(keyValue.getValue()));
+                    }
+                }
+            }
+            return values;
+        });
+    }
+
+    public void multiSet(Map<String, String> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        SetArgs args = SetArgs.Builder.px(ttl.toMillis());
+        execute(writeConnectionFactory, commands -> {
+            List<RedisFuture<String>> futures = new ArrayList<>(values.size());
+            values.forEach((key, value) -> futures.add(commands.set(bytes(key), bytes(value), args)));
+            await(futures);
+            return null;
+        });
+    }
+
+    /**
+     * 지운 키의 수
+     */
+    public long delete(Collection<String> keys) {
+        List<byte[]> rawKeys = rawKeys(keys);
+        if (rawKeys.isEmpty()) {
+            return 0;
+        }
+        return execute(writeConnectionFactory, commands -> {
+            List<RedisFuture<Long>> futures = new ArrayList<>();
+            for (List<byte[]> group : groupBySlot(writeConnectionFactory, rawKeys)) {
+                futures.add(commands.del(group.toArray(byte[][]::new)));
+            }
+            await(futures);
+            return futures.stream().mapToLong(SlotAwareRedisOperations::result).sum();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(LettuceConnectionFactory connectionFactory, Function<RedisClusterAsyncCommands<byte[], byte[]>, T> action) {
+        // 공유 네이티브 커넥션을 쓰므로, 스프링 커넥션을 닫아도 명령은 끝까지 처리된다. 결과는 닫기 전에 모두 기다린다.
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return action.apply((RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection());
+        }
+    }
+
+    private static Collection<List<byte[]>> groupBySlot(LettuceConnectionFactory connectionFactory, List<byte[]> rawKeys) {
+        if (!connectionFactory.isClusterAware()) {
+            return List.of(rawKeys);
+        }
+        Map<Integer, List<byte[]>> bySlot = new LinkedHashMap<>();
+        for (byte[] rawKey : rawKeys) {
+            bySlot.computeIfAbsent(SlotHash.getSlot(rawKey), slot -> new ArrayList<>()).add(rawKey);
+        }
+        return bySlot.values();
+    }
+
+    private void await(List<? extends RedisFuture<?>> futures) {
+        boolean completed;
+        try {
+            completed = LettuceFutures.awaitAll(timeout, futures.toArray(RedisFuture[]::new));
+        } catch (RuntimeException e) {
+            throw new RedisSystemException("Redis 명령을 처리하지 못했습니다: " + e.getMessage(), e);
+        }
+        if (!completed) {
+            throw new QueryTimeoutException("Redis 명령이 " + timeout.toMillis() + "ms 안에 끝나지 않았습니다.");
+        }
+    }
+
+    private static <T> T result(RedisFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new RedisSystemException("Redis 명령을 처리하지 못했습니다: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisSystemException("Redis 명령을 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    private static List<byte[]> rawKeys(Collection<String> keys) {
+        return keys.stream().distinct().map(SlotAwareRedisOperations::bytes).toList();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
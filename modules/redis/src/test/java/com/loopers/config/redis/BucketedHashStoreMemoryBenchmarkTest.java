@@ -0,0 +1,109 @@
+package com.loopers.config.redis;
+
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 백만 건의 작은 값을 최상위 키로 저장할 때와 해시 버킷에 모아 저장할 때의 INFO memory 를 비교한다.
+ * 실행 시간이 길어 기본 테스트에서는 제외하며, BENCHMARK=true 환경변수로 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class BucketedHashStoreMemoryBenchmarkTest {
+
+    private static final int ENTRY_COUNT = 1_000_000;
+    private static final int CHUNK_SIZE = 10_000;
+
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:latest"));
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getFirstMappedPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @DisplayName("최상위 키와 해시 버킷의 used_memory 증가량을 출력한다.")
+    @Test
+    void compareUsedMemory() {
+        long keysMemory = usedMemoryAfter(() -> {
+            for (int from = 0; from < ENTRY_COUNT; from += CHUNK_SIZE) {
+                int start = from;
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection strings = (StringRedisConnection) connection;
+                    for (int id = start; id < start + CHUNK_SIZE; id++) {
+                        strings.set("member:last-seen:" + id, value(id));
+                    }
+                    return null;
+                });
+            }
+        });
+
+        BucketedHashStore store = new BucketedHashStore(
+                "member:last-seen", new RedisHashBucketProperties(100, 64), redisTemplate, redisTemplate,
+                new HotKeyCache(RedisHotKeyProperties.disabled(), new SimpleMeterRegistry())
+        );
+        long bucketsMemory = usedMemoryAfter(() -> {
+            for (int from = 0; from < ENTRY_COUNT; from += CHUNK_SIZE) {
+                Map<Long, String> chunk = new HashMap<>();
+                for (long id = from; id < from + CHUNK_SIZE; id++) {
+                    chunk.put(id, value(id));
+                }
+                store.putAll(chunk);
+            }
+        });
+
+        System.out.printf("[benchmark] %d entries  top-level keys: %.1f MB (%.1f bytes/entry), hash buckets: %.1f MB (%.1f bytes/entry)%n",
+                ENTRY_COUNT,
+                keysMemory / 1024.0 / 1024.0, (double) keysMemory / ENTRY_COUNT,
+                bucketsMemory / 1024.0 / 1024.0, (double) bucketsMemory / ENTRY_COUNT);
+        assertThat(bucketsMemory).isLessThan(keysMemory);
+    }
+
+    private static String value(long id) {
+        return String.valueOf(1_718_000_000L + id);
+    }
+
+    private static long usedMemoryAfter(Runnable load) {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        long before = usedMemory();
+        load.run();
+        return usedMemory() - before;
+    }
+
+    private static long usedMemory() {
+        Properties memory = redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+        return Long.parseLong(memory.getProperty("used_memory"));
+    }
+}
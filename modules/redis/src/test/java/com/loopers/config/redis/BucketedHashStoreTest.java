@@ -0,0 +1,211 @@
+package com.loopers.config.redis;
+
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class BucketedHashStoreTest {
+
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:latest"));
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final BucketedHashStore store = new BucketedHashStore(
+            "member:last-seen", new RedisHashBucketProperties(100, 64), redisTemplate, redisTemplate,
+            new HotKeyCache(RedisHotKeyProperties.disabled(), new SimpleMeterRegistry())
+    );
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getFirstMappedPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    private static String encodingOf(String key) {
+        return redisTemplate.execute((RedisCallback<String>) connection -> new String(
+                (byte[]) connection.execute("OBJECT", "ENCODING".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8
+        ));
+    }
+
+    @DisplayName("값을 저장할 때, ")
+    @Nested
+    class Put {
+
+        @DisplayName("id 로 정한 버킷의 필드에 저장하고, 같은 id 로 읽는다.")
+        @Test
+        void storesInBucketDerivedFromId() {
+            // act
+            store.put(12_345L, "1718000000");
+
+            // assert
+            assertAll(
+                    () -> assertThat(store.bucketKey(12_345L)).isEqualTo("member:last-seen:123"),
+                    () -> assertThat(store.field(12_345L)).isEqualTo("45"),
+                    () -> assertThat(redisTemplate.opsForHash().get("member:last-seen:123", "45")).isEqualTo(":1718000000"),
+                    () -> assertThat(store.get(12_345L)).contains("1718000000"),
+                    () -> assertThat(store.get(12_346L)).isEmpty()
+            );
+        }
+
+        @DisplayName("버킷을 가득 채워도, listpack 인코딩을 유지한다.")
+        @Test
+        void keepsListpackEncoding_whenBucketIsFull() {
+            // arrange
+            Map<Long, String> values = new HashMap<>();
+            for (long id = 0; id < 1_000; id++) {
+                values.put(id, "value-" + id);
+            }
+
+            // act
+            store.putAll(values);
+
+            // assert
+            assertAll(
+                    () -> assertThat(redisTemplate.opsForHash().size("member:last-seen:0")).isEqualTo(100),
+                    () -> assertThat(encodingOf("member:last-seen:0")).isEqualTo("listpack"),
+                    () -> assertThat(store.get(999L)).contains("value-999")
+            );
+        }
+
+        @DisplayName("만료 시각을 포함한 크기가 max-value-bytes 를 넘으면, IllegalArgumentException 이 발생한다.")
+        @Test
+        void throwsIllegalArgumentException_whenValueIsTooLarge() {
+            // act & assert
+            assertThatThrownBy(() -> store.put(1L, "x".repeat(64)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("필드에 만료를 지정할 때, ")
+    @Nested
+    class Expiry {
+
+        @DisplayName("만료된 필드는 없는 것으로 읽고, 버킷에서 지운다.")
+        @Test
+        void treatsExpiredFieldAsAbsent() throws InterruptedException {
+            // arrange
+            store.put(1L, "persistent");
+            store.put(2L, "short-lived", Duration.ofMillis(50));
+
+            // act
+            Thread.sleep(100);
+
+            // assert
+            assertAll(
+                    () -> assertThat(store.get(2L)).isEmpty(),
+                    () -> assertThat(redisTemplate.opsForHash().hasKey("member:last-seen:0", "2")).isFalse(),
+                    () -> assertThat(store.get(1L)).contains("persistent")
+            );
+        }
+
+        @DisplayName("같은 버킷에 쓰면, 이미 만료된 다른 필드도 지운다.")
+        @Test
+        void purgesExpiredFields_onWrite() throws InterruptedException {
+            // arrange
+            store.put(1L, "short-lived", Duration.ofMillis(50));
+            Thread.sleep(100);
+
+            // act
+            store.put(2L, "fresh");
+
+            // assert
+            assertThat(redisTemplate.opsForHash().keys("member:last-seen:0")).containsExactly("2");
+        }
+
+        @DisplayName("만료 없는 필드가 있으면 버킷 키는 유지되고, 모두 만료가 있으면 가장 늦은 만료에 맞춰 지워진다.")
+        @Test
+        void expiresBucket_onlyWhenEveryFieldExpires() {
+            // act
+            store.put(1L, "a", Duration.ofSeconds(10));
+            store.put(2L, "b", Duration.ofSeconds(60));
+            long bothExpiring = redisTemplate.getExpire("member:last-seen:0");
+            store.put(3L, "c");
+            long withPersistent = redisTemplate.getExpire("member:last-seen:0");
+
+            // assert
+            assertAll(
+                    () -> assertThat(bothExpiring).isBetween(50L, 60L),
+                    () -> assertThat(withPersistent).isEqualTo(-1L)
+            );
+        }
+
+        @DisplayName("만료 없는 필드를 지우거나 만료 있는 값으로 덮어쓰면, 버킷 키는 남은 필드의 가장 늦은 만료에 맞춰 지워진다.")
+        @Test
+        void expiresBucketAgain_whenPersistentFieldIsRemoved() {
+            // arrange
+            store.put(1L, "a", Duration.ofSeconds(60));
+            store.put(2L, "b");
+            store.put(3L, "c");
+
+            // act
+            store.delete(2L);
+            long afterDelete = redisTemplate.getExpire("member:last-seen:0");
+            store.put(3L, "c", Duration.ofSeconds(10));
+            long afterOverwrite = redisTemplate.getExpire("member:last-seen:0");
+
+            // assert
+            assertAll(
+                    () -> assertThat(afterDelete).isEqualTo(-1L),
+                    () -> assertThat(afterOverwrite).isBetween(50L, 60L)
+            );
+        }
+    }
+
+    @DisplayName("값을 지울 때, 같은 버킷의 다른 값은 남긴다.")
+    @Test
+    void deletesOnlyGivenField() {
+        // arrange
+        store.put(1L, "a");
+        store.put(2L, "b");
+
+        // act
+        boolean deleted = store.delete(1L);
+
+        // assert
+        assertAll(
+                () -> assertThat(deleted).isTrue(),
+                () -> assertThat(store.get(1L)).isEmpty(),
+                () -> assertThat(store.get(2L)).contains("b"),
+                () -> assertThat(store.delete(1L)).isFalse()
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 조회 함수가 넘겨받은 템플릿으로 replica/master 를 구분해, 각 노드의 응답 시간과 실패를 흉내 낸다.
+ */
+@SuppressWarnings("unchecked")
+class HedgedRedisReaderTest {
+
+    private final RedisTemplate<String, String> replica = mock(RedisTemplate.class);
+    private final RedisTemplate<String, String> master = mock(RedisTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HedgedRedisReader reader;
+
+    @AfterEach
+    void tearDown() {
+        reader.close();
+    }
+
+    private HedgedRedisReader reader(Duration delay) {
+        return new HedgedRedisReader(
+                replica, master,
+                new RedisHedgedReadProperties(true, delay, 0.95, Duration.ofMillis(1), Duration.ofMillis(100), 16),
+                meterRegistry
+        );
+    }
+
+    private double wins(String target) {
+        return meterRegistry.get("redis.hedged.wins").tag("target", target).counter().count();
+    }
+
+    private double hedges() {
+        return meterRegistry.get("redis.hedged.hedges").counter().count();
+    }
+
+    @DisplayName("replica 에서 조회할 때, ")
+    @Nested
+    class Read {
+
+        @DisplayName("delay 안에 응답하면, master 로 보내지 않는다.")
+        @Test
+        void doesNotHedge_whenReplicaIsFast() {
+            // arrange
+            reader = reader(Duration.ofMillis(200));
+
+            // act
+            String result = reader.read(template -> template == replica ? "replica" : "master");
+
+            // assert
+            assertAll(
+                    () -> assertThat(result).isEqualTo("replica"),
+                    () -> assertThat(hedges()).isZero(),
+                    () -> assertThat(wins("replica")).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("delay 안에 응답하지 않으면, master 로 한 번 더 보내고 먼저 온 응답을 쓴다.")
+        @Test
+        void usesMaster_whenReplicaIsSlow() {
+            // arrange
+            reader = reader(Duration.ofMillis(20));
+
+            // act
+            long start = System.nanoTime();
+            String result = reader.read(template -> {
+                if (template == replica) {
+                    sleep(1_000);
+                    return "replica";
+                }
+                return "master";
+            });
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // assert
+            assertAll(
+                    () -> assertThat(result).isEqualTo("master"),
+                    () -> assertThat(elapsedMillis).isLessThan(500),
+                    () -> assertThat(hedges()).isEqualTo(1),
+                    () -> assertThat(wins("master")).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("replica 가 실패하면, delay 를 기다리지 않고 master 로 보낸다.")
+        @Test
+        void usesMaster_whenReplicaFails() {
+            // arrange
+            reader = reader(Duration.ofSeconds(5));
+
+            // act
+            long start = System.nanoTime();
+            String result = reader.read(template -> {
+                if (template == replica) {
+                    throw new RedisConnectionFailureException("replica down");
+                }
+                return "master";
+            });
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // assert
+            assertAll(
+                    () -> assertThat(result).isEqualTo("master"),
+                    () -> assertThat(elapsedMillis).isLessThan(1_000)
+            );
+        }
+
+        @DisplayName("두 노드가 모두 실패하면, 예외를 던진다.")
+        @Test
+        void throws_whenBothFail() {
+            // arrange
+            reader = reader(Duration.ofMillis(20));
+
+            // act & assert
+            assertThatThrownBy(() -> reader.read(template -> {
+                throw new RedisConnectionFailureException("down");
+            })).isInstanceOf(RedisConnectionFailureException.class);
+        }
+    }
+
+    @DisplayName("delay 를 정하지 않으면, ")
+    @Nested
+    class DerivedDelay {
+
+        @DisplayName("최근 replica 응답 시간의 percentile 을 상하한 안에서 delay 로 쓴다.")
+        @Test
+        void derivesDelay_fromReplicaLatency() {
+            // arrange
+            reader = reader(null);
+            long initial = reader.delayNanos();
+
+            // act
+            for (int i = 0; i < 16; i++) {
+                reader.read(template -> {
+                    sleep(5);
+                    return "replica";
+                });
+            }
+
+            // assert
+            long derived = reader.delayNanos();
+            assertAll(
+                    () -> assertThat(initial).isEqualTo(Duration.ofMillis(100).toNanos()),
+                    () -> assertThat(derived).isBetween(Duration.ofMillis(5).toNanos(), Duration.ofMillis(100).toNanos() - 1)
+            );
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
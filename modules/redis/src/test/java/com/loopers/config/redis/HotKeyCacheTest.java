@@ -0,0 +1,171 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class HotKeyCacheTest {
+
+    private static RedisHotKeyProperties properties(Duration decayInterval, Duration promotedTtl) {
+        return new RedisHotKeyProperties(true, 1024, 4, decayInterval, 10, 3, promotedTtl, 100);
+    }
+
+    @DisplayName("키 빈도를 셀 때, ")
+    @Nested
+    class Detect {
+
+        @DisplayName("많이 읽힌 키가 추정치 순서대로 상위 k 개에 남고, 추정치는 실제보다 작지 않다.")
+        @Test
+        void keepsHeaviestKeys() {
+            // arrange
+            HotKeyDetector detector = new HotKeyDetector(1024, 4, 3, Duration.ofHours(1));
+
+            // act
+            for (int i = 0; i < 10_000; i++) {
+                detector.record("cold:" + i);
+                if (i % 10 == 0) {
+                    detector.record("hot:a");
+                }
+                if (i % 20 == 0) {
+                    detector.record("hot:b");
+                }
+                if (i % 50 == 0) {
+                    detector.record("hot:c");
+                }
+            }
+
+            // assert
+            assertAll(
+                    () -> assertThat(detector.topKeys())
+                            .extracting(HotKeyDetector.HotKey::key)
+                            .containsExactly("hot:a", "hot:b", "hot:c"),
+                    () -> assertThat(detector.estimate("hot:a")).isGreaterThanOrEqualTo(1_000),
+                    () -> assertThat(detector.estimate("hot:c")).isGreaterThanOrEqualTo(200)
+            );
+        }
+
+        @DisplayName("String.hashCode() 가 같은 키는, 서로의 추정치에 더해지지 않는다.")
+        @Test
+        void separatesKeys_withSameStringHashCode() {
+            // arrange
+            HotKeyDetector detector = new HotKeyDetector(1024, 4, 3, Duration.ofHours(1));
+            assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+            // act
+            for (int i = 0; i < 1_000; i++) {
+                detector.record("Aa");
+            }
+
+            // assert
+            assertThat(detector.estimate("BB")).isZero();
+        }
+
+        @DisplayName("decay-interval 이 지나면, 지난 간격만큼 추정치가 절반씩 줄어든다.")
+        @Test
+        void decaysEstimates() throws InterruptedException {
+            // arrange
+            HotKeyDetector detector = new HotKeyDetector(1024, 4, 3, Duration.ofMillis(100));
+            for (int i = 0; i < 1_000; i++) {
+                detector.record("hot");
+            }
+
+            // act
+            Thread.sleep(250);
+            long estimate = detector.record("hot");
+
+            // assert
+            assertThat(estimate).isLessThanOrEqualTo(1_000 / 4 + 1);
+        }
+    }
+
+    @DisplayName("키를 읽을 때, ")
+    @Nested
+    class Read {
+
+        @DisplayName("추정치가 기준을 넘은 키는 노드에 올려, 유지 시간 동안 Redis 를 거치지 않는다.")
+        @Test
+        void servesPromotedKeyLocally() {
+            // arrange
+            HotKeyCache cache = new HotKeyCache(properties(Duration.ofHours(1), Duration.ofMinutes(1)), new SimpleMeterRegistry());
+            AtomicInteger redisReads = new AtomicInteger();
+
+            // act
+            for (int i = 0; i < 100; i++) {
+                cache.read("product:1", () -> "value:" + redisReads.incrementAndGet());
+            }
+
+            // assert
+            assertAll(
+                    () -> assertThat(redisReads.get()).isEqualTo(10),
+                    () -> assertThat(cache.promotedKeys()).containsExactly("product:1"),
+                    () -> assertThat(cache.decisions()).extracting(HotKeyCache.Decision::action).containsExactly(HotKeyCache.Action.PROMOTED)
+            );
+        }
+
+        @DisplayName("올린 키를 무효화하면, 다음 조회는 Redis 에서 새 값을 읽는다.")
+        @Test
+        void readsRedisAgain_afterInvalidate() {
+            // arrange
+            HotKeyCache cache = new HotKeyCache(properties(Duration.ofHours(1), Duration.ofMinutes(1)), new SimpleMeterRegistry());
+            for (int i = 0; i < 20; i++) {
+                cache.read("product:1", () -> "old");
+            }
+
+            // act
+            cache.invalidate("product:1");
+            String value = cache.read("product:1", () -> "new");
+
+            // assert
+            assertAll(
+                    () -> assertThat(value).isEqualTo("new"),
+                    () -> assertThat(cache.read("product:1", () -> "newer")).isEqualTo("new")
+            );
+        }
+
+        @DisplayName("올린 키가 더 이상 많이 읽히지 않으면, 유지 시간이 지난 뒤 내린다.")
+        @Test
+        void demotesCooledKey() throws InterruptedException {
+            // arrange
+            HotKeyCache cache = new HotKeyCache(properties(Duration.ofMillis(100), Duration.ofMillis(50)), new SimpleMeterRegistry());
+            for (int i = 0; i < 20; i++) {
+                cache.read("product:1", () -> "value");
+            }
+
+            // act
+            Thread.sleep(400);
+            AtomicInteger redisReads = new AtomicInteger();
+            cache.read("product:1", () -> "value:" + redisReads.incrementAndGet());
+
+            // assert
+            assertAll(
+                    () -> assertThat(redisReads.get()).isEqualTo(1),
+                    () -> assertThat(cache.promotedKeys()).isEmpty(),
+                    () -> assertThat(cache.decisions()).extracting(HotKeyCache.Decision::action)
+                            .containsExactly(HotKeyCache.Action.DEMOTED, HotKeyCache.Action.PROMOTED)
+            );
+        }
+
+        @DisplayName("꺼져 있으면, 모든 조회가 Redis 로 간다.")
+        @Test
+        void alwaysReadsRedis_whenDisabled() {
+            // arrange
+            HotKeyCache cache = new HotKeyCache(RedisHotKeyProperties.disabled(), new SimpleMeterRegistry());
+            AtomicInteger redisReads = new AtomicInteger();
+
+            // act
+            for (int i = 0; i < 100; i++) {
+                cache.read("product:1", redisReads::incrementAndGet);
+            }
+
+            // assert
+            assertThat(redisReads.get()).isEqualTo(100);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JacksonNearCacheSerializerTest {
+
+    private final JacksonNearCacheSerializer serializer = new JacksonNearCacheSerializer(new ObjectMapper());
+
+    record Product(Long id, String name) { }
+
+    @DisplayName("허용한 패키지의 타입은, 쓴 값을 그대로 읽는다.")
+    @Test
+    void readsWrittenValue_whenTypeIsAllowed() {
+        // arrange
+        Product product = new Product(1L, "신발");
+
+        // act
+        Object decoded = serializer.deserialize(serializer.serialize(product));
+
+        // assert
+        assertThat(decoded).isEqualTo(product);
+    }
+
+    @DisplayName("L2 에 허용하지 않은 타입 이름이 저장되어 있으면, 클래스를 불러오지 않고 예외가 발생한다.")
+    @Test
+    void rejects_whenStoredTypeIsNotAllowed() {
+        // arrange
+        byte[] bytes = "java.net.URL\n\"http://example.com\"".getBytes(StandardCharsets.UTF_8);
+
+        // act & assert
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("java.net.URL");
+    }
+
+    @DisplayName("허용하지 않은 타입의 값을 쓰면, 예외가 발생한다.")
+    @Test
+    void rejects_whenWrittenTypeIsNotAllowed() {
+        // arrange
+        List<String> value = new ArrayList<>(List.of("a"));
+
+        // act & assert
+        assertThatThrownBy(() -> serializer.serialize(value)).isInstanceOf(SerializationException.class);
+    }
+}
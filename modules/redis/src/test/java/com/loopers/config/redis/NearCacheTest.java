@@ -0,0 +1,375 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 같은 Redis 를 바라보는 두 {@link NearCacheManager} 로 두 노드를 흉내 낸다.
+ */
+class NearCacheTest {
+
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:latest"));
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+    private NearCacheManager nodeA;
+    private NearCacheManager nodeB;
+
+    record Product(Long id, String name) { }
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getFirstMappedPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().setConfig("notify-keyspace-events", "Kg$xe");
+            return null;
+        });
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        NearCacheProperties properties = new NearCacheProperties(
+                "cache:",
+                false,
+                new NearCacheProperties.Spec(100L, Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofSeconds(30), 0.1, 0.2, false),
+                Map.of("short", new NearCacheProperties.Spec(null, null, Duration.ofSeconds(10), null, 0.0, 0.5, null)),
+                null
+        );
+        nodeA = node(properties);
+        nodeB = node(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listenerContainers.forEach(container -> {
+            container.stop();
+            try {
+                container.destroy();
+            } catch (Exception ignored) {
+            }
+        });
+        nodeA.close();
+        nodeB.close();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    private NearCacheManager node(NearCacheProperties properties) {
+        NearCacheManager manager = new NearCacheManager(
+                properties, 0, new HedgedRedisReader(redisTemplate, redisTemplate, RedisHedgedReadProperties.disabled(), new SimpleMeterRegistry()),
+                redisTemplate, new JacksonNearCacheSerializer(new ObjectMapper()),
+                new RedisResilience(resilienceProperties(), new SimpleMeterRegistry()),
+                new ReadYourWrites(new RedisReadYourWritesProperties(true, null, 0, Duration.ZERO), new SimpleMeterRegistry()),
+                new HotKeyCache(RedisHotKeyProperties.disabled(), new SimpleMeterRegistry()),
+                new SimpleMeterRegistry()
+        );
+        manager.afterPropertiesSet();
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(manager, new PatternTopic(manager.keyspacePattern()));
+        container.afterPropertiesSet();
+        container.start();
+        listenerContainers.add(container);
+        return manager;
+    }
+
+    private static RedisResilienceProperties resilienceProperties() {
+        return new RedisResilienceProperties(true, null, Duration.ofSeconds(1), null, null);
+    }
+
+    @DisplayName("값을 적재할 때, ")
+    @Nested
+    class Load {
+
+        @DisplayName("한 노드가 적재한 값은, 다른 노드가 DB 를 거치지 않고 L2 에서 읽는다.")
+        @Test
+        void sharesLoadedValue_acrossNodes() {
+            // arrange
+            AtomicInteger loads = new AtomicInteger();
+
+            // act
+            Product first = nodeA.getCache("product").get(1L, () -> {
+                loads.incrementAndGet();
+                return new Product(1L, "신발");
+            });
+            Product second = nodeB.getCache("product").get(1L, () -> {
+                loads.incrementAndGet();
+                return new Product(1L, "다른 값");
+            });
+
+            // assert
+            assertAll(
+                    () -> assertThat(first).isEqualTo(new Product(1L, "신발")),
+                    () -> assertThat(second).isEqualTo(first),
+                    () -> assertThat(loads).hasValue(1)
+            );
+        }
+
+        @DisplayName("같은 키를 동시에 요청하면, 적재는 한 번만 실행된다.")
+        @Test
+        void loadsOnce_whenRequestedConcurrently() throws Exception {
+            // arrange
+            int threads = 16;
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            // act
+            List<Future<Product>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return nodeA.getCache("product").get(7L, () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(100);
+                        return new Product(7L, "가방");
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Product> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(new Product(7L, "가방"));
+            }
+            executor.shutdown();
+
+            // assert
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    @DisplayName("값을 지울 때, ")
+    @Nested
+    class Evict {
+
+        @DisplayName("한 노드에서 지우면, keyspace 알림으로 다른 노드의 L1 에서도 지워진다.")
+        @Test
+        void invalidatesOtherNodesL1() throws InterruptedException {
+            // arrange
+            nodeA.getCache("product").put(1L, new Product(1L, "신발"));
+            assertThat(nodeB.getCache("product").get(1L, Product.class)).isEqualTo(new Product(1L, "신발"));
+
+            // act
+            nodeA.getCache("product").evict(1L);
+
+            // assert
+            Product cached = new Product(1L, "신발");
+            for (int i = 0; i < 50 && cached != null; i++) {
+                Thread.sleep(20);
+                cached = nodeB.getCache("product").get(1L, Product.class);
+            }
+            assertThat(cached).isNull();
+        }
+
+        @DisplayName("한 노드에서 값을 바꾸면, 다른 노드는 바뀐 값을 읽는다.")
+        @Test
+        void readsUpdatedValue_onOtherNode() throws InterruptedException {
+            // arrange
+            nodeA.getCache("product").put(1L, new Product(1L, "신발"));
+            nodeB.getCache("product").get(1L, Product.class);
+
+            // act
+            nodeA.getCache("product").put(1L, new Product(1L, "운동화"));
+
+            // assert
+            Product cached = null;
+            for (int i = 0; i < 50 && !new Product(1L, "운동화").equals(cached); i++) {
+                Thread.sleep(20);
+                cached = nodeB.getCache("product").get(1L, Product.class);
+            }
+            assertThat(cached).isEqualTo(new Product(1L, "운동화"));
+        }
+    }
+
+    @DisplayName("keyspace 알림을 받을 때, ")
+    @Nested
+    class KeyspaceNotification {
+
+        @DisplayName("쓰기로 바뀐 키만 master 에서 읽고, 만료되거나 메모리 부족으로 지워진 키는 replica 에서 읽는다.")
+        @Test
+        void recordsWrite_onlyForWriteEvents() {
+            // arrange
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            ReadYourWrites readYourWrites = new ReadYourWrites(new RedisReadYourWritesProperties(true, null, 0, Duration.ZERO), meterRegistry);
+            NearCacheManager manager = new NearCacheManager(
+                    new NearCacheProperties("cache:", false, null, null, null), 0,
+                    new HedgedRedisReader(redisTemplate, redisTemplate, RedisHedgedReadProperties.disabled(), meterRegistry), redisTemplate,
+                    new JacksonNearCacheSerializer(new ObjectMapper()),
+                    new RedisResilience(resilienceProperties(), meterRegistry), readYourWrites,
+                    new HotKeyCache(RedisHotKeyProperties.disabled(), meterRegistry), meterRegistry
+            );
+            manager.afterPropertiesSet();
+            manager.getCache("product");
+
+            try {
+                // act
+                manager.onMessage(keyspaceEvent("cache:product::1", "set"), null);
+                manager.onMessage(keyspaceEvent("cache:product::2", "del"), null);
+                manager.onMessage(keyspaceEvent("cache:product::3", "expired"), null);
+                manager.onMessage(keyspaceEvent("cache:product::4", "evicted"), null);
+
+                // assert
+                assertAll(
+                        () -> assertThat(readYourWrites.readFromMaster("cache:product::1")).isTrue(),
+                        () -> assertThat(readYourWrites.readFromMaster("cache:product::2")).isTrue(),
+                        () -> assertThat(readYourWrites.readFromMaster("cache:product::3")).isFalse(),
+                        () -> assertThat(readYourWrites.readFromMaster("cache:product::4")).isFalse()
+                );
+            } finally {
+                manager.close();
+            }
+        }
+
+        private static DefaultMessage keyspaceEvent(String key, String event) {
+            return new DefaultMessage(
+                    ("__keyspace@0__:" + key).getBytes(StandardCharsets.UTF_8),
+                    event.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+    }
+
+    @DisplayName("유지 시간을 정할 때, ")
+    @Nested
+    class Ttl {
+
+        @DisplayName("L2 유지 시간은 설정한 비율 안에서 흩어진다.")
+        @Test
+        void jittersTtl_withinRatio() {
+            // arrange
+            NearCache cache = (NearCache) nodeA.getCache("product");
+
+            // act & assert
+            for (int i = 0; i < 100; i++) {
+                assertThat(cache.jitteredTtl()).isBetween(Duration.ofMinutes(9), Duration.ofMinutes(11));
+            }
+        }
+
+        @DisplayName("남은 유지 시간이 refresh-ahead 비율보다 짧으면, 만료 전에 백그라운드에서 다시 적재한다.")
+        @Test
+        void refreshesAhead_beforeExpiry() throws InterruptedException {
+            // arrange
+            AtomicInteger version = new AtomicInteger();
+            NearCache cache = (NearCache) nodeA.getCache("short");
+            cache.get(1L, () -> new Product(1L, "v" + version.incrementAndGet()));
+            Thread.sleep(5_500);
+
+            // act
+            Product stale = cache.get(1L, () -> new Product(1L, "v" + version.incrementAndGet()));
+
+            // assert
+            Product refreshed = stale;
+            for (int i = 0; i < 50 && refreshed.equals(stale); i++) {
+                Thread.sleep(20);
+                refreshed = cache.get(1L, Product.class);
+            }
+            Product latest = refreshed;
+            assertAll(
+                    () -> assertThat(stale).isEqualTo(new Product(1L, "v1")),
+                    () -> assertThat(latest).isEqualTo(new Product(1L, "v2")),
+                    () -> assertThat(version).hasValue(2)
+            );
+        }
+    }
+
+    @DisplayName("Redis 에 연결할 수 없을 때, ")
+    @Nested
+    class RedisUnavailable {
+
+        @DisplayName("L2 를 건너뛰고 원본에서 읽으며, 예외를 던지지 않는다.")
+        @Test
+        void fallsBackToLoader() {
+            // arrange
+            LettuceConnectionFactory deadFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 1));
+            deadFactory.afterPropertiesSet();
+            deadFactory.start();
+            RedisTemplate<String, String> deadTemplate = new RedisTemplate<>();
+            deadTemplate.setConnectionFactory(deadFactory);
+            deadTemplate.setKeySerializer(new StringRedisSerializer());
+            deadTemplate.setValueSerializer(new StringRedisSerializer());
+            deadTemplate.afterPropertiesSet();
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            RedisResilience resilience = new RedisResilience(resilienceProperties(), meterRegistry);
+            NearCacheManager isolated = new NearCacheManager(
+                    new NearCacheProperties("cache:", false, null, null, null), 0,
+                    new HedgedRedisReader(deadTemplate, deadTemplate, RedisHedgedReadProperties.disabled(), meterRegistry), deadTemplate,
+                    new JacksonNearCacheSerializer(new ObjectMapper()), resilience,
+                    new ReadYourWrites(RedisReadYourWritesProperties.disabled(), meterRegistry),
+                    new HotKeyCache(RedisHotKeyProperties.disabled(), meterRegistry), meterRegistry
+            );
+            isolated.afterPropertiesSet();
+            AtomicInteger loads = new AtomicInteger();
+
+            try {
+                // act
+                Product loaded = isolated.getCache("product").get(1L, () -> {
+                    loads.incrementAndGet();
+                    return new Product(1L, "신발");
+                });
+                isolated.getCache("product").evict(1L);
+
+                // assert
+                assertAll(
+                        () -> assertThat(loaded).isEqualTo(new Product(1L, "신발")),
+                        () -> assertThat(loads).hasValue(1),
+                        () -> assertThat(meterRegistry.get("redis.resilience.fallbacks").tag("operation", "cache-get").counter().count()).isPositive()
+                );
+            } finally {
+                isolated.close();
+                resilience.close();
+                deadFactory.destroy();
+            }
+        }
+    }
+}
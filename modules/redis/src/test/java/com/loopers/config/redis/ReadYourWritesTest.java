@@ -0,0 +1,53 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ReadYourWritesTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("window 안에 쓴 키만 master 에서 읽고, window 가 지나면 replica 로 돌아간다.")
+    @Test
+    void readsFromMaster_onlyWithinWindow() throws InterruptedException {
+        // arrange
+        ReadYourWrites readYourWrites = new ReadYourWrites(
+                new RedisReadYourWritesProperties(true, Duration.ofMillis(200), 0, Duration.ZERO), meterRegistry
+        );
+
+        // act
+        readYourWrites.recordWrite("cache:product::1");
+        boolean written = readYourWrites.readFromMaster("cache:product::1");
+        boolean other = readYourWrites.readFromMaster("cache:product::2");
+        Thread.sleep(300);
+        boolean expired = readYourWrites.readFromMaster("cache:product::1");
+
+        // assert
+        assertAll(
+                () -> assertThat(written).isTrue(),
+                () -> assertThat(other).isFalse(),
+                () -> assertThat(expired).isFalse(),
+                () -> assertThat(meterRegistry.get("redis.read_your_writes.reads").tag("target", "master").counter().count()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("redis.read_your_writes.reads").tag("target", "replica").counter().count()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("꺼져 있으면, 방금 쓴 키도 replica 에서 읽는다.")
+    @Test
+    void readsFromReplica_whenDisabled() {
+        // arrange
+        ReadYourWrites readYourWrites = new ReadYourWrites(RedisReadYourWritesProperties.disabled(), meterRegistry);
+
+        // act
+        readYourWrites.recordWrite("cache:product::1");
+
+        // assert
+        assertThat(readYourWrites.readFromMaster("cache:product::1")).isFalse();
+    }
+}
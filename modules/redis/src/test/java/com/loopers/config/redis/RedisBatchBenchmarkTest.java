@@ -0,0 +1,149 @@
+package com.loopers.config.redis;
+
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키마다 한 번씩 왕복하는 호출과 파이프라인 배치, 자동 배치의 처리량을 비교한다.
+ * 실행 시간이 길어 기본 테스트에서는 제외하며, BENCHMARK=true 환경변수로 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class RedisBatchBenchmarkTest {
+
+    private static final int KEY_COUNT = 10_000;
+    private static final int CONCURRENCY = 32;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:latest"));
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final RedisPipelineExecutor executor = new RedisPipelineExecutor(
+            connectionFactory, connectionFactory, 500, Duration.ofSeconds(5), new SimpleMeterRegistry()
+    );
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getFirstMappedPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @DisplayName("한 스레드에서 키마다 호출할 때와 파이프라인 배치로 보낼 때의 처리량(ops/s)을 출력한다.")
+    @Test
+    void compareSingleThreadThroughput() {
+        // warm-up
+        naiveSetAndGet();
+        batchSetAndGet();
+
+        double naive = naiveSetAndGet();
+        double batch = batchSetAndGet();
+
+        System.out.printf("[benchmark] redis set+get per-key: %.1f ops/s, pipelined batch: %.1f ops/s%n", naive, batch);
+        assertThat(batch).isPositive();
+    }
+
+    @DisplayName("여러 스레드가 키마다 호출할 때와 자동 배치로 모을 때의 처리량(ops/s)을 출력한다.")
+    @Test
+    void compareConcurrentThroughput() throws Exception {
+        List<String> keys = new ArrayList<>(KEY_COUNT);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys.add("bench:concurrent:" + i);
+            redisTemplate.opsForValue().set(keys.get(i), "value-" + i, TTL);
+        }
+
+        try (AutoBatchingRedisCommands autoBatching = new AutoBatchingRedisCommands(
+                executor, Duration.ofMillis(1), 128, new SimpleMeterRegistry())) {
+            // warm-up
+            concurrentGets(keys, key -> redisTemplate.opsForValue().get(key));
+            concurrentGets(keys, key -> autoBatching.get(key).get(5, TimeUnit.SECONDS));
+
+            double naive = concurrentGets(keys, key -> redisTemplate.opsForValue().get(key));
+            double autoBatched = concurrentGets(keys, key -> autoBatching.get(key).get(5, TimeUnit.SECONDS));
+
+            System.out.printf("[benchmark] redis get x%d threads per-key: %.1f ops/s, auto-batched: %.1f ops/s%n",
+                    CONCURRENCY, naive, autoBatched);
+            assertThat(autoBatched).isPositive();
+        }
+    }
+
+    private double naiveSetAndGet() {
+        long start = System.nanoTime();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            redisTemplate.opsForValue().set("bench:naive:" + i, "value-" + i, TTL);
+        }
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertThat(redisTemplate.opsForValue().get("bench:naive:" + i)).isNotNull();
+        }
+        return KEY_COUNT * 2 / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private double batchSetAndGet() {
+        long start = System.nanoTime();
+        try (RedisBatch batch = executor.batch()) {
+            for (int i = 0; i < KEY_COUNT; i++) {
+                batch.set("bench:batch:" + i, "value-" + i, TTL);
+            }
+        }
+        List<CompletableFuture<String>> values = new ArrayList<>(KEY_COUNT);
+        try (RedisBatch batch = executor.batch()) {
+            for (int i = 0; i < KEY_COUNT; i++) {
+                values.add(batch.get("bench:batch:" + i));
+            }
+        }
+        values.forEach(value -> assertThat(value.join()).isNotNull());
+        return KEY_COUNT * 2 / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private double concurrentGets(List<String> keys, KeyReader reader) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<String>> results = new ArrayList<>(keys.size());
+            long start = System.nanoTime();
+            for (String key : keys) {
+                results.add(pool.submit(() -> reader.read(key)));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).isNotNull();
+            }
+            return keys.size() / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface KeyReader {
+        String read(String key) throws Exception;
+    }
+}
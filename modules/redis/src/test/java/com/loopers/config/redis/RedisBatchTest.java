@@ -0,0 +1,208 @@
+package com.loopers.config.redis;
+
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RedisBatchTest {
+
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:latest"));
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getFirstMappedPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    private RedisPipelineExecutor executor(int maxPipelineSize) {
+        return new RedisPipelineExecutor(connectionFactory, connectionFactory, maxPipelineSize, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @DisplayName("한 배치에 명령을 모을 때, ")
+    @Nested
+    class Batch {
+
+        @DisplayName("flush 하면 모아 둔 조회와 쓰기를 보내고, 각 future 를 결과로 완료한다.")
+        @Test
+        void completesFutures_onFlush() {
+            // arrange
+            redisTemplate.opsForValue().set("product:1", "신발");
+            redisTemplate.opsForHash().putAll("product:1:stock", Map.of("S", "3", "M", "5"));
+            RedisBatch batch = executor(500).batch();
+
+            // act
+            CompletableFuture<String> name = batch.get("product:1");
+            CompletableFuture<String> missing = batch.get("product:404");
+            CompletableFuture<Map<String, String>> names = batch.multiGet(List.of("product:1", "product:404"));
+            CompletableFuture<Map<String, String>> stock = batch.hashGetAll("product:1:stock");
+            CompletableFuture<Void> saved = batch.set("product:2", "가방", Duration.ofMinutes(1));
+            CompletableFuture<Boolean> ranked = batch.zAdd("product:ranking", "product:1", 10);
+            boolean pendingBeforeFlush = name.isDone();
+            batch.flush();
+
+            // assert
+            assertAll(
+                    () -> assertThat(pendingBeforeFlush).isFalse(),
+                    () -> assertThat(name.join()).isEqualTo("신발"),
+                    () -> assertThat(missing.join()).isNull(),
+                    () -> assertThat(names.join()).containsExactly(Map.entry("product:1", "신발")),
+                    () -> assertThat(stock.join()).isEqualTo(Map.of("S", "3", "M", "5")),
+                    () -> assertThat(saved).isCompleted(),
+                    () -> assertThat(redisTemplate.opsForValue().get("product:2")).isEqualTo("가방"),
+                    () -> assertThat(redisTemplate.getExpire("product:2")).isPositive(),
+                    () -> assertThat(ranked.join()).isTrue()
+            );
+        }
+
+        @DisplayName("쓰기가 섞여 있으면, 배치 전체를 master 에서 순서대로 실행해 앞에서 쓴 값을 뒤의 조회가 읽는다.")
+        @Test
+        void runsWholeBatchOnMaster_whenBatchHasWrite() {
+            // arrange
+            LettuceConnectionFactory unreachableReplica = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 1));
+            unreachableReplica.afterPropertiesSet();
+            RedisPipelineExecutor executor = new RedisPipelineExecutor(
+                    unreachableReplica, connectionFactory, 500, Duration.ofSeconds(2), meterRegistry
+            );
+            RedisBatch batch = executor.batch();
+
+            try {
+                // act
+                batch.set("product:1:viewed", "1", Duration.ofMinutes(10));
+                CompletableFuture<String> viewed = batch.get("product:1:viewed");
+                batch.flush();
+
+                // assert
+                assertThat(viewed.join()).isEqualTo("1");
+            } finally {
+                unreachableReplica.destroy();
+            }
+        }
+
+        @DisplayName("명령 수가 max-pipeline-size 를 넘으면, 나눠 보낸다.")
+        @Test
+        void splitsPipelines_bySizeCap() {
+            // arrange
+            RedisBatch batch = executor(2).batch();
+            List<CompletableFuture<Void>> writes = new ArrayList<>();
+
+            // act
+            for (int i = 0; i < 5; i++) {
+                writes.add(batch.set("key:" + i, "value-" + i, Duration.ofMinutes(1)));
+            }
+            batch.close();
+
+            // assert
+            assertAll(
+                    () -> assertThat(writes).allMatch(CompletableFuture::isDone),
+                    () -> assertThat(meterRegistry.get("redis.pipeline.commands").summary().count()).isEqualTo(3),
+                    () -> assertThat(meterRegistry.get("redis.pipeline.commands").summary().max()).isEqualTo(2)
+            );
+        }
+    }
+
+    @DisplayName("동시에 들어온 명령을 자동으로 모을 때, ")
+    @Nested
+    class AutoBatch {
+
+        @DisplayName("window 안에 들어온 명령은, 파이프라인 몇 번으로 함께 보낸다.")
+        @Test
+        void batchesConcurrentCallers_withinWindow() throws Exception {
+            // arrange
+            int callers = 64;
+            for (int i = 0; i < callers; i++) {
+                redisTemplate.opsForValue().set("product:" + i, "value-" + i);
+            }
+            AutoBatchingRedisCommands commands = new AutoBatchingRedisCommands(executor(500), Duration.ofMillis(20), 1_000, meterRegistry);
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+            // act
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                int id = i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return commands.get("product:" + id).get(5, TimeUnit.SECONDS);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < callers; i++) {
+                assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("value-" + i);
+            }
+            pool.shutdown();
+            commands.close();
+
+            // assert
+            double flushes = meterRegistry.get("redis.auto_batch.flushes").tag("trigger", "window").counter().count();
+            assertThat(flushes).isBetween(1.0, 8.0);
+        }
+
+        @DisplayName("max-batch-size 만큼 모이면, window 를 기다리지 않고 보낸다.")
+        @Test
+        void flushesImmediately_whenBatchIsFull() {
+            // arrange
+            AutoBatchingRedisCommands commands = new AutoBatchingRedisCommands(executor(500), Duration.ofMinutes(1), 3, meterRegistry);
+
+            // act
+            List<CompletableFuture<Void>> writes = List.of(
+                    commands.set("a", "1", Duration.ofMinutes(1)),
+                    commands.set("b", "2", Duration.ofMinutes(1)),
+                    commands.set("c", "3", Duration.ofMinutes(1))
+            );
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+            commands.close();
+
+            // assert
+            assertAll(
+                    () -> assertThat(meterRegistry.get("redis.auto_batch.flushes").tag("trigger", "size").counter().count()).isEqualTo(1),
+                    () -> assertThat(redisTemplate.opsForValue().get("c")).isEqualTo("3")
+            );
+        }
+    }
+}
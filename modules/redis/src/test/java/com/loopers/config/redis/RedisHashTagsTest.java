@@ -0,0 +1,48 @@
+package com.loopers.config.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RedisHashTagsTest {
+
+    @DisplayName("같은 태그로 만든 키는, 같은 슬롯에 놓인다.")
+    @Test
+    void colocatesKeys_withSameTag() {
+        // act
+        String items = RedisHashTags.key("cart", 42L, "items");
+        String coupons = RedisHashTags.key("cart", 42L, "coupons");
+
+        // assert
+        assertAll(
+                () -> assertThat(items).isEqualTo("cart:{42}:items"),
+                () -> assertThat(RedisHashTags.hashTagOf(items)).isEqualTo("42"),
+                () -> assertThat(RedisHashTags.sameSlot(List.of(items, coupons))).isTrue(),
+                () -> assertThat(RedisHashTags.slotOf(items)).isEqualTo(RedisHashTags.slotOf("42"))
+        );
+    }
+
+    @DisplayName("중괄호 안이 비어 있으면, 키 전체로 슬롯을 정한다.")
+    @Test
+    void usesWholeKey_whenTagIsEmpty() {
+        // act & assert
+        assertAll(
+                () -> assertThat(RedisHashTags.hashTagOf("cart:{}:items")).isEqualTo("cart:{}:items"),
+                () -> assertThat(RedisHashTags.hashTagOf("cart:{42}:{7}")).isEqualTo("42"),
+                () -> assertThat(RedisHashTags.hashTagOf("cart:42")).isEqualTo("cart:42")
+        );
+    }
+
+    @DisplayName("태그에 중괄호가 있으면, IllegalArgumentException 이 발생한다.")
+    @Test
+    void throws_whenTagContainsBrace() {
+        // act & assert
+        assertThatThrownBy(() -> RedisHashTags.key("cart", "{42}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,152 @@
+package com.loopers.config.redis;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RedisResilienceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisResilience resilience = new RedisResilience(
+            new RedisResilienceProperties(
+                    true,
+                    null,
+                    Duration.ofMillis(500),
+                    Map.of("slow", Duration.ofMillis(50)),
+                    new RedisResilienceProperties.CircuitBreaker(50, 100, Duration.ofMillis(200), 10, 4, Duration.ofMinutes(1), 2)
+            ),
+            meterRegistry
+    );
+
+    @AfterEach
+    void tearDown() {
+        resilience.close();
+    }
+
+    @DisplayName("Redis 를 호출할 때, ")
+    @Nested
+    class Call {
+
+        @DisplayName("정상 응답이면, 그 값을 돌려준다.")
+        @Test
+        void returnsResult_whenRedisResponds() {
+            // act
+            String result = resilience.call("get", () -> "cached", () -> "fallback");
+
+            // assert
+            assertThat(result).isEqualTo("cached");
+        }
+
+        @DisplayName("연산별 시간 예산을 넘기면, 기다리지 않고 fallback 을 돌려준다.")
+        @Test
+        void returnsFallback_whenTimeBudgetExceeded() {
+            // act
+            long start = System.nanoTime();
+            String result = resilience.call("slow", () -> {
+                sleep(1_000);
+                return "cached";
+            }, () -> "fallback");
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // assert
+            assertAll(
+                    () -> assertThat(result).isEqualTo("fallback"),
+                    () -> assertThat(elapsedMillis).isLessThan(500),
+                    () -> assertThat(meterRegistry.get("redis.resilience.fallbacks").tag("reason", "timeout").counter().count()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("Redis 오류가 나면, fallback 을 돌려준다.")
+        @Test
+        void returnsFallback_whenRedisFails() {
+            // act
+            String result = resilience.call("get", RedisResilienceTest::failure, () -> "fallback");
+
+            // assert
+            assertAll(
+                    () -> assertThat(result).isEqualTo("fallback"),
+                    () -> assertThat(meterRegistry.get("redis.resilience.fallbacks").tag("reason", "error").counter().count()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("Redis 장애가 아닌 예외는, 그대로 던진다.")
+        @Test
+        void rethrows_whenNotRedisFailure() {
+            // act & assert
+            assertThatThrownBy(() -> resilience.call("get", () -> {
+                throw new SerializationException("bad payload");
+            }, () -> "fallback")).isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @DisplayName("서킷 브레이커가 열릴 때, ")
+    @Nested
+    class Open {
+
+        @DisplayName("오류 비율이 임계치를 넘으면 열리고, 이후 호출은 Redis 를 거치지 않는다.")
+        @Test
+        void shortCircuits_afterFailureRateExceeded() {
+            // arrange
+            for (int i = 0; i < 4; i++) {
+                resilience.call("get", RedisResilienceTest::failure, () -> "fallback");
+            }
+            AtomicInteger calls = new AtomicInteger();
+
+            // act
+            String result = resilience.call("get", () -> {
+                calls.incrementAndGet();
+                return "cached";
+            }, () -> "fallback");
+
+            // assert
+            assertAll(
+                    () -> assertThat(resilience.state()).isEqualTo(CircuitBreaker.State.OPEN),
+                    () -> assertThat(result).isEqualTo("fallback"),
+                    () -> assertThat(calls).hasValue(0),
+                    () -> assertThat(meterRegistry.get("redis.resilience.fallbacks").tag("reason", "short_circuit").counter().count()).isEqualTo(1),
+                    () -> assertThat(meterRegistry.get("redis.resilience.transitions").tag("to", "OPEN").counter().count()).isEqualTo(1),
+                    () -> assertThat(meterRegistry.get("resilience4j.circuitbreaker.not.permitted.calls").functionCounter().count()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("느린 호출 비율이 임계치를 넘으면, 오류가 없어도 열린다.")
+        @Test
+        void opens_whenCallsAreSlow() {
+            // act
+            for (int i = 0; i < 4; i++) {
+                resilience.call("get", () -> {
+                    sleep(250);
+                    return "cached";
+                }, () -> "fallback");
+            }
+
+            // assert
+            assertThat(resilience.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        }
+    }
+
+    private static String failure() {
+        throw new RedisConnectionFailureException("connection refused");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redis.testcontainers.RedisContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 현재의 문자열 JSON 과 형식/압축 조합별로 캐시 값 하나가 차지하는 Redis 메모리와 직렬화 시간을 비교한다.
+ * 실행 시간이 길어 기본 테스트에서는 제외하며, BENCHMARK=true 환경변수로 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class RedisValueCodecBenchmarkTest {
+
+    private static final int KEY_COUNT = 1_000;
+    private static final int ITERATIONS = 20_000;
+
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:latest"));
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startRedis() {
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getFirstMappedPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @DisplayName("형식/압축 조합별 값 크기, Redis 메모리(MEMORY USAGE), 직렬화/역직렬화 시간을 출력한다.")
+    @Test
+    void compareMemoryAndSerializationTime() throws Exception {
+        Product product = product();
+
+        byte[] json = objectMapper.writeValueAsString(product).getBytes(StandardCharsets.UTF_8);
+        double stringNanos = measure(() -> objectMapper.readValue(objectMapper.writeValueAsString(product), Product.class));
+        System.out.printf("[benchmark] %-14s %6d bytes, %6.0f bytes/key in redis, %8.0f ns/op%n",
+                "string json", json.length, memoryPerKey("string", json), stringNanos);
+
+        List<RedisValueCodec> codecs = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (RedisValueFormat format : RedisValueFormat.values()) {
+            for (RedisValueCompression compression : RedisValueCompression.values()) {
+                codecs.add(new RedisValueCodec(objectMapper, new RedisCodecProperties(format, compression, DataSize.ofBytes(512), 3)));
+                names.add(format + "+" + compression);
+            }
+        }
+        for (int i = 0; i < codecs.size(); i++) {
+            RedisValueCodec codec = codecs.get(i);
+            byte[] bytes = codec.encode(product);
+            double nanos = measure(() -> codec.decode(codec.encode(product), Product.class));
+            System.out.printf("[benchmark] %-14s %6d bytes, %6.0f bytes/key in redis, %8.0f ns/op%n",
+                    names.get(i), bytes.length, memoryPerKey(names.get(i), bytes), nanos);
+            assertThat(codec.decode(bytes, Product.class)).isEqualTo(product);
+        }
+    }
+
+    private double memoryPerKey(String name, byte[] value) {
+        long total = 0;
+        for (int i = 0; i < KEY_COUNT; i++) {
+            byte[] key = ("bench:codec:" + name + ":" + i).getBytes(StandardCharsets.UTF_8);
+            total += redisTemplate.execute((RedisCallback<Long>) connection -> {
+                connection.stringCommands().set(key, value);
+                return (Long) connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key);
+            });
+        }
+        return (double) total / KEY_COUNT;
+    }
+
+    private double measure(Roundtrip roundtrip) throws Exception {
+        // warm-up
+        for (int i = 0; i < ITERATIONS; i++) {
+            roundtrip.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            roundtrip.run();
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static Product product() {
+        List<Option> options = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            options.add(new Option("사이즈 " + (230 + i * 5), 0L, i % 4 != 0));
+        }
+        return new Product(1L, "데일리 러닝화", "루퍼스", 129_000L,
+                "가벼운 쿠션과 통기성 좋은 메쉬 소재로 만든 데일리 러닝화입니다. ".repeat(8), options);
+    }
+
+    @FunctionalInterface
+    private interface Roundtrip {
+        Object run() throws Exception;
+    }
+
+    record Product(Long id, String name, String brand, Long price, String description, List<Option> options) {}
+
+    record Option(String name, Long extraPrice, Boolean inStock) {}
+}
@@ -0,0 +1,140 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RedisValueCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisValueCodec codec(RedisValueFormat format, RedisValueCompression compression) {
+        return new RedisValueCodec(objectMapper, new RedisCodecProperties(format, compression, DataSize.ofBytes(64), null));
+    }
+
+    private static Product product(int optionCount) {
+        List<Option> options = new ArrayList<>();
+        for (int i = 0; i < optionCount; i++) {
+            options.add(new Option("옵션-" + i, 1_000L * i, i % 3 != 0));
+        }
+        return new Product(1L, "러닝화", "루퍼스", 129_000L, options);
+    }
+
+    @DisplayName("값을 쓰고 읽을 때, ")
+    @Nested
+    class RoundTrip {
+
+        @DisplayName("모든 형식과 압축 방식에서, 쓴 값을 그대로 읽는다.")
+        @Test
+        void readsWrittenValue_forEveryFormatAndCompression() {
+            // arrange
+            Product product = product(50);
+
+            for (RedisValueFormat format : RedisValueFormat.values()) {
+                for (RedisValueCompression compression : RedisValueCompression.values()) {
+                    RedisValueCodec codec = codec(format, compression);
+
+                    // act
+                    Product decoded = codec.decode(codec.encode(product), Product.class);
+
+                    // assert
+                    assertThat(decoded).as("%s + %s", format, compression).isEqualTo(product);
+                }
+            }
+        }
+
+        @DisplayName("Smile 로 압축해 쓰면, 문자열 JSON 보다 작다.")
+        @Test
+        void encodesSmallerThanJson_whenSmileAndCompressed() throws Exception {
+            // arrange
+            Product product = product(50);
+            byte[] json = objectMapper.writeValueAsBytes(product);
+
+            // act
+            byte[] smile = codec(RedisValueFormat.SMILE, RedisValueCompression.NONE).encode(product);
+            byte[] compressed = codec(RedisValueFormat.SMILE, RedisValueCompression.LZ4).encode(product);
+
+            // assert
+            assertAll(
+                    () -> assertThat(smile.length).isLessThan(json.length),
+                    () -> assertThat(compressed.length).isLessThan(smile.length),
+                    () -> assertThat(compressed[3]).isEqualTo(RedisValueCompression.LZ4.id())
+            );
+        }
+
+        @DisplayName("직렬화한 크기가 threshold 보다 작으면, 압축하지 않는다.")
+        @Test
+        void skipsCompression_belowThreshold() {
+            // act
+            byte[] bytes = codec(RedisValueFormat.CBOR, RedisValueCompression.ZSTD).encode(new Option("S", 0L, true));
+
+            // assert
+            assertAll(
+                    () -> assertThat(bytes[0]).isEqualTo(RedisValueCodec.MAGIC),
+                    () -> assertThat(bytes[2]).isEqualTo(RedisValueFormat.CBOR.id()),
+                    () -> assertThat(bytes[3]).isEqualTo(RedisValueCompression.NONE.id())
+            );
+        }
+    }
+
+    @DisplayName("설정과 다른 형식으로 저장된 값을 읽을 때, ")
+    @Nested
+    class Evolution {
+
+        @DisplayName("압축하지 않은 JSON 은, 헤더 없이 이전과 같은 값으로 쓴다.")
+        @Test
+        void writesPlainJson_withoutHeader() throws Exception {
+            // arrange
+            Product product = product(1);
+
+            // act
+            byte[] bytes = codec(RedisValueFormat.JSON, RedisValueCompression.NONE).encode(product);
+
+            // assert
+            assertThat(bytes).isEqualTo(objectMapper.writeValueAsBytes(product));
+        }
+
+        @DisplayName("헤더 없는 JSON 과 다른 형식으로 쓴 값도, 헤더를 보고 읽는다.")
+        @Test
+        void readsByHeader_regardlessOfConfiguredFormat() throws Exception {
+            // arrange
+            Product product = product(50);
+            byte[] legacyJson = objectMapper.writeValueAsBytes(product);
+            byte[] smileLz4 = codec(RedisValueFormat.SMILE, RedisValueCompression.LZ4).encode(product);
+            RedisValueCodec cborZstd = codec(RedisValueFormat.CBOR, RedisValueCompression.ZSTD);
+
+            // act & assert
+            assertAll(
+                    () -> assertThat(cborZstd.decode(legacyJson, Product.class)).isEqualTo(product),
+                    () -> assertThat(cborZstd.decode(smileLz4, Product.class)).isEqualTo(product)
+            );
+        }
+
+        @DisplayName("알 수 없는 헤더 버전이면, SerializationException 이 발생한다.")
+        @Test
+        void throwsSerializationException_whenVersionIsUnknown() {
+            // arrange
+            RedisValueCodec codec = codec(RedisValueFormat.SMILE, RedisValueCompression.NONE);
+            byte[] bytes = codec.encode(product(1));
+            bytes[1] = (byte) (RedisValueCodec.VERSION + 1);
+
+            // act & assert
+            assertThatThrownBy(() -> codec.decode(bytes, Product.class))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    record Product(Long id, String name, String brand, Long price, List<Option> options) {}
+
+    record Option(String name, Long extraPrice, Boolean inStock) {}
+}
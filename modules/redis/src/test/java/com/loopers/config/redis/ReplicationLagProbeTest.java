@@ -0,0 +1,94 @@
+package com.loopers.config.redis;
+
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * master 와 그 replica 를 컨테이너로 띄워 실제 복제를 거친 지연을 잰다.
+ */
+class ReplicationLagProbeTest {
+
+    private static final Network network = Network.newNetwork();
+    private static final RedisContainer master = new RedisContainer(DockerImageName.parse("redis:latest"))
+            .withNetwork(network)
+            .withNetworkAliases("redis-master");
+    private static final RedisContainer replica = new RedisContainer(DockerImageName.parse("redis:latest"))
+            .withNetwork(network)
+            .withCommand("redis-server", "--replicaof", "redis-master", "6379");
+    private static LettuceConnectionFactory masterFactory;
+    private static LettuceConnectionFactory replicaFactory;
+
+    @BeforeAll
+    static void startRedis() {
+        master.start();
+        replica.start();
+        masterFactory = connectionFactory(master);
+        replicaFactory = connectionFactory(replica);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        masterFactory.destroy();
+        replicaFactory.destroy();
+        replica.stop();
+        master.stop();
+        network.close();
+    }
+
+    @DisplayName("master 에 쓴 표식이 replica 에서 보이기까지의 시간을 기록한다.")
+    @Test
+    void recordsReplicationLag() {
+        // arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReplicationLagProbe probe = new ReplicationLagProbe(
+                template(replicaFactory),
+                template(masterFactory),
+                new RedisReadYourWritesProperties(true, Duration.ofSeconds(1), 0, Duration.ZERO),
+                meterRegistry
+        );
+
+        // act
+        Duration lag = probe.probe();
+        probe.close();
+
+        // assert
+        assertAll(
+                () -> assertThat(lag).isPositive().isLessThan(Duration.ofSeconds(5)),
+                () -> assertThat(meterRegistry.get("redis.replication.lag").timer().count()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("redis.replication.lag.timeouts").counter().count()).isZero()
+        );
+    }
+
+    private static LettuceConnectionFactory connectionFactory(RedisContainer container) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(container.getHost(), container.getFirstMappedPort())
+        );
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static RedisTemplate<String, String> template(LettuceConnectionFactory factory) {
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+}
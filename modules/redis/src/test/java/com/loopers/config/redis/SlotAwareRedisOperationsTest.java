@@ -0,0 +1,149 @@
+package com.loopers.config.redis;
+
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DnsResolvers;
+import io.lettuce.core.resource.MappingSocketAddressResolver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 한 컨테이너에 master 3, replica 3 으로 구성된 로컬 클러스터를 띄운다.
+ * 노드들은 컨테이너 내부 주소를 알려 주므로, 내부 포트를 컨테이너 밖의 매핑된 포트로 바꿔 연결한다.
+ */
+class SlotAwareRedisOperationsTest {
+
+    private static final int FIRST_PORT = 7000;
+    private static final int NODES = 6;
+    private static final GenericContainer<?> cluster = new GenericContainer<>(DockerImageName.parse("grokzen/redis-cluster:7.0.10"))
+            .withExposedPorts(IntStream.range(FIRST_PORT, FIRST_PORT + NODES).boxed().toArray(Integer[]::new))
+            .waitingFor(Wait.forLogMessage(".*Cluster state changed: ok.*\\n", 1));
+    private static ClientResources clientResources;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final SlotAwareRedisOperations operations = new SlotAwareRedisOperations(connectionFactory, connectionFactory, Duration.ofSeconds(2));
+
+    @BeforeAll
+    static void startCluster() {
+        cluster.start();
+        clientResources = ClientResources.builder()
+                .socketAddressResolver(MappingSocketAddressResolver.create(DnsResolvers.UNRESOLVED, SlotAwareRedisOperationsTest::toMappedAddress))
+                .build();
+
+        RedisClusterConfiguration clusterConfig = new RedisClusterConfiguration();
+        clusterConfig.clusterNode(cluster.getHost(), cluster.getMappedPort(FIRST_PORT));
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .clientOptions(ClusterClientOptions.builder().validateClusterNodeMembership(false).build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(clusterConfig, clientConfig);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        connectionFactory.destroy();
+        clientResources.shutdown();
+        cluster.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    private static HostAndPort toMappedAddress(HostAndPort address) {
+        int port = address.getPort();
+        if (port >= FIRST_PORT && port < FIRST_PORT + NODES) {
+            return HostAndPort.of(cluster.getHost(), cluster.getMappedPort(port));
+        }
+        return address;
+    }
+
+    @DisplayName("여러 노드에 흩어진 키를, 슬롯별로 나눠 한 번에 쓰고 읽고 지운다.")
+    @Test
+    void handlesKeys_acrossSlotsAndNodes() {
+        // arrange
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            values.put("product:" + i, "value-" + i);
+        }
+        long masters;
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            masters = values.keySet().stream()
+                    .map(key -> connection.clusterGetNodeForKey(key.getBytes()).getId())
+                    .distinct()
+                    .count();
+        }
+
+        // act
+        operations.multiSet(values, Duration.ofMinutes(1));
+        Map<String, String> read = operations.multiGet(values.keySet());
+        long deleted = operations.delete(values.keySet());
+        Map<String, String> afterDelete = operations.multiGet(values.keySet());
+
+        // assert
+        long spreadMasters = masters;
+        assertAll(
+                () -> assertThat(spreadMasters).isEqualTo(3),
+                () -> assertThat(read).isEqualTo(values),
+                () -> assertThat(deleted).isEqualTo(200),
+                () -> assertThat(afterDelete).isEmpty()
+        );
+    }
+
+    @DisplayName("같은 해시 태그를 붙인 키는, 같은 노드에 놓인다.")
+    @Test
+    void colocatesHashTaggedKeys() {
+        // arrange
+        List<String> keys = IntStream.range(0, 20).mapToObj(i -> RedisHashTags.key("cart", 42L, "item", i)).toList();
+
+        // act
+        long nodes;
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            nodes = keys.stream().map(key -> connection.clusterGetNodeForKey(key.getBytes()).getId()).distinct().count();
+        }
+
+        // assert
+        assertThat(nodes).isEqualTo(1);
+    }
+
+    @DisplayName("처음 연결한 노드 하나로, 클러스터의 모든 노드를 찾는다.")
+    @Test
+    void discoversTopology_fromSeedNode() {
+        // act
+        int nodes = 0;
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            for (RedisClusterNode ignored : connection.clusterGetNodes()) {
+                nodes++;
+            }
+        }
+
+        // assert
+        assertThat(nodes).isEqualTo(NODES);
+    }
+}
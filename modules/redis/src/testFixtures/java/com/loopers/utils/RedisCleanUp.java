@@ -1,5 +1,7 @@
 package com.loopers.utils;
 
+import com.loopers.config.redis.NearCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.stereotype.Component;
@@ -7,14 +9,18 @@ import org.springframework.stereotype.Component;
 @Component
 public class RedisCleanUp {
     private final RedisConnectionFactory redisConnectionFactory;
+    private final ObjectProvider<NearCacheManager> nearCacheManager;
 
-    public RedisCleanUp(RedisConnectionFactory redisConnectionFactory) {
+    public RedisCleanUp(RedisConnectionFactory redisConnectionFactory, ObjectProvider<NearCacheManager> nearCacheManager) {
         this.redisConnectionFactory = redisConnectionFactory;
+        this.nearCacheManager = nearCacheManager;
     }
 
     public void truncateAll(){
         try (RedisConnection connection = redisConnectionFactory.getConnection()) {
             connection.serverCommands().flushAll();
         }
+        // FLUSHALL 은 keyspace 알림을 보내지 않으므로 L1 은 직접 비운다.
+        nearCacheManager.ifAvailable(NearCacheManager::clearLocal);
     }
 }